@@ -0,0 +1,122 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.ScriptRunner;
+import seedu.address.logic.ScriptRunner.Checkpoint;
+import seedu.address.logic.ScriptRunner.ScriptReport;
+
+/**
+ * The entry point that runs a file of commands without a UI, so that a long list of commands can be replayed
+ * quickly. The data file is only saved at checkpoints and at the end, instead of after every command.
+ */
+public class BatchApp {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    public static final int EXIT_FAILURE = 2;
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+
+    public static final String MESSAGE_USAGE = "Usage: " + COMMAND_WORD + " [--config FILE] [--checkpoint N] "
+            + "[--threads N] [--jfr FILE] SCRIPT\n"
+            + "Runs the commands in SCRIPT, one per line, and saves the data file after every N commands ("
+            + DEFAULT_CHECKPOINT_INTERVAL + " by default, or only at the end if N is 0). The commands are parsed "
+            + "ahead on N threads (the number of processors by default), but run in the order of SCRIPT. "
+            + "With --jfr, the commands, saves and loads are recorded with Java Flight Recorder to FILE.";
+
+    private BatchApp() {} // prevents instantiation
+
+    public static void main(String[] args) {
+        System.exit(run(Arrays.asList(args), System.out, System.err));
+    }
+
+    /**
+     * Runs the script that {@code args} ask for, printing the summary to {@code out} and the failed commands and
+     * any other error to {@code err}, and returns the exit status.
+     */
+    public static int run(List<String> args, PrintStream out, PrintStream err) {
+        String configFilePath = null;
+        int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        int parserThreads = Runtime.getRuntime().availableProcessors();
+        String scriptPath = null;
+        String recordingFilePath = null;
+        try {
+            for (int i = 0; i < args.size(); i++) {
+                switch (args.get(i)) {
+                case "--config":
+                    configFilePath = args.get(++i);
+                    break;
+                case "--checkpoint":
+                    checkpointInterval = Integer.parseInt(args.get(++i));
+                    break;
+                case "--threads":
+                    parserThreads = Integer.parseInt(args.get(++i));
+                    break;
+                case "--jfr":
+                    recordingFilePath = args.get(++i);
+                    break;
+                default:
+                    if (scriptPath != null) {
+                        throw new IllegalArgumentException(args.get(i));
+                    }
+                    scriptPath = args.get(i);
+                }
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+        if (scriptPath == null || checkpointInterval < 0 || parserThreads <= 0) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+
+        if (recordingFilePath != null) {
+            FlightRecording.start(recordingFilePath);
+        }
+        MainApp app = new MainApp();
+        app.initComponents(configFilePath);
+        if (app.startupMessage != null) {
+            err.println(app.startupMessage);
+        }
+        app.storage.setSavingDeferred(true);
+        Checkpoint checkpoint = () -> saveChanges(app);
+        ScriptRunner runner = new ScriptRunner((LogicManager) app.logic, parserThreads, checkpointInterval, checkpoint);
+        try (BufferedReader script = Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            ScriptReport report = runner.run(script, err);
+            out.println(report);
+            return report.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+        } catch (IOException ioe) {
+            err.println("The script could not be run: " + StringUtil.getDetails(ioe));
+            return EXIT_FAILURE;
+        } finally {
+            app.storage.setSavingDeferred(false);
+            app.storage.saveIndexes();
+            MetricsCenter.getInstance().stopDumping();
+            FlightRecording.stop();
+        }
+    }
+
+    /**
+     * Saves the changes made since the last checkpoint, once they have reached the storage on its own thread.
+     */
+    private static void saveChanges(MainApp app) throws IOException {
+        EventsCenter.getInstance().flush();
+        app.storage.saveDeferredChanges();
+    }
+}
@@ -1,8 +1,13 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -13,10 +18,14 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.jfr.FlightRecording;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.DataFormat;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -26,8 +35,12 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.server.LoadClient;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.SegmentedXmlAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -42,6 +55,16 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
 
+    public static final String MESSAGE_DATA_BACKED_UP = "The data file could not be read, so SmartSplit started "
+            + "empty. The unreadable data was copied to %1$s.";
+    public static final String MESSAGE_DATA_NOT_BACKED_UP = "The data file could not be read, so SmartSplit started "
+            + "empty. Copy %1$s elsewhere before making any change, or it will be overwritten.";
+    /** The prefix of the names of the metrics that record how long each phase of the startup took. */
+    public static final String STARTUP_PHASE_PREFIX = "startup.";
+
+    public static final String MESSAGE_DATA_MISMATCHED = "Some of the data file does not match the hashes saved "
+            + "with it, and may be corrupted:\n%1$s";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -50,29 +73,126 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    /** Tells the user what happened to the data at startup, if anything needs their attention. */
+    protected String startupMessage;
+
+    /** The time the app started initializing at, read from {@link System#nanoTime()}. */
+    private long startupNanos;
+    /** Loads the data on a background thread while the window is initialized. */
+    private CompletableFuture<Void> dataLoading;
 
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing SmartSplit ]===========================");
         super.init();
+        startupNanos = System.nanoTime();
+
+        if (getApplicationParameter("jfr") != null) {
+            FlightRecording.start(getApplicationParameter("jfr"));
+        }
+        initSettings(getApplicationParameter("config"));
+        dataLoading = CompletableFuture.runAsync(this::initData, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+
+        ui = timePhase("ui", () -> new UiManager(config, userPrefs));
+
+        initEventsCenter();
+    }
 
-        config = initConfig(getApplicationParameter("config"));
+    /**
+     * Initializes every component but the UI from the config file at {@code configFilePath}, or the default one
+     * if it is null, so that the app can also run without a UI.
+     */
+    void initComponents(String configFilePath) {
+        startupNanos = System.nanoTime();
+        initSettings(configFilePath);
+        initData();
+        recordStartupTime();
+    }
+
+    /**
+     * Initializes the config from the file at {@code configFilePath}, or the default one if it is null, the user
+     * prefs, the storage and the logging, which are needed before anything else.
+     */
+    private void initSettings(String configFilePath) {
+        config = timePhase("config", () -> initConfig(configFilePath));
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        userPrefs = timePhase("prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
+    }
 
-        model = initModelManager(storage, userPrefs);
+    /**
+     * Reads the data file, and initializes the model and the logic with its data.
+     */
+    private void initData() {
+        ReadOnlyAddressBook initialData = timePhase("data", () -> readInitialData(storage));
+        // the segments are loaded through the storage manager, so that loading them waits for any save to finish
+        model = timePhase("model", () -> new ModelManager(initialData, userPrefs, storage));
 
-        logic = new LogicManager(model);
+        logic = timePhase("logic", () -> new LogicManager(model));
 
-        ui = new UiManager(logic, config, userPrefs);
+        initMetrics(config);
+    }
 
-        initEventsCenter();
+    /**
+     * Waits until the data is loaded, if it is being loaded in the background.
+     */
+    protected void awaitData() {
+        if (dataLoading != null) {
+            dataLoading.join();
+        }
+    }
+
+    /**
+     * Returns what {@code step} returns, after logging how long it took as the startup phase named {@code phase}
+     * and recording it in the metrics.
+     */
+    private static <T> T timePhase(String phase, Supplier<T> step) {
+        long startNanos = System.nanoTime();
+        T result = step.get();
+        recordPhase(phase, startNanos);
+        return result;
+    }
+
+    /**
+     * Logs how long the startup phase named {@code phase}, which started at {@code startNanos}, took, and records
+     * it in the metrics.
+     */
+    private static void recordPhase(String phase, long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        MetricsCenter.getInstance().getHistogram(STARTUP_PHASE_PREFIX + phase).record(durationNanos);
+        logger.info(() -> String.format("Startup phase %1$s took %2$.1f ms on %3$s", phase, durationNanos / 1e6,
+                Thread.currentThread().getName()));
+    }
+
+    /**
+     * Logs and records how long the app took from starting to initialize until its data could be used.
+     */
+    private void recordStartupTime() {
+        recordPhase("total", startupNanos);
+    }
+
+    /**
+     * Registers the gauges of the components, and starts writing the metrics to the metrics file every so often
+     * if {@code config} asks for it.
+     */
+    private void initMetrics(Config config) {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.registerGauge("model.persons", () -> model.getSnapshot().getPersonList().size());
+        metrics.registerGauge("model.transactions", () -> model.getSnapshot().getTransactionList().size());
+        metrics.registerGauge("jvm.heap.used.bytes", () ->
+                Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory());
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            metrics.startDumping(config.getMetricsFilePath(), config.getMetricsDumpIntervalSeconds());
+        }
     }
 
     private String getApplicationParameter(String parameterName) {
@@ -81,11 +201,34 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the storage for the address book file in the format {@code userPrefs} asks for,
+     * segmented by month if {@code userPrefs} asks for it and the format supports it.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        if (userPrefs.getAddressBookFormat() == DataFormat.H2) {
+            return new SqlAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.isSegmentTransactionsByMonth() ? userPrefs.getRecentTransactionMonths()
+                                                             : Integer.MAX_VALUE);
+        }
+        if (userPrefs.getAddressBookFormat() == DataFormat.JSON) {
+            return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookCompression());
+        }
+        if (userPrefs.isSegmentTransactionsByMonth()) {
+            return new SegmentedXmlAddressBookStorage(userPrefs.getAddressBookFilePath(),
+                    userPrefs.getAddressBookCompression(), userPrefs.getRecentTransactionMonths());
+        }
+        return new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookCompression());
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book,
+     * after the unreadable data has been backed up. The user is told about unreadable data, and about read data
+     * that does not match the hashes saved with it.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -94,15 +237,35 @@ public class MainApp extends Application {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            List<String> mismatchedBlocks = addressBookOptional.isPresent()
+                    ? storage.findBlocksNotMatchingReadHashes(initialData) : Collections.emptyList();
+            if (!mismatchedBlocks.isEmpty()) {
+                logger.warning("Data file does not match its hashes in " + mismatchedBlocks);
+                startupMessage = String.format(MESSAGE_DATA_MISMATCHED, String.join("\n", mismatchedBlocks));
+            }
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            startupMessage = backUpUnreadableData(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
             initialData = new AddressBook();
+            startupMessage = backUpUnreadableData(storage);
         }
+        return initialData;
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Backs up {@code storage}'s address book, which could not be read, so that it is not lost when the empty
+     * address book is saved over it. Returns the message that tells the user about it.
+     */
+    private String backUpUnreadableData(Storage storage) {
+        try {
+            return String.format(MESSAGE_DATA_BACKED_UP, storage.backUpAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to back up the data file " + StringUtil.getDetails(e));
+            return String.format(MESSAGE_DATA_NOT_BACKED_UP, storage.getAddressBookFilePath());
+        }
     }
 
     private void initLogging(Config config) {
@@ -184,13 +347,46 @@ public class MainApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting SmarSplit " + MainApp.VERSION);
+        long startNanos = System.nanoTime();
         ui.start(primaryStage);
+        recordPhase("window", startNanos);
+        dataLoading.whenComplete((unused, error) -> Platform.runLater(() -> showData(error)));
+    }
+
+    /**
+     * Shows the data once it is loaded, or exits if it could not be loaded because of {@code error}.
+     */
+    private void showData(Throwable error) {
+        if (error != null) {
+            logger.severe("Failed to load the data: " + StringUtil.getDetails(error));
+            Platform.exit();
+            System.exit(1);
+        }
+        long startNanos = System.nanoTime();
+        ui.showData(logic);
+        recordPhase("panels", startNanos);
+        recordStartupTime();
+        if (startupMessage != null) {
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(startupMessage));
+        }
+        model.setWriter(Platform::runLater);
+        try {
+            storage.startWatchingAddressBookFile(Platform::runLater);
+        } catch (IOException e) {
+            logger.warning("Changes made to the data file by others will not be reloaded: "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        EventsCenter.getInstance().flush();
+        MetricsCenter.getInstance().stopDumping();
+        FlightRecording.stop();
+        storage.stopWatchingAddressBookFile();
+        storage.saveIndexes();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -206,7 +402,29 @@ public class MainApp extends Application {
         this.stop();
     }
 
+    /**
+     * Starts the app. If the first argument is {@code query}, answers a query without starting it instead, and if
+     * it is {@code server} or {@code load}, starts it without a UI behind an HTTP API, or puts load on that API.
+     * If it is {@code batch}, runs a file of commands without a UI.
+     */
     public static void main(String[] args) {
+        String[] otherArgs = args.length > 0 ? Arrays.copyOfRange(args, 1, args.length) : args;
+        if (args.length > 0 && args[0].equals(QueryApp.COMMAND_WORD)) {
+            QueryApp.main(otherArgs);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(ServerApp.COMMAND_WORD)) {
+            ServerApp.main(otherArgs);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(BatchApp.COMMAND_WORD)) {
+            BatchApp.main(otherArgs);
+            return;
+        }
+        if (args.length > 0 && args[0].equals(LoadClient.COMMAND_WORD)) {
+            LoadClient.main(otherArgs);
+            return;
+        }
         launch(args);
     }
 }
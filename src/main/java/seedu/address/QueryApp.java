@@ -0,0 +1,145 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Balance;
+import seedu.address.storage.AddressBookIndex;
+import seedu.address.storage.AddressBookIndex.IndexedPerson;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+/**
+ * The entry point that answers questions about the address book from the indexes saved next to its data file,
+ * without starting the app or reading the data file, so that scripts can ask them quickly.
+ */
+public class QueryApp {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_NOT_FOUND = 1;
+    public static final int EXIT_FAILURE = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: " + COMMAND_WORD + " [--data FILE] QUERY\n"
+            + "Queries:\n"
+            + "  balance NAME                the balance of the person named NAME\n"
+            + "  debt DEBTOR CREDITOR        what DEBTOR owes CREDITOR, negative if CREDITOR owes DEBTOR\n"
+            + "  transactions NAME           the number of transactions of NAME in each month\n"
+            + "Names with spaces must be quoted. The data file is the one in preferences.json by default.";
+    public static final String MESSAGE_NO_INDEX = "There is no up-to-date index next to %1$s. "
+            + "Start and stop SmartSplit once to write it.";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no person named %1$s";
+
+    private static final String DATA_OPTION = "--data";
+
+    private QueryApp() {} // prevents instantiation
+
+    public static void main(String[] args) {
+        System.exit(run(Arrays.asList(args), System.out, System.err));
+    }
+
+    /**
+     * Answers the query in {@code args}, printing the answer to {@code out} and any error to {@code err}, and
+     * returns the exit status.
+     */
+    public static int run(List<String> args, PrintStream out, PrintStream err) {
+        List<String> query = new ArrayList<>(args);
+        String dataFilePath = null;
+        if (query.size() >= 2 && query.get(0).equals(DATA_OPTION)) {
+            dataFilePath = query.get(1);
+            query = query.subList(2, query.size());
+        }
+        if (query.isEmpty() || !isValidQuery(query)) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+
+        try {
+            if (dataFilePath == null) {
+                dataFilePath = getDefaultDataFilePath();
+            }
+            Optional<AddressBookIndex> index = AddressBookIndex.readUpToDate(dataFilePath);
+            if (!index.isPresent()) {
+                err.println(String.format(MESSAGE_NO_INDEX, dataFilePath));
+                return EXIT_FAILURE;
+            }
+            return answer(index.get(), query, out, err);
+        } catch (DataConversionException | IOException e) {
+            err.println("The index of " + dataFilePath + " could not be read: " + StringUtil.getDetails(e));
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Returns true if {@code query} is one of the queries in {@link #MESSAGE_USAGE} with its arguments.
+     */
+    private static boolean isValidQuery(List<String> query) {
+        switch (query.get(0)) {
+        case "balance":
+        case "transactions":
+            return query.size() == 2;
+        case "debt":
+            return query.size() == 3;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Answers the valid {@code query} from {@code index}, and returns the exit status.
+     */
+    private static int answer(AddressBookIndex index, List<String> query, PrintStream out, PrintStream err) {
+        String name = query.get(1);
+        if (query.get(0).equals("debt")) {
+            Optional<Balance> debt = index.findDebt(name, query.get(2));
+            if (debt.isPresent()) {
+                out.println(debt.get().value);
+                return EXIT_SUCCESS;
+            }
+            for (String personName : query.subList(1, 3)) {
+                if (!index.findPerson(personName).isPresent()) {
+                    err.println(String.format(MESSAGE_PERSON_NOT_FOUND, personName));
+                    return EXIT_NOT_FOUND;
+                }
+            }
+            // persons who never shared a transaction owe each other nothing
+            out.println("0.00");
+            return EXIT_SUCCESS;
+        }
+
+        Optional<IndexedPerson> person = index.findPerson(name);
+        if (!person.isPresent()) {
+            err.println(String.format(MESSAGE_PERSON_NOT_FOUND, name));
+            return EXIT_NOT_FOUND;
+        }
+        if (query.get(0).equals("balance")) {
+            out.println(person.get().getBalance().value);
+        } else {
+            for (Map.Entry<YearMonth, Integer> count : person.get().getTransactionCounts().entrySet()) {
+                out.println(count.getKey() + " " + count.getValue());
+            }
+        }
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Returns the data file in the preferences of the default config, as the app would use it, without writing
+     * either file.
+     */
+    private static String getDefaultDataFilePath() throws DataConversionException, IOException {
+        Config config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElse(new Config());
+        return new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs().orElse(new UserPrefs())
+                .getAddressBookFilePath();
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.server.ApiServer;
+
+/**
+ * The entry point that runs the app without a UI, behind an {@link ApiServer} on this machine, so that other
+ * programs can drive it and put load on it.
+ */
+public class ServerApp {
+
+    public static final String COMMAND_WORD = "server";
+
+    public static final int EXIT_FAILURE = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: " + COMMAND_WORD + " [--port PORT] [--config FILE] "
+            + "[--jfr FILE]\n"
+            + "Serves the address book at http://localhost:PORT (" + ApiServer.DEFAULT_PORT + " by default) until "
+            + "the exit command is posted to " + ApiServer.COMMANDS_PATH + " or the process is stopped. "
+            + "With --jfr, the commands, saves and loads are recorded with Java Flight Recorder to FILE.";
+    public static final String MESSAGE_UNKNOWN_OPTION = "Unknown option: %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "Missing a value for %1$s";
+    public static final String MESSAGE_INVALID_PORT = "The port must be a number from 0 to 65535: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    private final MainApp app;
+    private final ApiServer server;
+    private final AtomicBoolean isStopped = new AtomicBoolean();
+
+    /**
+     * Initializes every component of the app but the UI from the config file at {@code configFilePath}, or the
+     * default one if it is null, behind a server on {@code port} that answers as many reads at once as there are
+     * processors.
+     */
+    private ServerApp(String configFilePath, int port) throws IOException {
+        app = new MainApp();
+        app.initComponents(configFilePath);
+        if (app.startupMessage != null) {
+            logger.warning(app.startupMessage);
+        }
+        server = new ApiServer(app.logic, app.model::getSnapshot, port, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts serving the address book, or exits with a failure status if it cannot be started. The process keeps
+     * running until it is stopped or the exit command is run.
+     */
+    public static void main(String[] args) {
+        int status = run(Arrays.asList(args), System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Starts serving the address book as {@code args} ask for, printing any error to {@code err}, and returns
+     * the exit status if it could not be started.
+     */
+    static int run(List<String> args, PrintStream err) {
+        String configFilePath = null;
+        int port = ApiServer.DEFAULT_PORT;
+        String recordingFilePath = null;
+        for (int i = 0; i < args.size(); i += 2) {
+            String option = args.get(i);
+            if (!option.equals("--port") && !option.equals("--config") && !option.equals("--jfr")) {
+                return printUsageError(err, String.format(MESSAGE_UNKNOWN_OPTION, option));
+            }
+            if (i + 1 >= args.size()) {
+                return printUsageError(err, String.format(MESSAGE_MISSING_VALUE, option));
+            }
+            String value = args.get(i + 1);
+            switch (option) {
+            case "--port":
+                try {
+                    port = Integer.parseInt(value);
+                } catch (NumberFormatException nfe) {
+                    port = -1;
+                }
+                if (port < 0 || port > 65535) {
+                    return printUsageError(err, String.format(MESSAGE_INVALID_PORT, value));
+                }
+                break;
+            case "--config":
+                configFilePath = value;
+                break;
+            default:
+                recordingFilePath = value;
+            }
+        }
+
+        if (recordingFilePath != null) {
+            FlightRecording.start(recordingFilePath);
+        }
+        try {
+            ServerApp serverApp = new ServerApp(configFilePath, port);
+            serverApp.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(serverApp::stop, "server-shutdown"));
+            return 0;
+        } catch (IOException ioe) {
+            err.println("The address book could not be served: " + StringUtil.getDetails(ioe));
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Prints {@code message}, which tells what was wrong with the arguments, and the usage to {@code err}, and
+     * returns the exit status for it.
+     */
+    private static int printUsageError(PrintStream err, String message) {
+        err.println(message);
+        err.println(MESSAGE_USAGE);
+        return EXIT_FAILURE;
+    }
+
+    /**
+     * Starts serving requests. Posted transactions, and changes that others make to the data file, are applied on
+     * the thread that runs the commands, in turn with them.
+     */
+    private void start() throws IOException {
+        EventsCenter.getInstance().registerHandler(this);
+        app.model.setWriter(server.getWriter());
+        server.start();
+        try {
+            app.storage.startWatchingAddressBookFile(server.getWriter());
+        } catch (IOException ioe) {
+            logger.warning("Changes made to the data file by others will not be reloaded: "
+                    + StringUtil.getDetails(ioe));
+        }
+    }
+
+    /**
+     * Stops serving requests once the queued commands are done, waits until their changes are saved, and saves the
+     * preferences. Only the first call does anything, so it is called both before the exit command exits the
+     * process and from the shutdown hook, which is all that runs when the process is stopped from outside.
+     */
+    private void stop() {
+        if (!isStopped.compareAndSet(false, true)) {
+            return;
+        }
+        logger.info("============================ [ Stopping Address Book Server ] ======================");
+        server.stop();
+        EventsCenter.getInstance().flush();
+        MetricsCenter.getInstance().stopDumping();
+        FlightRecording.stop();
+        app.storage.stopWatchingAddressBookFile();
+        app.storage.saveIndexes();
+        try {
+            app.storage.saveUserPrefs(app.userPrefs);
+        } catch (IOException ioe) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        // the exit command runs on the thread that stopping waits for, so the app is stopped from another one,
+        // before exiting rather than only from the shutdown hook, so that a pending save is not lost
+        new Thread(() -> {
+            stop();
+            System.exit(0);
+        }, "server-exit").start();
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to other handlers on a background writer thread, so that logging never makes the thread that
+ * logs wait for the console or the log file.
+ * The records wait in a ring buffer of a fixed capacity. When it is full, a new record below {@code WARNING} is
+ * dropped, and a record at {@code WARNING} or above takes the place of the oldest record waiting instead. The
+ * writer logs how many records were dropped once it catches up.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean isClosed;
+
+    /**
+     * Starts a writer thread that hands the records published to this handler to each of {@code targets}, while at
+     * most {@code capacity} records wait to be written.
+     */
+    public AsyncLogHandler(int capacity, Handler... targets) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        this.targets = new ArrayList<>(Arrays.asList(targets));
+        buffer = new ArrayBlockingQueue<>(capacity);
+        writerThread = new Thread(this::writeRecords, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Returns the handlers that the records are handed to.
+     */
+    public List<Handler> getTargets() {
+        return Collections.unmodifiableList(targets);
+    }
+
+    /**
+     * Returns the number of records dropped since the writer last logged how many were dropped.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is found from the stack, so it must be found on the thread that logs
+        record.getSourceClassName();
+        if (buffer.offer(record)) {
+            return;
+        }
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            while (!buffer.offer(record)) {
+                if (buffer.poll() != null) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+        } else {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Flushes the targets. Records still waiting in the buffer are not written first.
+     */
+    @Override
+    public void flush() {
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records still waiting, then closes the targets. Records published afterwards are ignored.
+     */
+    @Override
+    public synchronized void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        writerThread.interrupt();
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        writeWaitingRecords();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Writes the records as they are published, until closed.
+     */
+    private void writeRecords() {
+        while (!isClosed) {
+            try {
+                LogRecord record = buffer.poll(1, TimeUnit.SECONDS);
+                if (record != null) {
+                    write(record);
+                    writeWaitingRecords();
+                }
+            } catch (InterruptedException ie) {
+                // closed, and the records left are written by the thread that closes the handler
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the records waiting in the buffer, then flushes the targets.
+     */
+    private void writeWaitingRecords() {
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            write(record);
+        }
+        flush();
+    }
+
+    /**
+     * Hands {@code record} to each target, after logging how many records were dropped before it, if any.
+     */
+    private void write(LogRecord record) {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                    dropped + " log records were dropped, as they were logged faster than they could be written");
+            droppedRecord.setLoggerName(AsyncLogHandler.class.getSimpleName());
+            droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+            droppedRecord.setSourceMethodName("publish");
+            targets.forEach(target -> target.publish(droppedRecord));
+        }
+        targets.forEach(target -> target.publish(record));
+    }
+}
@@ -14,6 +14,8 @@ public class Config {
     private String appTitle = "SmartSplit";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private String metricsFilePath = "smartsplit.metrics";
+    private long metricsDumpIntervalSeconds = 60;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +41,25 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public String getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(String metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns how often the metrics are written to the metrics file, in seconds. They are not written if it is 0.
+     */
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +73,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     @Override
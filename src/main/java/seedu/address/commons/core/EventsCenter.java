@@ -1,45 +1,294 @@
 package seedu.address.commons.core;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.jfr.EventDispatchEvent;
+import seedu.address.commons.jfr.FlightRecording;
 
 /**
  * Manages the event dispatching of the app.
+ * Each handler is called on the thread its class declares with {@link HandledOn}: the thread that posts the event,
+ * the JavaFX application thread, or the storage thread that handles events in the background one at a time.
+ * While events wait for a background thread, a burst of events that each carry the whole of some state, such as
+ * {@code AddressBookChangedEvent}, is handled only once, with the latest of them.
  */
 public class EventsCenter {
+
+    /**
+     * The threads that handlers can be called on.
+     */
+    public enum HandlerThread {
+        /** The thread that posts the event, which handles it before the post returns. */
+        INLINE,
+        /** The JavaFX application thread, which the UI must be changed on. */
+        FX,
+        /** A background thread that handles events one at a time, in the order they were posted. */
+        STORAGE
+    }
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
-    private static EventsCenter instance;
-    private final EventBus eventBus;
+    private static volatile EventsCenter instance;
+
+    private final Map<HandlerThread, HandlerLane> lanes = new EnumMap<>(HandlerThread.class);
+    private final Map<String, DispatchLatency> dispatchLatencies = new ConcurrentHashMap<>();
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        for (HandlerThread thread : HandlerThread.values()) {
+            lanes.put(thread, new HandlerLane(thread));
+        }
     }
 
+    /**
+     * Returns the events center of the app, creating it if there is none. Can be called from any thread.
+     */
     public static EventsCenter getInstance() {
-        if (instance == null) {
-            instance = new EventsCenter();
+        EventsCenter eventsCenter = instance;
+        if (eventsCenter == null) {
+            synchronized (EventsCenter.class) {
+                if (instance == null) {
+                    instance = new EventsCenter();
+                }
+                eventsCenter = instance;
+            }
         }
-        return instance;
+        return eventsCenter;
     }
 
+    /**
+     * Forgets every handler, letting the events already posted to the background thread be handled first.
+     */
     public static void clearSubscribers() {
-        instance = null;
+        synchronized (EventsCenter.class) {
+            if (instance != null) {
+                instance.lanes.get(HandlerThread.STORAGE).shutdown();
+            }
+            instance = null;
+        }
     }
 
+    /**
+     * Registers {@code handler} to be called on the thread its class declares with {@link HandledOn}, or on the
+     * thread that posts each event if it declares none.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        HandledOn handledOn = handler.getClass().getAnnotation(HandledOn.class);
+        registerHandler(handler, handledOn == null ? HandlerThread.INLINE : handledOn.value());
+    }
+
+    /**
+     * Registers {@code handler} to be called on {@code thread}.
+     */
+    public void registerHandler(Object handler, HandlerThread thread) {
+        lanes.get(thread).register(handler);
     }
 
     /**
-     * Posts an event to the event bus.
+     * Posts an event to the handlers of every thread. The event is only described in the log if it is logged at
+     * the {@code FINE} level, as describing some events takes a while.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        long postedAt = System.nanoTime();
+        for (HandlerLane lane : lanes.values()) {
+            lane.post(event, postedAt);
+        }
         return this;
     }
 
+    /**
+     * Waits until the events posted so far have been handled on the storage thread, so that their changes are
+     * saved before the app exits or reads back what it saved. Does not wait for the JavaFX application thread.
+     */
+    public void flush() {
+        lanes.get(HandlerThread.STORAGE).flush();
+    }
+
+    /**
+     * Returns how long the events of each type took from being posted until they were handled on each thread,
+     * keyed by the name of the thread and the type of event.
+     */
+    public Map<String, DispatchLatency> getDispatchLatencies() {
+        return Collections.unmodifiableMap(new HashMap<>(dispatchLatencies));
+    }
+
+    /**
+     * Records that {@code event}, posted at {@code postedAt}, was handled on {@code thread}.
+     */
+    private void recordDispatch(HandlerThread thread, BaseEvent event, long postedAt) {
+        long latencyNanos = System.nanoTime() - postedAt;
+        String key = thread + " " + event.getClass().getSimpleName();
+        dispatchLatencies.computeIfAbsent(key, unused -> new DispatchLatency()).record(latencyNanos);
+        logger.fine(() -> String.format("------[Event Handled] %1$s in %2$.3f ms", key, latencyNanos / 1e6));
+    }
+
+    /**
+     * The handlers of one thread, and the events waiting to be handled on it.
+     */
+    private class HandlerLane {
+
+        private final HandlerThread thread;
+        private final EventBus eventBus;
+        /** The latest event of each type waiting to replace earlier ones, with the time it was posted. */
+        private final Map<Class<?>, PostedEvent> coalescedEvents = new ConcurrentHashMap<>();
+        private volatile boolean hasHandlers;
+        private ExecutorService storageExecutor;
+        private volatile Thread storageThread;
+
+        HandlerLane(HandlerThread thread) {
+            this.thread = thread;
+            eventBus = new EventBus(thread.name().toLowerCase());
+        }
+
+        /**
+         * Registers {@code handler}, starting the storage thread if this is its first handler.
+         */
+        synchronized void register(Object handler) {
+            if (thread == HandlerThread.STORAGE && storageExecutor == null) {
+                storageExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                    storageThread = new Thread(runnable, "storage-events");
+                    storageThread.setDaemon(true);
+                    return storageThread;
+                });
+            }
+            eventBus.register(handler);
+            hasHandlers = true;
+        }
+
+        /**
+         * Hands {@code event} to the handlers of this thread, coalescing it with the waiting events of its type if
+         * it carries the whole of some state.
+         */
+        void post(BaseEvent event, long postedAt) {
+            if (!hasHandlers) {
+                return;
+            }
+            if (thread == HandlerThread.INLINE || (thread == HandlerThread.FX && Platform.isFxApplicationThread())) {
+                dispatch(event, postedAt);
+                return;
+            }
+            if (!event.isStateChange()) {
+                execute(() -> dispatch(event, postedAt));
+                return;
+            }
+            if (coalescedEvents.put(event.getClass(), new PostedEvent(event, postedAt)) == null) {
+                // later events of the type replace this one until it is taken to be handled
+                execute(() -> {
+                    PostedEvent latest = coalescedEvents.remove(event.getClass());
+                    dispatch(latest.event, latest.postedAt);
+                });
+            }
+        }
+
+        /**
+         * Calls the handlers of {@code event} on the current thread.
+         */
+        private void dispatch(BaseEvent event, long postedAt) {
+            EventDispatchEvent dispatchEvent = FlightRecording.isEnabled()
+                    ? new EventDispatchEvent(event.getClass().getSimpleName(), thread.name(),
+                            System.nanoTime() - postedAt)
+                    : null;
+            eventBus.post(event);
+            recordDispatch(thread, event, postedAt);
+            if (dispatchEvent != null) {
+                dispatchEvent.commit();
+            }
+        }
+
+        /**
+         * Runs {@code task} on the thread of this lane later, or at once on the current thread if the storage
+         * thread was stopped because the events center was cleared.
+         */
+        private synchronized void execute(Runnable task) {
+            if (thread == HandlerThread.FX) {
+                Platform.runLater(task);
+            } else if (storageExecutor.isShutdown()) {
+                task.run();
+            } else {
+                storageExecutor.execute(task);
+            }
+        }
+
+        /**
+         * Waits until the events handed to the storage thread so far have been handled.
+         */
+        void flush() {
+            ExecutorService executor;
+            synchronized (this) {
+                executor = storageExecutor;
+            }
+            if (executor == null || Thread.currentThread() == storageThread || executor.isShutdown()) {
+                return;
+            }
+            try {
+                executor.submit(() -> { }).get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ee) {
+                throw new AssertionError("An empty task cannot fail", ee);
+            }
+        }
+
+        synchronized void shutdown() {
+            if (storageExecutor != null) {
+                storageExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * An event with the time it was posted at.
+     */
+    private static class PostedEvent {
+
+        private final BaseEvent event;
+        private final long postedAt;
+
+        PostedEvent(BaseEvent event, long postedAt) {
+            this.event = event;
+            this.postedAt = postedAt;
+        }
+    }
+
+    /**
+     * How many events of a type were handled on a thread, and how long they took from being posted until then.
+     */
+    public static class DispatchLatency {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long latencyNanos) {
+            count.increment();
+            totalNanos.add(latencyNanos);
+            maxNanos.accumulateAndGet(latencyNanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getMeanMillis() {
+            long events = getCount();
+            return events == 0 ? 0 : totalNanos.sum() / 1e6 / events;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1e6;
+        }
+    }
 }
@@ -0,0 +1,23 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import seedu.address.commons.core.EventsCenter.HandlerThread;
+
+/**
+ * Declares the thread that the {@code @Subscribe} methods of an event handler are called on by the
+ * {@link EventsCenter}. Handlers without it are called on the thread that posts the event.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface HandledOn {
+    /**
+     * The thread that the handler is called on.
+     */
+    HandlerThread value();
+}
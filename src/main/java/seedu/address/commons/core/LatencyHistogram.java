@@ -0,0 +1,119 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts durations in buckets that grow with the durations, like an HdrHistogram, so that any percentile can be
+ * read back to within about 3% while recording takes a few atomic increments and never locks.
+ * Durations below 32 ns have a bucket each, and every doubling of the duration above that is split into 32 buckets.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Enough buckets for any positive long, whose highest bit is bit 62. */
+    private static final int BUCKET_COUNT = (62 - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private volatile long lastNanos;
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts.incrementAndGet(getBucket(duration));
+        totalNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+        lastNanos = duration;
+    }
+
+    /**
+     * Records the time from {@code startNanos}, read from {@link System#nanoTime()}, until now.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the duration that {@code percentile} percent of the recorded durations are at most, in milliseconds,
+     * or 0 if none were recorded.
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(getHighestValue(i), maxNanos.get()) / 1e6;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Returns the mean of the recorded durations in milliseconds, or 0 if none were recorded.
+     */
+    public double getMeanMillis() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / 1e6 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    /**
+     * Returns the duration recorded last in milliseconds, or 0 if none were recorded.
+     */
+    public double getLastMillis() {
+        return lastNanos / 1e6;
+    }
+
+    /**
+     * Returns the bucket that {@code nanos} is counted in.
+     */
+    static int getBucket(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (nanos >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the highest duration counted in {@code bucket}.
+     */
+    static long getHighestValue(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowestValue = (long) (bucket % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
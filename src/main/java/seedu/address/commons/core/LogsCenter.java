@@ -1,6 +1,10 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
@@ -16,39 +20,42 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * The messages are written on a background thread, so that logging does not make the thread that logs wait.
+ *   Messages that take a while to build should be logged with a {@code Supplier}, so that they are only built if
+ *   they are logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int LOG_BUFFER_CAPACITY = 8192;
     private static final String LOG_FILE = "smartsplit.log";
     private static Level currentLogLevel = Level.INFO;
+    /** The loggers set up so far, which are kept so that they are not garbage collected along with their setup. */
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncLogHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The loggers obtained before and after this initialization have their logging level changed.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        synchronized (LogsCenter.class) {
+            if (asyncLogHandler != null) {
+                setLevel(asyncLogHandler, currentLogLevel);
+            }
+        }
+        loggers.values().forEach(logger -> logger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Creates a logger with the given name, or returns the one created before.
+     * Its handlers are only set up the first time, so that asking for it again is cheap.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -62,14 +69,17 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Sets up the logger with the given name to log at the current level to the console and the log file, through
+     * the handler that writes to them in the background.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncLogHandler(logger));
+        return logger;
     }
 
     /**
@@ -83,18 +93,30 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler that writes to the console and the log file in the background. <br>
+     * Creates it if it is null, warning on {@code logger} if the log file cannot be opened.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized AsyncLogHandler getAsyncLogHandler(Logger logger) {
+        if (asyncLogHandler == null) {
+            List<Handler> targets = new ArrayList<>();
+            targets.add(createConsoleHandler());
+            try {
+                targets.add(createFileHandler());
+            } catch (IOException e) {
+                logger.warning("Error adding file handler for logger.");
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncLogHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, targets.toArray(new Handler[0]));
+            asyncLogHandler.setLevel(currentLogLevel);
         }
+        return asyncLogHandler;
+    }
+
+    /**
+     * Sets the level of {@code handler} and of the handlers it writes to.
+     */
+    private static void setLevel(AsyncLogHandler handler, Level level) {
+        handler.setLevel(level);
+        handler.getTargets().forEach(target -> target.setLevel(level));
     }
 
     /**
@@ -0,0 +1,167 @@
+package seedu.address.commons.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Keeps the metrics of the app: counters, gauges that are read when they are reported, and histograms of how long
+ * things take. Metrics are created the first time they are asked for by name, and can be updated from any thread
+ * without locking.
+ * The names are dotted, starting with the component that records them, such as {@code storage.save}.
+ */
+public class MetricsCenter {
+
+    public static final String COMMAND_LATENCY = "logic.command";
+    public static final String SAVE_LATENCY = "storage.save";
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static volatile MetricsCenter instance;
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private ScheduledExecutorService dumpExecutor;
+    private File dumpFile;
+
+    private MetricsCenter() {}
+
+    /**
+     * Returns the metrics of the app, creating them if there are none. Can be called from any thread.
+     */
+    public static MetricsCenter getInstance() {
+        MetricsCenter metricsCenter = instance;
+        if (metricsCenter == null) {
+            synchronized (MetricsCenter.class) {
+                if (instance == null) {
+                    instance = new MetricsCenter();
+                }
+                metricsCenter = instance;
+            }
+        }
+        return metricsCenter;
+    }
+
+    /**
+     * Forgets every metric, and stops dumping them to a file.
+     */
+    public static void clearMetrics() {
+        synchronized (MetricsCenter.class) {
+            if (instance != null) {
+                instance.stopDumping();
+            }
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the counter named {@code name}.
+     */
+    public LongAdder getCounter(String name) {
+        return counters.computeIfAbsent(name, unused -> new LongAdder());
+    }
+
+    /**
+     * Returns the histogram of durations named {@code name}.
+     */
+    public LatencyHistogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers {@code gauge} to be read as the value named {@code name} whenever the metrics are reported,
+     * replacing the gauge registered with that name before, if any.
+     */
+    public void registerGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Returns every metric, one per line, with the histograms as their count and percentiles in milliseconds,
+     * followed by how long the events took to be dispatched to the handlers on each thread.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(counters).forEach((name, counter) ->
+                report.append(String.format("%1$s: %2$d%n", name, counter.sum())));
+        new TreeMap<>(gauges).forEach((name, gauge) ->
+                report.append(String.format("%1$s: %2$d%n", name, gauge.getAsLong())));
+        new TreeMap<>(histograms).forEach((name, histogram) -> report.append(String.format(
+                "%1$s: %2$d, p50 %3$.2f ms, p90 %4$.2f ms, p99 %5$.2f ms, max %6$.2f ms%n", name,
+                histogram.getCount(), histogram.getPercentileMillis(50), histogram.getPercentileMillis(90),
+                histogram.getPercentileMillis(99), histogram.getMaxMillis())));
+        new TreeMap<>(EventsCenter.getInstance().getDispatchLatencies()).forEach((name, latency) ->
+                report.append(String.format("event %1$s: %2$d, mean %3$.2f ms, max %4$.2f ms%n", name,
+                        latency.getCount(), latency.getMeanMillis(), latency.getMaxMillis())));
+        return report.toString();
+    }
+
+    /**
+     * Returns a readout of the metrics short enough for a status bar: how many commands were run, how long they took
+     * and how long the last save took.
+     */
+    public String getSummary() {
+        LatencyHistogram commands = getHistogram(COMMAND_LATENCY);
+        LatencyHistogram saves = getHistogram(SAVE_LATENCY);
+        return String.format("%1$d commands, p50 %2$.1f ms, p99 %3$.1f ms, last save %4$.1f ms", commands.getCount(),
+                commands.getPercentileMillis(50), commands.getPercentileMillis(99), saves.getLastMillis());
+    }
+
+    /**
+     * Writes the report of the metrics to {@code filePath} every {@code intervalSeconds} seconds on a background
+     * thread, replacing what was written before, until {@link #stopDumping()} is called.
+     */
+    public synchronized void startDumping(String filePath, long intervalSeconds) {
+        stopDumping();
+        File file = new File(filePath);
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpExecutor.scheduleAtFixedRate(() -> dump(file), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        dumpFile = file;
+    }
+
+    /**
+     * Stops writing the metrics to a file, after writing them one last time.
+     */
+    public synchronized void stopDumping() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        try {
+            // a dump that is being written is let finish, so that it does not overwrite the last one
+            dumpExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        dumpExecutor = null;
+        dump(dumpFile);
+    }
+
+    /**
+     * Writes the report of the metrics to {@code file}.
+     */
+    private void dump(File file) {
+        try {
+            FileUtil.createIfMissing(file);
+            FileUtil.writeToFile(file, "Metrics at " + new Date() + System.lineSeparator() + getReport());
+        } catch (IOException ioe) {
+            logger.warning("Failed to write the metrics to " + file + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+}
@@ -13,4 +13,12 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns true if the event carries the whole of some state, so that it makes the earlier events of its type
+     * that are still waiting to be handled on a background thread redundant.
+     */
+    public boolean isStateChange() {
+        return false;
+    }
+
 }
@@ -12,6 +12,11 @@ public class AddressBookChangedEvent extends BaseEvent {
         this.data = data;
     }
 
+    @Override
+    public boolean isStateChange() {
+        return true;
+    }
+
     @Override
     public String toString() {
         return "number of persons " + data.getPersonList().size()
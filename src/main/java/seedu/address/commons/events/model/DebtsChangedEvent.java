@@ -0,0 +1,25 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.model.DebtEntry;
+
+/**
+ * Indicates that debts between persons of the AddressBook in the model changed. The records are those debts as they
+ * are after the change, with an amount of zero for the debts that were settled. Unless {@code areAllDebts} is set,
+ * any other debt is as it was; if it is set, the whole debts table was replaced and the records are all its debts.
+ */
+public class DebtsChangedEvent extends RecordsChangedEvent<DebtEntry> {
+
+    public final boolean areAllDebts;
+
+    public DebtsChangedEvent(long version, List<DebtEntry> debts, boolean areAllDebts) {
+        super(version, debts);
+        this.areAllDebts = areAllDebts;
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return areAllDebts ? "debts replacing the debts table" : "debts changed";
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/** Indicates that persons were added to the AddressBook in the model. */
+public class PersonsAddedEvent extends RecordsChangedEvent<Person> {
+
+    public PersonsAddedEvent(long version, List<Person> persons) {
+        super(version, persons);
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return "persons added";
+    }
+}
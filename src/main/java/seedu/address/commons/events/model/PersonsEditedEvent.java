@@ -0,0 +1,28 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indicates that persons of the AddressBook in the model were edited. The edited persons are the records, and
+ * {@code targets} holds the persons they replaced, in the same order.
+ */
+public class PersonsEditedEvent extends RecordsChangedEvent<Person> {
+
+    public final List<Person> targets;
+
+    public PersonsEditedEvent(long version, List<Person> targets, List<Person> editedPersons) {
+        super(version, editedPersons);
+        assert targets.size() == editedPersons.size();
+        this.targets = Collections.unmodifiableList(requireNonNull(targets));
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return "persons edited";
+    }
+}
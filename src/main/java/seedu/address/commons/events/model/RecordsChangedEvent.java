@@ -0,0 +1,34 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that some records of the AddressBook in the model changed, carrying only those records.
+ * The events of one change are raised together, before the {@link AddressBookChangedEvent} of the whole AddressBook,
+ * and have the version of the snapshot that the change was published in.
+ */
+public abstract class RecordsChangedEvent<T> extends BaseEvent {
+
+    public final long version;
+    public final List<T> records;
+
+    protected RecordsChangedEvent(long version, List<T> records) {
+        this.version = version;
+        this.records = Collections.unmodifiableList(requireNonNull(records));
+    }
+
+    /**
+     * Returns what happened to the records, such as "persons added".
+     */
+    protected abstract String getChangeDescription();
+
+    @Override
+    public String toString() {
+        return records.size() + " " + getChangeDescription() + " in version " + version;
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that a batch of submitted transactions was added to the AddressBook in the model on the writer thread,
+ * outside of any command.
+ */
+public class TransactionBatchAddedEvent extends BaseEvent {
+
+    public final int addedCount;
+
+    public TransactionBatchAddedEvent(int addedCount) {
+        this.addedCount = addedCount;
+    }
+
+    @Override
+    public String toString() {
+        return addedCount + " submitted transactions added";
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.model.transaction.Transaction;
+
+/** Indicates that transactions were added to the AddressBook in the model. */
+public class TransactionsAddedEvent extends RecordsChangedEvent<Transaction> {
+
+    public TransactionsAddedEvent(long version, List<Transaction> transactions) {
+        super(version, transactions);
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return "transactions added";
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Indicates that transactions of the AddressBook in the model were replaced by copies with the same ids, such as
+ * when a person in them was edited. The copies are the records, and {@code targets} holds the transactions they
+ * replaced, in the same order.
+ */
+public class TransactionsEditedEvent extends RecordsChangedEvent<Transaction> {
+
+    public final List<Transaction> targets;
+
+    public TransactionsEditedEvent(long version, List<Transaction> targets, List<Transaction> editedTransactions) {
+        super(version, editedTransactions);
+        assert targets.size() == editedTransactions.size();
+        this.targets = Collections.unmodifiableList(requireNonNull(targets));
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return "transactions edited";
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import java.util.List;
+
+import seedu.address.model.transaction.Transaction;
+
+/** Indicates that transactions were removed from the AddressBook in the model. */
+public class TransactionsRemovedEvent extends RecordsChangedEvent<Transaction> {
+
+    public TransactionsRemovedEvent(long version, List<Transaction> transactions) {
+        super(version, transactions);
+    }
+
+    @Override
+    protected String getChangeDescription() {
+        return "transactions removed";
+    }
+}
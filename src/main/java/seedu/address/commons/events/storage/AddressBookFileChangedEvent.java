@@ -0,0 +1,22 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookFileChange;
+
+/**
+ * Indicates the data file was changed by something other than this app
+ */
+public class AddressBookFileChangedEvent extends BaseEvent {
+
+    public final AddressBookFileChange change;
+
+    public AddressBookFileChangedEvent(AddressBookFileChange change) {
+        this.change = change;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName();
+    }
+
+}
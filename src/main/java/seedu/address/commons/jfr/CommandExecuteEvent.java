@@ -0,0 +1,38 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Executing a command, from the text of the command to its result.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"SmartSplit", "Logic"})
+@Description("Executing a command, including parsing it unless it was parsed ahead")
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    public CommandExecuteEvent() {
+        begin();
+    }
+
+    /**
+     * Records that the command with {@code commandWord} was executed, and whether it succeeded.
+     */
+    public void commit(String commandWord, boolean isSuccessful) {
+        this.commandWord = commandWord;
+        this.isSuccessful = isSuccessful;
+        commit();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Parsing the text of a command into the command to execute.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"SmartSplit", "Logic"})
+@Description("Parsing the text of a command")
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parsed Ahead")
+    @Description("Whether it was parsed ahead of the commands before it")
+    private boolean isParsedAhead;
+
+    /**
+     * Starts timing the parsing, which is parsed ahead of the commands before it if {@code isParsedAhead}.
+     */
+    public CommandParseEvent(boolean isParsedAhead) {
+        this.isParsedAhead = isParsedAhead;
+        begin();
+    }
+
+    /**
+     * Records that the command with {@code commandWord} was parsed.
+     */
+    public void commit(String commandWord) {
+        this.commandWord = commandWord;
+        commit();
+    }
+}
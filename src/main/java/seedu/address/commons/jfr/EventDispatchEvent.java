@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Calling the handlers of an event posted to the events center on one of its threads.
+ */
+@Name("seedu.address.EventDispatch")
+@Label("Event Dispatch")
+@Category({"SmartSplit", "Events"})
+@Description("Calling the handlers of an event on one of the threads of the events center")
+@StackTrace(false)
+public class EventDispatchEvent extends Event {
+
+    @Label("Event Type")
+    private String eventType;
+
+    @Label("Handler Thread")
+    private String handlerThread;
+
+    @Label("Queued")
+    @Description("How long the event waited from being posted until its handlers were called")
+    @Timespan
+    private long queuedNanos;
+
+    /**
+     * Starts timing the handlers of an event of {@code eventType} on {@code handlerThread}, which waited
+     * {@code queuedNanos} nanoseconds since it was posted.
+     */
+    public EventDispatchEvent(String eventType, String handlerThread, long queuedNanos) {
+        this.eventType = eventType;
+        this.handlerThread = handlerThread;
+        this.queuedNanos = queuedNanos;
+        begin();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.commons.jfr;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records the events of this package with Java Flight Recorder, when the app is started with the flag that asks
+ * for it.
+ * The event classes are only loaded once recording was started, so the code that emits them must check
+ * {@link #isEnabled()} before creating any, e.g.
+ * {@code CommandExecuteEvent event = FlightRecording.isEnabled() ? new CommandExecuteEvent() : null;}.
+ * This keeps them from costing more than that check when they are not recorded, and keeps the app running on
+ * Java runtimes without Java Flight Recorder.
+ */
+public class FlightRecording {
+
+    private static final Logger logger = LogsCenter.getLogger(FlightRecording.class);
+
+    private static volatile boolean isEnabled;
+    private static Recording recording;
+
+    private FlightRecording() {}
+
+    /**
+     * Returns true if the events of this package should be created and committed.
+     */
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts recording the events of this package, to be written to {@code filePath} when {@link #stop()} is called.
+     * Logs a warning instead if this Java runtime cannot record them.
+     */
+    public static synchronized void start(String filePath) {
+        if (recording != null) {
+            return;
+        }
+        if (!isFlightRecorderPresent()) {
+            logger.warning("Not recording to " + filePath + ", as this Java runtime has no Java Flight Recorder");
+            return;
+        }
+        try {
+            recording = new Recording();
+            recording.setName("SmartSplit");
+            recording.setToDisk(true);
+            recording.setDestination(Paths.get(filePath));
+            recording.enable(CommandParseEvent.class);
+            recording.enable(CommandExecuteEvent.class);
+            recording.enable(UndoSnapshotEvent.class);
+            recording.enable(LedgerUpdateEvent.class);
+            recording.enable(StorageLoadEvent.class);
+            recording.enable(StorageSaveEvent.class);
+            recording.enable(EventDispatchEvent.class);
+            recording.start();
+            isEnabled = true;
+            logger.info("Recording to " + filePath);
+        } catch (IOException | IllegalStateException | SecurityException e) {
+            logger.warning("Failed to start recording to " + filePath + ": " + StringUtil.getDetails(e));
+            recording = null;
+        }
+    }
+
+    /**
+     * Stops recording, and writes what was recorded to the file given to {@link #start(String)}.
+     */
+    public static synchronized void stop() {
+        if (recording == null) {
+            return;
+        }
+        isEnabled = false;
+        try {
+            // a recording with a destination is written there when it stops
+            recording.stop();
+            logger.info("Wrote the recording to " + recording.getDestination());
+        } catch (IllegalStateException e) {
+            logger.warning("Failed to write the recording: " + StringUtil.getDetails(e));
+        } finally {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    /**
+     * Returns true if this Java runtime has Java Flight Recorder and it can be used.
+     */
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        return FlightRecorder.isAvailable();
+    }
+}
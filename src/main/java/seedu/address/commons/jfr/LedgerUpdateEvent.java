@@ -0,0 +1,39 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Updating the debts between the payer and payees of a transaction that was added or deleted.
+ */
+@Name("seedu.address.LedgerUpdate")
+@Label("Ledger Update")
+@Category({"SmartSplit", "Model"})
+@Description("Updating the debts of a transaction that was added or deleted")
+@StackTrace(false)
+public class LedgerUpdateEvent extends Event {
+
+    @Label("Payees")
+    private int payees;
+
+    @Label("Adding")
+    @Description("Whether the transaction was added, rather than deleted")
+    private boolean isAdding;
+
+    public LedgerUpdateEvent() {
+        begin();
+    }
+
+    /**
+     * Records that the debts of a transaction with {@code payees} payees were updated.
+     */
+    public void commit(int payees, boolean isAdding) {
+        this.payees = payees;
+        this.isAdding = isAdding;
+        commit();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading an address book from a file.
+ */
+@Name("seedu.address.StorageLoad")
+@Label("Storage Load")
+@Category({"SmartSplit", "Storage"})
+@Description("Reading an address book from a file")
+@StackTrace(false)
+public class StorageLoadEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Persons")
+    private int persons;
+
+    @Label("Transactions")
+    private int transactions;
+
+    public StorageLoadEvent() {
+        begin();
+    }
+
+    /**
+     * Records that {@code filePath} was read, with the number of records read, which are 0 if it was not found.
+     */
+    public void commit(String filePath, int persons, int transactions) {
+        this.filePath = filePath;
+        this.persons = persons;
+        this.transactions = transactions;
+        commit();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Writing an address book to a file, with its hashes and index.
+ */
+@Name("seedu.address.StorageSave")
+@Label("Storage Save")
+@Category({"SmartSplit", "Storage"})
+@Description("Writing an address book to a file, with its hashes and index")
+@StackTrace(false)
+public class StorageSaveEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Persons")
+    private int persons;
+
+    @Label("Transactions")
+    private int transactions;
+
+    @Label("Bytes Written")
+    @Description("The bytes written to the file, or -1 if the storage does not count them")
+    @DataAmount
+    private long bytesWritten;
+
+    public StorageSaveEvent() {
+        begin();
+    }
+
+    /**
+     * Records that {@code filePath} was written, with the number of records and bytes written.
+     */
+    public void commit(String filePath, int persons, int transactions, long bytesWritten) {
+        this.filePath = filePath;
+        this.persons = persons;
+        this.transactions = transactions;
+        this.bytesWritten = bytesWritten;
+        commit();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Copying the address book before a command that can be undone changes it.
+ */
+@Name("seedu.address.UndoSnapshot")
+@Label("Undo Snapshot")
+@Category({"SmartSplit", "Logic"})
+@Description("Copying the address book so that a command can be undone")
+@StackTrace(false)
+public class UndoSnapshotEvent extends Event {
+
+    @Label("Command")
+    private String command;
+
+    @Label("Persons")
+    private int persons;
+
+    @Label("Transactions")
+    private int transactions;
+
+    public UndoSnapshotEvent() {
+        begin();
+    }
+
+    /**
+     * Records that the address book was copied for {@code command}, with the number of records copied.
+     */
+    public void commit(String command, int persons, int transactions) {
+        this.command = command;
+        this.persons = persons;
+        this.transactions = transactions;
+        commit();
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Streaming compression formats that data files can be written with.
+ * The format of an existing file is detected from its first bytes, so files written with any of these formats
+ * can be read back regardless of the format currently chosen for writing.
+ */
+public enum Compression {
+    NONE {
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        InputStream decompress(InputStream in) {
+            return in;
+        }
+
+        @Override
+        boolean matches(int firstByte, int secondByte) {
+            return false;
+        }
+    },
+    GZIP {
+        @Override
+        public OutputStream compress(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        @Override
+        InputStream decompress(InputStream in) throws IOException {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        @Override
+        boolean matches(int firstByte, int secondByte) {
+            return firstByte == 0x1f && secondByte == 0x8b;
+        }
+    },
+    DEFLATE {
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return new DeflaterOutputStream(out);
+        }
+
+        @Override
+        InputStream decompress(InputStream in) {
+            return new InflaterInputStream(in);
+        }
+
+        /**
+         * Matches a zlib header: a deflate compression method byte followed by a byte that makes the
+         * 16-bit header a multiple of 31. An xml document can never start this way.
+         */
+        @Override
+        boolean matches(int firstByte, int secondByte) {
+            return (firstByte & 0x0f) == 8 && ((firstByte << 8) | secondByte) % 31 == 0;
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAGIC_LENGTH = 2;
+
+    /**
+     * Returns a stream that compresses everything written to it into {@code out}.
+     * Closing the returned stream finishes the compressed data and closes {@code out}.
+     */
+    public abstract OutputStream compress(OutputStream out) throws IOException;
+
+    abstract InputStream decompress(InputStream in) throws IOException;
+
+    abstract boolean matches(int firstByte, int secondByte);
+
+    /**
+     * Returns a stream of the decompressed contents of {@code in}, detecting its compression format from its
+     * first bytes. Contents that do not start with a known header are returned as is.
+     */
+    public static InputStream decompressDetected(InputStream in) throws IOException {
+        requireNonNull(in);
+        InputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(MAGIC_LENGTH);
+        int firstByte = buffered.read();
+        int secondByte = buffered.read();
+        buffered.reset();
+
+        return detect(firstByte, secondByte).decompress(buffered);
+    }
+
+    /**
+     * Returns the compression format whose header starts with the given bytes, or {@code NONE} if there is none.
+     */
+    static Compression detect(int firstByte, int secondByte) {
+        if (firstByte < 0 || secondByte < 0) {
+            return NONE;
+        }
+        for (Compression compression : values()) {
+            if (compression.matches(firstByte, secondByte)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+}
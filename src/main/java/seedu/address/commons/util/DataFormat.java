@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Formats that data files can be written in.
+ * The format of an existing file is detected from its contents, so a file can be read back in any of these formats
+ * regardless of the format currently chosen for writing.
+ */
+public enum DataFormat {
+    XML,
+    JSON,
+    /** An embedded H2 database file. */
+    H2;
+
+    private static final int BYTE_ORDER_MARK_FIRST_BYTE = 0xef;
+    /** The first byte of the header of an H2 database file, which starts with "H:2,". */
+    private static final int H2_HEADER_FIRST_BYTE = 'H';
+
+    /**
+     * Returns the format of the data in {@code file}, which may be compressed in any {@link Compression} format.
+     * Files that are neither an H2 database nor start with a JSON object, including empty files, are taken to be XML.
+     */
+    public static DataFormat detect(File file) throws IOException {
+        requireNonNull(file);
+        try (InputStream in = Compression.decompressDetected(new FileInputStream(file))) {
+            return detect(in);
+        }
+    }
+
+    /**
+     * Returns the format of the data that {@code in} starts with, skipping any leading whitespace and
+     * UTF-8 byte order mark.
+     */
+    static DataFormat detect(InputStream in) throws IOException {
+        int nextByte = in.read();
+        if (nextByte == H2_HEADER_FIRST_BYTE) {
+            return H2;
+        }
+        if (nextByte == BYTE_ORDER_MARK_FIRST_BYTE) {
+            in.skip(2);
+            nextByte = in.read();
+        }
+        while (nextByte >= 0 && Character.isWhitespace(nextByte)) {
+            nextByte = in.read();
+        }
+        return nextByte == '{' ? JSON : XML;
+    }
+}
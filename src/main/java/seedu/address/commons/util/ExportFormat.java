@@ -0,0 +1,39 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * Formats that the address book can be exported in, for use by other programs.
+ * Unlike the {@link DataFormat}s, exported files cannot be read back.
+ */
+public enum ExportFormat {
+    /** Comma-separated values, with the persons, debts and transactions in a file each. */
+    CSV(".csv"),
+    /** A JSON object with the persons, debts and transactions in an array each. */
+    JSON(".json");
+
+    private final String fileExtension;
+
+    ExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} ends with, ignoring case.
+     */
+    public static Optional<ExportFormat> ofFilePath(String filePath) {
+        requireNonNull(filePath);
+        for (ExportFormat format : values()) {
+            if (filePath.toLowerCase().endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Merkle tree over a list of leaf hashes. Every inner node is the hash of its two children, so the root covers
+ * every leaf, and two trees are compared by descending only into the subtrees whose hashes differ.
+ * Trees with different numbers of leaves are compared as if the smaller one was padded with empty leaves.
+ * Guarantees: immutable.
+ */
+public class MerkleTree {
+
+    public static final int HASH_LENGTH = 32;
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final byte[] EMPTY = new byte[HASH_LENGTH];
+    private static final byte LEAF_PREFIX = 0;
+    private static final byte INNER_PREFIX = 1;
+
+    /** The nodes of each level, from the leaves up to the root. */
+    private final List<byte[][]> levels = new ArrayList<>();
+
+    /**
+     * Builds the tree over {@code leaves}, which are hashes made by {@link #hashLeaf}.
+     */
+    public MerkleTree(List<byte[]> leaves) {
+        requireNonNull(leaves);
+        byte[][] level = leaves.toArray(new byte[0][]);
+        levels.add(level);
+        while (level.length > 1) {
+            byte[][] parents = new byte[(level.length + 1) / 2][];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = hashChildren(level[2 * i], 2 * i + 1 < level.length ? level[2 * i + 1] : EMPTY);
+            }
+            levels.add(parents);
+            level = parents;
+        }
+    }
+
+    /**
+     * Returns the hash of a leaf with the given {@code contents}.
+     */
+    public static byte[] hashLeaf(String contents) {
+        MessageDigest digest = newDigest();
+        digest.update(LEAF_PREFIX);
+        digest.update(contents.getBytes(StandardCharsets.UTF_8));
+        return digest.digest();
+    }
+
+    /**
+     * Returns the hash of an inner node with the given children. A node with only empty leaves below it is empty.
+     */
+    private static byte[] hashChildren(byte[] left, byte[] right) {
+        if (Arrays.equals(left, EMPTY) && Arrays.equals(right, EMPTY)) {
+            return EMPTY;
+        }
+        MessageDigest digest = newDigest();
+        digest.update(INNER_PREFIX);
+        digest.update(left);
+        digest.update(right);
+        return digest.digest();
+    }
+
+    /**
+     * Returns a new digest of the hash algorithm of the tree.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + HASH_ALGORITHM, e);
+        }
+    }
+
+    public int getLeafCount() {
+        return levels.get(0).length;
+    }
+
+    /**
+     * Returns the root hash, which is the same for two trees exactly when their leaves are the same.
+     */
+    public byte[] getRoot() {
+        byte[][] top = levels.get(levels.size() - 1);
+        return top.length == 0 ? EMPTY.clone() : top[0].clone();
+    }
+
+    /**
+     * Returns the indexes of the leaves that differ between this tree and {@code other}, in increasing order.
+     * Only the subtrees whose hashes differ are visited, so this takes O(d log n) time for d differences.
+     */
+    public List<Integer> diff(MerkleTree other) {
+        requireNonNull(other);
+        List<Integer> differences = new ArrayList<>();
+        int height = Math.max(levels.size(), other.levels.size()) - 1;
+        collectDifferences(other, height, 0, differences);
+        return differences;
+    }
+
+    /**
+     * Adds the indexes of the leaves below the node at {@code index} of {@code level} that differ from
+     * {@code other} to {@code differences}.
+     */
+    private void collectDifferences(MerkleTree other, int level, int index, List<Integer> differences) {
+        if (Arrays.equals(getNode(level, index), other.getNode(level, index))) {
+            return;
+        }
+        if (level == 0) {
+            differences.add(index);
+            return;
+        }
+        collectDifferences(other, level - 1, 2 * index, differences);
+        collectDifferences(other, level - 1, 2 * index + 1, differences);
+    }
+
+    /**
+     * Returns the node at {@code index} of {@code level}, or the node that padding with empty leaves would give.
+     */
+    private byte[] getNode(int level, int index) {
+        if (level < levels.size()) {
+            byte[][] nodes = levels.get(level);
+            return index < nodes.length ? nodes[index] : EMPTY;
+        }
+        // above the root, the only node that is not empty is the one covering the root
+        return index == 0 ? hashChildren(getNode(level - 1, 0), EMPTY) : EMPTY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MerkleTree // instanceof handles nulls
+                && diff((MerkleTree) other).isEmpty());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(getRoot());
+    }
+}
@@ -3,7 +3,12 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -17,6 +22,7 @@ public class XmlUtil {
 
     /**
      * Returns the xml data in the file as an object of the specified type.
+     * The file may be compressed with any of the {@link Compression} formats; it is decompressed while it is read.
      *
      * @param file           Points to a valid xml file containing data that match the {@code classToConvert}.
      *                       Cannot be null.
@@ -39,7 +45,13 @@ public class XmlUtil {
         JAXBContext context = JAXBContext.newInstance(classToConvert);
         Unmarshaller um = context.createUnmarshaller();
 
-        return ((T) um.unmarshal(file));
+        try (InputStream in = Compression.decompressDetected(new FileInputStream(file))) {
+            return ((T) um.unmarshal(in));
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
     }
 
     /**
@@ -52,19 +64,48 @@ public class XmlUtil {
      *                               into xml and writing to the file.
      */
     public static <T> void saveDataToFile(File file, T data) throws FileNotFoundException, JAXBException {
+        saveDataToFile(file, data, Compression.NONE);
+    }
+
+    /**
+     * Saves the data in the file in xml format, compressing it with {@code compression} as it is written.
+     *
+     * @see #saveDataToFile(File, Object)
+     */
+    public static <T> void saveDataToFile(File file, T data, Compression compression)
+            throws FileNotFoundException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
+        requireNonNull(compression);
 
         if (!file.exists()) {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
+        try (OutputStream out = compression.compress(new FileOutputStream(file))) {
+            saveDataToStream(out, data);
+        } catch (FileNotFoundException fnfe) {
+            throw fnfe;
+        } catch (IOException ioe) {
+            throw new JAXBException(ioe);
+        }
+    }
+
+    /**
+     * Writes the data to {@code out} in xml format. {@code out} is left open.
+     *
+     * @throws JAXBException Thrown if there is an error during converting the data into xml and writing it.
+     */
+    public static <T> void saveDataToStream(OutputStream out, T data) throws JAXBException {
+        requireNonNull(out);
+        requireNonNull(data);
+
         JAXBContext context = JAXBContext.newInstance(data.getClass());
         Marshaller m = context.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-        m.marshal(data, file);
+        m.marshal(data, out);
     }
 
 }
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -23,6 +25,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException, PersonNotFoundException;
 
+    /**
+     * Parses the arguments of an add transaction command into a transaction, and submits it to be added along with
+     * the others submitted around the same time. Can be called from any thread.
+     * @param arguments The arguments of the command, without the command word.
+     * @return a future completed once the transaction has been added and saved.
+     * @throws ParseException If the arguments do not describe a transaction between known persons.
+     */
+    CompletableFuture<Transaction> submitTransaction(String arguments) throws ParseException, InterruptedException;
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
@@ -5,14 +5,25 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_DEBTORS;
 import static seedu.address.model.Model.PREDICATE_SHOW_NO_CREDITORS;
 import static seedu.address.model.Model.PREDICATE_SHOW_NO_DEBTORS;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.model.TransactionBatchAddedEvent;
+import seedu.address.commons.events.storage.AddressBookFileChangedEvent;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
+import seedu.address.commons.jfr.FlightRecording;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddTransactionCommandParser;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.DebtsList;
@@ -29,6 +40,13 @@ import seedu.address.model.transaction.TransactionContainsPersonPredicate;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    public static final String PARSE_LATENCY = "logic.parse";
+    public static final String EXECUTE_LATENCY = "logic.execute";
+    public static final String FAILED_COMMANDS = "logic.command.failed";
+
+    /** The word that the time taken by commands that could not be parsed is recorded under. */
+    private static final String INVALID_COMMAND_WORD = "invalid";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -45,18 +63,108 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException, PersonNotFoundException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(commandText, Optional.empty());
+    }
+
+    /**
+     * Executes {@code commandText} the way {@link #execute(String)} does, using {@code parsedCommand} if it was
+     * already parsed from it by {@link #parseAhead(String)}.
+     */
+    CommandResult execute(String commandText, Optional<Command> parsedCommand)
+            throws CommandException, ParseException, PersonNotFoundException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        long startNanos = System.nanoTime();
+        String commandWord = INVALID_COMMAND_WORD;
+        boolean isSuccessful = false;
+        CommandExecuteEvent executeEvent = FlightRecording.isEnabled() ? new CommandExecuteEvent() : null;
         try {
-            Command command = addressBookParser.parseCommand(commandText);
+            Command command;
+            if (parsedCommand.isPresent()) {
+                command = parsedCommand.get();
+            } else {
+                CommandParseEvent parseEvent = FlightRecording.isEnabled() ? new CommandParseEvent(false) : null;
+                command = addressBookParser.parseCommand(commandText);
+                metrics.getHistogram(PARSE_LATENCY).recordSince(startNanos);
+                if (parseEvent != null) {
+                    parseEvent.commit(getCommandWord(commandText));
+                }
+            }
+            commandWord = getCommandWord(commandText);
             command.setData(model, history, undoRedoStack);
+            long executeStartNanos = System.nanoTime();
             CommandResult result = command.execute();
+            metrics.getHistogram(EXECUTE_LATENCY).recordSince(executeStartNanos);
             undoRedoStack.push(command);
+            isSuccessful = true;
             return result;
         } finally {
             history.add(commandText);
+            metrics.getHistogram(MetricsCenter.COMMAND_LATENCY).recordSince(startNanos);
+            metrics.getHistogram("command." + commandWord).recordSince(startNanos);
+            if (!isSuccessful) {
+                metrics.getCounter(FAILED_COMMANDS).increment();
+            }
+            if (executeEvent != null) {
+                executeEvent.commit(commandWord, isSuccessful);
+            }
         }
     }
 
+    @Override
+    public CompletableFuture<Transaction> submitTransaction(String arguments)
+            throws ParseException, InterruptedException {
+        logger.fine(() -> "Submitting transaction [" + arguments + "]");
+        // the prefixes are only found after a space, which the command word would be followed by
+        Transaction transaction = new AddTransactionCommandParser().parseTransaction(" " + arguments, model);
+        return model.submitTransaction(transaction);
+    }
+
+    /**
+     * Returns the word that {@code commandText}, which was parsed into a command, starts with.
+     */
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+")[0].toLowerCase();
+    }
+
+    /**
+     * Parses {@code commandText} ahead of the commands before it, on any thread, if that can be done without reading
+     * the model. Returns an empty Optional if it cannot, so that it is parsed when it is executed instead.
+     */
+    Optional<Command> parseAhead(String commandText) throws CommandException, ParseException {
+        long startNanos = System.nanoTime();
+        CommandParseEvent parseEvent = FlightRecording.isEnabled() ? new CommandParseEvent(true) : null;
+        Optional<Command> command = addressBookParser.parseCommandAhead(commandText);
+        if (command.isPresent()) {
+            MetricsCenter.getInstance().getHistogram(PARSE_LATENCY).recordSince(startNanos);
+            if (parseEvent != null) {
+                parseEvent.commit(getCommandWord(commandText));
+            }
+        }
+        return command;
+    }
+
+    /**
+     * Forgets the commands that could be undone, so that the copies of the data they keep can be freed.
+     */
+    void clearUndoRedoStack() {
+        undoRedoStack.clear();
+    }
+
+    @Subscribe
+    private void handleAddressBookFileChangedEvent(AddressBookFileChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Clearing the commands that can be undone"));
+        // undoing a command from before the change would bring back the data that the change replaced
+        undoRedoStack.clear();
+    }
+
+    @Subscribe
+    private void handleTransactionBatchAddedEvent(TransactionBatchAddedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Clearing the commands that can be undone"));
+        // undoing a command from before the batch would bring back the data without the transactions in it
+        undoRedoStack.clear();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
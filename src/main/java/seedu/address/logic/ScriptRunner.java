@@ -0,0 +1,187 @@
+package seedu.address.logic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Runs a script of commands, one per line, through a {@link LogicManager} without a UI.
+ * The lines are parsed ahead on worker threads while the commands before them run, but the commands are run one at a
+ * time in the order of the script, on the thread that runs the script. Blank lines and lines starting with
+ * {@value #COMMENT_PREFIX} are skipped.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    /** How many lines are parsed ahead of the command being run, for each worker thread. */
+    private static final int LINES_AHEAD_PER_THREAD = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final LogicManager logic;
+    private final int parserThreads;
+    private final int checkpointInterval;
+    private final Checkpoint checkpoint;
+
+    /**
+     * Creates a runner that parses lines on {@code parserThreads} worker threads, and that reaches
+     * {@code checkpoint} after every {@code checkpointInterval} commands, or only at the end of the script if it is
+     * not positive.
+     */
+    public ScriptRunner(LogicManager logic, int parserThreads, int checkpointInterval, Checkpoint checkpoint) {
+        if (parserThreads <= 0) {
+            throw new IllegalArgumentException("There must be at least one parser thread");
+        }
+        this.logic = logic;
+        this.parserThreads = parserThreads;
+        this.checkpointInterval = checkpointInterval;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Runs every command in {@code script}, printing the line number and the error of those that fail to
+     * {@code err}, and reaches the checkpoint at the end. Failed commands do not stop the script.
+     *
+     * @throws IOException if the script cannot be read or a checkpoint cannot be saved.
+     */
+    public ScriptReport run(BufferedReader script, PrintStream err) throws IOException {
+        ExecutorService parsers = Executors.newFixedThreadPool(parserThreads, runnable -> {
+            Thread thread = new Thread(runnable, "script-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        ScriptReport report = new ScriptReport();
+        try {
+            Deque<ParsedLine> linesAhead = new ArrayDeque<>();
+            int lineNumber = 0;
+            boolean isScriptRead = false;
+            while (!isScriptRead || !linesAhead.isEmpty()) {
+                while (!isScriptRead && linesAhead.size() < parserThreads * LINES_AHEAD_PER_THREAD) {
+                    String line = script.readLine();
+                    lineNumber++;
+                    if (line == null) {
+                        isScriptRead = true;
+                    } else if (!line.trim().isEmpty() && !line.trim().startsWith(COMMENT_PREFIX)) {
+                        linesAhead.add(new ParsedLine(lineNumber, line,
+                                parsers.submit(() -> logic.parseAhead(line))));
+                    }
+                }
+                if (!linesAhead.isEmpty()) {
+                    runCommand(linesAhead.remove(), report, err);
+                    if (checkpointInterval > 0 && report.commandCount % checkpointInterval == 0) {
+                        reachCheckpoint();
+                    }
+                }
+            }
+            reachCheckpoint();
+        } finally {
+            parsers.shutdownNow();
+        }
+        report.elapsedNanos = System.nanoTime() - start;
+        return report;
+    }
+
+    /**
+     * Runs the command on {@code line}, using the command parsed ahead if there is one, and records it in
+     * {@code report}.
+     */
+    private void runCommand(ParsedLine line, ScriptReport report, PrintStream err) {
+        report.commandCount++;
+        try {
+            Optional<Command> parsedCommand;
+            try {
+                parsedCommand = line.parsedCommand.get();
+            } catch (ExecutionException ee) {
+                // the line is parsed again in turn, so that it fails the way it would have failed if typed
+                parsedCommand = Optional.empty();
+            }
+            logic.execute(line.text, parsedCommand);
+        } catch (CommandException | ParseException | PersonNotFoundException e) {
+            report.failureCount++;
+            err.println("Line " + line.number + ": " + e.getMessage());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the script", ie);
+        }
+    }
+
+    /**
+     * Reaches the checkpoint, after which the commands before it can no longer be undone.
+     */
+    private void reachCheckpoint() throws IOException {
+        logger.fine("Reached a checkpoint of the script");
+        checkpoint.reach();
+        logic.clearUndoRedoStack();
+    }
+
+    /**
+     * What is done at each checkpoint of a script, such as saving the changes made since the last one.
+     */
+    @FunctionalInterface
+    public interface Checkpoint {
+        void reach() throws IOException;
+    }
+
+    /**
+     * A line of the script, with the command being parsed ahead from it.
+     */
+    private static class ParsedLine {
+
+        private final int number;
+        private final String text;
+        private final Future<Optional<Command>> parsedCommand;
+
+        ParsedLine(int number, String text, Future<Optional<Command>> parsedCommand) {
+            this.number = number;
+            this.text = text;
+            this.parsedCommand = parsedCommand;
+        }
+    }
+
+    /**
+     * How many commands of a script were run, how many of them failed and how long the script took.
+     */
+    public static class ScriptReport {
+
+        public static final String MESSAGE_SUMMARY = "%1$d commands (%2$d failed) in %3$.2f s: %4$.1f commands/s";
+
+        private int commandCount;
+        private int failureCount;
+        private long elapsedNanos;
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailureCount() {
+            return failureCount;
+        }
+
+        public double getElapsedSeconds() {
+            return elapsedNanos / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            double seconds = getElapsedSeconds();
+            return String.format(MESSAGE_SUMMARY, commandCount, failureCount, seconds,
+                    seconds > 0 ? commandCount / seconds : 0);
+        }
+    }
+}
@@ -54,6 +54,14 @@ public class UndoRedoStack {
         return toRedo;
     }
 
+    /**
+     * Forgets every command that could be undone or redone, for when the data they would restore is gone.
+     */
+    public void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+
     /**
      * Returns true if there are more commands that can be undone.
      */
@@ -0,0 +1,158 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.LedgerCheckpoint;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Moves the fully settled transactions from before a date to the archive, or lists the archived transactions.
+ * Archiving cannot be undone, and the commands before it can no longer be undone either, as undoing them would
+ * bring the archived transactions back.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+    public static final String LIST_KEYWORD = "list";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the transactions from before the given date whose debts are fully settled to the archive, "
+            + "or lists the archived transactions that mention the given keyword.\n"
+            + "Parameters: before/DATE or " + LIST_KEYWORD + " [KEYWORD]\n"
+            + "Example: " + COMMAND_WORD + " before/2018-04-01\n"
+            + "Example: " + COMMAND_WORD + " " + LIST_KEYWORD + " dinner";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d transactions from before %2$s. "
+            + "Every debt and balance is as it was. Commands before this one can no longer be undone.";
+    public static final String MESSAGE_NOTHING_SETTLED = "No transactions from before %1$s are fully settled, "
+            + "so none were archived.";
+    public static final String MESSAGE_NOT_ARCHIVED = "The transactions could not be archived: %1$s";
+    public static final String MESSAGE_LISTED = "%1$d archived transactions listed:%2$s";
+    public static final String MESSAGE_UNREADABLE = "The archive cannot be read: %1$s";
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd";
+    private static final String TRANSACTION_FORMAT = "\n%1$s %2$s paid %3$s for %4$s";
+
+    private final Date before;
+    private final String keyword;
+
+    private ArchiveCommand(Date before, String keyword) {
+        this.before = before;
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns a command that archives the fully settled transactions from before {@code before}.
+     */
+    public static ArchiveCommand before(Date before) {
+        requireNonNull(before);
+        return new ArchiveCommand(before, null);
+    }
+
+    /**
+     * Returns a command that lists the archived transactions whose description or persons contain
+     * {@code keyword}, ignoring case, or all of them if there is no keyword.
+     */
+    public static ArchiveCommand list(Optional<String> keyword) {
+        requireNonNull(keyword);
+        return new ArchiveCommand(null, keyword.orElse(""));
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        return before != null ? archive() : listArchived();
+    }
+
+    /**
+     * Archives the fully settled transactions from before {@code before}.
+     */
+    private CommandResult archive() throws CommandException {
+        String date = new SimpleDateFormat(DATE_FORMAT).format(before);
+        LedgerCheckpoint checkpoint;
+        try {
+            checkpoint = model.archiveSettledTransactions(before);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_NOT_ARCHIVED, StringUtil.getDetails(ioe)));
+        }
+
+        if (checkpoint.getTransactions().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NOTHING_SETTLED, date));
+        }
+        if (undoRedoStack != null) {
+            undoRedoStack.clear();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, checkpoint.getTransactions().size(), date));
+    }
+
+    /**
+     * Lists the archived transactions that mention {@code keyword}.
+     */
+    private CommandResult listArchived() throws CommandException {
+        List<LedgerCheckpoint> checkpoints;
+        try {
+            checkpoints = model.getArchivedTransactions();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, StringUtil.getDetails(e)));
+        }
+
+        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+        StringBuilder listing = new StringBuilder();
+        int count = 0;
+        for (LedgerCheckpoint checkpoint : checkpoints) {
+            for (Transaction transaction : checkpoint.getTransactions()) {
+                if (mentionsKeyword(transaction)) {
+                    listing.append(String.format(TRANSACTION_FORMAT, dateFormat.format(transaction.getDateTime()),
+                            transaction.getPayer().getName(), transaction.getAmount(), transaction.getDescription()));
+                    count++;
+                }
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_LISTED, count, listing));
+    }
+
+    /**
+     * Returns true if the description or a person of {@code transaction} contains {@code keyword}, ignoring case.
+     */
+    private boolean mentionsKeyword(Transaction transaction) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (transaction.getDescription().value.toLowerCase().contains(lowerCaseKeyword)
+                || transaction.getPayer().getName().fullName.toLowerCase().contains(lowerCaseKeyword)) {
+            return true;
+        }
+        for (Person payee : transaction.getPayees()) {
+            if (payee.getName().fullName.toLowerCase().contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
+        this.model = model;
+        this.undoRedoStack = undoRedoStack;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ArchiveCommand // instanceof handles nulls
+                && Objects.equals(before, ((ArchiveCommand) other).before)
+                && Objects.equals(keyword, ((ArchiveCommand) other).keyword));
+    }
+}
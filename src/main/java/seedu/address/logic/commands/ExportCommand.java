@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ExportFilter;
+import seedu.address.model.ExportReport;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Exports the persons, debts and transactions of the address book to CSV or JSON files for other programs.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the persons, debts and transactions to a JSON file, or to three CSV files named after the "
+            + "given file. Only the records of the given person, and the transactions between the given dates, "
+            + "are exported.\n"
+            + "Parameters: FILE_PATH (must end in .csv or .json) "
+            + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " exports/ledger.csv " + PREFIX_FROM + "2018-01-01 " + PREFIX_TO
+            + "2018-03-31";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons, %2$d debts and %3$d transactions to %4$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no person named %1$s to export.";
+    public static final String MESSAGE_NOT_EXPORTED = "The address book could not be exported: %1$s";
+
+    private final String filePath;
+    private final ExportFormat format;
+    private final Optional<Name> name;
+    private final Optional<LocalDate> firstDate;
+    private final Optional<LocalDate> lastDate;
+
+    /**
+     * Creates an ExportCommand to export to {@code filePath} in {@code format} the records of the person named
+     * {@code name}, if any, with the transactions from {@code firstDate} to {@code lastDate}, if any.
+     */
+    public ExportCommand(String filePath, ExportFormat format, Optional<Name> name, Optional<LocalDate> firstDate,
+                         Optional<LocalDate> lastDate) {
+        requireAllNonNull(filePath, format, name, firstDate, lastDate);
+        this.filePath = filePath;
+        this.format = format;
+        this.name = name;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        Optional<Person> person = Optional.empty();
+        if (name.isPresent()) {
+            try {
+                person = Optional.of(model.findPersonByName(name.get()));
+            } catch (PersonNotFoundException pnfe) {
+                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, name.get()));
+            }
+        }
+
+        ExportReport report;
+        try {
+            report = model.exportAddressBook(filePath, format, new ExportFilter(person, firstDate, lastDate));
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_NOT_EXPORTED, StringUtil.getDetails(e)));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, report.getPersonCount(), report.getDebtCount(),
+                report.getTransactionCount(), String.join(", ", report.getFilePaths())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+        ExportCommand otherCommand = (ExportCommand) other;
+        return filePath.equals(otherCommand.filePath) && format == otherCommand.format
+                && name.equals(otherCommand.name) && firstDate.equals(otherCommand.firstDate)
+                && lastDate.equals(otherCommand.lastDate);
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.MetricsCenter;
+
+/**
+ * Shows the metrics kept since the app was started: how many times things happened, and how long they took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how many commands were run and how long they, the saves and the loads took.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Metrics since SmartSplit was started:\n%1$s";
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(String.format(MESSAGE_SUCCESS, MetricsCenter.getInstance().getReport()));
+    }
+}
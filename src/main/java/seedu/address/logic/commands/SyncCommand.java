@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.SyncReport;
+
+/**
+ * Adds the persons and transactions of another copy of the address book that are missing from this one.
+ */
+public class SyncCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "sync";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the persons and transactions of another SmartSplit data file that are missing from this one.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " shared/smartsplit.xml";
+
+    public static final String MESSAGE_UP_TO_DATE = "SmartSplit already has everything in %1$s.";
+    public static final String MESSAGE_SUCCESS = "%1$d blocks differed from %2$s: added %3$d persons and "
+            + "%4$d transactions.";
+    public static final String MESSAGE_CONFLICTING_PERSONS = "\nThese persons have different details there, "
+            + "and were kept as they are here: %1$s";
+    public static final String MESSAGE_REJECTED_TRANSACTIONS = "\nThese transactions could not be added: %1$s";
+    public static final String MESSAGE_UNREADABLE = "The data file %1$s cannot be read: %2$s";
+
+    private final String filePath;
+
+    public SyncCommand(String filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        SyncReport report;
+        try {
+            report = model.syncAddressBook(filePath);
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, filePath, StringUtil.getDetails(e)));
+        }
+
+        if (report.getDifferentBlockCount() == 0) {
+            return new CommandResult(String.format(MESSAGE_UP_TO_DATE, filePath));
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, report.getDifferentBlockCount(),
+                filePath, report.getAddedPersonCount(), report.getAddedTransactionCount()));
+        if (!report.getConflictingPersonNames().isEmpty()) {
+            message.append(String.format(MESSAGE_CONFLICTING_PERSONS,
+                    String.join(", ", report.getConflictingPersonNames())));
+        }
+        if (!report.getRejectedTransactions().isEmpty()) {
+            message.append(String.format(MESSAGE_REJECTED_TRANSACTIONS,
+                    String.join(", ", report.getRejectedTransactions())));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncCommand // instanceof handles nulls
+                && filePath.equals(((SyncCommand) other).filePath));
+    }
+}
@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.jfr.UndoSnapshotEvent;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -13,6 +16,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * Represents a command which can be undone and redone.
  */
 public abstract class UndoableCommand extends Command {
+    public static final String UNDO_SNAPSHOT_LATENCY = "model.undo-snapshot";
+    public static final String MUTATION_LATENCY = "model.mutation";
+
     private ReadOnlyAddressBook previousAddressBook;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException, PersonNotFoundException;
@@ -61,8 +67,19 @@ public abstract class UndoableCommand extends Command {
 
     @Override
     public final CommandResult execute() throws CommandException, PersonNotFoundException {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        long startNanos = System.nanoTime();
+        UndoSnapshotEvent snapshotEvent = FlightRecording.isEnabled() ? new UndoSnapshotEvent() : null;
         saveAddressBookSnapshot();
+        metrics.getHistogram(UNDO_SNAPSHOT_LATENCY).recordSince(startNanos);
+        if (snapshotEvent != null) {
+            snapshotEvent.commit(getClass().getSimpleName(), previousAddressBook.getPersonList().size(),
+                    previousAddressBook.getTransactionList().size());
+        }
         preprocessUndoableCommand();
-        return executeUndoableCommand();
+        long mutationStartNanos = System.nanoTime();
+        CommandResult result = executeUndoableCommand();
+        metrics.getHistogram(MUTATION_LATENCY).recordSince(mutationStartNanos);
+        return result;
     }
 }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.VerificationReport;
+
+/**
+ * Checks the saved data against the hashes saved with it, and reports the blocks of data that do not match.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Checks the saved data for corruption, and shows which blocks of it do not match.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "All %1$d blocks of the saved data are intact.";
+    public static final String MESSAGE_CORRUPTED = "%1$d of %2$d blocks of the saved data are corrupted:\n%3$s";
+    public static final String MESSAGE_UNSAVED = "%1$d blocks of SmartSplit have not been saved:\n%2$s";
+    public static final String MESSAGE_NO_HASHES = "The saved data cannot be checked, as it has not been saved "
+            + "by this version of SmartSplit yet.";
+    public static final String MESSAGE_UNREADABLE = "The saved data cannot be read: %1$s";
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        VerificationReport report;
+        try {
+            report = model.verifyAddressBook();
+        } catch (DataConversionException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE, StringUtil.getDetails(e)));
+        }
+
+        if (!report.hasStoredHashes()) {
+            return new CommandResult(MESSAGE_NO_HASHES);
+        }
+        if (!report.getCorruptedBlocks().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_CORRUPTED, report.getCorruptedBlocks().size(),
+                    report.getBlockCount(), String.join("\n", report.getCorruptedBlocks())));
+        }
+        if (!report.getUnsavedBlocks().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_UNSAVED, report.getUnsavedBlocks().size(),
+                    String.join("\n", report.getUnsavedBlocks())));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, report.getBlockCount()));
+    }
+}
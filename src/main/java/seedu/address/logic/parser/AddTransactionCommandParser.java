@@ -54,6 +54,15 @@ public class AddTransactionCommandParser implements Parser<AddTransactionCommand
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddTransactionCommand parse(String args, Model model) throws ParseException {
+        return new AddTransactionCommand(parseTransaction(args, model));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddTransactionCommand
+     * and returns the transaction they describe, between persons of {@code model}.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Transaction parseTransaction(String args, Model model) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_TRANSACTION_TYPE, PREFIX_PAYER, PREFIX_AMOUNT,
                         PREFIX_DESCRIPTION, PREFIX_PAYEE, PREFIX_SPLIT_METHOD, PREFIX_SPLIT_BY_UNITS,
@@ -89,9 +98,8 @@ public class AddTransactionCommandParser implements Parser<AddTransactionCommand
             validatePayees(payer, payees);
             validateSplitMethodValues(payees, splitMethod, units, percentages);
 
-            Transaction transaction = new Transaction(transactionType, payer, amount, description, dateTime,
+            return new Transaction(transactionType, payer, amount, description, dateTime,
                     payees, splitMethod, units, percentages);
-            return new AddTransactionCommand(transaction);
         } catch (PersonNotFoundException pnfe) {
             throw new ParseException(MESSAGE_NONEXISTENT_PERSON, pnfe);
         } catch (IllegalValueException ive) {
@@ -3,24 +3,30 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.AddTransactionCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.DeleteTransactionCommand;
 import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListPersonsCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectPersonCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -41,6 +47,24 @@ public class AddressBookParser {
         this.model = model;
     }
 
+    /**
+     * Parses user input into a command ahead of the commands entered before it, if that can be done without reading
+     * the model, which may be changed by those commands in the meantime. Only the parsers of the command words that
+     * look persons up read the model, so any thread can parse the other command words ahead.
+     *
+     * @return the command, or an empty Optional if it has to be parsed with {@link #parseCommand(String)} after the
+     *     commands before it have been executed
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Optional<Command> parseCommandAhead(String userInput) throws ParseException, CommandException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (matcher.matches()
+                && matcher.group("commandWord").toLowerCase().equals(AddTransactionCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        return Optional.of(parseCommand(userInput));
+    }
+
     //@@author
     /**
      * Parses user input into command for execution.
@@ -101,6 +125,21 @@ public class AddressBookParser {
         case RedoCommand.COMMAND_WORD:
             return new RedoCommand();
 
+        case VerifyCommand.COMMAND_WORD:
+            return new VerifyCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case SyncCommand.COMMAND_WORD:
+            return new SyncCommandParser().parse(arguments, model);
+
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommandParser().parse(arguments, model);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments, model);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
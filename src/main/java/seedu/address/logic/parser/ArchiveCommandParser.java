@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BEFORE;
+
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ArchiveCommand parse(String args, Model model) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.equals(ArchiveCommand.LIST_KEYWORD)
+                || trimmedArgs.startsWith(ArchiveCommand.LIST_KEYWORD + " ")) {
+            String keyword = trimmedArgs.substring(ArchiveCommand.LIST_KEYWORD.length()).trim();
+            return ArchiveCommand.list(keyword.isEmpty() ? Optional.empty() : Optional.of(keyword));
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_BEFORE);
+        if (!argMultimap.getValue(PREFIX_BEFORE).isPresent() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        }
+        try {
+            return ArchiveCommand.before(ParserUtil.parseDate(argMultimap.getValue(PREFIX_BEFORE).get()));
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+    }
+}
@@ -18,5 +18,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_SPLIT_METHOD = new Prefix("m/");
     public static final Prefix PREFIX_SPLIT_BY_UNITS = new Prefix("units/");
     public static final Prefix PREFIX_SPLIT_BY_PERCENTAGE = new Prefix("percentage/");
+    public static final Prefix PREFIX_BEFORE = new Prefix("before/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 
 }
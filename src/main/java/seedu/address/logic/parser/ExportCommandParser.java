@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_DATES_REVERSED = "The from/ date must not be after the to/ date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args, Model model) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FROM, PREFIX_TO);
+        String filePath = argMultimap.getPreamble();
+        Optional<ExportFormat> format = ExportFormat.ofFilePath(filePath);
+        if (!format.isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Optional<LocalDate> firstDate = ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_FROM));
+            Optional<LocalDate> lastDate = ParserUtil.parseLocalDate(argMultimap.getValue(PREFIX_TO));
+            if (firstDate.isPresent() && lastDate.isPresent() && firstDate.get().isAfter(lastDate.get())) {
+                throw new ParseException(MESSAGE_DATES_REVERSED);
+            }
+            return new ExportCommand(filePath, format.get(), ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME)),
+                    firstDate, lastDate);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
+    }
+}
@@ -2,9 +2,13 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +39,7 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INSUFFICIENT_PARTS = "Number of parts must be more than 1.";
+    public static final String MESSAGE_INVALID_DATE = "Dates should be in the format YYYY-MM-DD, e.g. 2018-04-01";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -290,4 +295,38 @@ public class ParserUtil {
         return percentagesList.isPresent() ? parsePercentagesList(percentagesList.get()) : Collections.emptyList();
     }
 
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into the {@code Date} at the start of that day.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code date} is not a valid date in that format.
+     */
+    public static Date parseDate(String date) throws IllegalValueException {
+        return Date.from(parseLocalDate(date).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Parses a {@code String date} in the format YYYY-MM-DD into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code date} is not a valid date in that format.
+     */
+    public static LocalDate parseLocalDate(String date) throws IllegalValueException {
+        requireNonNull(date);
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(MESSAGE_INVALID_DATE, dtpe);
+        }
+    }
+
+    /**
+     * Parses a {@code Optional<String> date} into an {@code Optional<LocalDate>} if {@code date} is present.
+     * See header comment of this class regarding the use of {@code Optional} parameters.
+     */
+    public static Optional<LocalDate> parseLocalDate(Optional<String> date) throws IllegalValueException {
+        requireNonNull(date);
+        return date.isPresent() ? Optional.of(parseLocalDate(date.get())) : Optional.empty();
+    }
+
 }
@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SyncCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Parses input arguments and creates a new SyncCommand object
+ */
+public class SyncCommandParser implements Parser<SyncCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SyncCommand
+     * and returns a SyncCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SyncCommand parse(String args, Model model) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SyncCommand.MESSAGE_USAGE));
+        }
+        return new SyncCommand(filePath);
+    }
+}
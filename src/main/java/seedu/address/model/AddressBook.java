@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.commands.AddTransactionCommand.MESSAGE_ONLY_ONE_PAYEE_FOR_PAYDEBT;
 import static seedu.address.logic.commands.AddTransactionCommand.MESSAGE_PAYEE_IS_BEING_OVERPAID;
 import static seedu.address.logic.commands.AddTransactionCommand.MESSAGE_PAYEE_NOT_OWED_ANY_DEBT;
@@ -8,12 +9,17 @@ import static seedu.address.logic.commands.DeletePersonCommand.MESSAGE_DEBT_NOT_
 import static seedu.address.logic.util.CalculationUtil.calculateAmountToAddForPayee;
 import static seedu.address.logic.util.CalculationUtil.calculateAmountToAddForPayer;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
@@ -21,6 +27,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Balance;
 import seedu.address.model.person.Creditor;
 import seedu.address.model.person.Debtor;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniqueCreditorList;
 import seedu.address.model.person.UniqueDebtorList;
@@ -31,6 +38,7 @@ import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.transaction.Transaction;
 import seedu.address.model.transaction.TransactionList;
+import seedu.address.model.transaction.TransactionSegment;
 import seedu.address.model.transaction.TransactionType;
 import seedu.address.model.transaction.exceptions.TransactionNotFoundException;
 
@@ -40,12 +48,18 @@ import seedu.address.model.transaction.exceptions.TransactionNotFoundException;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** The last change stamp handed out by any address book, so that every change gets a distinct stamp. */
+    private static final AtomicLong lastChangeStamp = new AtomicLong();
+
     private final UniquePersonList persons;
     private final UniqueTagList tags;
     private final TransactionList transactions;
+    private final List<TransactionSegment> unloadedTransactionSegments;
     private UniqueDebtorList debtors;
     private UniqueCreditorList creditors;
     private DebtsTable debtsTable;
+    private final Map<YearMonth, Long> transactionsChangeStamps;
+    private long personsChangeStamp;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -58,9 +72,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         tags = new UniqueTagList();
         transactions = new TransactionList();
+        unloadedTransactionSegments = new ArrayList<>();
         debtors = new UniqueDebtorList();
         creditors = new UniqueCreditorList();
         debtsTable = new DebtsTable();
+        transactionsChangeStamps = new HashMap<>();
+        personsChangeStamp = nextChangeStamp();
     }
 
     public AddressBook() {}
@@ -76,10 +93,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
         this.persons.setPersons(persons);
+        markPersonsChanged();
     }
 
     public void setTags(Set<Tag> tags) {
         this.tags.setTags(tags);
+        markPersonsChanged();
     }
     //@@author ongkc
     public void setDebtors(DebtsList debtsList)  {
@@ -90,6 +109,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.creditors.setCreditors(debtsList); }
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransactions(transactions);
+        transactions.forEach(this::markTransactionsChanged);
+    }
+
+    /**
+     * Replaces the segments of transactions that are still in storage with {@code segments}.
+     * The debts table must already account for the transactions in them.
+     */
+    public void setUnloadedTransactionSegments(List<TransactionSegment> segments) {
+        requireNonNull(segments);
+        unloadedTransactionSegments.clear();
+        unloadedTransactionSegments.addAll(segments);
+        unloadedTransactionSegments.sort(Comparator.comparing(TransactionSegment::getPeriod));
+        segments.forEach(segment -> transactionsChangeStamps.put(segment.getPeriod(), nextChangeStamp()));
     }
     public void setDebtsTable(DebtsTable debtsTable) {
         final DebtsTable replacement = new DebtsTable();
@@ -99,12 +131,14 @@ public class AddressBook implements ReadOnlyAddressBook {
             replacement.put(entry.getKey(), debtsList);
         }
         this.debtsTable = replacement;
+        markPersonsChanged();
     }
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
+        transactionsChangeStamps.clear();
         setTags(new HashSet<>(newData.getTagList()));
         List<Person> syncedPersonList = newData.getPersonList().stream()
                 .map(this::syncWithMasterTagList)
@@ -114,10 +148,41 @@ public class AddressBook implements ReadOnlyAddressBook {
         try {
             setPersons(syncedPersonList);
             setTransactions(syncedTransactionList);
+            setUnloadedTransactionSegments(newData.getUnloadedTransactionSegments());
             setDebtsTable(syncedDebtsTable);
         } catch (DuplicatePersonException e) {
             throw new AssertionError("SmartSplit should not have duplicate persons");
         }
+        if (newData instanceof AddressBook) {
+            // the data is identical, so it is as unchanged as the data it was copied from
+            AddressBook newAddressBook = (AddressBook) newData;
+            transactionsChangeStamps.putAll(newAddressBook.transactionsChangeStamps);
+            personsChangeStamp = newAddressBook.personsChangeStamp;
+        }
+    }
+
+    //// change tracking
+
+    private static long nextChangeStamp() {
+        return lastChangeStamp.incrementAndGet();
+    }
+
+    private void markPersonsChanged() {
+        personsChangeStamp = nextChangeStamp();
+    }
+
+    private void markTransactionsChanged(Transaction transaction) {
+        transactionsChangeStamps.put(TransactionSegment.periodOf(transaction), nextChangeStamp());
+    }
+
+    @Override
+    public long getPersonsChangeStamp() {
+        return personsChangeStamp;
+    }
+
+    @Override
+    public long getTransactionsChangeStamp(YearMonth period) {
+        return transactionsChangeStamps.getOrDefault(period, UNKNOWN_CHANGE_STAMP);
     }
 
     //// person-level operations
@@ -136,6 +201,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         // in the person list.
         persons.add(person);
         debtsTable.add(person);
+        markPersonsChanged();
     }
 
     /**
@@ -158,7 +224,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         // in the person list.
         persons.setPerson(target, syncedEditedPerson);
         debtsTable.setPerson(target, editedPerson);
+        transactions.asObservableList().stream()
+                .filter(transaction -> transaction.isImplied(target))
+                .forEach(this::markTransactionsChanged);
         transactions.setPerson(target, editedPerson);
+        markPersonsChanged();
     }
 
     /**
@@ -193,6 +263,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new CommandException(String.format(MESSAGE_DEBT_NOT_PAID, key));
         }
         if (persons.remove(key)) {
+            markPersonsChanged();
             return true;
         } else {
             throw new PersonNotFoundException();
@@ -216,8 +287,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// tag-level operations
 
+    /**
+     * Adds a tag to the master tag list.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
+        markPersonsChanged();
     }
 
     //// util methods
@@ -235,6 +310,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asObservableList();
     }
 
+    /**
+     * Returns the person in this address book with the given name, ignoring case.
+     *
+     * @throws PersonNotFoundException if there is no such person.
+     */
+    public Person getPerson(Name name) throws PersonNotFoundException {
+        return persons.get(name);
+    }
+
     @Override
     public ObservableList<Tag> getTagList() {
         return tags.asObservableList();
@@ -250,6 +334,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return transactions.asObservableList();
     }
 
+    @Override
+    public List<TransactionSegment> getUnloadedTransactionSegments() {
+        return Collections.unmodifiableList(unloadedTransactionSegments);
+    }
+
+    /**
+     * Returns true if a segment of transactions from {@code period} or later is still in storage.
+     */
+    public boolean hasUnloadedTransactionsFrom(YearMonth period) {
+        return !unloadedTransactionSegments.isEmpty()
+                && !getNewestUnloadedTransactionSegment().getPeriod().isBefore(period);
+    }
+
+    /**
+     * Returns the most recent segment of transactions that is still in storage.
+     */
+    public TransactionSegment getNewestUnloadedTransactionSegment() {
+        assert !unloadedTransactionSegments.isEmpty();
+        return unloadedTransactionSegments.get(unloadedTransactionSegments.size() - 1);
+    }
+
+    /**
+     * Adds the transactions of {@code segment}, the newest segment still in storage, in front of the loaded
+     * transactions. The debts table is not updated, as it already accounts for them.
+     */
+    public void loadTransactionSegment(TransactionSegment segment, List<Transaction> segmentTransactions) {
+        requireAllNonNull(segment, segmentTransactions);
+        assert segment.equals(getNewestUnloadedTransactionSegment());
+        transactions.addOlder(segmentTransactions);
+        unloadedTransactionSegments.remove(unloadedTransactionSegments.size() - 1);
+    }
+
     public ObservableList<Debtor> getDebtorsList() {
         return debtors.asObservableList();
     }
@@ -292,6 +408,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         transactions.add(transaction);
         debtsTable.updateDebts(transaction, true);
         debtsTable.display();
+        markTransactionsChanged(transaction);
+        markPersonsChanged();
     }
 
     /**
@@ -309,6 +427,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             }
             //@@author
         }
+        markPersonsChanged();
     }
 
     /**
@@ -336,6 +455,118 @@ public class AddressBook implements ReadOnlyAddressBook {
         transactions.remove(target);
         debtsTable.updateDebts(target, false);
         debtsTable.display();
+        markTransactionsChanged(target);
+        markPersonsChanged();
+    }
+
+    /**
+     * Removes the transactions of {@code checkpoint}, which have been archived, from the list of transactions.
+     * The debts are left as they are, as the archived transactions add up to no debt. Only the settled debts of
+     * the pairs that have no transactions left are removed, as the debts table would not have them if it was
+     * built from the transactions that are left.
+     * @throws TransactionNotFoundException if a transaction of {@code checkpoint} is not in the list of transactions.
+     */
+    public void removeArchivedTransactions(LedgerCheckpoint checkpoint) throws TransactionNotFoundException {
+        if (!checkpoint.isSettled()) {
+            throw new IllegalArgumentException("Archived transactions must add up to no debt");
+        }
+        for (Transaction transaction : checkpoint.getTransactions()) {
+            transactions.remove(transaction);
+            markTransactionsChanged(transaction);
+        }
+
+        Set<String> archivedPairs = LedgerCheckpoint.pairsOf(checkpoint.getTransactions());
+        archivedPairs.removeAll(LedgerCheckpoint.pairsOf(transactions.asObservableList()));
+        for (DebtsTable.Entry<Person, DebtsList> debtsListEntry : debtsTable.entrySet()) {
+            debtsListEntry.getValue().keySet().removeIf(creditor ->
+                    archivedPairs.contains(LedgerCheckpoint.pairOf(debtsListEntry.getKey(), creditor)));
+        }
+        markPersonsChanged();
+    }
+
+    /**
+     * Applies {@code diff}, found by comparing this address book with its stored copy after something else changed
+     * the copy, so that this address book holds the stored copy without being reset.
+     * The added transactions and the debts table are made to refer to the persons of this address book with the
+     * same names.
+     */
+    public void applyDiff(AddressBookDiff diff) {
+        requireNonNull(diff);
+        try {
+            for (Transaction transaction : diff.getRemovedTransactions()) {
+                transactions.remove(transaction);
+                markTransactionsChanged(transaction);
+            }
+            for (Person person : diff.getRemovedPersons()) {
+                persons.remove(person);
+            }
+            for (Person person : diff.getEditedPersons()) {
+                Person target = persons.get(person.getName());
+                Person syncedPerson = syncWithMasterTagList(person);
+                persons.setPerson(target, syncedPerson);
+                transactions.asObservableList().stream()
+                        .filter(transaction -> transaction.isImplied(target))
+                        .forEach(this::markTransactionsChanged);
+                transactions.setPerson(target, syncedPerson);
+            }
+            for (Person person : diff.getAddedPersons()) {
+                persons.add(syncWithMasterTagList(person));
+            }
+            for (Transaction transaction : diff.getAddedTransactions()) {
+                transaction.setPayer(findSamePerson(transaction.getPayer()));
+                UniquePersonList payees = new UniquePersonList();
+                for (Person payee : transaction.getPayees()) {
+                    payees.add(findSamePerson(payee));
+                }
+                transaction.setPayees(payees);
+                transactions.add(transaction);
+                markTransactionsChanged(transaction);
+            }
+            if (diff.getDebtsTable().isPresent()) {
+                setDebtsTable(withPersonsOfThisAddressBook(diff.getDebtsTable().get()));
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException | TransactionNotFoundException e) {
+            throw new AssertionError("The diff was found by comparing this address book with a consistent copy", e);
+        }
+
+        unloadedTransactionSegments.removeAll(diff.getRemovedSegments());
+        unloadedTransactionSegments.addAll(diff.getAddedSegments());
+        unloadedTransactionSegments.sort(Comparator.comparing(TransactionSegment::getPeriod));
+        for (TransactionSegment segment : diff.getRemovedSegments()) {
+            transactionsChangeStamps.put(segment.getPeriod(), nextChangeStamp());
+        }
+        for (TransactionSegment segment : diff.getAddedSegments()) {
+            transactionsChangeStamps.put(segment.getPeriod(), nextChangeStamp());
+        }
+        markPersonsChanged();
+    }
+
+    /**
+     * Returns a copy of {@code debtsTable} whose debtors and creditors are the persons of this address book with
+     * the same names.
+     */
+    private DebtsTable withPersonsOfThisAddressBook(DebtsTable debtsTable) {
+        DebtsTable copy = new DebtsTable();
+        for (DebtsTable.Entry<Person, DebtsList> debtsListEntry : debtsTable.entrySet()) {
+            DebtsList debtsList = new DebtsList();
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                debtsList.put(findSamePerson(debt.getKey()), debt.getValue());
+            }
+            copy.put(findSamePerson(debtsListEntry.getKey()), debtsList);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the person of this address book with the same name as {@code person}, or {@code person} itself if
+     * there is none, as transactions and debts can refer to persons that are no longer in the list.
+     */
+    private Person findSamePerson(Person person) {
+        try {
+            return persons.get(person.getName());
+        } catch (PersonNotFoundException pnfe) {
+            return person;
+        }
     }
 
     //@@author steven-jia
@@ -0,0 +1,234 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.DebtsChangedEvent;
+import seedu.address.commons.events.model.PersonsAddedEvent;
+import seedu.address.commons.events.model.PersonsEditedEvent;
+import seedu.address.commons.events.model.PersonsRemovedEvent;
+import seedu.address.commons.events.model.TransactionsAddedEvent;
+import seedu.address.commons.events.model.TransactionsEditedEvent;
+import seedu.address.commons.events.model.TransactionsRemovedEvent;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Records the persons and transactions that are added to, replaced in or removed from an address book as its lists
+ * change, so that each change can be raised as events that carry only the records that changed.
+ * Balances and debts are changed in place, so the debts that changed are found from the payers and payees of the
+ * transactions that changed, and from the persons that were edited, instead.
+ */
+class AddressBookChangeTracker {
+
+    private final AddressBook addressBook;
+    // the views are kept, as they would stop passing on changes once they are garbage collected
+    private final ObservableList<Person> persons;
+    private final ObservableList<Transaction> transactions;
+
+    private final List<Person> addedPersons = new ArrayList<>();
+    private final List<Person> editTargets = new ArrayList<>();
+    private final List<Person> editedPersons = new ArrayList<>();
+    private final List<Person> removedPersons = new ArrayList<>();
+    private final List<Transaction> addedTransactions = new ArrayList<>();
+    private final List<Transaction> removedTransactions = new ArrayList<>();
+    private final List<Transaction> editTransactionTargets = new ArrayList<>();
+    private final List<Transaction> editedTransactions = new ArrayList<>();
+    private boolean areAllDebtsChanged;
+    private boolean isIgnoringChanges;
+
+    AddressBookChangeTracker(AddressBook addressBook) {
+        this.addressBook = addressBook;
+        persons = addressBook.getPersonList();
+        transactions = addressBook.getTransactionList();
+        persons.addListener(this::recordPersonsChange);
+        transactions.addListener(this::recordTransactionsChange);
+    }
+
+    /**
+     * Runs {@code action} without recording the changes it makes, such as loading transactions that were left in
+     * storage, which are not changes to the address book.
+     */
+    void ignoreChangesDuring(Runnable action) {
+        isIgnoringChanges = true;
+        try {
+            action.run();
+        } finally {
+            isIgnoringChanges = false;
+        }
+    }
+
+    /**
+     * Records that the debts of every person may have changed, as the whole debts table was replaced.
+     */
+    void recordAllDebtsChanged() {
+        areAllDebtsChanged = true;
+    }
+
+    /**
+     * Returns the events of the changes recorded since the last time they were taken, in the order persons,
+     * transactions and then debts, for the snapshot of {@code version}, and forgets the changes.
+     * The removed records of each kind come before the edited and then the added ones, so that a subscriber that
+     * applies the events in order never removes a record it was just given.
+     */
+    List<BaseEvent> takeChangeEvents(long version) {
+        pairTransactionEdits();
+        List<BaseEvent> events = new ArrayList<>();
+        if (!removedPersons.isEmpty()) {
+            events.add(new PersonsRemovedEvent(version, new ArrayList<>(removedPersons)));
+        }
+        if (!editedPersons.isEmpty()) {
+            events.add(new PersonsEditedEvent(version, new ArrayList<>(editTargets), new ArrayList<>(editedPersons)));
+        }
+        if (!addedPersons.isEmpty()) {
+            events.add(new PersonsAddedEvent(version, new ArrayList<>(addedPersons)));
+        }
+        if (!removedTransactions.isEmpty()) {
+            events.add(new TransactionsRemovedEvent(version, new ArrayList<>(removedTransactions)));
+        }
+        if (!editedTransactions.isEmpty()) {
+            events.add(new TransactionsEditedEvent(version, new ArrayList<>(editTransactionTargets),
+                    new ArrayList<>(editedTransactions)));
+        }
+        if (!addedTransactions.isEmpty()) {
+            events.add(new TransactionsAddedEvent(version, new ArrayList<>(addedTransactions)));
+        }
+        List<DebtEntry> changedDebts = getChangedDebts();
+        if (!changedDebts.isEmpty() || areAllDebtsChanged) {
+            events.add(new DebtsChangedEvent(version, changedDebts, areAllDebtsChanged));
+        }
+
+        addedPersons.clear();
+        editTargets.clear();
+        editedPersons.clear();
+        removedPersons.clear();
+        addedTransactions.clear();
+        removedTransactions.clear();
+        editTransactionTargets.clear();
+        editedTransactions.clear();
+        areAllDebtsChanged = false;
+        return events;
+    }
+
+    /**
+     * Records each added transaction that replaced a removed transaction with the same id as an edit of it instead,
+     * as the transactions that involve a person are replaced by copies when the person is edited.
+     */
+    private void pairTransactionEdits() {
+        if (addedTransactions.isEmpty() || removedTransactions.isEmpty()) {
+            return;
+        }
+        Map<Integer, Transaction> removedById = new LinkedHashMap<>();
+        removedTransactions.forEach(transaction -> removedById.put(transaction.getId(), transaction));
+        List<Transaction> added = new ArrayList<>();
+        for (Transaction transaction : addedTransactions) {
+            Transaction target = removedById.remove(transaction.getId());
+            if (target == null) {
+                added.add(transaction);
+            } else {
+                editTransactionTargets.add(target);
+                editedTransactions.add(transaction);
+            }
+        }
+        addedTransactions.clear();
+        addedTransactions.addAll(added);
+        removedTransactions.clear();
+        removedTransactions.addAll(removedById.values());
+    }
+
+    /**
+     * Returns the debts of the address book as they are now that may have changed: those between the payer and each
+     * payee of the transactions that changed, and those of the persons that were edited, or all the debts if the
+     * whole debts table was replaced.
+     */
+    private List<DebtEntry> getChangedDebts() {
+        DebtsTable debtsTable = addressBook.getDebtsTable();
+        Map<Set<Name>, DebtEntry> changedDebts = new LinkedHashMap<>();
+        if (areAllDebtsChanged) {
+            debtsTable.forEach((person, debtsList) ->
+                    debtsList.keySet().forEach(other -> putDebt(changedDebts, debtsTable, person, other)));
+            return new ArrayList<>(changedDebts.values());
+        }
+        for (List<Transaction> changedTransactions : Arrays.asList(addedTransactions, removedTransactions,
+                editTransactionTargets, editedTransactions)) {
+            for (Transaction transaction : changedTransactions) {
+                Person payer = findPerson(transaction.getPayer().getName());
+                for (Person payee : transaction.getPayees()) {
+                    Person currentPayee = findPerson(payee.getName());
+                    if (payer != null && currentPayee != null) {
+                        putDebt(changedDebts, debtsTable, payer, currentPayee);
+                    }
+                }
+            }
+        }
+        for (Person editedPerson : editedPersons) {
+            Person person = findPerson(editedPerson.getName());
+            DebtsList debtsList = person == null ? null : debtsTable.get(person);
+            if (debtsList != null) {
+                debtsList.keySet().forEach(other -> putDebt(changedDebts, debtsTable, person, other));
+            }
+        }
+        return new ArrayList<>(changedDebts.values());
+    }
+
+    /**
+     * Puts the debt between {@code person} and {@code other} into {@code debts}, unless it is already there.
+     */
+    private static void putDebt(Map<Set<Name>, DebtEntry> debts, DebtsTable debtsTable, Person person,
+                                Person other) {
+        Set<Name> pair = new HashSet<>(Arrays.asList(person.getName(), other.getName()));
+        if (!debts.containsKey(pair)) {
+            debts.put(pair, DebtEntry.of(debtsTable, person, other));
+        }
+    }
+
+    /**
+     * Returns the person of the address book named {@code name}, or null if it was removed since.
+     */
+    private Person findPerson(Name name) {
+        try {
+            return addressBook.getPerson(name);
+        } catch (PersonNotFoundException pnfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Records the persons that {@code change} added, replaced or removed. A person replaced by another on its own is
+     * recorded as edited.
+     */
+    private void recordPersonsChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next() && !isIgnoringChanges) {
+            if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                editTargets.add(change.getRemoved().get(0));
+                editedPersons.add(change.getAddedSubList().get(0));
+            } else if (!change.wasPermutated() && !change.wasUpdated()) {
+                removedPersons.addAll(change.getRemoved());
+                addedPersons.addAll(change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Records the transactions that {@code change} added or removed. A replaced transaction is recorded as removed,
+     * and its replacement as added, until they are paired up as an edit when the events are taken.
+     */
+    private void recordTransactionsChange(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next() && !isIgnoringChanges) {
+            if (!change.wasPermutated() && !change.wasUpdated()) {
+                removedTransactions.addAll(change.getRemoved());
+                addedTransactions.addAll(change.getAddedSubList());
+            }
+        }
+    }
+}
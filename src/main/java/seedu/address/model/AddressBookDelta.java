@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * What another copy of an address book has that this one does not, found by comparing the hashes of their blocks.
+ * Only the blocks that differ are read from the other copy.
+ */
+public class AddressBookDelta {
+
+    private final int differentBlockCount;
+    private final List<Person> missingPersons;
+    private final List<String> conflictingPersonNames;
+    private final List<Transaction> missingTransactions;
+
+    /**
+     * @param differentBlockCount the number of blocks that differ between the two copies.
+     * @param missingPersons the persons of the other copy that are not in this one.
+     * @param conflictingPersonNames the names of the persons whose details differ between the two copies.
+     * @param missingTransactions the transactions of the other copy that are not in this one, oldest month first.
+     *     They refer to the persons of the other copy.
+     */
+    public AddressBookDelta(int differentBlockCount, List<Person> missingPersons,
+                            List<String> conflictingPersonNames, List<Transaction> missingTransactions) {
+        requireAllNonNull(missingPersons, conflictingPersonNames, missingTransactions);
+        this.differentBlockCount = differentBlockCount;
+        this.missingPersons = Collections.unmodifiableList(new ArrayList<>(missingPersons));
+        this.conflictingPersonNames = Collections.unmodifiableList(new ArrayList<>(conflictingPersonNames));
+        this.missingTransactions = Collections.unmodifiableList(new ArrayList<>(missingTransactions));
+    }
+
+    /**
+     * Returns the delta between two copies whose blocks are all the same.
+     */
+    public static AddressBookDelta none() {
+        return new AddressBookDelta(0, Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+    }
+
+    public int getDifferentBlockCount() {
+        return differentBlockCount;
+    }
+
+    public List<Person> getMissingPersons() {
+        return missingPersons;
+    }
+
+    public List<String> getConflictingPersonNames() {
+        return conflictingPersonNames;
+    }
+
+    public List<Transaction> getMissingTransactions() {
+        return missingTransactions;
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Reads what another copy of an address book has that an address book does not.
+ */
+public interface AddressBookDeltaReader {
+
+    /**
+     * Returns the persons and transactions of the address book stored at {@code filePath} that are missing from
+     * {@code addressBook}. Only the parts of the stored address book whose hashes differ from those of
+     * {@code addressBook} are compared.
+     * @throws DataConversionException if the stored address book is not in the expected format.
+     * @throws IOException if there is no address book at {@code filePath}, or it could not be read.
+     */
+    AddressBookDelta readDelta(String filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException;
+}
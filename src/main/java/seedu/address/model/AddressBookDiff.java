@@ -0,0 +1,146 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * What has to change in an address book for it to hold another copy of it, record by record.
+ * The removed records are those of the address book, and the added and edited ones those of the other copy.
+ */
+public class AddressBookDiff {
+
+    private final List<Person> addedPersons = new ArrayList<>();
+    private final List<Person> editedPersons = new ArrayList<>();
+    private final List<Person> removedPersons = new ArrayList<>();
+    private DebtsTable debtsTable;
+    private final List<Transaction> addedTransactions = new ArrayList<>();
+    private final List<Transaction> removedTransactions = new ArrayList<>();
+    private final List<TransactionSegment> addedSegments = new ArrayList<>();
+    private final List<TransactionSegment> removedSegments = new ArrayList<>();
+
+    /**
+     * Records that {@code person} of the other copy is not in the address book.
+     */
+    public void addPerson(Person person) {
+        addedPersons.add(requireNonNull(person));
+    }
+
+    /**
+     * Records that {@code person} of the other copy has different details or a different balance in the address
+     * book.
+     */
+    public void editPerson(Person person) {
+        editedPersons.add(requireNonNull(person));
+    }
+
+    /**
+     * Records that {@code person} of the address book is not in the other copy.
+     */
+    public void removePerson(Person person) {
+        removedPersons.add(requireNonNull(person));
+    }
+
+    /**
+     * Records that the debts table of the address book is replaced with {@code debtsTable} of the other copy.
+     */
+    public void setDebtsTable(DebtsTable debtsTable) {
+        this.debtsTable = requireNonNull(debtsTable);
+    }
+
+    /**
+     * Records that {@code transaction} of the other copy is not in the address book.
+     */
+    public void addTransaction(Transaction transaction) {
+        addedTransactions.add(requireNonNull(transaction));
+    }
+
+    /**
+     * Records that {@code transaction} of the address book is not in the other copy.
+     */
+    public void removeTransaction(Transaction transaction) {
+        removedTransactions.add(requireNonNull(transaction));
+    }
+
+    /**
+     * Records that {@code segment}, left in storage by the other copy, is not left in storage by the address book.
+     */
+    public void addSegment(TransactionSegment segment) {
+        addedSegments.add(requireNonNull(segment));
+    }
+
+    /**
+     * Records that {@code segment}, left in storage by the address book, is not left in storage by the other copy.
+     */
+    public void removeSegment(TransactionSegment segment) {
+        removedSegments.add(requireNonNull(segment));
+    }
+
+    public List<Person> getAddedPersons() {
+        return Collections.unmodifiableList(addedPersons);
+    }
+
+    public List<Person> getEditedPersons() {
+        return Collections.unmodifiableList(editedPersons);
+    }
+
+    public List<Person> getRemovedPersons() {
+        return Collections.unmodifiableList(removedPersons);
+    }
+
+    public Optional<DebtsTable> getDebtsTable() {
+        return Optional.ofNullable(debtsTable);
+    }
+
+    public List<Transaction> getAddedTransactions() {
+        return Collections.unmodifiableList(addedTransactions);
+    }
+
+    public List<Transaction> getRemovedTransactions() {
+        return Collections.unmodifiableList(removedTransactions);
+    }
+
+    public List<TransactionSegment> getAddedSegments() {
+        return Collections.unmodifiableList(addedSegments);
+    }
+
+    public List<TransactionSegment> getRemovedSegments() {
+        return Collections.unmodifiableList(removedSegments);
+    }
+
+    /**
+     * Returns the number of persons that are added, edited or removed.
+     */
+    public int getChangedPersonCount() {
+        return addedPersons.size() + editedPersons.size() + removedPersons.size();
+    }
+
+    /**
+     * Returns the number of transactions that are added or removed, counting those of the segments as well.
+     */
+    public int getChangedTransactionCount() {
+        return addedTransactions.size() + removedTransactions.size()
+                + addedSegments.stream().mapToInt(TransactionSegment::getSize).sum()
+                + removedSegments.stream().mapToInt(TransactionSegment::getSize).sum();
+    }
+
+    /**
+     * Returns true if the address book already holds the other copy.
+     */
+    public boolean isEmpty() {
+        return getChangedPersonCount() == 0 && debtsTable == null && getChangedTransactionCount() == 0
+                && addedSegments.isEmpty() && removedSegments.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return getChangedPersonCount() + " persons and " + getChangedTransactionCount() + " transactions changed";
+    }
+}
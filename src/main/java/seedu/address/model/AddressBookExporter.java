@@ -0,0 +1,22 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ExportFormat;
+
+/**
+ * Exports an address book to files that other programs can read.
+ */
+public interface AddressBookExporter {
+
+    /**
+     * Exports the records of {@code addressBook} that {@code filter} selects to {@code filePath} in {@code format},
+     * including the transactions it left in storage, which are loaded one month at a time without being added to it.
+     * Records are written as they are read, so that the whole export is never held in memory.
+     * @throws DataConversionException if transactions left in storage could not be loaded.
+     * @throws IOException if the files could not be written.
+     */
+    ExportReport exportAddressBook(ReadOnlyAddressBook addressBook, ExportFilter filter, ExportFormat format,
+                                   String filePath) throws DataConversionException, IOException;
+}
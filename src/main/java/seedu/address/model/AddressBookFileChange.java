@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * A change made to the stored address book by something other than this app, such as a sync tool or another
+ * instance of the app. Only the parts of the stored copy that changed are read from storage, and they are compared
+ * with the address book in memory when the change is applied.
+ */
+public interface AddressBookFileChange {
+
+    /**
+     * Returns the months whose transactions may differ between the stored copy and {@code addressBook}, oldest first.
+     */
+    List<YearMonth> getChangedMonths(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns true if the stored copy has no transactions of {@code month} other than those it left in storage,
+     * so that the transactions of that month do not have to be loaded into the address book to be compared.
+     */
+    boolean isLeftInStorage(YearMonth month);
+
+    /**
+     * Returns what has to change in {@code addressBook} for it to hold the stored copy.
+     * For every changed month that the stored copy does not leave in storage, the transactions of
+     * {@code addressBook} from that month onwards must be loaded first.
+     */
+    AddressBookDiff diffAgainst(ReadOnlyAddressBook addressBook);
+}
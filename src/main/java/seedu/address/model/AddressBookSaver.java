@@ -0,0 +1,15 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+/**
+ * Saves snapshots of the address book for changes that must be stored before they are reported as done.
+ */
+public interface AddressBookSaver {
+
+    /**
+     * Saves {@code snapshot}, unless it, or a later snapshot, is already saved.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void saveSnapshot(AddressBookSnapshot snapshot) throws IOException;
+}
@@ -0,0 +1,189 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Debtor;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * A copy of the address book as it was after one change, which can be read from any thread without locking while
+ * the address book goes on changing. Each snapshot has a version one higher than the snapshot before it.
+ * A snapshot reuses the persons or the transactions of the snapshot before it if they did not change, so that
+ * publishing a snapshot only copies what the change touched.
+ * Guarantees: immutable. The persons of the transactions only identify them; their balances are those of the
+ * persons list.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final long personsChangeStamp;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Tag> tags;
+    private final DebtsTable debtsTable;
+    private final ObservableList<Debtor> debtors;
+    private final ObservableList<Transaction> transactions;
+    private final List<TransactionSegment> unloadedTransactionSegments;
+    private final Map<YearMonth, Long> transactionsChangeStamps;
+
+    /**
+     * Creates the snapshot with {@code version} of {@code addressBook}, reusing what did not change since
+     * {@code previous}, if any. The transactions are copied if {@code transactionsChanged}.
+     */
+    private AddressBookSnapshot(long version, ReadOnlyAddressBook addressBook, AddressBookSnapshot previous,
+                                boolean transactionsChanged) {
+        requireNonNull(addressBook);
+        this.version = version;
+        personsChangeStamp = addressBook.getPersonsChangeStamp();
+        if (previous != null && previous.personsChangeStamp == personsChangeStamp) {
+            persons = previous.persons;
+            tags = previous.tags;
+            debtsTable = previous.debtsTable;
+        } else {
+            // balances change in place, so the persons are copied to keep the balances they have now
+            Map<Person, Person> copies = new IdentityHashMap<>();
+            List<Person> personsCopy = new ArrayList<>();
+            for (Person person : addressBook.getPersonList()) {
+                Person copy = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getBalance(),
+                        person.getTags());
+                copies.put(person, copy);
+                personsCopy.add(copy);
+            }
+            persons = toUnmodifiableList(personsCopy);
+            tags = toUnmodifiableList(addressBook.getTagList());
+            debtsTable = copyDebtsTable(addressBook.getDebtsTable(), copies);
+        }
+        debtors = toUnmodifiableList(addressBook.getDebtorsList());
+
+        List<TransactionSegment> segments = addressBook.getUnloadedTransactionSegments();
+        if (previous != null && !transactionsChanged && previous.unloadedTransactionSegments.equals(segments)) {
+            transactions = previous.transactions;
+            unloadedTransactionSegments = previous.unloadedTransactionSegments;
+            transactionsChangeStamps = previous.transactionsChangeStamps;
+        } else {
+            transactions = toUnmodifiableList(addressBook.getTransactionList());
+            unloadedTransactionSegments = Collections.unmodifiableList(new ArrayList<>(segments));
+            Map<YearMonth, Long> stamps = new HashMap<>();
+            for (Transaction transaction : transactions) {
+                stamps.computeIfAbsent(TransactionSegment.periodOf(transaction),
+                        addressBook::getTransactionsChangeStamp);
+            }
+            for (TransactionSegment segment : segments) {
+                stamps.computeIfAbsent(segment.getPeriod(), addressBook::getTransactionsChangeStamp);
+            }
+            transactionsChangeStamps = Collections.unmodifiableMap(stamps);
+        }
+    }
+
+    /**
+     * Returns the first snapshot of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(1, addressBook, null, true);
+    }
+
+    /**
+     * Returns the snapshot after this one, of {@code addressBook} as it is now. The transactions of this snapshot
+     * are reused unless {@code transactionsChanged} or other months were loaded, and its persons, tags and debts
+     * are reused unless the persons change stamp of {@code addressBook} moved on.
+     */
+    public AddressBookSnapshot next(ReadOnlyAddressBook addressBook, boolean transactionsChanged) {
+        return new AddressBookSnapshot(version + 1, addressBook, this, transactionsChanged);
+    }
+
+    private static <T> ObservableList<T> toUnmodifiableList(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    /**
+     * Returns a copy of {@code debtsTable} in which the persons are replaced by their {@code copies}.
+     */
+    private static DebtsTable copyDebtsTable(DebtsTable debtsTable, Map<Person, Person> copies) {
+        DebtsTable copy = new DebtsTable();
+        for (Map.Entry<Person, DebtsList> debtsListEntry : debtsTable.entrySet()) {
+            DebtsList debtsList = new DebtsList();
+            debtsListEntry.getValue().forEach((person, debt) -> debtsList.put(copies.getOrDefault(person, person),
+                    debt));
+            copy.put(copies.getOrDefault(debtsListEntry.getKey(), debtsListEntry.getKey()), debtsList);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the version of the address book this is a snapshot of. Later snapshots have higher versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Transaction> getTransactionList() {
+        return transactions;
+    }
+
+    @Override
+    public List<TransactionSegment> getUnloadedTransactionSegments() {
+        return unloadedTransactionSegments;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    /**
+     * Returns the debts table as it was, which must not be modified.
+     */
+    @Override
+    public DebtsTable getDebtsTable() {
+        return debtsTable;
+    }
+
+    @Override
+    public ObservableList<Debtor> getDebtorsList() {
+        return debtors;
+    }
+
+    @Override
+    public void setDebtors(DebtsList debtsList) {
+        throw new UnsupportedOperationException("A snapshot of the address book cannot be changed");
+    }
+
+    @Override
+    public void setCreditors(DebtsList debtsList) {
+        throw new UnsupportedOperationException("A snapshot of the address book cannot be changed");
+    }
+
+    @Override
+    public long getPersonsChangeStamp() {
+        return personsChangeStamp;
+    }
+
+    @Override
+    public long getTransactionsChangeStamp(YearMonth period) {
+        return transactionsChangeStamps.getOrDefault(period, UNKNOWN_CHANGE_STAMP);
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + ": " + persons.size() + " persons, " + tags.size() + " tags, "
+                + transactions.size() + " transactions";
+    }
+}
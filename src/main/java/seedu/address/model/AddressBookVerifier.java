@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Checks the stored copy of an address book against the hashes saved with it, and against the address book in memory.
+ */
+public interface AddressBookVerifier {
+
+    /**
+     * Returns which blocks of the stored address book do not match the hashes saved with it, and which blocks of
+     * {@code addressBook} differ from those hashes.
+     * @throws DataConversionException if the stored address book could not be read at all.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    VerificationReport verifyAddressBook(ReadOnlyAddressBook addressBook) throws DataConversionException, IOException;
+}
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the debt between two persons in the debts table, as the amount the debtor owes the creditor.
+ * A debt that was settled has an amount of zero.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class DebtEntry {
+
+    private static final Balance NO_DEBT = new Balance("0.00");
+
+    private final Person debtor;
+    private final Person creditor;
+    private final Balance amount;
+
+    public DebtEntry(Person debtor, Person creditor, Balance amount) {
+        this.debtor = requireNonNull(debtor);
+        this.creditor = requireNonNull(creditor);
+        this.amount = requireNonNull(amount);
+    }
+
+    /**
+     * Returns the debt between {@code person} and {@code other} in {@code debtsTable}, with the person who owes as
+     * the debtor. In the debts list of {@code person}, a negative balance means {@code other} owes {@code person}.
+     */
+    public static DebtEntry of(DebtsTable debtsTable, Person person, Person other) {
+        DebtsList debtsList = debtsTable.get(person);
+        Balance balance = debtsList == null ? null : debtsList.get(other);
+        if (balance == null || balance.getDoubleValue() == 0) {
+            return new DebtEntry(person, other, NO_DEBT);
+        }
+        return balance.getDoubleValue() < 0
+                ? new DebtEntry(other, person, balance.getInverse())
+                : new DebtEntry(person, other, balance);
+    }
+
+    public Person getDebtor() {
+        return debtor;
+    }
+
+    public Person getCreditor() {
+        return creditor;
+    }
+
+    public Balance getAmount() {
+        return amount;
+    }
+
+    /**
+     * Returns true if {@code person} is the debtor or the creditor of this debt.
+     */
+    public boolean involves(Person person) {
+        return debtor.equals(person) || creditor.equals(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DebtEntry // instanceof handles nulls
+                && debtor.equals(((DebtEntry) other).debtor)
+                && creditor.equals(((DebtEntry) other).creditor)
+                && amount.equals(((DebtEntry) other).amount)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(debtor, creditor, amount);
+    }
+
+    @Override
+    public String toString() {
+        return debtor.getName() + " owes " + creditor.getName() + " " + amount;
+    }
+}
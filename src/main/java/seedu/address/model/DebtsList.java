@@ -35,11 +35,12 @@ public class DebtsList extends HashMap<Person, Balance> {
     }
 
     /**
-     * Displays the content of DebtsList in the terminal.
+     * Returns the content of DebtsList to be displayed.
      */
-    public void display() {
-        System.out.print("dl = ");
-        this.forEach(((person, balance) -> System.out.print(person.getName().fullName
-            + ": " + balance.toString() + " ")));
+    public String getDisplay() {
+        StringBuilder display = new StringBuilder("dl = ");
+        this.forEach(((person, balance) -> display.append(person.getName().fullName)
+            .append(": ").append(balance.toString()).append(" ")));
+        return display.toString();
     }
 }
@@ -4,7 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.util.CalculationUtil.calculateAmountToAddForPayee;
 
 import java.util.HashMap;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.jfr.LedgerUpdateEvent;
 import seedu.address.model.person.Balance;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -17,6 +21,8 @@ import seedu.address.model.transaction.Transaction;
 //@@author phmignot
 public class DebtsTable extends HashMap<Person, DebtsList> {
 
+    private static final Logger logger = LogsCenter.getLogger(DebtsTable.class);
+
     public DebtsTable() {
         super();
     }
@@ -28,17 +34,18 @@ public class DebtsTable extends HashMap<Person, DebtsList> {
      * @param transaction to register the table.
      */
     public void updateDebts(Transaction transaction, Boolean isAddingTransaction) {
+        LedgerUpdateEvent updateEvent = FlightRecording.isEnabled() ? new LedgerUpdateEvent() : null;
         Person payer = transaction.getPayer();
         if (!this.containsKey(payer)) {
             this.add(payer);
-            System.out.println("Adding payer " + payer.getName().fullName);
+            logger.fine(() -> "Adding payer " + payer.getName().fullName);
         }
         DebtsList payerDebtsList = this.get(payer);
         for (int i = 0; i < transaction.getPayees().asObservableList().size(); i++) {
             Person payee = transaction.getPayees().asObservableList().get(i);
             if (!this.containsKey(payee)) {
                 this.add(payee);
-                System.out.println("Adding payee " + payee.getName().fullName);
+                logger.fine(() -> "Adding payee " + payee.getName().fullName);
             }
             Balance payerDebtToAdd = calculateAmountToAddForPayee(isAddingTransaction,
                     i + 1, transaction);
@@ -47,6 +54,9 @@ public class DebtsTable extends HashMap<Person, DebtsList> {
             payerDebtsList.updateDebt(payee, payeeDebtToAdd);
             payeeDebtsList.updateDebt(payer, payerDebtToAdd);
         }
+        if (updateEvent != null) {
+            updateEvent.commit(transaction.getPayees().asObservableList().size(), isAddingTransaction);
+        }
     }
 
     public void add(Person personToAdd) {
@@ -77,15 +87,16 @@ public class DebtsTable extends HashMap<Person, DebtsList> {
     }
 
     /**
-     * Displays the content of the Debts Table in the terminal.
+     * Logs the content of the Debts Table at the {@code FINE} level. It is only described if it is logged, as that
+     * goes through every debt.
      */
     public void display() {
-        System.out.println("DEBTS TABLE : ");
-        this.forEach(((person, debtsList) -> {
-            System.out.println(person.getName().fullName + ": ");
-            debtsList.display();
-            System.out.println();
-        }));
+        logger.fine(() -> {
+            StringBuilder display = new StringBuilder("DEBTS TABLE : ");
+            this.forEach(((person, debtsList) -> display.append(System.lineSeparator())
+                    .append(person.getName().fullName).append(": ").append(debtsList.getDisplay())));
+            return display.toString();
+        });
     }
 }
 
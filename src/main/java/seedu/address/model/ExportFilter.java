@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Which records of the address book are exported.
+ * With a person, only that person, their debts and the transactions they paid or owe are exported. With dates,
+ * only the transactions from the first date to the last date, both inclusive, are exported.
+ * Guarantees: immutable.
+ */
+public class ExportFilter {
+
+    private final Optional<Person> person;
+    private final Optional<LocalDate> firstDate;
+    private final Optional<LocalDate> lastDate;
+
+    /**
+     * @param person the only person whose records are exported, if any.
+     * @param firstDate the date of the oldest transactions that are exported, if any.
+     * @param lastDate the date of the newest transactions that are exported, if any.
+     */
+    public ExportFilter(Optional<Person> person, Optional<LocalDate> firstDate, Optional<LocalDate> lastDate) {
+        requireAllNonNull(person, firstDate, lastDate);
+        this.person = person;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * Returns a filter that exports everything.
+     */
+    public static ExportFilter all() {
+        return new ExportFilter(Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    public Optional<Person> getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns true if {@code candidate} is exported.
+     */
+    public boolean isExported(Person candidate) {
+        return !person.isPresent() || person.get().equals(candidate);
+    }
+
+    /**
+     * Returns true if the debt between {@code debtor} and {@code creditor} is exported.
+     */
+    public boolean isExported(Person debtor, Person creditor) {
+        return !person.isPresent() || person.get().equals(debtor) || person.get().equals(creditor);
+    }
+
+    /**
+     * Returns true if {@code transaction} is exported.
+     */
+    public boolean isExported(Transaction transaction) {
+        LocalDate date = toLocalDate(transaction.getDateTime());
+        if (firstDate.isPresent() && date.isBefore(firstDate.get())
+                || lastDate.isPresent() && date.isAfter(lastDate.get())) {
+            return false;
+        }
+        return !person.isPresent() || person.get().equals(transaction.getPayer())
+                || transaction.getPayees().contains(person.get());
+    }
+
+    /**
+     * Returns true if transactions of {@code month} may be exported, so that the months that cannot be are not
+     * loaded from storage.
+     */
+    public boolean mayExportTransactionsOf(YearMonth month) {
+        return !(firstDate.isPresent() && month.isBefore(YearMonth.from(firstDate.get()))
+                || lastDate.isPresent() && month.isAfter(YearMonth.from(lastDate.get())));
+    }
+
+    /**
+     * Returns the date of {@code dateTime}, in the time zone that transaction dates are entered in.
+     */
+    private static LocalDate toLocalDate(Date dateTime) {
+        return dateTime.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportFilter)) {
+            return false;
+        }
+        ExportFilter otherFilter = (ExportFilter) other;
+        return person.equals(otherFilter.person) && firstDate.equals(otherFilter.firstDate)
+                && lastDate.equals(otherFilter.lastDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(person, firstDate, lastDate);
+    }
+}
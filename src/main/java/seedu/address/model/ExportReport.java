@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The outcome of exporting the address book.
+ * Guarantees: immutable.
+ */
+public class ExportReport {
+
+    private final List<String> filePaths;
+    private final int personCount;
+    private final int debtCount;
+    private final int transactionCount;
+
+    /**
+     * @param filePaths the files that were written.
+     * @param personCount the number of persons exported.
+     * @param debtCount the number of debts exported.
+     * @param transactionCount the number of transactions exported.
+     */
+    public ExportReport(List<String> filePaths, int personCount, int debtCount, int transactionCount) {
+        requireNonNull(filePaths);
+        this.filePaths = Collections.unmodifiableList(new ArrayList<>(filePaths));
+        this.personCount = personCount;
+        this.debtCount = debtCount;
+        this.transactionCount = transactionCount;
+    }
+
+    public List<String> getFilePaths() {
+        return filePaths;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getDebtCount() {
+        return debtCount;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ExportReport)) {
+            return false;
+        }
+        ExportReport otherReport = (ExportReport) other;
+        return filePaths.equals(otherReport.filePaths) && personCount == otherReport.personCount
+                && debtCount == otherReport.debtCount && transactionCount == otherReport.transactionCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePaths, personCount, debtCount, transactionCount);
+    }
+
+    @Override
+    public String toString() {
+        return personCount + " persons, " + debtCount + " debts and " + transactionCount + " transactions exported to "
+                + String.join(", ", filePaths);
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.util.CalculationUtil.calculateAmountToAddForPayee;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Transactions that happened before a date and are archived together, and the ledger they add up to.
+ * Archived transactions are only ever those whose pairs of payer and payee are fully settled among them, so the
+ * ledger of a checkpoint has no debt left: taking its transactions out of the address book leaves every debt and
+ * balance exactly as it was.
+ */
+public class LedgerCheckpoint {
+
+    private final Date before;
+    private final List<Transaction> transactions;
+    private final DebtsTable ledger;
+
+    /**
+     * @param before the date that the transactions happened before.
+     * @param transactions the archived transactions, from the oldest to the newest.
+     * @param ledger the debts that the archived transactions add up to.
+     */
+    public LedgerCheckpoint(Date before, List<Transaction> transactions, DebtsTable ledger) {
+        requireAllNonNull(before, transactions, ledger);
+        this.before = before;
+        this.transactions = Collections.unmodifiableList(new ArrayList<>(transactions));
+        this.ledger = ledger;
+    }
+
+    /**
+     * Returns the checkpoint of the transactions in {@code transactions} that happened before {@code before} and
+     * can be archived: those whose every pair of payer and payee is settled by the archived transactions alone.
+     * For each pair, the archived transactions are the longest run of its transactions, from the oldest, that adds
+     * up to no debt. A transaction with several payees is only archived if it is within the run of each of its
+     * pairs, and leaving it out can end the run of another pair earlier, so the runs are found again until none
+     * changes.
+     */
+    public static LedgerCheckpoint ofSettledTransactions(List<Transaction> transactions, Date before) {
+        requireAllNonNull(transactions, before);
+        List<Transaction> candidates = transactions.stream()
+                .filter(transaction -> transaction.getDateTime().before(before))
+                .sorted(Comparator.comparing(Transaction::getDateTime))
+                .collect(Collectors.toList());
+
+        int previousCount;
+        do {
+            previousCount = candidates.size();
+            Set<Transaction> settled = findSettledRuns(candidates);
+            candidates = candidates.stream().filter(settled::contains).collect(Collectors.toList());
+        } while (candidates.size() != previousCount);
+
+        DebtsTable ledger = new DebtsTable();
+        candidates.forEach(transaction -> ledger.updateDebts(transaction, true));
+        return new LedgerCheckpoint(before, candidates, ledger);
+    }
+
+    /**
+     * Returns the transactions among {@code transactions}, which are ordered from the oldest, that are within the
+     * settled run of every pair of payer and payee they have.
+     */
+    private static Set<Transaction> findSettledRuns(List<Transaction> transactions) {
+        Map<String, BigDecimal> debts = new HashMap<>();
+        Map<String, Integer> settledRunLengths = new HashMap<>();
+        Map<String, Integer> transactionCounts = new HashMap<>();
+        Map<Transaction, List<String>> pairsOfTransactions = new IdentityHashMap<>();
+        Map<Transaction, List<Integer>> positionsInPairs = new IdentityHashMap<>();
+
+        for (Transaction transaction : transactions) {
+            List<String> pairs = new ArrayList<>();
+            List<Integer> positions = new ArrayList<>();
+            List<Person> payees = transaction.getPayees().asObservableList();
+            for (int i = 0; i < payees.size(); i++) {
+                String pair = pairOf(transaction.getPayer(), payees.get(i));
+                BigDecimal debt = debts.getOrDefault(pair, BigDecimal.ZERO)
+                        .add(signedDebtOf(transaction, i, payees.get(i)));
+                int position = transactionCounts.merge(pair, 1, Integer::sum);
+                debts.put(pair, debt);
+                if (debt.signum() == 0) {
+                    settledRunLengths.put(pair, position);
+                }
+                pairs.add(pair);
+                positions.add(position);
+            }
+            pairsOfTransactions.put(transaction, pairs);
+            positionsInPairs.put(transaction, positions);
+        }
+
+        Set<Transaction> settled = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Transaction transaction : transactions) {
+            List<String> pairs = pairsOfTransactions.get(transaction);
+            List<Integer> positions = positionsInPairs.get(transaction);
+            boolean isSettled = true;
+            for (int i = 0; i < pairs.size(); i++) {
+                isSettled &= positions.get(i) <= settledRunLengths.getOrDefault(pairs.get(i), 0);
+            }
+            if (isSettled) {
+                settled.add(transaction);
+            }
+        }
+        return settled;
+    }
+
+    /**
+     * Returns the keys of the pairs of payer and payee that {@code transactions} have.
+     */
+    static Set<String> pairsOf(List<Transaction> transactions) {
+        Set<String> pairs = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            for (Person payee : transaction.getPayees()) {
+                pairs.add(pairOf(transaction.getPayer(), payee));
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the key of the pair of {@code payer} and {@code payee}, which is the same whichever one paid.
+     */
+    static String pairOf(Person payer, Person payee) {
+        String payerName = payer.getName().fullName;
+        String payeeName = payee.getName().fullName;
+        return payerName.compareTo(payeeName) <= 0 ? payerName + "\n" + payeeName : payeeName + "\n" + payerName;
+    }
+
+    /**
+     * Returns the debt that {@code transaction} adds between its payer and its payee at {@code payeeIndex},
+     * counted in the direction of the pair's key.
+     */
+    private static BigDecimal signedDebtOf(Transaction transaction, int payeeIndex, Person payee) {
+        Balance debt = calculateAmountToAddForPayee(true, payeeIndex + 1, transaction);
+        BigDecimal amount = new BigDecimal(debt.value);
+        return transaction.getPayer().getName().fullName.compareTo(payee.getName().fullName) <= 0
+                ? amount : amount.negate();
+    }
+
+    public Date getBefore() {
+        return before;
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    public DebtsTable getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Returns true if the ledger has no debt left, so that the transactions can be archived without changing any
+     * debt or balance.
+     */
+    public boolean isSettled() {
+        return ledger.values().stream()
+                .flatMap(debtsList -> debtsList.values().stream())
+                .allMatch(balance -> new BigDecimal(balance.value).signum() == 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LedgerCheckpoint // instanceof handles nulls
+                && before.equals(((LedgerCheckpoint) other).before)
+                && transactions.equals(((LedgerCheckpoint) other).transactions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(before, transactions);
+    }
+
+    @Override
+    public String toString() {
+        return transactions.size() + " transactions before " + before;
+    }
+}
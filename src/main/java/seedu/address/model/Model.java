@@ -1,10 +1,16 @@
 package seedu.address.model;
 
+import java.io.IOException;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ExportFormat;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.model.person.Creditor;
@@ -48,6 +54,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest published snapshot of the AddressBook, which stays as it is while the AddressBook changes.
+     * Unlike {@link #getAddressBook()}, it can be read from any thread without waiting for changes to finish.
+     */
+    AddressBookSnapshot getSnapshot();
+
     /** Deletes the given person. */
     void deletePerson(Person target) throws PersonNotFoundException, CommandException;
     /** Adds the given person */
@@ -98,11 +110,76 @@ public interface Model {
 
     void addTransaction(Transaction transaction) throws PersonNotFoundException, CommandException;
 
+    /**
+     * Submits {@code transaction} from any thread to be added along with the others submitted around the same time,
+     * so that they are saved once as a batch. Waits while too many transactions are waiting to be added.
+     * The transactions are added on the writer set by {@link #setWriter(Executor)}, and cannot be undone.
+     * @return a future completed once the transaction has been added and saved, or exceptionally with the
+     *     {@code PersonNotFoundException} or {@code CommandException} that stopped it from being added, or the
+     *     {@code IOException} that stopped it from being saved.
+     */
+    CompletableFuture<Transaction> submitTransaction(Transaction transaction) throws InterruptedException;
+
+    /**
+     * Adds the transactions submitted with {@link #submitTransaction(Transaction)} on {@code writer}, the thread that
+     * runs the commands, so that the address book is only ever changed by that one thread. Until this is called,
+     * they are added on a thread of their own.
+     */
+    void setWriter(Executor writer);
+
     //@@author phmignot
     /** Deletes the given person. */
     void deleteTransaction(Transaction target) throws TransactionNotFoundException, CommandException,
             PersonNotFoundException;
 
+    /**
+     * Loads the most recent segment of transactions that is still in storage, in front of the loaded transactions.
+     * Returns false if there was no segment left to load, or it could not be loaded.
+     */
+    boolean loadOlderTransactions();
+
+    /** Loads every segment of transactions that is still in storage. */
+    void loadAllTransactions();
+
+    /**
+     * Checks the stored address book against the hashes saved with it, and the address book against the stored one.
+     * @throws DataConversionException if the stored address book could not be read at all.
+     * @throws IOException if there is no stored address book to check, or it could not be read.
+     */
+    VerificationReport verifyAddressBook() throws DataConversionException, IOException;
+
+    /**
+     * Adds the persons and transactions of the address book stored at {@code filePath} that are missing from this
+     * one. Persons whose details differ between the two are kept as they are here.
+     * @throws DataConversionException if the address book at {@code filePath} is not in the expected format.
+     * @throws IOException if there is no address book at {@code filePath}, or it could not be read.
+     */
+    SyncReport syncAddressBook(String filePath) throws DataConversionException, IOException;
+
+    /**
+     * Moves the transactions that happened before {@code before} and whose pairs of payer and payee are fully
+     * settled among them to the archive, leaving every debt and balance as it was.
+     * @return the checkpoint of the archived transactions, which has none if no transaction could be archived.
+     * @throws IOException if the transactions could not be archived, in which case none are removed.
+     */
+    LedgerCheckpoint archiveSettledTransactions(Date before) throws IOException;
+
+    /**
+     * Returns the checkpoints of the archived transactions, from the first archived to the last.
+     * @throws DataConversionException if the archive is not in the expected format.
+     * @throws IOException if the archive could not be read.
+     */
+    List<LedgerCheckpoint> getArchivedTransactions() throws DataConversionException, IOException;
+
+    /**
+     * Exports the records of the address book that {@code filter} selects to {@code filePath} in {@code format},
+     * including the transactions left in storage, which are not loaded into the address book.
+     * @throws DataConversionException if transactions left in storage could not be loaded.
+     * @throws IOException if the address book cannot be exported, or the files could not be written.
+     */
+    ExportReport exportAddressBook(String filePath, ExportFormat format, ExportFilter filter)
+            throws DataConversionException, IOException;
+
     ObservableList<Debtor> getFilteredDebtors();
 
     ObservableList<Creditor> getFilteredCreditors();
@@ -4,22 +4,41 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PAYEE;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.TransactionBatchAddedEvent;
+import seedu.address.commons.events.storage.AddressBookFileChangedEvent;
+import seedu.address.commons.events.ui.LoadOlderTransactionsRequestEvent;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.person.Balance;
 import seedu.address.model.person.Creditor;
 import seedu.address.model.person.Debtor;
 import seedu.address.model.person.Name;
@@ -29,13 +48,21 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonFoundException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionContainsPersonPredicate;
+import seedu.address.model.transaction.TransactionSegment;
 import seedu.address.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * Represents the in-memory model of the address book data.
- * All changes to any model should be synchronized.
+ * The address book is only changed on one writer thread: the JavaFX application thread in the app, or the thread
+ * that runs the queued commands in the server. Changes that start on other threads, such as submitted transactions
+ * and changes others make to the data file, are handed to that thread, so the filtered lists, which wrap the live
+ * address book, only change on it. The changes are also synchronized, and after each one a snapshot of the address
+ * book is published, so that readers on other threads see a consistent version of it without waiting for them.
  */
 public class ModelManager extends ComponentManager implements Model {
+    public static final String SEGMENT_LOAD_LATENCY = "model.load-segment";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
@@ -43,22 +70,48 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Transaction> filteredTransactions;
     private final FilteredList<Debtor> filteredDebtors;
     private final FilteredList<Creditor> filteredCreditors;
-
+    private final ModelStorage storage;
+    /** Records the records that changed since the last change was raised. */
+    private final AddressBookChangeTracker changeTracker;
+    /** The latest published snapshot, which is replaced, never changed, so that it can be read without locking. */
+    private volatile AddressBookSnapshot snapshot;
+    /** Whether the transactions changed since the latest snapshot was published. */
+    private boolean hasUnpublishedTransactions;
+    /** Adds the submitted transactions in batches, started when the first transaction is submitted. */
+    private volatile TransactionIngester transactionIngester;
+    /** Runs the batches of submitted transactions, on the thread that runs the commands once it is set. */
+    private volatile Executor writer = Runnable::run;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, which are not stored anywhere.
+     * Transactions that {@code addressBook} left in storage cannot be loaded.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs) {
+        this(addressBook, userPrefs, new NoModelStorage());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, stored in {@code storage}.
+     * Transactions that {@code addressBook} left in storage are loaded from it when they are needed, and the
+     * submitted transactions are saved to it before they are reported as added.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, UserPrefs userPrefs, ModelStorage storage) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(addressBook, userPrefs, storage);
+        this.storage = storage;
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredTransactions = new FilteredList<>(this.addressBook.getTransactionList());
+        // the filtered list holds on to the view, which would stop passing on changes once it is garbage collected
+        ObservableList<Transaction> transactions = this.addressBook.getTransactionList();
+        transactions.addListener((ListChangeListener<Transaction>) change -> hasUnpublishedTransactions = true);
+        filteredTransactions = new FilteredList<>(transactions);
         filteredDebtors = new FilteredList<>(this.addressBook.getDebtorsList());
         filteredCreditors = new FilteredList<>(this.addressBook.getCreditorsList());
+        changeTracker = new AddressBookChangeTracker(this.addressBook);
+        snapshot = AddressBookSnapshot.of(this.addressBook);
     }
 
     public ModelManager() {
@@ -66,8 +119,9 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void resetData(ReadOnlyAddressBook newData) {
+    public synchronized void resetData(ReadOnlyAddressBook newData) {
         addressBook.resetData(newData);
+        changeTracker.recordAllDebtsChanged();
         indicateAddressBookChanged();
     }
 
@@ -76,9 +130,30 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a snapshot of the address book as it is now, reusing the transactions of the previous one if they
+     * did not change.
+     */
+    private synchronized void publishSnapshot() {
+        snapshot = snapshot.next(addressBook, hasUnpublishedTransactions);
+        hasUnpublishedTransactions = false;
+    }
+
+    /**
+     * Publishes a snapshot and raises events to indicate the model has changed: first an event for each kind of
+     * records that changed, carrying only those records, and then an event with the whole snapshot.
+     */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+        publishSnapshot();
+        for (BaseEvent changeEvent : changeTracker.takeChangeEvents(snapshot.getVersion())) {
+            raise(changeEvent);
+        }
+        raise(new AddressBookChangedEvent(snapshot));
     }
 
     @Override
@@ -95,25 +170,17 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public void updatePerson(Person target, Person editedPerson)
+    public synchronized void updatePerson(Person target, Person editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireAllNonNull(target, editedPerson);
+        loadAllTransactions();
         addressBook.updatePerson(target, editedPerson);
         indicateAddressBookChanged();
     }
     //@@author steven-jia
     @Override
-    public Person findPersonByName(Name name) throws PersonNotFoundException {
-        Set<Person> matchingPersons = addressBook.getPersonList()
-                .stream()
-                .filter(person -> person.getName().equals(name))
-                .collect(Collectors.toSet());
-
-        if (!matchingPersons.isEmpty()) {
-            return matchingPersons.iterator().next();
-        } else {
-            throw new PersonNotFoundException();
-        }
+    public synchronized Person findPersonByName(Name name) throws PersonNotFoundException {
+        return addressBook.getPerson(name);
     }
 
     public UniquePersonList getPayeesList(ArgumentMultimap argMultimap, Model model)
@@ -150,6 +217,7 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public boolean personNotFoundInTransaction(Person person) throws PersonFoundException {
+        loadTransactionsWith(person);
         Set<Transaction> matchingTransactions = addressBook.getTransactionList()
                 .stream()
                 .filter(transaction -> transaction.getPayer().equals(person))
@@ -164,6 +232,7 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public List<Transaction> findTransactionsWithPerson(Person person) {
+        loadTransactionsWith(person);
         List<Transaction> matchingTransactions = addressBook.getTransactionList()
                 .filtered(transaction -> transaction.getPayer().equals(person));
         return matchingTransactions;
@@ -184,7 +253,8 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredCreditors);
     }
     @Override
-    public void addTransaction(Transaction transaction) throws CommandException, PersonNotFoundException {
+    public synchronized void addTransaction(Transaction transaction) throws CommandException, PersonNotFoundException {
+        loadTransactionsFrom(TransactionSegment.periodOf(transaction));
         addressBook.addTransaction(transaction);
         addressBook.updatePayerAndPayeesBalance(true, transaction, findPersonByName(
                     transaction.getPayer().getName()), getPayeesList(transaction.getPayees()));
@@ -196,9 +266,82 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public CompletableFuture<Transaction> submitTransaction(Transaction transaction) throws InterruptedException {
+        requireNonNull(transaction);
+        TransactionIngester ingester = transactionIngester;
+        if (ingester == null) {
+            synchronized (this) {
+                if (transactionIngester == null) {
+                    transactionIngester = new TransactionIngester(this::addAndSaveTransactions,
+                            TransactionIngester.DEFAULT_CAPACITY, TransactionIngester.DEFAULT_MAX_BATCH_SIZE);
+                }
+                ingester = transactionIngester;
+            }
+        }
+        return ingester.submit(transaction);
+    }
+
+    @Override
+    public void setWriter(Executor writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Adds {@code transactions} the way {@link #addTransactions(List)} does, on the writer, and then saves them to
+     * the storage, so that they are stored before they are reported as added. Returns what stopped each of them from
+     * being added, if anything, in the same order.
+     * @throws IOException if the transactions were added but could not be saved.
+     */
+    private List<Optional<Exception>> addAndSaveTransactions(List<Transaction> transactions) throws IOException {
+        // waits for the writer, which may be busy with a command, but the save is left off it
+        List<Optional<Exception>> failures =
+                CompletableFuture.supplyAsync(() -> addTransactions(transactions), writer).join();
+        // the latest snapshot has the batch in it, even if other changes were made since
+        storage.saveSnapshot(snapshot);
+        return failures;
+    }
+
+    /**
+     * Adds each of {@code transactions} in turn the way {@link #addTransaction(Transaction)} does, but raises the
+     * change once for all of them, so that they are saved at once. Returns what stopped each of them from being
+     * added, if anything, in the same order.
+     */
+    private synchronized List<Optional<Exception>> addTransactions(List<Transaction> transactions) {
+        List<Optional<Exception>> failures = new ArrayList<>(transactions.size());
+        int addedCount = 0;
+        for (Transaction transaction : transactions) {
+            try {
+                loadTransactionsFrom(TransactionSegment.periodOf(transaction));
+                // the persons are looked up first, so that a transaction between unknown persons is not added
+                Person payer = findPersonByName(transaction.getPayer().getName());
+                UniquePersonList payees = getPayeesList(transaction.getPayees());
+                addressBook.addTransaction(transaction);
+                addressBook.updatePayerAndPayeesBalance(true, transaction, payer, payees);
+                failures.add(Optional.empty());
+                addedCount++;
+            } catch (PersonNotFoundException | CommandException e) {
+                failures.add(Optional.of(e));
+            }
+        }
+        if (addedCount > 0) {
+            updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+            updateDebtorList(PREDICATE_SHOW_NO_DEBTORS);
+            updateCreditorList(PREDICATE_SHOW_NO_CREDITORS);
+            updateFilteredPersonList(PREDICATE_SHOW_NO_PERSON);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            indicateAddressBookChanged();
+            // the batch is not a command, so the commands before it can no longer be undone
+            raise(new TransactionBatchAddedEvent(addedCount));
+        }
+        return failures;
+    }
+
     //@@author phmignot
     @Override
-    public void deleteTransaction(Transaction target) throws TransactionNotFoundException, PersonNotFoundException {
+    public synchronized void deleteTransaction(Transaction target)
+            throws TransactionNotFoundException, PersonNotFoundException {
         addressBook.updatePayerAndPayeesBalance(false, target,
                 findPersonByName(target.getPayer().getName()), getPayeesList(target.getPayees()));
         addressBook.removeTransaction(target);
@@ -209,6 +352,229 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    //=========== Transaction Segment Loading ===============================================================
+
+    @Override
+    public synchronized boolean loadOlderTransactions() {
+        if (addressBook.getUnloadedTransactionSegments().isEmpty()) {
+            return false;
+        }
+        TransactionSegment segment = addressBook.getNewestUnloadedTransactionSegment();
+        long startNanos = System.nanoTime();
+        try {
+            List<Transaction> segmentTransactions =
+                    storage.loadTransactionSegment(segment, addressBook.getPersonList());
+            // the transactions were in the address book all along, so loading them does not change it
+            changeTracker.ignoreChangesDuring(() -> addressBook.loadTransactionSegment(segment, segmentTransactions));
+            logger.info("Loaded transactions of " + segment);
+            MetricsCenter.getInstance().getHistogram(SEGMENT_LOAD_LATENCY).recordSince(startNanos);
+            publishSnapshot();
+            return true;
+        } catch (DataConversionException e) {
+            logger.warning("Failed to load transactions of " + segment + ": " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    @Override
+    public synchronized void loadAllTransactions() {
+        while (loadOlderTransactions()) {
+            // keep loading until every segment has been loaded
+        }
+    }
+
+    /**
+     * Loads older transactions until no transactions from {@code period} or later are left in storage,
+     * so that transactions of the same month are kept together.
+     */
+    private void loadTransactionsFrom(YearMonth period) {
+        while (addressBook.hasUnloadedTransactionsFrom(period) && loadOlderTransactions()) {
+            // keep loading until the segments from period onwards have been loaded
+        }
+    }
+
+    /**
+     * Loads older transactions until every transaction paid by or for {@code person} has been loaded.
+     * Only the segments from the oldest one that the storage finds the person in are loaded, as segments can only
+     * be loaded newest first.
+     */
+    private void loadTransactionsWith(Person person) {
+        List<TransactionSegment> segments = addressBook.getUnloadedTransactionSegments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        try {
+            List<TransactionSegment> matchingSegments =
+                    storage.findTransactionSegmentsWith(person, segments);
+            if (!matchingSegments.isEmpty()) {
+                loadTransactionsFrom(matchingSegments.stream().map(TransactionSegment::getPeriod)
+                        .min(YearMonth::compareTo).get());
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Failed to find the transactions of " + person + ": " + StringUtil.getDetails(e));
+            loadAllTransactions();
+        }
+    }
+
+    @Subscribe
+    private void handleLoadOlderTransactionsRequestEvent(LoadOlderTransactionsRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        loadOlderTransactions();
+    }
+
+    //=========== Verification =============================================================================
+
+    @Override
+    public VerificationReport verifyAddressBook() throws DataConversionException, IOException {
+        return storage.verifyAddressBook(snapshot);
+    }
+
+    //=========== Synchronization ==========================================================================
+
+    @Override
+    public synchronized SyncReport syncAddressBook(String filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        AddressBookDelta delta = storage.readDelta(filePath, addressBook);
+        int personCount = addressBook.getPersonList().size();
+        for (Person person : delta.getMissingPersons()) {
+            getOrAddPerson(person);
+        }
+
+        List<Transaction> missingTransactions = delta.getMissingTransactions();
+        if (!missingTransactions.isEmpty()) {
+            loadTransactionsFrom(missingTransactions.stream().map(TransactionSegment::periodOf)
+                    .min(YearMonth::compareTo).get());
+        }
+        List<String> rejectedTransactions = new ArrayList<>();
+        for (Transaction transaction : missingTransactions) {
+            // only the debts between the payer and payees of each added transaction are updated
+            try {
+                transaction.setPayer(getOrAddPerson(transaction.getPayer()));
+                UniquePersonList payees = new UniquePersonList();
+                for (Person payee : transaction.getPayees()) {
+                    payees.add(getOrAddPerson(payee));
+                }
+                transaction.setPayees(payees);
+                addressBook.addTransaction(transaction);
+                addressBook.updatePayerAndPayeesBalance(true, transaction, transaction.getPayer(),
+                        transaction.getPayees());
+            } catch (CommandException ce) {
+                logger.warning("Transaction " + transaction + " not synced: " + ce.getMessage());
+                rejectedTransactions.add(transaction.getDescription().value);
+            } catch (DuplicatePersonException dpe) {
+                throw new AssertionError("The payees of a transaction are unique", dpe);
+            }
+        }
+
+        int addedPersonCount = addressBook.getPersonList().size() - personCount;
+        int addedTransactionCount = missingTransactions.size() - rejectedTransactions.size();
+        if (addedPersonCount > 0 || addedTransactionCount > 0) {
+            updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+            indicateAddressBookChanged();
+        }
+        return new SyncReport(delta.getDifferentBlockCount(), addedPersonCount, addedTransactionCount,
+                delta.getConflictingPersonNames(), rejectedTransactions);
+    }
+
+    //=========== External Changes ===========================================================================
+
+    /**
+     * Applies {@code change}, made to the stored address book by something other than this app, as a diff, so that
+     * only the records that changed are replaced and the rest of the address book is left as it is.
+     * Months of transactions that are still in storage are only loaded if the stored copy loaded them as well.
+     * @return the diff that was applied.
+     */
+    synchronized AddressBookDiff applyFileChange(AddressBookFileChange change) {
+        requireNonNull(change);
+        for (YearMonth month : change.getChangedMonths(addressBook)) {
+            if (!change.isLeftInStorage(month)) {
+                loadTransactionsFrom(month);
+            }
+        }
+        AddressBookDiff diff = change.diffAgainst(addressBook);
+        if (diff.isEmpty()) {
+            return diff;
+        }
+        addressBook.applyDiff(diff);
+        if (diff.getDebtsTable().isPresent()) {
+            changeTracker.recordAllDebtsChanged();
+        }
+        logger.info("Applied the changes made to the data file by others: " + diff);
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        updateDebtorList(PREDICATE_SHOW_NO_DEBTORS);
+        updateCreditorList(PREDICATE_SHOW_NO_CREDITORS);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateAddressBookChanged();
+        return diff;
+    }
+
+    @Subscribe
+    private void handleAddressBookFileChangedEvent(AddressBookFileChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Data file changed by others"));
+        applyFileChange(event.change);
+    }
+
+    //=========== Archiving ==================================================================================
+
+    @Override
+    public synchronized LedgerCheckpoint archiveSettledTransactions(Date before) throws IOException {
+        requireNonNull(before);
+        // the oldest transactions of each pair must be known to tell whether they are settled
+        loadAllTransactions();
+        if (!addressBook.getUnloadedTransactionSegments().isEmpty()) {
+            throw new IOException("Some transactions could not be loaded from storage to be archived");
+        }
+        LedgerCheckpoint checkpoint = LedgerCheckpoint.ofSettledTransactions(addressBook.getTransactionList(),
+                before);
+        if (checkpoint.getTransactions().isEmpty()) {
+            return checkpoint;
+        }
+        // the archive is written first, so that no transaction is lost if it cannot be written
+        storage.archiveTransactions(checkpoint);
+        try {
+            addressBook.removeArchivedTransactions(checkpoint);
+        } catch (TransactionNotFoundException tnfe) {
+            throw new AssertionError("The archived transactions were taken from the address book", tnfe);
+        }
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+        indicateAddressBookChanged();
+        return checkpoint;
+    }
+
+    @Override
+    public List<LedgerCheckpoint> getArchivedTransactions() throws DataConversionException, IOException {
+        return storage.readArchivedTransactions(snapshot.getPersonList());
+    }
+
+    //=========== Exporting ==================================================================================
+
+    @Override
+    public ExportReport exportAddressBook(String filePath, ExportFormat format, ExportFilter filter)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, format, filter);
+        return storage.exportAddressBook(snapshot, filter, format, filePath);
+    }
+
+    /**
+     * Returns the person in the address book with the same name as {@code person}, which comes from another copy
+     * of the address book. A copy of {@code person} with no balance is added if there is no such person yet, and
+     * its balance is made up by the transactions that are added for it.
+     */
+    private Person getOrAddPerson(Person person) {
+        try {
+            return addressBook.getPerson(person.getName());
+        } catch (PersonNotFoundException pnfe) {
+            try {
+                addressBook.addPerson(new Person(person.getName(), person.getPhone(), person.getEmail(),
+                        new Balance("0.00"), person.getTags()));
+                return addressBook.getPerson(person.getName());
+            } catch (DuplicatePersonException | PersonNotFoundException e) {
+                throw new AssertionError("The person was just found missing, and added", e);
+            }
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -241,6 +607,12 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof TransactionContainsPersonPredicate) {
+            // only the segments that could have the person are needed to show all of its transactions
+            loadTransactionsWith(((TransactionContainsPersonPredicate) predicate).getPerson());
+        } else if (predicate != PREDICATE_SHOW_ALL_TRANSACTIONS) {
+            loadAllTransactions();
+        }
         filteredTransactions.setPredicate(predicate);
     }
 
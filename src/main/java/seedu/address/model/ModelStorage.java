@@ -0,0 +1,10 @@
+package seedu.address.model;
+
+/**
+ * The storage that the model reads the parts of the address book it does not hold from, and writes the changes to
+ * that must be stored before they are reported as done.
+ * {@link NoModelStorage} stands in for it when the address book is not stored anywhere.
+ */
+public interface ModelStorage extends TransactionSegmentLoader, AddressBookVerifier, AddressBookDeltaReader,
+        TransactionArchive, AddressBookExporter, AddressBookSaver {
+}
@@ -0,0 +1,58 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * The storage of a model whose address book is not stored anywhere. Nothing can be read from it, and the snapshots
+ * it is asked to save are dropped.
+ */
+public class NoModelStorage implements ModelStorage {
+
+    @Override
+    public List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException {
+        throw new DataConversionException(
+                new IOException("The address book is not stored anywhere " + segment + " can be loaded from"));
+    }
+
+    @Override
+    public VerificationReport verifyAddressBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        throw new IOException("The address book is not stored anywhere it can be checked");
+    }
+
+    @Override
+    public AddressBookDelta readDelta(String filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        throw new IOException("The address book is not stored anywhere it can be compared with other copies");
+    }
+
+    @Override
+    public void archiveTransactions(LedgerCheckpoint checkpoint) throws IOException {
+        throw new IOException("The address book is not stored anywhere transactions can be archived");
+    }
+
+    @Override
+    public List<LedgerCheckpoint> readArchivedTransactions(List<Person> knownPersons)
+            throws DataConversionException, IOException {
+        throw new IOException("The address book is not stored anywhere transactions can be archived");
+    }
+
+    @Override
+    public ExportReport exportAddressBook(ReadOnlyAddressBook addressBook, ExportFilter filter, ExportFormat format,
+                                          String filePath) throws DataConversionException, IOException {
+        throw new IOException("The address book is not stored anywhere it can be exported from");
+    }
+
+    @Override
+    public void saveSnapshot(AddressBookSnapshot snapshot) throws IOException {
+        // there is nowhere to save it
+    }
+}
@@ -1,16 +1,23 @@
 package seedu.address.model;
 
+import java.time.YearMonth;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Debtor;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
 
 /**
  * Unmodifiable view of an address book
  */
 public interface ReadOnlyAddressBook {
 
+    /** A change stamp that never matches a previous state, so that the data it stands for is treated as changed. */
+    long UNKNOWN_CHANGE_STAMP = 0;
+
     /**
      * Returns an unmodifiable view of the persons list.
      * This list will not contain any duplicate persons.
@@ -22,6 +29,12 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Transaction> getTransactionList();
 
+    /**
+     * Returns the segments of older transactions that are still in storage, oldest first.
+     * They are not part of the transaction list until they are loaded.
+     */
+    List<TransactionSegment> getUnloadedTransactionSegments();
+
     /**
      * Returns an unmodifiable view of the tags list.
      * This list will not contain any duplicate tags.
@@ -35,4 +48,17 @@ public interface ReadOnlyAddressBook {
     void setDebtors(DebtsList debtsList);
 
     void setCreditors(DebtsList debtsList);
+
+    /**
+     * Returns a stamp identifying the current state of the persons, the tags and the debts table.
+     * The stamp changes whenever any of them changes, and is never reused for a different state.
+     */
+    long getPersonsChangeStamp();
+
+    /**
+     * Returns a stamp identifying the current state of the transactions of {@code period}.
+     * The stamp changes whenever any of those transactions changes, and is never reused for a different state.
+     * Returns {@link #UNKNOWN_CHANGE_STAMP} if the state of those transactions is not tracked.
+     */
+    long getTransactionsChangeStamp(YearMonth period);
 }
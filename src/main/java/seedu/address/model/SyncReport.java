@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The outcome of merging what another copy of the address book has into this one.
+ * Guarantees: immutable.
+ */
+public class SyncReport {
+
+    private final int differentBlockCount;
+    private final int addedPersonCount;
+    private final int addedTransactionCount;
+    private final List<String> conflictingPersonNames;
+    private final List<String> rejectedTransactions;
+
+    /**
+     * @param differentBlockCount the number of blocks that differed between the two copies.
+     * @param addedPersonCount the number of persons added from the other copy.
+     * @param addedTransactionCount the number of transactions added from the other copy.
+     * @param conflictingPersonNames the names of the persons whose details differ, which were kept as they were.
+     * @param rejectedTransactions the transactions of the other copy that could not be added.
+     */
+    public SyncReport(int differentBlockCount, int addedPersonCount, int addedTransactionCount,
+                      List<String> conflictingPersonNames, List<String> rejectedTransactions) {
+        requireAllNonNull(conflictingPersonNames, rejectedTransactions);
+        this.differentBlockCount = differentBlockCount;
+        this.addedPersonCount = addedPersonCount;
+        this.addedTransactionCount = addedTransactionCount;
+        this.conflictingPersonNames = Collections.unmodifiableList(new ArrayList<>(conflictingPersonNames));
+        this.rejectedTransactions = Collections.unmodifiableList(new ArrayList<>(rejectedTransactions));
+    }
+
+    public int getDifferentBlockCount() {
+        return differentBlockCount;
+    }
+
+    public int getAddedPersonCount() {
+        return addedPersonCount;
+    }
+
+    public int getAddedTransactionCount() {
+        return addedTransactionCount;
+    }
+
+    public List<String> getConflictingPersonNames() {
+        return conflictingPersonNames;
+    }
+
+    public List<String> getRejectedTransactions() {
+        return rejectedTransactions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SyncReport // instanceof handles nulls
+                && differentBlockCount == ((SyncReport) other).differentBlockCount
+                && addedPersonCount == ((SyncReport) other).addedPersonCount
+                && addedTransactionCount == ((SyncReport) other).addedTransactionCount
+                && conflictingPersonNames.equals(((SyncReport) other).conflictingPersonNames)
+                && rejectedTransactions.equals(((SyncReport) other).rejectedTransactions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(differentBlockCount, addedPersonCount, addedTransactionCount, conflictingPersonNames,
+                rejectedTransactions);
+    }
+
+    @Override
+    public String toString() {
+        return differentBlockCount + " different blocks, " + addedPersonCount + " persons and "
+                + addedTransactionCount + " transactions added";
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the transactions that were taken out of an address book, outside of the data that is saved every time
+ * the address book changes.
+ */
+public interface TransactionArchive {
+
+    /**
+     * Adds {@code checkpoint} and its transactions to the archive.
+     * @throws IOException if the archive could not be written, in which case it is left as it was.
+     */
+    void archiveTransactions(LedgerCheckpoint checkpoint) throws IOException;
+
+    /**
+     * Returns the checkpoints in the archive, from the first archived to the last, none if nothing was archived.
+     * Their transactions refer to the persons in {@code knownPersons} with the same name.
+     * @throws DataConversionException if the archive is not in the expected format.
+     * @throws IOException if the archive could not be read.
+     */
+    List<LedgerCheckpoint> readArchivedTransactions(List<Person> knownPersons)
+            throws DataConversionException, IOException;
+}
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Takes in transactions submitted from any number of threads, and adds them in batches on a single applier thread,
+ * so that a burst of transactions is saved once for each batch instead of once for each transaction.
+ * The transactions wait in a queue that producers add to without locking, and producers only wait while the queue
+ * is full. The applier takes every transaction waiting, up to the maximum batch size, each time it adds a batch, so
+ * the batches grow with the rate at which transactions are submitted.
+ */
+public class TransactionIngester {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 512;
+
+    private static final Logger logger = LogsCenter.getLogger(TransactionIngester.class);
+
+    private final BatchApplier applier;
+    private final int maxBatchSize;
+    private final Queue<Submission> queue = new ConcurrentLinkedQueue<>();
+    /** The free places in the queue, which bounds the queue without a lock around it. */
+    private final Semaphore freeSlots;
+    private final Thread applierThread;
+    private volatile boolean isStopped;
+
+    /**
+     * Starts an applier thread that adds the submitted transactions with {@code applier}, in batches of at most
+     * {@code maxBatchSize}, while at most {@code capacity} transactions wait to be added.
+     */
+    public TransactionIngester(BatchApplier applier, int capacity, int maxBatchSize) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("The capacity and the batch size must be positive");
+        }
+        this.applier = applier;
+        this.maxBatchSize = maxBatchSize;
+        freeSlots = new Semaphore(capacity);
+        applierThread = new Thread(this::applyBatches, "transaction-applier");
+        applierThread.setDaemon(true);
+        applierThread.start();
+    }
+
+    /**
+     * Submits {@code transaction} to be added in the next batch, waiting while the queue is full. The returned
+     * future completes once the batch has been added and saved, or exceptionally with what stopped the transaction
+     * from being added or saved.
+     *
+     * @throws IllegalStateException if the ingester was stopped.
+     */
+    public CompletableFuture<Transaction> submit(Transaction transaction) throws InterruptedException {
+        if (isStopped) {
+            throw new IllegalStateException("No transaction can be submitted once the ingester is stopped");
+        }
+        freeSlots.acquire();
+        Submission submission = new Submission(transaction);
+        queue.add(submission);
+        if (isStopped && queue.remove(submission)) {
+            // stopped while it was being submitted, so the applier may have finished without seeing it
+            freeSlots.release();
+            throw new IllegalStateException("No transaction can be submitted once the ingester is stopped");
+        }
+        LockSupport.unpark(applierThread);
+        return submission.future;
+    }
+
+    /**
+     * Stops taking in transactions, and waits until those already submitted have been added.
+     */
+    public void stop() throws InterruptedException {
+        isStopped = true;
+        LockSupport.unpark(applierThread);
+        applierThread.join();
+    }
+
+    /**
+     * Adds the waiting transactions a batch at a time, and waits for more while there are none, until stopped.
+     */
+    private void applyBatches() {
+        List<Submission> batch = new ArrayList<>(maxBatchSize);
+        while (!isStopped || !queue.isEmpty()) {
+            Submission submission;
+            while (batch.size() < maxBatchSize && (submission = queue.poll()) != null) {
+                batch.add(submission);
+            }
+            if (batch.isEmpty()) {
+                LockSupport.park(this);
+                continue;
+            }
+            freeSlots.release(batch.size());
+            applyBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Adds and saves the transactions of {@code batch}, then completes their futures.
+     */
+    private void applyBatch(List<Submission> batch) {
+        List<Transaction> transactions = new ArrayList<>(batch.size());
+        batch.forEach(submission -> transactions.add(submission.transaction));
+        List<Optional<Exception>> failures;
+        try {
+            failures = applier.apply(transactions);
+        } catch (IOException | RuntimeException e) {
+            logger.severe("A batch of " + batch.size() + " transactions could not be added or saved: " + e);
+            batch.forEach(submission -> submission.future.completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            Submission submission = batch.get(i);
+            if (failures.get(i).isPresent()) {
+                submission.future.completeExceptionally(failures.get(i).get());
+            } else {
+                submission.future.complete(submission.transaction);
+            }
+        }
+    }
+
+    /**
+     * Adds a batch of transactions to the ledger and saves it once for the whole batch.
+     */
+    @FunctionalInterface
+    public interface BatchApplier {
+        /**
+         * Adds each of {@code transactions} in turn, saves them, and returns what stopped each of them from being
+         * added, if anything, in the same order.
+         * @throws IOException if the transactions were added but could not be saved.
+         */
+        List<Optional<Exception>> apply(List<Transaction> transactions) throws IOException;
+    }
+
+    /**
+     * A submitted transaction, with the future completed once it is added.
+     */
+    private static class Submission {
+
+        private final Transaction transaction;
+        private final CompletableFuture<Transaction> future = new CompletableFuture<>();
+
+        Submission(Transaction transaction) {
+            this.transaction = transaction;
+        }
+    }
+}
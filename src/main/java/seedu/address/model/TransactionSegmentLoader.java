@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * Loads the transactions of a {@code TransactionSegment} that was left in storage when the address book was read.
+ */
+public interface TransactionSegmentLoader {
+
+    /**
+     * Returns the transactions stored in {@code segment}, in the order they were added.
+     * The returned transactions refer to the persons in {@code persons} that have the same names as their payers
+     * and payees, so that no copies of those persons are kept.
+     * @throws DataConversionException if the segment could not be read or is not in the expected format.
+     */
+    List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException;
+
+    /**
+     * Returns the segments in {@code segments} that could have transactions paid by or for {@code person}.
+     * Storages that can look transactions up by person narrow the segments down; others return all of them.
+     * @throws DataConversionException if the segments could not be searched.
+     */
+    default List<TransactionSegment> findTransactionSegmentsWith(Person person, List<TransactionSegment> segments)
+            throws DataConversionException {
+        return segments;
+    }
+}
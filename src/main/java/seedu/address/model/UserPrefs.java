@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.DataFormat;
 
 /**
  * Represents User's preferences.
@@ -12,6 +14,10 @@ public class UserPrefs {
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/smartsplit.xml";
     private String addressBookName = "SmartSplit";
+    private Compression addressBookCompression = Compression.NONE;
+    private DataFormat addressBookFormat = DataFormat.XML;
+    private boolean segmentTransactionsByMonth = false;
+    private int recentTransactionMonths = 3;
 
     public UserPrefs() {
         this.setGuiSettings(1500, 780, 0, 0);
@@ -45,6 +51,38 @@ public class UserPrefs {
         this.addressBookName = addressBookName;
     }
 
+    public Compression getAddressBookCompression() {
+        return addressBookCompression == null ? Compression.NONE : addressBookCompression;
+    }
+
+    public void setAddressBookCompression(Compression addressBookCompression) {
+        this.addressBookCompression = addressBookCompression;
+    }
+
+    public DataFormat getAddressBookFormat() {
+        return addressBookFormat == null ? DataFormat.XML : addressBookFormat;
+    }
+
+    public void setAddressBookFormat(DataFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isSegmentTransactionsByMonth() {
+        return segmentTransactionsByMonth;
+    }
+
+    public void setSegmentTransactionsByMonth(boolean segmentTransactionsByMonth) {
+        this.segmentTransactionsByMonth = segmentTransactionsByMonth;
+    }
+
+    public int getRecentTransactionMonths() {
+        return recentTransactionMonths;
+    }
+
+    public void setRecentTransactionMonths(int recentTransactionMonths) {
+        this.recentTransactionMonths = recentTransactionMonths;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -58,12 +96,17 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookName, o.addressBookName)
+                && Objects.equals(getAddressBookCompression(), o.getAddressBookCompression())
+                && Objects.equals(getAddressBookFormat(), o.getAddressBookFormat())
+                && segmentTransactionsByMonth == o.segmentTransactionsByMonth
+                && recentTransactionMonths == o.recentTransactionMonths;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, getAddressBookCompression(),
+                getAddressBookFormat(), segmentTransactionsByMonth, recentTransactionMonths);
     }
 
     @Override
@@ -72,6 +115,10 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nAddressBook compression : " + getAddressBookCompression());
+        sb.append("\nAddressBook format : " + getAddressBookFormat());
+        sb.append("\nSegment transactions by month : " + segmentTransactionsByMonth);
+        sb.append("\nRecent transaction months : " + recentTransactionMonths);
         return sb.toString();
     }
 
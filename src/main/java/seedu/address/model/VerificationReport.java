@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The outcome of checking a stored address book against the hashes saved with it.
+ * Guarantees: immutable.
+ */
+public class VerificationReport {
+
+    private final boolean hasStoredHashes;
+    private final int blockCount;
+    private final List<String> corruptedBlocks;
+    private final List<String> unsavedBlocks;
+
+    /**
+     * @param hasStoredHashes whether hashes were saved with the address book. Nothing can be checked without them.
+     * @param blockCount the number of blocks the stored hashes cover.
+     * @param corruptedBlocks the names of the stored blocks that do not match their hashes.
+     * @param unsavedBlocks the names of the blocks in memory that differ from the stored hashes.
+     */
+    public VerificationReport(boolean hasStoredHashes, int blockCount, List<String> corruptedBlocks,
+                              List<String> unsavedBlocks) {
+        requireAllNonNull(corruptedBlocks, unsavedBlocks);
+        this.hasStoredHashes = hasStoredHashes;
+        this.blockCount = blockCount;
+        this.corruptedBlocks = Collections.unmodifiableList(new ArrayList<>(corruptedBlocks));
+        this.unsavedBlocks = Collections.unmodifiableList(new ArrayList<>(unsavedBlocks));
+    }
+
+    /**
+     * Returns the report for an address book that has no saved hashes.
+     */
+    public static VerificationReport withoutStoredHashes() {
+        return new VerificationReport(false, 0, Collections.emptyList(), Collections.emptyList());
+    }
+
+    public boolean hasStoredHashes() {
+        return hasStoredHashes;
+    }
+
+    public int getBlockCount() {
+        return blockCount;
+    }
+
+    public List<String> getCorruptedBlocks() {
+        return corruptedBlocks;
+    }
+
+    public List<String> getUnsavedBlocks() {
+        return unsavedBlocks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof VerificationReport // instanceof handles nulls
+                && hasStoredHashes == ((VerificationReport) other).hasStoredHashes
+                && blockCount == ((VerificationReport) other).blockCount
+                && corruptedBlocks.equals(((VerificationReport) other).corruptedBlocks)
+                && unsavedBlocks.equals(((VerificationReport) other).unsavedBlocks));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hasStoredHashes, blockCount, corruptedBlocks, unsavedBlocks);
+    }
+
+    @Override
+    public String toString() {
+        return blockCount + " blocks, corrupted: " + corruptedBlocks + ", unsaved: " + unsavedBlocks;
+    }
+}
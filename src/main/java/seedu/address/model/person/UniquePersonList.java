@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -23,15 +25,29 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Index of the persons in the list by their name, ignoring case, as in {@link Person#equals(Object)}. */
+    private final Map<String, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(
-            person -> person.getName().fullName.toLowerCase().equals(toCheck.getName().fullName.toLowerCase())
-        );
+        return personsByName.containsKey(keyOf(toCheck.getName()));
+    }
+
+    /**
+     * Returns the person in the list with the given name, ignoring case.
+     *
+     * @throws PersonNotFoundException if no such person could be found in the list.
+     */
+    public Person get(Name name) throws PersonNotFoundException {
+        requireNonNull(name);
+        Person person = personsByName.get(keyOf(name));
+        if (person == null) {
+            throw new PersonNotFoundException();
+        }
+        return person;
     }
 
     /**
@@ -45,6 +61,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(keyOf(toAdd.getName()), toAdd);
     }
 
     /**
@@ -62,11 +79,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        personsByName.remove(keyOf(target.getName()));
+        personsByName.put(keyOf(editedPerson.getName()), editedPerson);
     }
 
     /**
@@ -80,11 +99,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!personFoundAndDeleted) {
             throw new PersonNotFoundException();
         }
+        personsByName.remove(keyOf(toRemove.getName()));
         return personFoundAndDeleted;
     }
 
     public void setPersons(UniquePersonList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.personsByName.clear();
+        this.personsByName.putAll(replacement.personsByName);
     }
 
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
@@ -120,5 +142,8 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    private static String keyOf(Name name) {
+        return name.fullName.toLowerCase();
+    }
 
 }
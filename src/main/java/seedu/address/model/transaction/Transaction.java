@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -14,7 +15,8 @@ import seedu.address.model.person.UniquePersonList;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Transaction {
-    private static Integer lastTransactionId = 0;
+    /** Hands out the ids of new transactions, which can be created by several threads at once when loading. */
+    private static final AtomicInteger lastTransactionId = new AtomicInteger();
     private Integer id;
     private Date dateTime;
     private Person payer;
@@ -31,7 +33,7 @@ public class Transaction {
                        List<Integer> percentages) {
         this.transactionType = transactionType;
         this.dateTime = dateTime;
-        this.id = lastTransactionId++;
+        this.id = lastTransactionId.getAndIncrement();
         this.payer = payer;
         this.amount = amount;
         this.description = description;
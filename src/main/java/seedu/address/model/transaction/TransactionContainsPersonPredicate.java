@@ -16,6 +16,10 @@ public class TransactionContainsPersonPredicate implements Predicate<Transaction
         this.person = person;
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
     @Override
     public boolean test(Transaction transaction) {
         return transaction.isImplied(person);
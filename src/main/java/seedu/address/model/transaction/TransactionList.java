@@ -32,6 +32,14 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds transactions that are older than every transaction in the list to the front of the list.
+     */
+    public void addOlder(List<Transaction> olderTransactions) {
+        requireAllNonNull(olderTransactions);
+        internalList.addAll(0, olderTransactions);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -78,27 +86,35 @@ public class TransactionList implements Iterable<Transaction> {
         internalList.setAll(transactions);
     }
 
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the transactions that involve {@code target}, by setting
+     * copies of just those transactions, so the other transactions are left as they are.
+     */
     public void setPerson(Person target, Person editedPerson) throws DuplicatePersonException, PersonNotFoundException {
-        for (Transaction transaction : this.asObservableList()) {
+        for (int i = 0; i < internalList.size(); i++) {
+            Transaction transaction = internalList.get(i);
             Person payer = transaction.getPayer();
             UniquePersonList payees = transaction.getPayees();
-            Transaction editedTransaction = new Transaction(transaction);
-            UniquePersonList editedpayees = new UniquePersonList();
-            editedpayees.setPersons(payees);
             if (!target.equals(editedPerson) && (payees.contains(editedPerson) || payer.equals(editedPerson))) {
                 throw new DuplicatePersonException();
             }
             if (payees.contains(target) && payer.equals(target)) {
                 throw new DuplicatePersonException();
             }
+            if (!payer.equals(target) && !payees.contains(target)) {
+                continue;
+            }
+            Transaction editedTransaction = new Transaction(transaction);
             if (payer.equals(target)) {
                 editedTransaction.setPayer(editedPerson);
             }
             if (payees.contains(target)) {
+                UniquePersonList editedpayees = new UniquePersonList();
+                editedpayees.setPersons(payees);
                 editedpayees.setPerson(target, editedPerson);
                 editedTransaction.setPayees(editedpayees);
             }
-            internalList.set(internalList.indexOf(transaction), editedTransaction);
+            internalList.set(i, editedTransaction);
         }
     }
 }
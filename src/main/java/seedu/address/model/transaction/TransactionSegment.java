@@ -0,0 +1,68 @@
+package seedu.address.model.transaction;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Represents the stored transactions of one month that have not been loaded into memory yet.
+ * Guarantees: immutable.
+ */
+public class TransactionSegment {
+
+    private final YearMonth period;
+    private final String location;
+    private final int size;
+
+    /**
+     * @param period the month of the transactions in the segment.
+     * @param location where the segment is stored. Only the storage that created the segment interprets it.
+     * @param size the number of transactions in the segment.
+     */
+    public TransactionSegment(YearMonth period, String location, int size) {
+        requireAllNonNull(period, location);
+        this.period = period;
+        this.location = location;
+        this.size = size;
+    }
+
+    /**
+     * Returns the month that {@code transaction} belongs to.
+     */
+    public static YearMonth periodOf(Transaction transaction) {
+        return YearMonth.from(transaction.getDateTime().toInstant().atZone(ZoneId.systemDefault()));
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TransactionSegment // instanceof handles nulls
+                && period.equals(((TransactionSegment) other).period)
+                && location.equals(((TransactionSegment) other).location)
+                && size == ((TransactionSegment) other).size);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(period, location, size);
+    }
+
+    @Override
+    public String toString() {
+        return period + " (" + size + " transactions)";
+    }
+}
@@ -0,0 +1,373 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Serves the address book over HTTP on the loopback interface, so that other programs can run commands and read
+ * the data without the UI. Every response is a JSON object.
+ * Reads are answered concurrently from the latest snapshot of the model, while commands are queued and run one
+ * at a time on a single writer thread, in the order they arrive. Transactions posted on their own are added in
+ * batches on the same thread, and saved once for each batch.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8017;
+
+    public static final String PERSONS_PATH = "/persons";
+    public static final String DEBTS_PATH = "/debts";
+    public static final String TRANSACTIONS_PATH = "/transactions";
+    public static final String COMMANDS_PATH = "/commands";
+    /** The query parameter that limits the debts or transactions to those of one person. */
+    public static final String PERSON_PARAMETER = "person";
+
+    public static final String FEEDBACK = "feedback";
+    public static final String ERROR = "error";
+
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %1$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no person named %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s only accepts %2$s requests";
+    public static final String MESSAGE_TRANSACTION_ADDED = "New transaction added";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+
+    private final Logic logic;
+    private final Supplier<AddressBookSnapshot> snapshots;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+
+    /**
+     * Creates a server on {@code port} of the loopback interface, or on any free port if it is 0, that runs
+     * commands with {@code logic} and reads the latest snapshot from {@code snapshots}, answering up to
+     * {@code readerThreads} requests at once.
+     */
+    public ApiServer(Logic logic, Supplier<AddressBookSnapshot> snapshots, int port, int readerThreads)
+            throws IOException {
+        requireNonNull(logic);
+        requireNonNull(snapshots);
+        this.logic = logic;
+        this.snapshots = snapshots;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        readers = Executors.newFixedThreadPool(readerThreads, runnable -> new Thread(runnable, "api-reader"));
+        writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "api-writer"));
+        server.setExecutor(readers);
+        server.createContext(PERSONS_PATH, new ExchangeHandler(GET, this::handlePersons));
+        server.createContext(DEBTS_PATH, new ExchangeHandler(GET, this::handleDebts));
+        server.createContext(TRANSACTIONS_PATH, new ExchangeHandler(GET, this::handleTransactions)
+                .with(POST, this::handleSubmittedTransaction));
+        server.createContext(COMMANDS_PATH, new ExchangeHandler(POST, this::handleCommand));
+    }
+
+    /**
+     * Starts answering requests in the background.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the address book at http://localhost:" + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and waits for the commands that were already queued to finish.
+     */
+    public void stop() {
+        server.stop(0);
+        readers.shutdown();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Stopped serving the address book");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the executor that runs the queued commands, so that other changes to the model can be run on the
+     * same thread, in turn with the commands.
+     */
+    public Executor getWriter() {
+        return writer;
+    }
+
+    /**
+     * Answers {@code GET /persons} with every person, and {@code GET /persons/NAME} with the person named NAME.
+     */
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        AddressBookSnapshot snapshot = snapshots.get();
+        String name = exchange.getRequestURI().getPath().substring(PERSONS_PATH.length());
+        if (name.isEmpty() || name.equals("/")) {
+            respond(exchange, HttpURLConnection.HTTP_OK, generator -> {
+                generator.writeNumberField(SnapshotJson.VERSION, snapshot.getVersion());
+                SnapshotJson.writePersons(generator, snapshot);
+            });
+            return;
+        }
+
+        Optional<Person> person = SnapshotJson.findPerson(snapshot, name.substring(1));
+        if (!person.isPresent()) {
+            respondError(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+                    String.format(MESSAGE_PERSON_NOT_FOUND, name.substring(1)));
+            return;
+        }
+        respond(exchange, HttpURLConnection.HTTP_OK, generator -> {
+            generator.writeNumberField(SnapshotJson.VERSION, snapshot.getVersion());
+            generator.writeFieldName(SnapshotJson.PERSON);
+            SnapshotJson.writePerson(generator, person.get());
+        });
+    }
+
+    /**
+     * Answers {@code GET /debts}, optionally with the {@code person} query parameter.
+     */
+    private void handleDebts(HttpExchange exchange) throws IOException {
+        handlePersonRecords(exchange, DEBTS_PATH, SnapshotJson::writeDebts);
+    }
+
+    /**
+     * Answers {@code GET /transactions}, optionally with the {@code person} query parameter.
+     */
+    private void handleTransactions(HttpExchange exchange) throws IOException {
+        handlePersonRecords(exchange, TRANSACTIONS_PATH, SnapshotJson::writeTransactions);
+    }
+
+    /**
+     * Answers a request for the records at {@code path} of the person in the query, if any, with
+     * {@code recordsWriter}.
+     */
+    private void handlePersonRecords(HttpExchange exchange, String path, RecordsWriter recordsWriter)
+            throws IOException {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            respondError(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+                    String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+            return;
+        }
+        AddressBookSnapshot snapshot = snapshots.get();
+        Optional<String> name = getQueryParameter(exchange, PERSON_PARAMETER);
+        Optional<Person> person = name.flatMap(personName -> SnapshotJson.findPerson(snapshot, personName));
+        if (name.isPresent() && !person.isPresent()) {
+            respondError(exchange, HttpURLConnection.HTTP_NOT_FOUND,
+                    String.format(MESSAGE_PERSON_NOT_FOUND, name.get()));
+            return;
+        }
+        respond(exchange, HttpURLConnection.HTTP_OK, generator -> {
+            generator.writeNumberField(SnapshotJson.VERSION, snapshot.getVersion());
+            recordsWriter.write(generator, snapshot, person);
+        });
+    }
+
+    /**
+     * Answers {@code POST /commands} by queueing the command in the body for the writer thread, and waiting for
+     * its result.
+     */
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        String commandText = readBody(exchange).trim();
+        Future<CommandResult> result = writer.submit(() -> logic.execute(commandText));
+        try {
+            CommandResult commandResult = result.get();
+            AddressBookSnapshot snapshot = snapshots.get();
+            respond(exchange, HttpURLConnection.HTTP_OK, generator -> {
+                generator.writeNumberField(SnapshotJson.VERSION, snapshot.getVersion());
+                generator.writeStringField(FEEDBACK, commandResult.feedbackToUser);
+            });
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException
+                    || cause instanceof PersonNotFoundException) {
+                respondError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, cause.getMessage());
+            } else {
+                logger.warning("Command " + commandText + " failed: " + cause);
+                respondError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, String.valueOf(cause));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            respondError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, "Interrupted while waiting for the command");
+        }
+    }
+
+    /**
+     * Answers {@code POST /transactions} by submitting the transaction described by the add transaction command
+     * arguments in the body, and waiting until the batch it is added in is saved.
+     */
+    private void handleSubmittedTransaction(HttpExchange exchange) throws IOException {
+        String arguments = readBody(exchange).trim();
+        try {
+            logic.submitTransaction(arguments).get();
+            AddressBookSnapshot snapshot = snapshots.get();
+            respond(exchange, HttpURLConnection.HTTP_OK, generator -> {
+                generator.writeNumberField(SnapshotJson.VERSION, snapshot.getVersion());
+                generator.writeStringField(FEEDBACK, MESSAGE_TRANSACTION_ADDED);
+            });
+        } catch (ParseException pe) {
+            respondError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, pe.getMessage());
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof CommandException || cause instanceof PersonNotFoundException) {
+                respondError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, cause.getMessage());
+            } else {
+                logger.warning("Transaction " + arguments + " failed: " + cause);
+                respondError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, String.valueOf(cause));
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            respondError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR,
+                    "Interrupted while waiting for the transaction");
+        }
+    }
+
+    /**
+     * Returns the decoded value of the query parameter {@code name} of the request, if it is there.
+     */
+    private static Optional<String> getQueryParameter(HttpExchange exchange, String name)
+            throws UnsupportedEncodingException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return Optional.empty();
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                return Optional.of(URLDecoder.decode(parameter.substring(separator + 1),
+                        StandardCharsets.UTF_8.name()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the body of the request as text.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+            }
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Responds with {@code status} and a JSON object whose fields are written by {@code fields}.
+     */
+    private static void respond(HttpExchange exchange, int status, JsonFields fields) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(body, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            fields.write(generator);
+            generator.writeEndObject();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+    private static void respondError(HttpExchange exchange, int status, String message) throws IOException {
+        respond(exchange, status, generator -> generator.writeStringField(ERROR, message));
+    }
+
+    /**
+     * Writes the fields of a JSON object.
+     */
+    @FunctionalInterface
+    private interface JsonFields {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Writes the records of a snapshot that concern a person, or all of them if there is no person.
+     */
+    @FunctionalInterface
+    private interface RecordsWriter {
+        void write(JsonGenerator generator, AddressBookSnapshot snapshot, Optional<Person> person)
+                throws IOException;
+    }
+
+    /**
+     * Passes the requests with each accepted method on to its handler, and answers any other request with an error.
+     * Every exchange is closed once it is answered, even if answering it fails.
+     */
+    private static class ExchangeHandler implements HttpHandler {
+
+        private final Map<String, HttpHandler> handlers = new LinkedHashMap<>();
+
+        ExchangeHandler(String method, HttpHandler handler) {
+            handlers.put(method, handler);
+        }
+
+        /**
+         * Also passes the requests with {@code method} on to {@code handler}, and returns this.
+         */
+        ExchangeHandler with(String method, HttpHandler handler) {
+            handlers.put(method, handler);
+            return this;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try {
+                HttpHandler handler = handlers.get(exchange.getRequestMethod());
+                if (handler != null) {
+                    handler.handle(exchange);
+                } else {
+                    respondError(exchange, HttpURLConnection.HTTP_BAD_METHOD, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                            exchange.getHttpContext().getPath(), String.join(" or ", handlers.keySet())));
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to answer " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+                throw e;
+            } finally {
+                exchange.close();
+            }
+        }
+    }
+}
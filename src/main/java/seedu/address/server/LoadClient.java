@@ -0,0 +1,249 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Puts load on a running {@link ApiServer} from several clients at once, and reports the throughput and the
+ * latencies of the reads and of the commands it sent.
+ */
+public class LoadClient {
+
+    public static final String COMMAND_WORD = "load";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 2;
+
+    public static final int DEFAULT_CLIENTS = 8;
+    public static final int DEFAULT_REQUESTS = 1000;
+    public static final int DEFAULT_WRITE_PERCENT = 10;
+    /** The command sent by default, which goes through the queue of commands without changing any data. */
+    public static final String DEFAULT_COMMAND = "listPersons";
+
+    public static final String MESSAGE_USAGE = "Usage: " + COMMAND_WORD + " [--port PORT] [--clients N] "
+            + "[--requests N] [--writes PERCENT] [--command TEXT]\n"
+            + "Sends N requests from each of the clients to the server on PORT of this machine. PERCENT of them run "
+            + "the command TEXT, which is '" + DEFAULT_COMMAND + "' by default, and the others read the persons, "
+            + "debts or transactions.";
+    public static final String MESSAGE_REPORT = "%1$d requests (%2$d failed) in %3$.2f s: %4$.1f requests/s";
+    public static final String MESSAGE_LATENCIES = "%1$-8s %2$6d requests, latency ms p50 %3$.2f p90 %4$.2f "
+            + "p99 %5$.2f max %6$.2f";
+
+    private static final String[] READ_PATHS = {
+        ApiServer.PERSONS_PATH, ApiServer.DEBTS_PATH, ApiServer.TRANSACTIONS_PATH
+    };
+
+    private LoadClient() {} // prevents instantiation
+
+    public static void main(String[] args) {
+        System.exit(run(Arrays.asList(args), System.out, System.err));
+    }
+
+    /**
+     * Puts the load that {@code args} ask for on the server, printing the report to {@code out} and any error to
+     * {@code err}, and returns the exit status.
+     */
+    public static int run(List<String> args, PrintStream out, PrintStream err) {
+        int port = ApiServer.DEFAULT_PORT;
+        int clients = DEFAULT_CLIENTS;
+        int requests = DEFAULT_REQUESTS;
+        int writePercent = DEFAULT_WRITE_PERCENT;
+        String command = DEFAULT_COMMAND;
+        try {
+            for (int i = 0; i < args.size(); i += 2) {
+                String value = args.get(i + 1);
+                switch (args.get(i)) {
+                case "--port":
+                    port = Integer.parseInt(value);
+                    break;
+                case "--clients":
+                    clients = Integer.parseInt(value);
+                    break;
+                case "--requests":
+                    requests = Integer.parseInt(value);
+                    break;
+                case "--writes":
+                    writePercent = Integer.parseInt(value);
+                    break;
+                case "--command":
+                    command = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException(args.get(i));
+                }
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+        if (clients <= 0 || requests <= 0 || writePercent < 0 || writePercent > 100) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_FAILURE;
+        }
+
+        try {
+            report(putLoad(port, clients, requests, writePercent, command), out);
+            return EXIT_SUCCESS;
+        } catch (InterruptedException | ExecutionException e) {
+            err.println("The load could not be put on the server: " + StringUtil.getDetails(e));
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Sends {@code requests} requests from each of {@code clients} clients at once, and returns what was measured.
+     */
+    private static LoadResult putLoad(int port, int clients, int requests, int writePercent, String command)
+            throws InterruptedException, ExecutionException {
+        ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+        try {
+            long start = System.nanoTime();
+            List<Future<LoadResult>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(clientThreads.submit(() -> sendRequests(port, requests, writePercent, command)));
+            }
+            LoadResult total = new LoadResult(0);
+            for (Future<LoadResult> result : results) {
+                total.add(result.get());
+            }
+            total.elapsedNanos = System.nanoTime() - start;
+            return total;
+        } finally {
+            clientThreads.shutdownNow();
+            clientThreads.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Sends {@code requests} requests one after another, and returns what was measured.
+     */
+    private static LoadResult sendRequests(int port, int requests, int writePercent, String command) {
+        LoadResult result = new LoadResult(requests);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < requests; i++) {
+            boolean isWrite = random.nextInt(100) < writePercent;
+            long start = System.nanoTime();
+            boolean isSuccessful = isWrite
+                    ? send(port, "POST", ApiServer.COMMANDS_PATH, command)
+                    : send(port, "GET", READ_PATHS[random.nextInt(READ_PATHS.length)], null);
+            result.record(isWrite, System.nanoTime() - start, isSuccessful);
+        }
+        return result;
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code path}, with {@code body} if it is not null, reads the whole
+     * response and returns true if it was successful.
+     */
+    private static boolean send(int port, String method, String path, String body) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http",
+                    InetAddress.getLoopbackAddress().getHostAddress(), port, path).openConnection();
+            connection.setRequestMethod(method);
+            if (body != null) {
+                connection.setDoOutput(true);
+                try (OutputStream requestBody = connection.getOutputStream()) {
+                    requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            int status = connection.getResponseCode();
+            try (InputStream responseBody = status < HttpURLConnection.HTTP_BAD_REQUEST
+                    ? connection.getInputStream() : connection.getErrorStream()) {
+                byte[] buffer = new byte[8192];
+                while (responseBody != null && responseBody.read(buffer) != -1) {
+                    // the response is read to the end, so that the connection is kept alive for the next request
+                }
+            }
+            return status == HttpURLConnection.HTTP_OK;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Prints the throughput of {@code result}, and the latencies of its reads and commands.
+     */
+    private static void report(LoadResult result, PrintStream out) {
+        double seconds = result.elapsedNanos / 1e9;
+        int requestCount = result.readLatencies.size() + result.writeLatencies.size();
+        out.println(String.format(MESSAGE_REPORT, requestCount, result.failureCount, seconds,
+                requestCount / seconds));
+        reportLatencies("reads", result.readLatencies, out);
+        reportLatencies("commands", result.writeLatencies, out);
+    }
+
+    /**
+     * Prints the percentiles of {@code latencies}, if there are any, as those of {@code kind} of requests.
+     */
+    private static void reportLatencies(String kind, List<Long> latencies, PrintStream out) {
+        if (latencies.isEmpty()) {
+            return;
+        }
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        out.println(String.format(MESSAGE_LATENCIES, kind, sorted.length, toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 90)), toMillis(percentile(sorted, 99)),
+                toMillis(sorted[sorted.length - 1])));
+    }
+
+    /**
+     * Returns the {@code percent}th percentile of the non-empty {@code sorted} values, by the nearest rank.
+     */
+    static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    /**
+     * The latencies and failures measured by one or more clients.
+     */
+    private static class LoadResult {
+
+        private final List<Long> readLatencies;
+        private final List<Long> writeLatencies;
+        private int failureCount;
+        private long elapsedNanos;
+
+        LoadResult(int expectedRequests) {
+            readLatencies = new ArrayList<>(expectedRequests);
+            writeLatencies = new ArrayList<>();
+        }
+
+        /**
+         * Records a request that took {@code latencyNanos}.
+         */
+        void record(boolean isWrite, long latencyNanos, boolean isSuccessful) {
+            List<Long> latencies = isWrite ? writeLatencies : readLatencies;
+            latencies.add(latencyNanos);
+            if (!isSuccessful) {
+                failureCount++;
+            }
+        }
+
+        void add(LoadResult other) {
+            readLatencies.addAll(other.readLatencies);
+            writeLatencies.addAll(other.writeLatencies);
+            failureCount += other.failureCount;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.DebtsList;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Writes the records of a snapshot of the address book as JSON, the way the HTTP API returns them.
+ * Persons are referred to by name, and dates and times are written as text.
+ */
+class SnapshotJson {
+
+    static final String VERSION = "version";
+    static final String PERSON = "person";
+    static final String PERSONS = "persons";
+    static final String DEBTS = "debts";
+    static final String TRANSACTIONS = "transactions";
+
+    static final String NAME = "name";
+    static final String PHONE = "phone";
+    static final String EMAIL = "email";
+    static final String BALANCE = "balance";
+    static final String TAGS = "tags";
+
+    static final String DEBTOR = "debtor";
+    static final String CREDITOR = "creditor";
+    static final String AMOUNT = "amount";
+
+    static final String DATE_TIME = "dateTime";
+    static final String TRANSACTION_TYPE = "transactionType";
+    static final String PAYER = "payer";
+    static final String DESCRIPTION = "description";
+    static final String PAYEES = "payees";
+    static final String SPLIT_METHOD = "splitMethod";
+
+    private SnapshotJson() {} // prevents instantiation
+
+    /**
+     * Returns the person in {@code snapshot} named {@code name}, ignoring case, if there is one.
+     */
+    static Optional<Person> findPerson(AddressBookSnapshot snapshot, String name) {
+        return snapshot.getPersonList().stream()
+                .filter(person -> person.getName().fullName.equalsIgnoreCase(name))
+                .findFirst();
+    }
+
+    /**
+     * Writes the persons of {@code snapshot} as an array field.
+     */
+    static void writePersons(JsonGenerator generator, AddressBookSnapshot snapshot) throws IOException {
+        generator.writeArrayFieldStart(PERSONS);
+        for (Person person : snapshot.getPersonList()) {
+            writePerson(generator, person);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code person} as an object.
+     */
+    static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(NAME, person.getName().fullName);
+        generator.writeStringField(PHONE, person.getPhone().value);
+        generator.writeStringField(EMAIL, person.getEmail().value);
+        generator.writeStringField(BALANCE, person.getBalance().value);
+        generator.writeArrayFieldStart(TAGS);
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes the debts in {@code snapshot} that {@code person} owes or is owed, or all of them if there is no
+     * person, as an array field. Each debt is written once, the way round in which it is owed.
+     */
+    static void writeDebts(JsonGenerator generator, AddressBookSnapshot snapshot, Optional<Person> person)
+            throws IOException {
+        generator.writeArrayFieldStart(DEBTS);
+        for (Map.Entry<Person, DebtsList> debtsListEntry : snapshot.getDebtsTable().entrySet()) {
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                if (debt.getValue().getDoubleValue() <= 0 || (person.isPresent()
+                        && !person.get().equals(debtsListEntry.getKey()) && !person.get().equals(debt.getKey()))) {
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField(DEBTOR, debtsListEntry.getKey().getName().fullName);
+                generator.writeStringField(CREDITOR, debt.getKey().getName().fullName);
+                generator.writeStringField(AMOUNT, debt.getValue().value);
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the loaded transactions in {@code snapshot} that {@code person} paid or took part in, or all of them
+     * if there is no person, as an array field.
+     */
+    static void writeTransactions(JsonGenerator generator, AddressBookSnapshot snapshot, Optional<Person> person)
+            throws IOException {
+        generator.writeArrayFieldStart(TRANSACTIONS);
+        for (Transaction transaction : snapshot.getTransactionList()) {
+            if (person.isPresent() && !transaction.isImplied(person.get())) {
+                continue;
+            }
+            generator.writeStartObject();
+            generator.writeStringField(DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                    transaction.getDateTime().toInstant().atZone(ZoneId.systemDefault())));
+            generator.writeStringField(TRANSACTION_TYPE, transaction.getTransactionType().value);
+            generator.writeStringField(PAYER, transaction.getPayer().getName().fullName);
+            generator.writeStringField(AMOUNT, transaction.getAmount().toString());
+            generator.writeStringField(DESCRIPTION, transaction.getDescription().value);
+            generator.writeArrayFieldStart(PAYEES);
+            for (Person payee : transaction.getPayees()) {
+                generator.writeString(payee.getName().fullName);
+            }
+            generator.writeEndArray();
+            generator.writeStringField(SPLIT_METHOD, transaction.getSplitMethod().toString());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Watches the folder of a data file on a background thread, and runs a task once the files with the given names
+ * have been created or modified there and the folder has been quiet for a moment, so that a file that is being
+ * written is not read halfway.
+ */
+class AddressBookFileWatcher {
+
+    /** How long the folder must be quiet after a change before the task is run. */
+    static final long QUIET_PERIOD_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileWatcher.class);
+
+    private final WatchService watchService;
+    private final Set<String> fileNames;
+    private final Runnable onChange;
+    private final Thread thread;
+
+    /**
+     * @param folder the folder to watch.
+     * @param fileNames the names of the files in {@code folder} whose changes {@code onChange} is run for.
+     * @param onChange the task that is run on the watching thread after the files change.
+     * @throws IOException if the folder cannot be watched.
+     */
+    AddressBookFileWatcher(File folder, Set<String> fileNames, Runnable onChange) throws IOException {
+        requireAllNonNull(folder, fileNames, onChange);
+        Path folderPath = folder.toPath();
+        watchService = folderPath.getFileSystem().newWatchService();
+        folderPath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+        this.fileNames = fileNames;
+        this.onChange = onChange;
+        thread = new Thread(this::watch, "AddressBookFileWatcher");
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops watching the folder. A task that is running is left to finish.
+     */
+    void stop() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching for changes to the data file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for changes to the watched files until the watcher is stopped.
+     */
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean isChanged = takeEvents(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= takeEvents(key);
+                }
+                if (isChanged) {
+                    onChange.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching for changes to the data file");
+        }
+    }
+
+    /**
+     * Takes the events of {@code key} and returns true if any of them may be about a watched file.
+     */
+    private boolean takeEvents(WatchKey key) {
+        boolean isChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // events that were lost may have been about a watched file
+            isChanged |= event.kind() == OVERFLOW || fileNames.contains(event.context().toString());
+        }
+        key.reset();
+        return isChanged;
+    }
+}
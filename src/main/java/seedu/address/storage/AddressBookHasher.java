@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.MerkleTree;
+import seedu.address.model.DebtsList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * Computes the {@link AddressBookHashes} of an address book, hashing again only the parts whose change stamps
+ * changed since they were last hashed.
+ */
+class AddressBookHasher {
+
+    /** Separates the records of a block. It cannot be entered in any field. */
+    private static final String RECORD_SEPARATOR = "\u001e";
+
+    /** Orders transactions by when they happened, and transactions that happened at the same time by contents. */
+    private static final Comparator<String[]> TRANSACTION_ORDER = Comparator.<String[], String>comparing(
+        record -> record[0]).thenComparing(record -> record[1]);
+
+    /**
+     * The hashes of the blocks of a part, and the change stamp of the part they were computed for.
+     */
+    private static class PartHashes {
+        private final long changeStamp;
+        private final List<byte[]> blocks;
+
+        private PartHashes(long changeStamp, List<byte[]> blocks) {
+            this.changeStamp = changeStamp;
+            this.blocks = blocks;
+        }
+
+        private boolean isUpToDate(long currentChangeStamp) {
+            return currentChangeStamp != ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP
+                    && currentChangeStamp == changeStamp;
+        }
+    }
+
+    private PartHashes personHashes;
+    private PartHashes debtHashes;
+    private final Map<YearMonth, PartHashes> monthHashes = new HashMap<>();
+    private int blocksHashed;
+
+    /**
+     * Returns the hashes of {@code addressBook}.
+     * The transactions of months that are still in storage and were neither hashed nor {@link #seed seeded} before
+     * are loaded with {@code loader}, without being added to {@code addressBook}.
+     * @throws DataConversionException if the transactions of such a month could not be loaded.
+     */
+    AddressBookHashes hash(ReadOnlyAddressBook addressBook, TransactionSegmentLoader loader)
+            throws DataConversionException {
+        requireNonNull(addressBook);
+        blocksHashed = 0;
+        long personsChangeStamp = addressBook.getPersonsChangeStamp();
+        if (personHashes == null || !personHashes.isUpToDate(personsChangeStamp)) {
+            personHashes = new PartHashes(personsChangeStamp, hashPersons(addressBook.getPersonList()));
+            debtHashes = new PartHashes(personsChangeStamp, hashDebts(addressBook));
+        }
+
+        Map<YearMonth, List<Transaction>> transactionsByMonth = addressBook.getTransactionList().stream()
+                .collect(Collectors.groupingBy(TransactionSegment::periodOf, TreeMap::new, Collectors.toList()));
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            transactionsByMonth.putIfAbsent(segment.getPeriod(), new ArrayList<>());
+        }
+
+        Map<YearMonth, PartHashes> currentMonthHashes = new HashMap<>();
+        Map<YearMonth, List<byte[]>> transactionBlocks = new TreeMap<>();
+        for (Map.Entry<YearMonth, List<Transaction>> month : transactionsByMonth.entrySet()) {
+            long changeStamp = addressBook.getTransactionsChangeStamp(month.getKey());
+            PartHashes hashes = monthHashes.get(month.getKey());
+            if (hashes == null || !hashes.isUpToDate(changeStamp)) {
+                List<Transaction> transactions = new ArrayList<>(month.getValue());
+                for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+                    if (segment.getPeriod().equals(month.getKey())) {
+                        requireNonNull(loader);
+                        transactions.addAll(loader.loadTransactionSegment(segment, addressBook.getPersonList()));
+                    }
+                }
+                hashes = new PartHashes(changeStamp, hashTransactions(transactions));
+            }
+            currentMonthHashes.put(month.getKey(), hashes);
+            if (!hashes.blocks.isEmpty()) {
+                transactionBlocks.put(month.getKey(), hashes.blocks);
+            }
+        }
+        monthHashes.clear();
+        monthHashes.putAll(currentMonthHashes);
+        return new AddressBookHashes(personHashes.blocks, debtHashes.blocks, transactionBlocks);
+    }
+
+    /**
+     * Takes the hashes of the months of {@code addressBook} that are still in storage from {@code storedHashes},
+     * so that they are not loaded to be hashed.
+     */
+    void seed(ReadOnlyAddressBook addressBook, AddressBookHashes storedHashes) {
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            YearMonth month = segment.getPeriod();
+            monthHashes.put(month, new PartHashes(addressBook.getTransactionsChangeStamp(month),
+                    storedHashes.getTransactionBlocks(month)));
+        }
+    }
+
+    /**
+     * Returns the number of blocks hashed by the last call to {@link #hash}, for testing.
+     */
+    int getBlocksHashed() {
+        return blocksHashed;
+    }
+
+    /**
+     * Returns the hashes of the blocks of {@code persons}, ordered by name.
+     */
+    private List<byte[]> hashPersons(List<Person> persons) {
+        return hashBlocks(persons.stream().map(RecordContents::of).sorted().collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the hashes of the blocks of the debts of {@code addressBook}, ordered by debtor and creditor.
+     */
+    private List<byte[]> hashDebts(ReadOnlyAddressBook addressBook) {
+        List<String> debts = new ArrayList<>();
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                debts.add(String.join("\n", RecordContents.keyOf(debtsListEntry.getKey()),
+                        RecordContents.keyOf(debt.getKey()), debt.getValue().value));
+            }
+        }
+        debts.sort(null);
+        return hashBlocks(debts);
+    }
+
+    /**
+     * Returns the hashes of the blocks of {@code transactions} of a month, which are ordered by when they happened
+     * so that the order they are stored in does not matter.
+     */
+    private List<byte[]> hashTransactions(List<Transaction> transactions) {
+        return hashBlocks(transactions.stream()
+                .map(transaction -> new String[] {
+                    String.format("%020d", transaction.getDateTime().getTime()), RecordContents.of(transaction)})
+                .sorted(TRANSACTION_ORDER)
+                .map(record -> record[1])
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the hashes of the consecutive blocks of {@link AddressBookHashes#BLOCK_SIZE} of {@code records}.
+     */
+    private List<byte[]> hashBlocks(List<String> records) {
+        List<byte[]> blocks = new ArrayList<>();
+        for (int start = 0; start < records.size(); start += AddressBookHashes.BLOCK_SIZE) {
+            blocks.add(MerkleTree.hashLeaf(String.join(RECORD_SEPARATOR,
+                    records.subList(start, Math.min(records.size(), start + AddressBookHashes.BLOCK_SIZE)))));
+            blocksHashed++;
+        }
+        return blocks;
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.DatatypeConverter;
+
+import seedu.address.commons.util.MerkleTree;
+
+/**
+ * The hashes of the blocks of an address book, which are saved next to its data file so that the data can be
+ * checked for corruption, and compared with other copies, without comparing all of it.
+ * The persons, the debts and the transactions of each month are parts that are hashed in blocks of
+ * {@link #BLOCK_SIZE} records, in an order that does not depend on how they are stored. The blocks of each part are
+ * the leaves of a {@link MerkleTree}, and the roots of the parts are the leaves of the tree of the whole address book.
+ */
+public class AddressBookHashes {
+
+    public static final int BLOCK_SIZE = 64;
+    public static final String FILE_SUFFIX = ".hashes";
+
+    private static final String PERSONS_BLOCK_NAME_FORMAT = "persons block %1$d";
+    private static final String DEBTS_BLOCK_NAME_FORMAT = "debts block %1$d";
+    private static final String TRANSACTIONS_BLOCK_NAME_FORMAT = "transactions of %1$s block %2$d";
+
+    private int blockSize = BLOCK_SIZE;
+    private List<String> persons = new ArrayList<>();
+    private List<String> debts = new ArrayList<>();
+    private TreeMap<String, List<String>> transactions = new TreeMap<>();
+
+    /**
+     * Creates the hashes of an empty address book. Also required by Jackson.
+     */
+    public AddressBookHashes() {}
+
+    /**
+     * @param personBlocks the hashes of the blocks of persons.
+     * @param debtBlocks the hashes of the blocks of debts.
+     * @param transactionBlocks the hashes of the blocks of transactions of each month.
+     */
+    AddressBookHashes(List<byte[]> personBlocks, List<byte[]> debtBlocks,
+                      Map<YearMonth, List<byte[]>> transactionBlocks) {
+        persons = toHex(personBlocks);
+        debts = toHex(debtBlocks);
+        for (Map.Entry<YearMonth, List<byte[]>> month : transactionBlocks.entrySet()) {
+            transactions.put(month.getKey().toString(), toHex(month.getValue()));
+        }
+    }
+
+    /**
+     * Returns the file that the hashes of the address book in {@code addressBookFilePath} are saved in.
+     */
+    public static String getHashesFilePath(String addressBookFilePath) {
+        return addressBookFilePath + FILE_SUFFIX;
+    }
+
+    private static List<String> toHex(List<byte[]> hashes) {
+        return hashes.stream().map(DatatypeConverter::printHexBinary).collect(Collectors.toList());
+    }
+
+    private static List<byte[]> fromHex(List<String> hashes) {
+        return hashes.stream().map(DatatypeConverter::parseHexBinary).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of records in each block when these hashes were computed.
+     * Hashes computed with a different block size cannot be compared with these.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the hashes of the blocks of persons.
+     */
+    List<byte[]> getPersonBlocks() {
+        return fromHex(persons);
+    }
+
+    /**
+     * Returns the hashes of the blocks of debts.
+     */
+    List<byte[]> getDebtBlocks() {
+        return fromHex(debts);
+    }
+
+    /**
+     * Returns the months that have transactions, from the oldest to the newest.
+     */
+    List<YearMonth> getMonths() {
+        return transactions.keySet().stream().map(YearMonth::parse).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the hashes of the blocks of transactions of {@code month}, none if it has no transactions.
+     */
+    List<byte[]> getTransactionBlocks(YearMonth month) {
+        return fromHex(transactions.getOrDefault(month.toString(), Collections.emptyList()));
+    }
+
+    public int getBlockCount() {
+        return persons.size() + debts.size() + transactions.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Returns the tree of the whole address book, whose root is the same for two address books exactly when
+     * their blocks are the same.
+     */
+    public MerkleTree toTree() {
+        List<byte[]> parts = new ArrayList<>();
+        parts.add(new MerkleTree(getPersonBlocks()).getRoot());
+        parts.add(new MerkleTree(getDebtBlocks()).getRoot());
+        for (YearMonth month : getMonths()) {
+            parts.add(MerkleTree.hashLeaf(month + DatatypeConverter.printHexBinary(
+                    new MerkleTree(getTransactionBlocks(month)).getRoot())));
+        }
+        return new MerkleTree(parts);
+    }
+
+    /**
+     * Returns the names of the blocks that differ between these hashes and {@code other}: persons, then debts,
+     * then transactions from the oldest month to the newest.
+     * Within each part, only the subtrees whose hashes differ are compared, so this takes O(d log n) time for
+     * d differences among n blocks.
+     */
+    public List<String> diff(AddressBookHashes other) {
+        requireNonNull(other);
+        List<String> differences = new ArrayList<>();
+        for (int index : new MerkleTree(getPersonBlocks()).diff(new MerkleTree(other.getPersonBlocks()))) {
+            differences.add(String.format(PERSONS_BLOCK_NAME_FORMAT, index + 1));
+        }
+        for (int index : new MerkleTree(getDebtBlocks()).diff(new MerkleTree(other.getDebtBlocks()))) {
+            differences.add(String.format(DEBTS_BLOCK_NAME_FORMAT, index + 1));
+        }
+        Set<YearMonth> months = new TreeSet<>(getMonths());
+        months.addAll(other.getMonths());
+        for (YearMonth month : months) {
+            MerkleTree monthTree = new MerkleTree(getTransactionBlocks(month));
+            for (int index : monthTree.diff(new MerkleTree(other.getTransactionBlocks(month)))) {
+                differences.add(String.format(TRANSACTIONS_BLOCK_NAME_FORMAT, month, index + 1));
+            }
+        }
+        return differences;
+    }
+
+    /**
+     * Returns true if the persons or the debts differ between these hashes and {@code other}.
+     */
+    boolean isPersonsDifferent(AddressBookHashes other) {
+        return !persons.equals(other.persons) || !debts.equals(other.debts);
+    }
+
+    /**
+     * Returns the months whose transactions differ between these hashes and {@code other}, oldest first.
+     */
+    List<YearMonth> getDifferentMonths(AddressBookHashes other) {
+        Set<YearMonth> months = new TreeSet<>(getMonths());
+        months.addAll(other.getMonths());
+        return months.stream()
+                .filter(month -> !transactions.getOrDefault(month.toString(), Collections.emptyList())
+                        .equals(other.transactions.getOrDefault(month.toString(), Collections.emptyList())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookHashes // instanceof handles nulls
+                && blockSize == ((AddressBookHashes) other).blockSize
+                && persons.equals(((AddressBookHashes) other).persons)
+                && debts.equals(((AddressBookHashes) other).debts)
+                && transactions.equals(((AddressBookHashes) other).transactions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(blockSize, persons, debts, transactions);
+    }
+
+    @Override
+    public String toString() {
+        return getBlockCount() + " blocks, root " + DatatypeConverter.printHexBinary(toTree().getRoot());
+    }
+}
@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.Balance;
+
+/**
+ * The indexes of an address book that are saved next to its data file, so that the balance of a person, the debt
+ * between two persons and the months a person has transactions in can be looked up without reading the data file.
+ * The file is mapped into memory and its records are binary searched where they are, so that only the pages that
+ * are looked at are read.
+ *
+ * <p>The file starts with a header of {@link #HEADER_SIZE} bytes: its magic number, its version, and the number of
+ * persons, debts and month entries. Then come the person records, ordered by key, the debt records, ordered by the
+ * keys of the debtor and the creditor, the month entries of the persons, and the strings the records refer to.
+ * Amounts are stored in cents, and strings in UTF-8 as an offset into the strings and a length in bytes.
+ */
+public class AddressBookIndex {
+
+    public static final String FILE_SUFFIX = ".index";
+
+    static final int MAGIC = 0x53534958;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    /** Key offset and length, name offset and length, balance, months offset and count. */
+    static final int PERSON_RECORD_SIZE = 32;
+    /** Debtor key offset and length, creditor key offset and length, debt. */
+    static final int DEBT_RECORD_SIZE = 24;
+    /** Month, as the number of months since year 0, and the number of transactions in it. */
+    static final int MONTH_ENTRY_SIZE = 8;
+
+    private static final int MONTHS_PER_YEAR = 12;
+
+    private final ByteBuffer buffer;
+    private final int personCount;
+    private final int debtCount;
+    private final int debtsStart;
+    private final int monthsStart;
+    private final int stringsStart;
+
+    /**
+     * A person as they are in the index.
+     */
+    public static class IndexedPerson {
+        private final String name;
+        private final Balance balance;
+        private final SortedMap<YearMonth, Integer> transactionCounts;
+
+        IndexedPerson(String name, Balance balance, SortedMap<YearMonth, Integer> transactionCounts) {
+            this.name = name;
+            this.balance = balance;
+            this.transactionCounts = transactionCounts;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Balance getBalance() {
+            return balance;
+        }
+
+        /**
+         * Returns the number of transactions the person paid or owes in each month, oldest first.
+         */
+        public SortedMap<YearMonth, Integer> getTransactionCounts() {
+            return transactionCounts;
+        }
+    }
+
+    private AddressBookIndex(ByteBuffer buffer) throws DataConversionException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new DataConversionException(new IOException("Not an address book index"));
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new DataConversionException(new IOException("Unknown index version " + buffer.getInt(4)));
+        }
+        personCount = buffer.getInt(8);
+        debtCount = buffer.getInt(12);
+        int monthCount = buffer.getInt(16);
+        long stringsStart = HEADER_SIZE + (long) personCount * PERSON_RECORD_SIZE
+                + (long) debtCount * DEBT_RECORD_SIZE + (long) monthCount * MONTH_ENTRY_SIZE;
+        if (personCount < 0 || debtCount < 0 || monthCount < 0 || stringsStart > buffer.capacity()) {
+            throw new DataConversionException(new IOException("The index is truncated"));
+        }
+        this.debtsStart = HEADER_SIZE + personCount * PERSON_RECORD_SIZE;
+        this.monthsStart = debtsStart + debtCount * DEBT_RECORD_SIZE;
+        this.stringsStart = (int) stringsStart;
+    }
+
+    /**
+     * Returns the file that the index of the address book in {@code addressBookFilePath} is saved in.
+     */
+    public static String getIndexFilePath(String addressBookFilePath) {
+        return addressBookFilePath + FILE_SUFFIX;
+    }
+
+    /**
+     * Returns the index saved with the address book at {@code addressBookFilePath}, if there is one that was saved
+     * after the address book, so that it is not behind changes made by others.
+     * @throws DataConversionException if the index is not in the expected format.
+     */
+    public static Optional<AddressBookIndex> readUpToDate(String addressBookFilePath)
+            throws DataConversionException, IOException {
+        File indexFile = new File(getIndexFilePath(addressBookFilePath));
+        if (!indexFile.exists()
+                || indexFile.lastModified() < AddressBookStorage.getLastModified(addressBookFilePath)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return Optional.of(new AddressBookIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())));
+        }
+    }
+
+    /**
+     * Returns the person named {@code name}, ignoring case, if they are in the index.
+     */
+    public Optional<IndexedPerson> findPerson(String name) {
+        requireNonNull(name);
+        String key = keyOf(name);
+        int low = 0;
+        int high = personCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int record = HEADER_SIZE + middle * PERSON_RECORD_SIZE;
+            int comparison = readString(record).compareTo(key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(readPerson(record));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns what {@code debtorName} owes {@code creditorName}, ignoring case, if there is a debt between them in
+     * the index. A negative debt is owed by the creditor to the debtor instead.
+     */
+    public Optional<Balance> findDebt(String debtorName, String creditorName) {
+        requireNonNull(debtorName);
+        requireNonNull(creditorName);
+        String debtorKey = keyOf(debtorName);
+        String creditorKey = keyOf(creditorName);
+        int low = 0;
+        int high = debtCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int record = debtsStart + middle * DEBT_RECORD_SIZE;
+            int comparison = readString(record).compareTo(debtorKey);
+            if (comparison == 0) {
+                comparison = readString(record + 8).compareTo(creditorKey);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.of(toBalance(buffer.getLong(record + 16)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the number of transactions of each person in each month, by the key of the person.
+     */
+    Map<YearMonth, Map<String, Integer>> getTransactionCountsByMonth() {
+        Map<YearMonth, Map<String, Integer>> countsByMonth = new HashMap<>();
+        for (int i = 0; i < personCount; i++) {
+            int record = HEADER_SIZE + i * PERSON_RECORD_SIZE;
+            String key = readString(record);
+            readTransactionCounts(record).forEach((month, count) ->
+                    countsByMonth.computeIfAbsent(month, unused -> new HashMap<>()).put(key, count));
+        }
+        return countsByMonth;
+    }
+
+    /**
+     * Returns the key that {@code name} is looked up by, which is the key of the person with that name.
+     */
+    static String keyOf(String name) {
+        return name.trim().toLowerCase();
+    }
+
+    /**
+     * Returns the number of months since year 0 of {@code month}, as it is stored in the index.
+     */
+    static int toEpochMonth(YearMonth month) {
+        return month.getYear() * MONTHS_PER_YEAR + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Returns {@code balance} in cents, as it is stored in the index.
+     */
+    static long toCents(Balance balance) {
+        return new BigDecimal(balance.value).movePointRight(2).longValueExact();
+    }
+
+    private static Balance toBalance(long cents) {
+        return new Balance(BigDecimal.valueOf(cents, 2).toPlainString());
+    }
+
+    private IndexedPerson readPerson(int record) {
+        return new IndexedPerson(readString(record + 8), toBalance(buffer.getLong(record + 16)),
+                readTransactionCounts(record));
+    }
+
+    /**
+     * Returns the transaction counts of the person record at {@code record}, by month.
+     */
+    private SortedMap<YearMonth, Integer> readTransactionCounts(int record) {
+        SortedMap<YearMonth, Integer> counts = new TreeMap<>();
+        int entry = monthsStart + buffer.getInt(record + 24) * MONTH_ENTRY_SIZE;
+        for (int i = buffer.getInt(record + 28); i > 0; i--, entry += MONTH_ENTRY_SIZE) {
+            int epochMonth = buffer.getInt(entry);
+            counts.put(YearMonth.of(epochMonth / MONTHS_PER_YEAR, epochMonth % MONTHS_PER_YEAR + 1),
+                    buffer.getInt(entry + 4));
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the string whose offset and length are at {@code position}.
+     */
+    private String readString(int position) {
+        byte[] bytes = new byte[buffer.getInt(position + 4)];
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringsStart + buffer.getInt(position));
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.DebtsList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * Writes the {@link AddressBookIndex} of an address book, counting the transactions of each person again only in
+ * the months whose change stamps changed since they were last counted.
+ */
+class AddressBookIndexer {
+
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    /**
+     * The number of transactions of each person in a month, and the change stamp of the month they were counted for.
+     */
+    private static class MonthCounts {
+        private final long changeStamp;
+        private final Map<String, Integer> counts;
+
+        private MonthCounts(long changeStamp, Map<String, Integer> counts) {
+            this.changeStamp = changeStamp;
+            this.counts = counts;
+        }
+
+        private boolean isUpToDate(long currentChangeStamp) {
+            return currentChangeStamp != ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP
+                    && currentChangeStamp == changeStamp;
+        }
+    }
+
+    /**
+     * The strings section of an index, in which every distinct string is stored once.
+     */
+    private static class StringTable {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        /**
+         * Adds {@code string} to the table if it is not in it yet, and writes its offset and length to
+         * {@code record}.
+         */
+        private void write(String string, DataOutputStream record) throws IOException {
+            byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+            Integer offset = offsets.get(string);
+            if (offset == null) {
+                offset = bytes.size();
+                offsets.put(string, offset);
+                bytes.write(encoded);
+            }
+            record.writeInt(offset);
+            record.writeInt(encoded.length);
+        }
+    }
+
+    private final Map<YearMonth, MonthCounts> monthCounts = new HashMap<>();
+    private int monthsCounted;
+
+    /**
+     * Writes the index of {@code addressBook} to {@code indexFilePath}, replacing the index that was there.
+     * The transactions of months that are still in storage and were neither counted nor {@link #seed seeded} before
+     * are loaded with {@code loader}, without being added to {@code addressBook}.
+     * @throws DataConversionException if the transactions of such a month could not be loaded.
+     */
+    void write(ReadOnlyAddressBook addressBook, TransactionSegmentLoader loader, String indexFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(addressBook);
+        requireNonNull(indexFilePath);
+        Map<String, SortedMap<YearMonth, Integer>> countsByPerson = countTransactions(addressBook, loader);
+
+        // the index is written next to it first, so that queries never see a partly written index
+        File indexFile = new File(indexFilePath);
+        File temporaryFile = new File(indexFilePath + TEMPORARY_FILE_EXTENSION);
+        FileUtil.createIfMissing(temporaryFile);
+        Files.write(temporaryFile.toPath(), encode(addressBook, countsByPerson));
+        Files.move(temporaryFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Takes the transaction counts of the months of {@code addressBook} that are still in storage from
+     * {@code storedIndex}, so that they are not loaded to be counted.
+     */
+    void seed(ReadOnlyAddressBook addressBook, AddressBookIndex storedIndex) {
+        Map<YearMonth, Map<String, Integer>> storedCounts = storedIndex.getTransactionCountsByMonth();
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            YearMonth month = segment.getPeriod();
+            monthCounts.put(month, new MonthCounts(addressBook.getTransactionsChangeStamp(month),
+                    storedCounts.getOrDefault(month, new HashMap<>())));
+        }
+    }
+
+    /**
+     * Returns the number of months whose transactions were counted by the last call to {@link #write}, for testing.
+     */
+    int getMonthsCounted() {
+        return monthsCounted;
+    }
+
+    /**
+     * Returns the number of transactions of each person of {@code addressBook} in each month, by the key of the
+     * person.
+     */
+    private Map<String, SortedMap<YearMonth, Integer>> countTransactions(ReadOnlyAddressBook addressBook,
+                                                                         TransactionSegmentLoader loader)
+            throws DataConversionException {
+        monthsCounted = 0;
+        Map<YearMonth, List<Transaction>> transactionsByMonth = addressBook.getTransactionList().stream()
+                .collect(Collectors.groupingBy(TransactionSegment::periodOf));
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            transactionsByMonth.putIfAbsent(segment.getPeriod(), new ArrayList<>());
+        }
+
+        Map<YearMonth, MonthCounts> currentMonthCounts = new HashMap<>();
+        Map<String, SortedMap<YearMonth, Integer>> countsByPerson = new HashMap<>();
+        for (Map.Entry<YearMonth, List<Transaction>> month : transactionsByMonth.entrySet()) {
+            long changeStamp = addressBook.getTransactionsChangeStamp(month.getKey());
+            MonthCounts counts = monthCounts.get(month.getKey());
+            if (counts == null || !counts.isUpToDate(changeStamp)) {
+                List<Transaction> transactions = new ArrayList<>(month.getValue());
+                for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+                    if (segment.getPeriod().equals(month.getKey())) {
+                        requireNonNull(loader);
+                        transactions.addAll(loader.loadTransactionSegment(segment, addressBook.getPersonList()));
+                    }
+                }
+                counts = new MonthCounts(changeStamp, countParticipants(transactions));
+                monthsCounted++;
+            }
+            currentMonthCounts.put(month.getKey(), counts);
+            counts.counts.forEach((key, count) ->
+                    countsByPerson.computeIfAbsent(key, unused -> new TreeMap<>()).put(month.getKey(), count));
+        }
+        monthCounts.clear();
+        monthCounts.putAll(currentMonthCounts);
+        return countsByPerson;
+    }
+
+    /**
+     * Returns the number of {@code transactions} that each person paid or owes, by the key of the person.
+     */
+    private static Map<String, Integer> countParticipants(List<Transaction> transactions) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            Set<String> keys = new HashSet<>();
+            keys.add(RecordContents.keyOf(transaction.getPayer()));
+            transaction.getPayees().asObservableList().forEach(payee -> keys.add(RecordContents.keyOf(payee)));
+            keys.forEach(key -> counts.merge(key, 1, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the contents of the index file of {@code addressBook}, in the layout described in
+     * {@link AddressBookIndex}.
+     */
+    private static byte[] encode(ReadOnlyAddressBook addressBook,
+                                 Map<String, SortedMap<YearMonth, Integer>> countsByPerson) throws IOException {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.sort(Comparator.comparing(RecordContents::keyOf));
+        Map<String, TreeMap<String, Long>> debts = new TreeMap<>();
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                debts.computeIfAbsent(RecordContents.keyOf(debtsListEntry.getKey()), unused -> new TreeMap<>())
+                        .put(RecordContents.keyOf(debt.getKey()), AddressBookIndex.toCents(debt.getValue()));
+            }
+        }
+
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream monthBytes = new ByteArrayOutputStream();
+        DataOutputStream months = new DataOutputStream(monthBytes);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(bytes);
+        int monthCount = 0;
+        for (Person person : persons) {
+            String key = RecordContents.keyOf(person);
+            strings.write(key, records);
+            strings.write(person.getName().fullName, records);
+            records.writeLong(AddressBookIndex.toCents(person.getBalance()));
+            SortedMap<YearMonth, Integer> counts = countsByPerson.getOrDefault(key, new TreeMap<>());
+            records.writeInt(monthCount);
+            records.writeInt(counts.size());
+            for (Map.Entry<YearMonth, Integer> count : counts.entrySet()) {
+                months.writeInt(AddressBookIndex.toEpochMonth(count.getKey()));
+                months.writeInt(count.getValue());
+            }
+            monthCount += counts.size();
+        }
+        int debtCount = 0;
+        for (Map.Entry<String, TreeMap<String, Long>> debtor : debts.entrySet()) {
+            for (Map.Entry<String, Long> debt : debtor.getValue().entrySet()) {
+                strings.write(debtor.getKey(), records);
+                strings.write(debt.getKey(), records);
+                records.writeLong(debt.getValue());
+                debtCount++;
+            }
+        }
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        DataOutputStream header = new DataOutputStream(file);
+        header.writeInt(AddressBookIndex.MAGIC);
+        header.writeInt(AddressBookIndex.VERSION);
+        header.writeInt(persons.size());
+        header.writeInt(debtCount);
+        header.writeInt(monthCount);
+        bytes.writeTo(file);
+        monthBytes.writeTo(file);
+        strings.bytes.writeTo(file);
+        return file.toByteArray();
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.DataFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -11,6 +14,50 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public interface AddressBookStorage {
 
+    /**
+     * Returns a storage for the address book file at {@code filePath} that writes it in {@code format},
+     * compressed with {@code compression} if the format is a stream of text.
+     */
+    static AddressBookStorage forFormat(DataFormat format, String filePath, Compression compression) {
+        switch (format) {
+        case JSON:
+            return new JsonAddressBookStorage(filePath, compression);
+        case H2:
+            return new SqlAddressBookStorage(filePath);
+        default:
+            return new XmlAddressBookStorage(filePath, compression);
+        }
+    }
+
+    /**
+     * Returns a storage that reads the address book at {@code filePath} in whichever format it was saved in,
+     * with all of its transactions loaded.
+     */
+    static AddressBookStorage forExistingFile(String filePath) {
+        return forExistingFile(filePath, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns a storage that reads the address book at {@code filePath} in whichever format it was saved in,
+     * leaving the transactions older than the {@code recentTransactionMonths} most recent months in storage if
+     * they are stored by month.
+     */
+    static AddressBookStorage forExistingFile(String filePath, int recentTransactionMonths) {
+        if (new File(SqlAddressBookStorage.getDatabaseFilePath(filePath)).exists()) {
+            return new SqlAddressBookStorage(filePath, recentTransactionMonths);
+        }
+        return new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, recentTransactionMonths);
+    }
+
+    /**
+     * Returns when the address book at {@code filePath} was last written, whichever file it is stored in, or 0 if
+     * it has not been written.
+     */
+    static long getLastModified(String filePath) {
+        return Math.max(new File(filePath).lastModified(),
+                new File(SqlAddressBookStorage.getDatabaseFilePath(filePath)).lastModified());
+    }
+
     /**
      * Returns the file path of the data file.
      */
@@ -41,4 +88,17 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Forgets what this storage remembers of the data it last read or saved, as the data has been changed by
+     * something else since. The next save writes the address book as a whole.
+     */
+    default void discardSavedState() {}
+
+    /**
+     * Returns the number of bytes written to disk by the last save, or -1 if it is not known.
+     */
+    default long getLastSaveBytesWritten() {
+        return -1;
+    }
+
 }
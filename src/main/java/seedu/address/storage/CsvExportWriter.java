@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Writes an exported address book as comma-separated values, with the persons, debts and transactions in a file
+ * each, named after the given file. Each file starts with a header row. Fields that contain commas, quotes or line
+ * breaks are quoted, and lists in a field are separated by semicolons.
+ */
+class CsvExportWriter implements ExportWriter {
+
+    static final String PERSONS_FILE_SUFFIX = "-persons";
+    static final String DEBTS_FILE_SUFFIX = "-debts";
+    static final String TRANSACTIONS_FILE_SUFFIX = "-transactions";
+
+    static final String PERSONS_HEADER = "name,phone,email,balance,tags";
+    static final String DEBTS_HEADER = "debtor,creditor,amount";
+    static final String TRANSACTIONS_HEADER =
+            "dateTime,transactionType,payer,amount,description,payees,splitMethod,units,percentages";
+
+    private static final String LIST_SEPARATOR = ";";
+
+    private final List<String> filePaths;
+    private final Writer persons;
+    private final Writer debts;
+    private final Writer transactions;
+
+    /**
+     * Creates a writer for the files named after {@code filePath}, replacing them if they exist.
+     */
+    CsvExportWriter(String filePath) throws IOException {
+        String extension = ExportFormat.CSV.getFileExtension();
+        String baseFilePath = filePath.toLowerCase().endsWith(extension)
+                ? filePath.substring(0, filePath.length() - extension.length()) : filePath;
+        filePaths = Arrays.asList(baseFilePath + PERSONS_FILE_SUFFIX + extension,
+                baseFilePath + DEBTS_FILE_SUFFIX + extension, baseFilePath + TRANSACTIONS_FILE_SUFFIX + extension);
+        persons = open(filePaths.get(0), PERSONS_HEADER);
+        Writer debtsWriter = null;
+        try {
+            debtsWriter = open(filePaths.get(1), DEBTS_HEADER);
+            transactions = open(filePaths.get(2), TRANSACTIONS_HEADER);
+        } catch (IOException ioe) {
+            persons.close();
+            if (debtsWriter != null) {
+                debtsWriter.close();
+            }
+            throw ioe;
+        }
+        debts = debtsWriter;
+    }
+
+    /**
+     * Returns a writer that replaces the file at {@code filePath} with one that starts with {@code header}.
+     */
+    private static Writer open(String filePath, String header) throws IOException {
+        Writer writer = new OutputStreamWriter(ExportWriter.openBuffered(filePath), StandardCharsets.UTF_8);
+        writer.write(header);
+        writer.write('\n');
+        return writer;
+    }
+
+    @Override
+    public void writePerson(Person person) throws IOException {
+        writeRow(persons, person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                person.getBalance().value,
+                person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(LIST_SEPARATOR)));
+    }
+
+    @Override
+    public void writeDebt(Person debtor, Person creditor, Balance debt) throws IOException {
+        writeRow(debts, debtor.getName().fullName, creditor.getName().fullName, debt.value);
+    }
+
+    @Override
+    public void writeTransaction(Transaction transaction) throws IOException {
+        writeRow(transactions, ExportWriter.formatDateTime(transaction.getDateTime()),
+                transaction.getTransactionType().value, transaction.getPayer().getName().fullName,
+                transaction.getAmount().toString(), transaction.getDescription().value,
+                transaction.getPayees().asObservableList().stream().map(payee -> payee.getName().fullName)
+                        .collect(Collectors.joining(LIST_SEPARATOR)),
+                transaction.getSplitMethod().toString(), joinIntegers(transaction.getUnits()),
+                joinIntegers(transaction.getPercentages()));
+    }
+
+    @Override
+    public List<String> getFilePaths() {
+        return filePaths;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // every file is closed, even if closing another one fails
+        try {
+            persons.close();
+        } finally {
+            try {
+                debts.close();
+            } finally {
+                transactions.close();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code fields} as a row of {@code writer}, quoting those that need it.
+     */
+    private static void writeRow(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, fields[i]);
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes {@code field}, in quotes if it contains a separator, a quote or a line break.
+     */
+    private static void writeField(Writer writer, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+                && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String joinIntegers(List<Integer> integers) {
+        return integers.stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Writes the records of an exported address book as they are given, to files that other programs can read.
+ * All persons are written first, then all debts, then all transactions.
+ */
+interface ExportWriter extends Closeable {
+
+    /** The size of the buffer in front of each file, so that the file is written in large blocks. */
+    int BUFFER_SIZE = 1 << 16;
+
+    /** How dates and times of transactions are written, with the offset of the time zone they were entered in. */
+    DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    void writePerson(Person person) throws IOException;
+
+    /**
+     * Writes that {@code debtor} owes {@code creditor} the positive {@code debt}.
+     */
+    void writeDebt(Person debtor, Person creditor, Balance debt) throws IOException;
+
+    void writeTransaction(Transaction transaction) throws IOException;
+
+    /**
+     * Returns the files that are written.
+     */
+    List<String> getFilePaths();
+
+    /**
+     * Returns a buffered stream that writes to the file at {@code filePath} through its channel, replacing what
+     * was in the file.
+     */
+    static OutputStream openBuffered(String filePath) throws IOException {
+        File file = new File(filePath);
+        FileUtil.createParentDirsOfFile(file);
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    /**
+     * Returns {@code dateTime} as it is written.
+     */
+    static String formatDateTime(Date dateTime) {
+        return DATE_TIME_FORMATTER.format(dateTime.toInstant().atZone(ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookFileChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * A change made to the stored address book by something other than the storage that last read or saved it.
+ * It holds the stored copy as it was read, with only the transactions of the months whose hashes changed loaded
+ * from storage.
+ */
+class ExternalAddressBookChange implements AddressBookFileChange {
+
+    private final ReadOnlyAddressBook storedCopy;
+    private final boolean isPersonsChanged;
+    private final Map<YearMonth, List<Transaction>> changedMonths;
+    private final boolean isEveryMonthChanged;
+    private final Set<YearMonth> loadedMonths;
+
+    /**
+     * @param storedCopy the stored copy of the address book.
+     * @param isPersonsChanged whether the persons or debts of the stored copy may differ.
+     * @param changedMonths the months whose transactions may differ, each with every transaction of the stored copy
+     *     in it, including those that the stored copy left in storage.
+     * @param isEveryMonthChanged whether it is unknown which months changed, in which case {@code changedMonths}
+     *     has every month of the stored copy, and every month of the address book it is applied to may differ.
+     */
+    ExternalAddressBookChange(ReadOnlyAddressBook storedCopy, boolean isPersonsChanged,
+                              Map<YearMonth, List<Transaction>> changedMonths, boolean isEveryMonthChanged) {
+        requireAllNonNull(storedCopy, changedMonths);
+        this.storedCopy = storedCopy;
+        this.isPersonsChanged = isPersonsChanged;
+        this.changedMonths = new HashMap<>(changedMonths);
+        this.isEveryMonthChanged = isEveryMonthChanged;
+        this.loadedMonths = storedCopy.getTransactionList().stream().map(TransactionSegment::periodOf)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns true if nothing in the stored copy may differ from the address book it was last read or saved from.
+     */
+    boolean isEmpty() {
+        return !isPersonsChanged && changedMonths.isEmpty() && !isEveryMonthChanged;
+    }
+
+    @Override
+    public List<YearMonth> getChangedMonths(ReadOnlyAddressBook addressBook) {
+        Set<YearMonth> months = new TreeSet<>(changedMonths.keySet());
+        if (isEveryMonthChanged) {
+            addressBook.getTransactionList().stream().map(TransactionSegment::periodOf).forEach(months::add);
+            addressBook.getUnloadedTransactionSegments().forEach(segment -> months.add(segment.getPeriod()));
+        }
+        return new ArrayList<>(months);
+    }
+
+    @Override
+    public boolean isLeftInStorage(YearMonth month) {
+        return !loadedMonths.contains(month);
+    }
+
+    @Override
+    public AddressBookDiff diffAgainst(ReadOnlyAddressBook addressBook) {
+        AddressBookDiff diff = new AddressBookDiff();
+        if (isPersonsChanged) {
+            diffPersons(addressBook, diff);
+        }
+
+        Map<YearMonth, List<Transaction>> months = new HashMap<>();
+        for (Transaction transaction : addressBook.getTransactionList()) {
+            months.computeIfAbsent(TransactionSegment.periodOf(transaction), unused -> new ArrayList<>())
+                    .add(transaction);
+        }
+        for (YearMonth month : getChangedMonths(addressBook)) {
+            if (isLeftInStorage(month) && hasUnloadedTransactionsFrom(addressBook, month)) {
+                diffSegments(month, addressBook, diff);
+            } else {
+                assert !findSegment(month, addressBook.getUnloadedTransactionSegments()).isPresent()
+                        : "The transactions of " + month + " must be loaded to be compared";
+                diffTransactions(months.getOrDefault(month, Collections.emptyList()),
+                        changedMonths.getOrDefault(month, Collections.emptyList()), diff);
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Adds the persons that differ between {@code addressBook} and the stored copy to {@code diff}, along with the
+     * debts table of the stored copy.
+     */
+    private void diffPersons(ReadOnlyAddressBook addressBook, AddressBookDiff diff) {
+        Map<String, Person> persons = new HashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(RecordContents.keyOf(person), person));
+        for (Person storedPerson : storedCopy.getPersonList()) {
+            Person person = persons.remove(RecordContents.keyOf(storedPerson));
+            if (person == null) {
+                diff.addPerson(storedPerson);
+            } else if (!RecordContents.of(person).equals(RecordContents.of(storedPerson))) {
+                diff.editPerson(storedPerson);
+            }
+        }
+        addressBook.getPersonList().stream()
+                .filter(person -> persons.containsKey(RecordContents.keyOf(person)))
+                .forEach(diff::removePerson);
+        diff.setDebtsTable(storedCopy.getDebtsTable());
+    }
+
+    /**
+     * Adds the segment of {@code month} that {@code addressBook} leaves in storage to {@code diff} if the stored
+     * copy does not leave the same segment in storage, along with the segment that the stored copy leaves instead.
+     */
+    private void diffSegments(YearMonth month, ReadOnlyAddressBook addressBook, AddressBookDiff diff) {
+        Optional<TransactionSegment> segment = findSegment(month, addressBook.getUnloadedTransactionSegments());
+        Optional<TransactionSegment> storedSegment = findSegment(month, storedCopy.getUnloadedTransactionSegments());
+        if (segment.equals(storedSegment)) {
+            return;
+        }
+        segment.ifPresent(diff::removeSegment);
+        storedSegment.ifPresent(diff::addSegment);
+    }
+
+    /**
+     * Adds the transactions that differ between {@code transactions} and {@code storedTransactions}, both of the
+     * same month, to {@code diff}. Transactions with the same contents are matched one to one.
+     */
+    private static void diffTransactions(List<Transaction> transactions, List<Transaction> storedTransactions,
+                                         AddressBookDiff diff) {
+        Map<String, List<Transaction>> unmatchedTransactions = new HashMap<>();
+        for (Transaction transaction : transactions) {
+            unmatchedTransactions.computeIfAbsent(RecordContents.of(transaction), unused -> new ArrayList<>())
+                    .add(transaction);
+        }
+        for (Transaction storedTransaction : storedTransactions) {
+            List<Transaction> matches = unmatchedTransactions.get(RecordContents.of(storedTransaction));
+            if (matches == null || matches.isEmpty()) {
+                diff.addTransaction(storedTransaction);
+            } else {
+                matches.remove(matches.size() - 1);
+            }
+        }
+        transactions.stream()
+                .filter(transaction -> unmatchedTransactions.get(RecordContents.of(transaction)).contains(transaction))
+                .forEach(diff::removeTransaction);
+    }
+
+    /**
+     * Returns true if {@code addressBook} leaves transactions from {@code month} or later in storage, so that the
+     * transactions of {@code month} must be left in storage as well.
+     */
+    private static boolean hasUnloadedTransactionsFrom(ReadOnlyAddressBook addressBook, YearMonth month) {
+        return addressBook.getUnloadedTransactionSegments().stream()
+                .anyMatch(segment -> !segment.getPeriod().isBefore(month));
+    }
+
+    private static Optional<TransactionSegment> findSegment(YearMonth month, List<TransactionSegment> segments) {
+        return segments.stream().filter(segment -> segment.getPeriod().equals(month)).findFirst();
+    }
+}
@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookWriter.AMOUNT;
+import static seedu.address.storage.JsonAddressBookWriter.BALANCE;
+import static seedu.address.storage.JsonAddressBookWriter.CREDITOR;
+import static seedu.address.storage.JsonAddressBookWriter.DATE_TIME;
+import static seedu.address.storage.JsonAddressBookWriter.DEBTOR;
+import static seedu.address.storage.JsonAddressBookWriter.DESCRIPTION;
+import static seedu.address.storage.JsonAddressBookWriter.EMAIL;
+import static seedu.address.storage.JsonAddressBookWriter.FORMAT_VERSION;
+import static seedu.address.storage.JsonAddressBookWriter.FORMER_PERSONS;
+import static seedu.address.storage.JsonAddressBookWriter.ID;
+import static seedu.address.storage.JsonAddressBookWriter.LEDGER;
+import static seedu.address.storage.JsonAddressBookWriter.NAME;
+import static seedu.address.storage.JsonAddressBookWriter.PAYEES;
+import static seedu.address.storage.JsonAddressBookWriter.PAYER;
+import static seedu.address.storage.JsonAddressBookWriter.PERCENTAGES;
+import static seedu.address.storage.JsonAddressBookWriter.PERSONS;
+import static seedu.address.storage.JsonAddressBookWriter.PHONE;
+import static seedu.address.storage.JsonAddressBookWriter.SPLIT_METHOD;
+import static seedu.address.storage.JsonAddressBookWriter.TAGS;
+import static seedu.address.storage.JsonAddressBookWriter.TRANSACTIONS;
+import static seedu.address.storage.JsonAddressBookWriter.TRANSACTION_TYPE;
+import static seedu.address.storage.JsonAddressBookWriter.UNITS;
+import static seedu.address.storage.JsonAddressBookWriter.VERSION;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DebtsTable;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Reads an address book written by {@link JsonAddressBookWriter}, one value at a time.
+ * Each value is checked with the same constraints as the XML storage, through the XML adapted types.
+ * The debts table is restored from the ledger instead of being recomputed from every transaction.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Data file format version %d is newer than the supported version " + FORMAT_VERSION;
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %s but found %s";
+
+    /**
+     * Reads one value, which the parser is positioned at the start of.
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+        void read() throws IOException, IllegalValueException;
+    }
+
+    private final JsonParser parser;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final List<XmlAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+    private final DebtsTable debtsTable = new DebtsTable();
+
+    JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the address book.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the stored values,
+     *     or if the document is not structured as expected.
+     */
+    AddressBook read() throws IOException, IllegalValueException {
+        parser.nextToken();
+        expect(JsonToken.START_OBJECT);
+        for (String field = nextField(); field != null; field = nextField()) {
+            switch (field) {
+            case VERSION:
+                int version = parser.getIntValue();
+                if (version > FORMAT_VERSION) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, version));
+                }
+                break;
+            case PERSONS:
+                readArray(() -> readPerson(true));
+                break;
+            case FORMER_PERSONS:
+                readArray(() -> readPerson(false));
+                break;
+            case TAGS:
+                readArray(() -> addressBook.addTag(new XmlAdaptedTag(parser.getValueAsString()).toModelType()));
+                break;
+            case TRANSACTIONS:
+                readArray(this::readTransaction);
+                break;
+            case LEDGER:
+                readArray(this::readDebt);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(JsonToken.END_OBJECT);
+        // transactions are converted once the whole document is read, so that every person they refer to is known
+        addressBook.setTransactions(TransactionDecoder.decode(adaptedTransactions, personsById, new PersonInterner()));
+        addressBook.getPersonList().forEach(debtsTable::add);
+        addressBook.setDebtsTable(debtsTable);
+        return addressBook;
+    }
+
+    /**
+     * Reads a person, adding it to the address book if it is a current person.
+     */
+    private void readPerson(boolean isCurrent) throws IOException, IllegalValueException {
+        Integer id = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String balance = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        expect(JsonToken.START_OBJECT);
+        for (String field = nextField(); field != null; field = nextField()) {
+            switch (field) {
+            case ID:
+                id = parser.getIntValue();
+                break;
+            case NAME:
+                name = parser.getValueAsString();
+                break;
+            case PHONE:
+                phone = parser.getValueAsString();
+                break;
+            case EMAIL:
+                email = parser.getValueAsString();
+                break;
+            case BALANCE:
+                balance = parser.getValueAsString();
+                break;
+            case TAGS:
+                readArray(() -> tagged.add(new XmlAdaptedTag(parser.getValueAsString())));
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(JsonToken.END_OBJECT);
+        Person person = new XmlAdaptedPerson(name, phone, email, balance, tagged).toModelType();
+        if (id == null) {
+            throw new IllegalValueException(String.format(XmlSerializableAddressBook.MESSAGE_MISSING_PERSON_ID,
+                    person.getName()));
+        }
+        if (isCurrent) {
+            addressBook.addPerson(person);
+            try {
+                // the address book holds a copy of the person that shares its master tags
+                person = addressBook.getPerson(person.getName());
+            } catch (PersonNotFoundException pnfe) {
+                throw new AssertionError("The person was just added", pnfe);
+            }
+        }
+        personsById.put(id, person);
+    }
+
+    /**
+     * Reads a transaction whose payer and payees have already been read.
+     */
+    private void readTransaction() throws IOException, IllegalValueException {
+        String transactionType = null;
+        Integer payerId = null;
+        String amount = null;
+        String description = null;
+        Date dateTime = null;
+        List<Integer> payeeIds = new ArrayList<>();
+        String splitMethod = null;
+        List<Integer> units = new ArrayList<>();
+        List<Integer> percentages = new ArrayList<>();
+        expect(JsonToken.START_OBJECT);
+        for (String field = nextField(); field != null; field = nextField()) {
+            switch (field) {
+            case TRANSACTION_TYPE:
+                transactionType = parser.getValueAsString();
+                break;
+            case PAYER:
+                payerId = parser.getIntValue();
+                break;
+            case AMOUNT:
+                amount = parser.getValueAsString();
+                break;
+            case DESCRIPTION:
+                description = parser.getValueAsString();
+                break;
+            case DATE_TIME:
+                dateTime = new Date(parser.getLongValue());
+                break;
+            case PAYEES:
+                readArray(() -> payeeIds.add(parser.getIntValue()));
+                break;
+            case SPLIT_METHOD:
+                splitMethod = parser.getValueAsString();
+                break;
+            case UNITS:
+                readArray(() -> units.add(parser.getIntValue()));
+                break;
+            case PERCENTAGES:
+                readArray(() -> percentages.add(parser.getIntValue()));
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(JsonToken.END_OBJECT);
+        adaptedTransactions.add(new XmlAdaptedTransaction(transactionType, payerId, amount, description, dateTime,
+                payeeIds, splitMethod, units, percentages));
+    }
+
+    /**
+     * Reads one entry of the ledger into the debts table.
+     */
+    private void readDebt() throws IOException, IllegalValueException {
+        Integer debtor = null;
+        Integer creditor = null;
+        String balance = null;
+        expect(JsonToken.START_OBJECT);
+        for (String field = nextField(); field != null; field = nextField()) {
+            switch (field) {
+            case DEBTOR:
+                debtor = parser.getIntValue();
+                break;
+            case CREDITOR:
+                creditor = parser.getIntValue();
+                break;
+            case BALANCE:
+                balance = parser.getValueAsString();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expect(JsonToken.END_OBJECT);
+        new XmlAdaptedDebt(debtor, creditor, balance).addTo(debtsTable, personsById);
+    }
+
+    /**
+     * Moves the parser to the value of the next field of the current object, and returns the name of that field.
+     * Returns null if there are no more fields.
+     */
+    private String nextField() throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        return field;
+    }
+
+    /**
+     * Reads the elements of the array that the parser is positioned at with {@code elementReader}.
+     */
+    private void readArray(ValueReader elementReader) throws IOException, IllegalValueException {
+        expect(JsonToken.START_ARRAY);
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_TOKEN, JsonToken.END_ARRAY, null));
+            }
+            elementReader.read();
+        }
+    }
+
+    /**
+     * Checks that the parser is positioned at a token of the given type.
+     */
+    private void expect(JsonToken expected) throws IllegalValueException {
+        if (parser.getCurrentToken() != expected) {
+            throw new IllegalValueException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected,
+                    parser.getCurrentToken()));
+        }
+    }
+}
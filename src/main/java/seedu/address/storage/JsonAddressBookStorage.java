@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.DataFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written as a stream, without building a document of the whole address book in memory.
+ * The file is written with the chosen {@link Compression}, and files written with any compression can be read.
+ * An address book file in another {@link DataFormat} is read with the storage for that format, and is written as
+ * json when it is next saved.
+ */
+public class JsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNLOADED_TRANSACTIONS =
+            "Transactions that are still in storage cannot be saved in json format";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private String filePath;
+    private final Compression compression;
+
+    public JsonAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    public JsonAddressBookStorage(String filePath, Compression compression) {
+        requireNonNull(compression);
+        this.filePath = filePath;
+        this.compression = compression;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+        DataFormat format = DataFormat.detect(addressBookFile);
+        if (format != DataFormat.JSON) {
+            logger.info("Reading " + format + " AddressBook file " + addressBookFile);
+            return AddressBookStorage.forFormat(format, filePath, Compression.NONE).readAddressBook(filePath);
+        }
+
+        try (InputStream in = Compression.decompressDetected(new FileInputStream(addressBookFile));
+             JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return Optional.of(new JsonAddressBookReader(parser).read());
+        } catch (JsonProcessingException | IllegalValueException e) {
+            logger.info("Illegal values found in " + addressBookFile + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     * @throws IOException if {@code addressBook} still has transactions in storage, as this format cannot
+     *     refer to them.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!addressBook.getUnloadedTransactionSegments().isEmpty()) {
+            throw new IOException(MESSAGE_UNLOADED_TRANSACTIONS);
+        }
+
+        File file = new File(filePath);
+        FileUtil.createIfMissing(file);
+        try (OutputStream out = compression.compress(new FileOutputStream(file));
+             JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            new JsonAddressBookWriter(generator).write(addressBook);
+        }
+    }
+}
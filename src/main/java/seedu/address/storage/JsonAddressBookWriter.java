@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.DebtsList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Writes an address book as a JSON document, one value at a time, so that no intermediate copy of the
+ * address book is built in memory.
+ * The payer and payees of transactions, and the persons in the ledger, are referred to by file-local ids,
+ * as in {@link XmlSerializableAddressBook}.
+ *
+ * @see JsonAddressBookReader
+ */
+class JsonAddressBookWriter {
+
+    static final int FORMAT_VERSION = 1;
+
+    static final String VERSION = "version";
+    static final String PERSONS = "persons";
+    static final String FORMER_PERSONS = "formerPersons";
+    static final String TAGS = "tags";
+    static final String TRANSACTIONS = "transactions";
+    static final String LEDGER = "ledger";
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String PHONE = "phone";
+    static final String EMAIL = "email";
+    static final String BALANCE = "balance";
+
+    static final String TRANSACTION_TYPE = "transactionType";
+    static final String PAYER = "payer";
+    static final String AMOUNT = "amount";
+    static final String DESCRIPTION = "description";
+    static final String DATE_TIME = "dateTime";
+    static final String PAYEES = "payees";
+    static final String SPLIT_METHOD = "splitMethod";
+    static final String UNITS = "units";
+    static final String PERCENTAGES = "percentages";
+
+    static final String DEBTOR = "debtor";
+    static final String CREDITOR = "creditor";
+
+    private final JsonGenerator generator;
+    private final PersonIdTable personIds = new PersonIdTable();
+
+    JsonAddressBookWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Writes {@code addressBook} as a JSON object.
+     * Persons that are only referred to by transactions or debts are written as former persons.
+     */
+    void write(ReadOnlyAddressBook addressBook) throws IOException {
+        addressBook.getPersonList().forEach(personIds::idOf);
+        int personCount = personIds.size();
+        // the persons a transaction refers to are written before it, so every id is known before it is read
+        for (Transaction transaction : addressBook.getTransactionList()) {
+            personIds.idOf(transaction.getPayer());
+            transaction.getPayees().forEach(personIds::idOf);
+        }
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            personIds.idOf(debtsListEntry.getKey());
+            debtsListEntry.getValue().keySet().forEach(personIds::idOf);
+        }
+        List<Person> persons = personIds.getPersons();
+
+        generator.writeStartObject();
+        generator.writeNumberField(VERSION, FORMAT_VERSION);
+        // the master tags are written first, as the tags of persons are merged into them when they are read
+        generator.writeArrayFieldStart(TAGS);
+        for (Tag tag : addressBook.getTagList()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+
+        writePersons(PERSONS, persons.subList(0, personCount), 0);
+        writePersons(FORMER_PERSONS, persons.subList(personCount, persons.size()), personCount);
+
+        generator.writeArrayFieldStart(TRANSACTIONS);
+        for (Transaction transaction : addressBook.getTransactionList()) {
+            writeTransaction(transaction);
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(LEDGER);
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            int debtorId = personIds.idOf(debtsListEntry.getKey());
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                generator.writeStartObject();
+                generator.writeNumberField(DEBTOR, debtorId);
+                generator.writeNumberField(CREDITOR, personIds.idOf(debt.getKey()));
+                generator.writeStringField(BALANCE, debt.getValue().value);
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code persons} as an array field called {@code fieldName}, numbering them from {@code firstId}.
+     */
+    private void writePersons(String fieldName, List<Person> persons, int firstId) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        int id = firstId;
+        for (Person person : persons) {
+            generator.writeStartObject();
+            generator.writeNumberField(ID, id++);
+            generator.writeStringField(NAME, person.getName().fullName);
+            generator.writeStringField(PHONE, person.getPhone().value);
+            generator.writeStringField(EMAIL, person.getEmail().value);
+            generator.writeStringField(BALANCE, person.getBalance().value);
+            generator.writeArrayFieldStart(TAGS);
+            for (Tag tag : person.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code transaction} as an object. Its date and time is written as milliseconds since the epoch.
+     */
+    private void writeTransaction(Transaction transaction) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(TRANSACTION_TYPE, transaction.getTransactionType().value);
+        generator.writeNumberField(PAYER, personIds.idOf(transaction.getPayer()));
+        generator.writeStringField(AMOUNT, transaction.getAmount().toString());
+        generator.writeStringField(DESCRIPTION, transaction.getDescription().value);
+        generator.writeNumberField(DATE_TIME, transaction.getDateTime().getTime());
+        generator.writeArrayFieldStart(PAYEES);
+        for (Person payee : transaction.getPayees()) {
+            generator.writeNumber(personIds.idOf(payee));
+        }
+        generator.writeEndArray();
+        generator.writeStringField(SPLIT_METHOD, transaction.getSplitMethod().toString());
+        writeIntegers(UNITS, transaction.getUnits());
+        writeIntegers(PERCENTAGES, transaction.getPercentages());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code integers} as an array field called {@code fieldName}, unless there are none.
+     */
+    private void writeIntegers(String fieldName, List<Integer> integers) throws IOException {
+        if (integers.isEmpty()) {
+            return;
+        }
+        generator.writeArrayFieldStart(fieldName);
+        for (Integer integer : integers) {
+            generator.writeNumber(integer);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAddressBookWriter.AMOUNT;
+import static seedu.address.storage.JsonAddressBookWriter.BALANCE;
+import static seedu.address.storage.JsonAddressBookWriter.CREDITOR;
+import static seedu.address.storage.JsonAddressBookWriter.DATE_TIME;
+import static seedu.address.storage.JsonAddressBookWriter.DEBTOR;
+import static seedu.address.storage.JsonAddressBookWriter.DESCRIPTION;
+import static seedu.address.storage.JsonAddressBookWriter.EMAIL;
+import static seedu.address.storage.JsonAddressBookWriter.NAME;
+import static seedu.address.storage.JsonAddressBookWriter.PAYEES;
+import static seedu.address.storage.JsonAddressBookWriter.PAYER;
+import static seedu.address.storage.JsonAddressBookWriter.PERCENTAGES;
+import static seedu.address.storage.JsonAddressBookWriter.PERSONS;
+import static seedu.address.storage.JsonAddressBookWriter.PHONE;
+import static seedu.address.storage.JsonAddressBookWriter.SPLIT_METHOD;
+import static seedu.address.storage.JsonAddressBookWriter.TAGS;
+import static seedu.address.storage.JsonAddressBookWriter.TRANSACTIONS;
+import static seedu.address.storage.JsonAddressBookWriter.TRANSACTION_TYPE;
+import static seedu.address.storage.JsonAddressBookWriter.UNITS;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Writes an exported address book as a JSON object with the persons, debts and transactions in an array each.
+ * Unlike in the data file, persons are referred to by name, and dates and times are written as text.
+ */
+class JsonExportWriter implements ExportWriter {
+
+    static final String DEBTS = "debts";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    /** The arrays of the object, in the order they are written. */
+    private static final List<String> ARRAYS = Arrays.asList(PERSONS, DEBTS, TRANSACTIONS);
+
+    private final String filePath;
+    private final JsonGenerator generator;
+    /** The index in {@link #ARRAYS} of the array being written, or -1 before the first one is started. */
+    private int currentArray = -1;
+
+    /**
+     * Creates a writer for the file at {@code filePath}, replacing it if it exists.
+     */
+    JsonExportWriter(String filePath) throws IOException {
+        this.filePath = filePath;
+        generator = JSON_FACTORY.createGenerator(ExportWriter.openBuffered(filePath), JsonEncoding.UTF8);
+        generator.writeStartObject();
+    }
+
+    @Override
+    public void writePerson(Person person) throws IOException {
+        moveToArray(PERSONS);
+        generator.writeStartObject();
+        generator.writeStringField(NAME, person.getName().fullName);
+        generator.writeStringField(PHONE, person.getPhone().value);
+        generator.writeStringField(EMAIL, person.getEmail().value);
+        generator.writeStringField(BALANCE, person.getBalance().value);
+        generator.writeArrayFieldStart(TAGS);
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeDebt(Person debtor, Person creditor, Balance debt) throws IOException {
+        moveToArray(DEBTS);
+        generator.writeStartObject();
+        generator.writeStringField(DEBTOR, debtor.getName().fullName);
+        generator.writeStringField(CREDITOR, creditor.getName().fullName);
+        generator.writeStringField(AMOUNT, debt.value);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeTransaction(Transaction transaction) throws IOException {
+        moveToArray(TRANSACTIONS);
+        generator.writeStartObject();
+        generator.writeStringField(DATE_TIME, ExportWriter.formatDateTime(transaction.getDateTime()));
+        generator.writeStringField(TRANSACTION_TYPE, transaction.getTransactionType().value);
+        generator.writeStringField(PAYER, transaction.getPayer().getName().fullName);
+        generator.writeStringField(AMOUNT, transaction.getAmount().toString());
+        generator.writeStringField(DESCRIPTION, transaction.getDescription().value);
+        generator.writeArrayFieldStart(PAYEES);
+        for (Person payee : transaction.getPayees()) {
+            generator.writeString(payee.getName().fullName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField(SPLIT_METHOD, transaction.getSplitMethod().toString());
+        writeIntegers(UNITS, transaction.getUnits());
+        writeIntegers(PERCENTAGES, transaction.getPercentages());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public List<String> getFilePaths() {
+        return Collections.singletonList(filePath);
+    }
+
+    /**
+     * Writes the arrays that are still missing, so that every array is there even if it is empty, and closes the
+     * file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!generator.isClosed()) {
+                moveToArray(null);
+                generator.writeEndObject();
+            }
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * Ends the arrays before {@code array} and starts the ones up to it, which is the last one if it is null.
+     */
+    private void moveToArray(String array) throws IOException {
+        int index = array == null ? ARRAYS.size() : ARRAYS.indexOf(array);
+        assert index >= currentArray : "Records must be written in the order of " + ARRAYS;
+        while (currentArray < index) {
+            if (currentArray >= 0) {
+                generator.writeEndArray();
+            }
+            currentArray++;
+            if (currentArray < ARRAYS.size()) {
+                generator.writeArrayFieldStart(ARRAYS.get(currentArray));
+            }
+        }
+    }
+
+    /**
+     * Writes {@code integers} as an array field called {@code fieldName}.
+     */
+    private void writeIntegers(String fieldName, List<Integer> integers) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (Integer integer : integers) {
+            generator.writeNumber(integer);
+        }
+        generator.writeEndArray();
+    }
+}
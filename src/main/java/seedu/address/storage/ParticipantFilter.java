@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+import com.google.common.io.BaseEncoding;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * A Bloom filter of the persons that pay or are paid for in the transactions of a segment, kept in the manifest
+ * entry of the segment so that the segments of a person can be found without reading their files.
+ * It wrongly says that a segment could have a person about once in a hundred lookups, but never wrongly says that
+ * it does not.
+ */
+class ParticipantFilter {
+
+    public static final String MESSAGE_INVALID_FILTER = "Transaction segment's participant filter is not valid!";
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final Funnel<CharSequence> FUNNEL = Funnels.stringFunnel(StandardCharsets.UTF_8);
+
+    private final BloomFilter<CharSequence> filter;
+
+    private ParticipantFilter(BloomFilter<CharSequence> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the filter of the payers and payees of {@code transactions}.
+     */
+    static ParticipantFilter of(List<Transaction> transactions) {
+        Set<String> keys = new HashSet<>();
+        for (Transaction transaction : transactions) {
+            keys.add(RecordContents.keyOf(transaction.getPayer()));
+            transaction.getPayees().forEach(payee -> keys.add(RecordContents.keyOf(payee)));
+        }
+        BloomFilter<CharSequence> filter = BloomFilter.create(FUNNEL, Math.max(keys.size(), 1),
+                FALSE_POSITIVE_PROBABILITY);
+        keys.forEach(filter::put);
+        return new ParticipantFilter(filter);
+    }
+
+    /**
+     * Returns the filter written as {@code encoded} by {@link #encode()}.
+     * @throws IllegalValueException if {@code encoded} is not a filter.
+     */
+    static ParticipantFilter decode(String encoded) throws IllegalValueException {
+        try {
+            return new ParticipantFilter(BloomFilter.readFrom(
+                    new ByteArrayInputStream(BaseEncoding.base64().decode(encoded)), FUNNEL));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILTER);
+        }
+    }
+
+    /**
+     * Returns this filter as text that can be kept in an attribute.
+     */
+    String encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            filter.writeTo(out);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory does not fail", e);
+        }
+        return BaseEncoding.base64().encode(out.toByteArray());
+    }
+
+    /**
+     * Returns false if no transaction in the segment is paid by or for {@code person}.
+     */
+    boolean mightContain(Person person) {
+        return filter.mightContain(RecordContents.keyOf(person));
+    }
+}
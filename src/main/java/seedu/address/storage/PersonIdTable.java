@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Assigns file-local ids to the persons referenced by a stored address book.
+ * Ids are handed out in the order persons are first seen, starting from 0,
+ * and two persons with the same name (ignoring case) share an id, as they do in {@link Person#equals(Object)}.
+ */
+class PersonIdTable {
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<Person> persons = new ArrayList<>();
+
+    /**
+     * Returns the id of {@code person}, assigning the next free id if the person has not been seen before.
+     */
+    public int idOf(Person person) {
+        requireNonNull(person);
+        String key = keyOf(person);
+        Integer id = idsByName.get(key);
+        if (id == null) {
+            id = persons.size();
+            idsByName.put(key, id);
+            persons.add(person);
+        }
+        return id;
+    }
+
+    /**
+     * Returns the persons in this table, in id order.
+     */
+    public List<Person> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    private static String keyOf(Person person) {
+        return person.getName().fullName.toLowerCase();
+    }
+}
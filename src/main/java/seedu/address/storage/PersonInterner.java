@@ -0,0 +1,39 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Canonicalizes the persons read from storage, so that a single {@code Person} instance stands for each person
+ * no matter how many stored transactions refer to it.
+ * Two persons with the same name (ignoring case) are the same person, as they are in {@link Person#equals(Object)}.
+ */
+class PersonInterner {
+
+    private final Map<String, Person> personsByName = new HashMap<>();
+
+    /**
+     * Creates an interner that canonicalizes persons to the given {@code persons}.
+     */
+    PersonInterner(Collection<Person> persons) {
+        for (Person person : persons) {
+            intern(person);
+        }
+    }
+
+    PersonInterner() {}
+
+    /**
+     * Returns the canonical instance of {@code person}.
+     * A person that has not been seen before becomes the canonical instance of itself.
+     */
+    public Person intern(Person person) {
+        requireNonNull(person);
+        return personsByName.computeIfAbsent(person.getName().fullName.toLowerCase(), name -> person);
+    }
+}
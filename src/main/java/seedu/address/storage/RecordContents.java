@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import java.math.BigDecimal;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Canonical text forms of the records of an address book, which are equal exactly when the stored records
+ * would be equal. They are compared to tell which records changed, and hashed to detect corruption.
+ */
+class RecordContents {
+
+    /** Separates the fields of a record. Line breaks cannot be entered in any field. */
+    private static final String FIELD_SEPARATOR = "\n";
+
+    private RecordContents() {} // prevents instantiation
+
+    /**
+     * Returns the key that identifies {@code person} among the stored persons.
+     * Names are compared ignoring case, as they are in {@link Person#equals(Object)}.
+     */
+    static String keyOf(Person person) {
+        return person.getName().fullName.toLowerCase();
+    }
+
+    /**
+     * Returns the contents of {@code person}, with its tags in a fixed order.
+     */
+    static String of(Person person) {
+        return String.join(FIELD_SEPARATOR, person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getBalance().value,
+                person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Returns the contents of {@code transaction}, with its payer and payees identified by their keys.
+     */
+    static String of(Transaction transaction) {
+        StringBuilder payees = new StringBuilder();
+        for (Person payee : transaction.getPayees()) {
+            payees.append(keyOf(payee)).append(',');
+        }
+        return String.join(FIELD_SEPARATOR, transaction.getTransactionType().value, keyOf(transaction.getPayer()),
+                amountOf(transaction), transaction.getDescription().value,
+                String.valueOf(transaction.getDateTime().getTime()), payees,
+                transaction.getSplitMethod().toString(), transaction.getUnits().toString(),
+                transaction.getPercentages().toString());
+    }
+
+    /**
+     * Returns the details of {@code person} that the user enters, without the balance that its transactions add up
+     * to.
+     */
+    static String detailsOf(Person person) {
+        return String.join(FIELD_SEPARATOR, person.getName().fullName, person.getPhone().value,
+                person.getEmail().value,
+                person.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(",")));
+    }
+
+    /**
+     * Returns the amount of {@code transaction} with two decimal places, as amounts are written with fewer
+     * decimal places than they are read back with.
+     */
+    private static String amountOf(Transaction transaction) {
+        return new BigDecimal(transaction.getAmount().value).setScale(2).toPlainString();
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+import seedu.address.commons.util.Compression;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as an xml file on the hard disk, with its transactions kept in
+ * separate segment files, one per month.
+ * Only the most recent segments are loaded when the address book is read; older ones are left in storage until
+ * they are needed.
+ */
+public class SegmentedXmlAddressBookStorage extends XmlAddressBookStorage {
+
+    private final int recentSegmentCount;
+
+    /**
+     * @param recentSegmentCount the number of monthly segments to load when the address book is read.
+     */
+    public SegmentedXmlAddressBookStorage(String filePath, Compression compression, int recentSegmentCount) {
+        super(filePath, compression);
+        this.recentSegmentCount = recentSegmentCount;
+    }
+
+    @Override
+    protected int getRecentSegmentCount() {
+        return recentSegmentCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        saveSegmentedAddressBook(addressBook, filePath);
+    }
+}
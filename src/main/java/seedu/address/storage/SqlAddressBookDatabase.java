@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * A connection to an embedded H2 database that holds an address book, with one method per query or row update.
+ * Changes are made in a single database transaction, which is only made permanent by {@link #commit()}.
+ *
+ * Persons are identified by database-wide ids, and transactions and debts refer to them by those ids.
+ * A person that is no longer in the address book is kept as a former person for as long as it is referred to.
+ */
+class SqlAddressBookDatabase implements AutoCloseable {
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+    private static final String LIST_SEPARATOR = ",";
+
+    private static final String[] CREATE_TABLES = {
+        "CREATE TABLE IF NOT EXISTS persons (id INT PRIMARY KEY, name_key VARCHAR NOT NULL, name VARCHAR NOT NULL, "
+                + "phone VARCHAR NOT NULL, email VARCHAR NOT NULL, balance VARCHAR NOT NULL, tags VARCHAR NOT NULL, "
+                + "is_current BOOLEAN NOT NULL)",
+        "CREATE UNIQUE INDEX IF NOT EXISTS persons_name_key ON persons(name_key)",
+        "CREATE TABLE IF NOT EXISTS tags (name VARCHAR PRIMARY KEY)",
+        "CREATE TABLE IF NOT EXISTS transactions (id BIGINT PRIMARY KEY, position DOUBLE NOT NULL, "
+                + "period CHAR(7) NOT NULL, transaction_type VARCHAR NOT NULL, payer_id INT NOT NULL, "
+                + "amount VARCHAR NOT NULL, description VARCHAR NOT NULL, date_time BIGINT NOT NULL, "
+                + "split_method VARCHAR NOT NULL, units VARCHAR, percentages VARCHAR)",
+        "CREATE INDEX IF NOT EXISTS transactions_period ON transactions(period, position)",
+        "CREATE INDEX IF NOT EXISTS transactions_payer ON transactions(payer_id)",
+        "CREATE TABLE IF NOT EXISTS payees (transaction_id BIGINT NOT NULL, position INT NOT NULL, "
+                + "person_id INT NOT NULL, PRIMARY KEY (transaction_id, position))",
+        "CREATE INDEX IF NOT EXISTS payees_person ON payees(person_id)",
+        "CREATE TABLE IF NOT EXISTS debts (debtor_id INT NOT NULL, creditor_id INT NOT NULL, "
+                + "balance VARCHAR NOT NULL, PRIMARY KEY (debtor_id, creditor_id))"
+    };
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    private SqlAddressBookDatabase(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Opens the database stored in {@code databaseFilePath}, creating it and its tables if they do not exist.
+     */
+    static SqlAddressBookDatabase open(String databaseFilePath) throws SQLException {
+        String databaseName = databaseFilePath.substring(0,
+                databaseFilePath.length() - SqlAddressBookStorage.DATABASE_FILE_SUFFIX.length());
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + databaseName);
+        try (Statement statement = connection.createStatement()) {
+            for (String createTable : CREATE_TABLES) {
+                statement.execute(createTable);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        connection.setAutoCommit(false);
+        return new SqlAddressBookDatabase(connection);
+    }
+
+    /**
+     * A row of the persons table.
+     */
+    static class PersonRow {
+        final int id;
+        final boolean isCurrent;
+        final XmlAdaptedPerson person;
+
+        PersonRow(int id, boolean isCurrent, XmlAdaptedPerson person) {
+            this.id = id;
+            this.isCurrent = isCurrent;
+            this.person = person;
+        }
+    }
+
+    /**
+     * A row of the transactions table, together with the ids of its payees.
+     */
+    static class TransactionRow {
+        final long id;
+        final double position;
+        final XmlAdaptedTransaction transaction;
+
+        TransactionRow(long id, double position, XmlAdaptedTransaction transaction) {
+            this.id = id;
+            this.position = position;
+            this.transaction = transaction;
+        }
+    }
+
+    /**
+     * A row of the debts table.
+     */
+    static class DebtRow {
+        final int debtorId;
+        final int creditorId;
+        final String balance;
+
+        DebtRow(int debtorId, int creditorId, String balance) {
+            this.debtorId = debtorId;
+            this.creditorId = creditorId;
+            this.balance = balance;
+        }
+    }
+
+    //// queries
+
+    /**
+     * Returns all the persons, current and former, in the order they were first stored.
+     */
+    List<PersonRow> readPersons() throws SQLException {
+        List<PersonRow> persons = new ArrayList<>();
+        try (ResultSet resultSet = statement("SELECT id, is_current, name, phone, email, balance, tags "
+                + "FROM persons ORDER BY id").executeQuery()) {
+            while (resultSet.next()) {
+                List<XmlAdaptedTag> tagged = splitList(resultSet.getString(7)).stream()
+                        .map(XmlAdaptedTag::new).collect(Collectors.toList());
+                persons.add(new PersonRow(resultSet.getInt(1), resultSet.getBoolean(2),
+                        new XmlAdaptedPerson(resultSet.getString(3), resultSet.getString(4),
+                                resultSet.getString(5), resultSet.getString(6), tagged)));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the names of all the tags.
+     */
+    List<String> readTags() throws SQLException {
+        List<String> tags = new ArrayList<>();
+        try (ResultSet resultSet = statement("SELECT name FROM tags").executeQuery()) {
+            while (resultSet.next()) {
+                tags.add(resultSet.getString(1));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns all the entries of the debts table.
+     */
+    List<DebtRow> readDebts() throws SQLException {
+        List<DebtRow> debts = new ArrayList<>();
+        try (ResultSet resultSet = statement("SELECT debtor_id, creditor_id, balance FROM debts").executeQuery()) {
+            while (resultSet.next()) {
+                debts.add(new DebtRow(resultSet.getInt(1), resultSet.getInt(2), resultSet.getString(3)));
+            }
+        }
+        return debts;
+    }
+
+    /**
+     * Returns the number of transactions of each month that has any, from the oldest month to the newest.
+     */
+    Map<YearMonth, Integer> readTransactionCounts() throws SQLException {
+        Map<YearMonth, Integer> counts = new LinkedHashMap<>();
+        try (ResultSet resultSet = statement("SELECT period, COUNT(*) FROM transactions "
+                + "GROUP BY period ORDER BY period").executeQuery()) {
+            while (resultSet.next()) {
+                counts.put(YearMonth.parse(resultSet.getString(1)), resultSet.getInt(2));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the transactions of {@code period}, in the order they were added.
+     */
+    List<TransactionRow> readTransactions(YearMonth period) throws SQLException {
+        PreparedStatement payeesQuery = statement("SELECT p.transaction_id, p.person_id FROM payees p "
+                + "JOIN transactions t ON t.id = p.transaction_id WHERE t.period = ? "
+                + "ORDER BY p.transaction_id, p.position");
+        payeesQuery.setString(1, period.toString());
+        Map<Long, List<Integer>> payeeIds = new HashMap<>();
+        try (ResultSet resultSet = payeesQuery.executeQuery()) {
+            while (resultSet.next()) {
+                payeeIds.computeIfAbsent(resultSet.getLong(1), id -> new ArrayList<>()).add(resultSet.getInt(2));
+            }
+        }
+
+        PreparedStatement transactionsQuery = statement("SELECT id, position, transaction_type, payer_id, amount, "
+                + "description, date_time, split_method, units, percentages FROM transactions "
+                + "WHERE period = ? ORDER BY position");
+        transactionsQuery.setString(1, period.toString());
+        List<TransactionRow> transactions = new ArrayList<>();
+        try (ResultSet resultSet = transactionsQuery.executeQuery()) {
+            while (resultSet.next()) {
+                long id = resultSet.getLong(1);
+                XmlAdaptedTransaction transaction = new XmlAdaptedTransaction(resultSet.getString(3),
+                        resultSet.getInt(4), resultSet.getString(5), resultSet.getString(6),
+                        new Date(resultSet.getLong(7)), payeeIds.getOrDefault(id, Collections.emptyList()),
+                        resultSet.getString(8), splitIntegers(resultSet.getString(9)),
+                        splitIntegers(resultSet.getString(10)));
+                transactions.add(new TransactionRow(id, resultSet.getDouble(2), transaction));
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the months that have a transaction paid by or for the person with the given name key.
+     */
+    Set<YearMonth> readPeriodsWith(String nameKey) throws SQLException {
+        PreparedStatement query = statement("SELECT DISTINCT t.period FROM transactions t "
+                + "WHERE t.payer_id = (SELECT id FROM persons WHERE name_key = ?) "
+                + "UNION SELECT DISTINCT t.period FROM payees p JOIN transactions t ON t.id = p.transaction_id "
+                + "WHERE p.person_id = (SELECT id FROM persons WHERE name_key = ?)");
+        query.setString(1, nameKey);
+        query.setString(2, nameKey);
+        Set<YearMonth> periods = new HashSet<>();
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                periods.add(YearMonth.parse(resultSet.getString(1)));
+            }
+        }
+        return periods;
+    }
+
+    /**
+     * Returns the largest person id in use, or -1 if there are no persons.
+     */
+    int readMaxPersonId() throws SQLException {
+        try (ResultSet resultSet = statement("SELECT COALESCE(MAX(id), -1) FROM persons").executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    /**
+     * Returns the largest transaction id in use, or -1 if there are no transactions.
+     */
+    long readMaxTransactionId() throws SQLException {
+        try (ResultSet resultSet = statement("SELECT COALESCE(MAX(id), -1) FROM transactions").executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    //// updates
+
+    /**
+     * Inserts or replaces the row of the person with the given {@code id}.
+     */
+    void mergePerson(int id, String nameKey, Person person, boolean isCurrent) throws SQLException {
+        PreparedStatement merge = statement("MERGE INTO persons (id, name_key, name, phone, email, balance, tags, "
+                + "is_current) KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        merge.setInt(1, id);
+        merge.setString(2, nameKey);
+        merge.setString(3, person.getName().fullName);
+        merge.setString(4, person.getPhone().value);
+        merge.setString(5, person.getEmail().value);
+        merge.setString(6, person.getBalance().value);
+        merge.setString(7, person.getTags().stream().map(tag -> tag.tagName).sorted()
+                .collect(Collectors.joining(LIST_SEPARATOR)));
+        merge.setBoolean(8, isCurrent);
+        merge.executeUpdate();
+    }
+
+    /**
+     * Marks the person with the given {@code id} as no longer being in the address book.
+     */
+    void markFormerPerson(int id) throws SQLException {
+        PreparedStatement update = statement("UPDATE persons SET is_current = FALSE WHERE id = ?");
+        update.setInt(1, id);
+        update.executeUpdate();
+    }
+
+    /**
+     * Deletes the former persons that no transaction or debt refers to, and returns their ids.
+     */
+    List<Integer> deleteUnreferencedFormerPersons() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (ResultSet resultSet = statement("SELECT id FROM persons pe WHERE is_current = FALSE "
+                + "AND NOT EXISTS (SELECT 1 FROM transactions t WHERE t.payer_id = pe.id) "
+                + "AND NOT EXISTS (SELECT 1 FROM payees p WHERE p.person_id = pe.id) "
+                + "AND NOT EXISTS (SELECT 1 FROM debts d WHERE d.debtor_id = pe.id OR d.creditor_id = pe.id)")
+                .executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getInt(1));
+            }
+        }
+        PreparedStatement delete = statement("DELETE FROM persons WHERE id = ?");
+        for (int id : ids) {
+            delete.setInt(1, id);
+            delete.executeUpdate();
+        }
+        return ids;
+    }
+
+    void insertTag(Tag tag) throws SQLException {
+        PreparedStatement insert = statement("INSERT INTO tags (name) VALUES (?)");
+        insert.setString(1, tag.tagName);
+        insert.executeUpdate();
+    }
+
+    void deleteTag(String tagName) throws SQLException {
+        PreparedStatement delete = statement("DELETE FROM tags WHERE name = ?");
+        delete.setString(1, tagName);
+        delete.executeUpdate();
+    }
+
+    /**
+     * Inserts or replaces the row of the transaction with the given {@code id}, together with its payees.
+     */
+    void mergeTransaction(long id, double position, YearMonth period, Transaction transaction, int payerId,
+                          List<Integer> payeeIds) throws SQLException {
+        PreparedStatement merge = statement("MERGE INTO transactions (id, position, period, transaction_type, "
+                + "payer_id, amount, description, date_time, split_method, units, percentages) KEY (id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        merge.setLong(1, id);
+        merge.setDouble(2, position);
+        merge.setString(3, period.toString());
+        merge.setString(4, transaction.getTransactionType().value);
+        merge.setInt(5, payerId);
+        merge.setString(6, transaction.getAmount().toString());
+        merge.setString(7, transaction.getDescription().value);
+        merge.setLong(8, transaction.getDateTime().getTime());
+        merge.setString(9, transaction.getSplitMethod().toString());
+        merge.setString(10, joinIntegers(transaction.getUnits()));
+        merge.setString(11, joinIntegers(transaction.getPercentages()));
+        merge.executeUpdate();
+
+        deletePayees(id);
+        PreparedStatement insertPayee = statement("INSERT INTO payees (transaction_id, position, person_id) "
+                + "VALUES (?, ?, ?)");
+        for (int i = 0; i < payeeIds.size(); i++) {
+            insertPayee.setLong(1, id);
+            insertPayee.setInt(2, i);
+            insertPayee.setInt(3, payeeIds.get(i));
+            insertPayee.executeUpdate();
+        }
+    }
+
+    /**
+     * Deletes the transaction with the given {@code id}, together with its payees.
+     */
+    void deleteTransaction(long id) throws SQLException {
+        deletePayees(id);
+        PreparedStatement delete = statement("DELETE FROM transactions WHERE id = ?");
+        delete.setLong(1, id);
+        delete.executeUpdate();
+    }
+
+    private void deletePayees(long transactionId) throws SQLException {
+        PreparedStatement delete = statement("DELETE FROM payees WHERE transaction_id = ?");
+        delete.setLong(1, transactionId);
+        delete.executeUpdate();
+    }
+
+    /**
+     * Inserts or replaces the balance that the debtor owes the creditor.
+     */
+    void mergeDebt(int debtorId, int creditorId, String balance) throws SQLException {
+        PreparedStatement merge = statement("MERGE INTO debts (debtor_id, creditor_id, balance) "
+                + "KEY (debtor_id, creditor_id) VALUES (?, ?, ?)");
+        merge.setInt(1, debtorId);
+        merge.setInt(2, creditorId);
+        merge.setString(3, balance);
+        merge.executeUpdate();
+    }
+
+    /**
+     * Deletes the balance that the debtor owes the creditor.
+     */
+    void deleteDebt(int debtorId, int creditorId) throws SQLException {
+        PreparedStatement delete = statement("DELETE FROM debts WHERE debtor_id = ? AND creditor_id = ?");
+        delete.setInt(1, debtorId);
+        delete.setInt(2, creditorId);
+        delete.executeUpdate();
+    }
+
+    /**
+     * Deletes every row of every table.
+     */
+    void deleteAll() throws SQLException {
+        for (String table : Arrays.asList("payees", "transactions", "debts", "tags", "persons")) {
+            statement("DELETE FROM " + table).executeUpdate();
+        }
+    }
+
+    /**
+     * Makes all the changes since the database was opened permanent.
+     */
+    void commit() throws SQLException {
+        connection.commit();
+    }
+
+    /**
+     * Closes the database, discarding any changes that were not committed.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            connection.rollback();
+        } finally {
+            connection.close();
+        }
+    }
+
+    /**
+     * Returns a prepared statement for {@code sql}, reusing the one prepared earlier if there is one.
+     */
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Returns the elements of a comma-separated {@code list}, which may be null or empty.
+     */
+    private static List<String> splitList(String list) {
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(list.split(LIST_SEPARATOR));
+    }
+
+    private static List<Integer> splitIntegers(String list) {
+        return splitList(list).stream().map(Integer::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns {@code integers} as a comma-separated list, or null if there are none.
+     */
+    private static String joinIntegers(List<Integer> integers) {
+        if (integers.isEmpty()) {
+            return null;
+        }
+        return integers.stream().map(String::valueOf).collect(Collectors.joining(LIST_SEPARATOR));
+    }
+}
@@ -0,0 +1,345 @@
+package seedu.address.storage;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.DebtsList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * The rows of an address book database as they were last read or saved, so that saving an address book only
+ * writes the rows that changed since.
+ * The change stamps of the address book tell which parts of it could have changed. Within the months whose
+ * transactions could have changed, transactions are matched to their rows by identity, and a row is only
+ * written if the transaction was added or its contents differ from the row.
+ */
+class SqlAddressBookRows {
+
+    /**
+     * A row of the transactions table.
+     */
+    private static class TransactionRow {
+        private final long id;
+        private final double position;
+        private final YearMonth period;
+        private final String contents;
+
+        TransactionRow(long id, double position, YearMonth period, String contents) {
+            this.id = id;
+            this.position = position;
+            this.period = period;
+            this.contents = contents;
+        }
+    }
+
+    private final Map<String, Integer> personIds = new HashMap<>();
+    private final Map<Integer, String> personContents = new HashMap<>();
+    private final Set<Integer> currentPersonIds = new HashSet<>();
+    private final Set<String> tagNames = new HashSet<>();
+    private final Map<List<Integer>, String> debtBalances = new HashMap<>();
+    private final Map<Transaction, TransactionRow> transactionRows = new IdentityHashMap<>();
+    private final Map<YearMonth, Long> transactionsChangeStamps = new HashMap<>();
+    private long personsChangeStamp = ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP;
+    private int nextPersonId;
+    private long nextTransactionId;
+    private int rowsWritten;
+
+    //// recording rows that are in the database
+
+    /**
+     * Records the ids that the next new person and the next new transaction are given.
+     */
+    void recordNextIds(int nextPersonId, long nextTransactionId) {
+        this.nextPersonId = nextPersonId;
+        this.nextTransactionId = nextTransactionId;
+    }
+
+    /**
+     * Records the row of {@code person}, and whether it is in the address book or is a former person.
+     */
+    void recordPerson(int id, Person person, boolean isCurrent) {
+        personIds.put(RecordContents.keyOf(person), id);
+        personContents.put(id, RecordContents.of(person));
+        if (isCurrent) {
+            currentPersonIds.add(id);
+        }
+    }
+
+    void recordTag(String tagName) {
+        tagNames.add(tagName);
+    }
+
+    void recordDebt(int debtorId, int creditorId, String balance) {
+        debtBalances.put(Arrays.asList(debtorId, creditorId), balance);
+    }
+
+    void recordTransaction(Transaction transaction, long id, double position, YearMonth period) {
+        transactionRows.put(transaction, new TransactionRow(id, position, period, RecordContents.of(transaction)));
+    }
+
+    /**
+     * Records the change stamps of {@code addressBook}, which the rows are now up to date with.
+     */
+    void recordChangeStamps(ReadOnlyAddressBook addressBook) {
+        personsChangeStamp = addressBook.getPersonsChangeStamp();
+        for (TransactionRow row : transactionRows.values()) {
+            transactionsChangeStamps.put(row.period, addressBook.getTransactionsChangeStamp(row.period));
+        }
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            transactionsChangeStamps.put(segment.getPeriod(),
+                    addressBook.getTransactionsChangeStamp(segment.getPeriod()));
+        }
+    }
+
+    /**
+     * Returns the number of rows written by the last call to {@link #save}.
+     */
+    int getRowsWritten() {
+        return rowsWritten;
+    }
+
+    //// saving
+
+    /**
+     * Writes the rows of {@code addressBook} that changed to {@code database}, without committing them.
+     * @param olderTransactions transactions of {@code addressBook} that are still in storage but are not in
+     *     {@code database}, oldest first.
+     */
+    void save(ReadOnlyAddressBook addressBook, List<Transaction> olderTransactions, SqlAddressBookDatabase database)
+            throws SQLException {
+        rowsWritten = 0;
+        boolean isPersonsChanged = isChanged(personsChangeStamp, addressBook.getPersonsChangeStamp());
+        if (isPersonsChanged) {
+            savePersons(addressBook.getPersonList(), database);
+            saveTags(addressBook.getTagList(), database);
+        }
+
+        Map<YearMonth, Long> changeStamps = new HashMap<>();
+        List<Transaction> transactions = new ArrayList<>(olderTransactions);
+        transactions.addAll(addressBook.getTransactionList());
+        saveTransactions(transactions, addressBook, changeStamps, database);
+        // older transactions are recorded again when they are loaded, as other instances
+        olderTransactions.forEach(transactionRows::remove);
+
+        if (isPersonsChanged) {
+            saveDebts(addressBook, database);
+        }
+        if (rowsWritten > 0) {
+            for (int id : database.deleteUnreferencedFormerPersons()) {
+                personIds.values().remove(id);
+                personContents.remove(id);
+                rowsWritten++;
+            }
+        }
+
+        personsChangeStamp = addressBook.getPersonsChangeStamp();
+        transactionsChangeStamps.putAll(changeStamps);
+    }
+
+    private static boolean isChanged(long savedChangeStamp, long changeStamp) {
+        return changeStamp == ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP || changeStamp != savedChangeStamp;
+    }
+
+    /**
+     * Writes the rows of the persons in the address book that changed, and marks the persons that were removed
+     * from it as former persons.
+     */
+    private void savePersons(List<Person> persons, SqlAddressBookDatabase database) throws SQLException {
+        Set<Integer> removedPersonIds = new HashSet<>(currentPersonIds);
+        for (Person person : persons) {
+            removedPersonIds.remove(savePerson(person, true, database));
+        }
+        for (int id : removedPersonIds) {
+            database.markFormerPerson(id);
+            currentPersonIds.remove(id);
+            rowsWritten++;
+        }
+    }
+
+    /**
+     * Writes the row of {@code person} if it was not written before or its contents changed, and returns its id.
+     */
+    private int savePerson(Person person, boolean isCurrent, SqlAddressBookDatabase database) throws SQLException {
+        String key = RecordContents.keyOf(person);
+        Integer id = personIds.get(key);
+        if (id == null) {
+            id = nextPersonId++;
+            personIds.put(key, id);
+        }
+        String contents = RecordContents.of(person);
+        if (!contents.equals(personContents.get(id)) || isCurrent != currentPersonIds.contains(id)) {
+            database.mergePerson(id, key, person, isCurrent);
+            personContents.put(id, contents);
+            if (isCurrent) {
+                currentPersonIds.add(id);
+            } else {
+                currentPersonIds.remove(id);
+            }
+            rowsWritten++;
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of {@code person}, who a transaction or debt refers to.
+     * A person that has no row yet is written as a former person.
+     */
+    private int idOfReferenced(Person person, SqlAddressBookDatabase database) throws SQLException {
+        Integer id = personIds.get(RecordContents.keyOf(person));
+        return id != null ? id : savePerson(person, false, database);
+    }
+
+    /**
+     * Inserts the tags that were added to the address book, and deletes the tags that were removed from it.
+     */
+    private void saveTags(List<Tag> tags, SqlAddressBookDatabase database) throws SQLException {
+        Set<String> removedTagNames = new HashSet<>(tagNames);
+        for (Tag tag : tags) {
+            removedTagNames.remove(tag.tagName);
+            if (tagNames.add(tag.tagName)) {
+                database.insertTag(tag);
+                rowsWritten++;
+            }
+        }
+        for (String tagName : removedTagNames) {
+            database.deleteTag(tagName);
+            tagNames.remove(tagName);
+            rowsWritten++;
+        }
+    }
+
+    /**
+     * Writes the debts whose balances changed, and deletes the debts that were removed from the debts table.
+     */
+    private void saveDebts(ReadOnlyAddressBook addressBook, SqlAddressBookDatabase database) throws SQLException {
+        Set<List<Integer>> removedDebts = new HashSet<>(debtBalances.keySet());
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            int debtorId = idOfReferenced(debtsListEntry.getKey(), database);
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                int creditorId = idOfReferenced(debt.getKey(), database);
+                List<Integer> key = Arrays.asList(debtorId, creditorId);
+                removedDebts.remove(key);
+                if (!debt.getValue().value.equals(debtBalances.get(key))) {
+                    database.mergeDebt(debtorId, creditorId, debt.getValue().value);
+                    debtBalances.put(key, debt.getValue().value);
+                    rowsWritten++;
+                }
+            }
+        }
+        for (List<Integer> key : removedDebts) {
+            database.deleteDebt(key.get(0), key.get(1));
+            debtBalances.remove(key);
+            rowsWritten++;
+        }
+    }
+
+    /**
+     * Writes the rows of the transactions that were added or changed in the months whose change stamps changed,
+     * and deletes the rows of the transactions that were removed from them.
+     * New transactions are positioned between the transactions next to them, so that no other row is rewritten
+     * to keep the transactions in order.
+     * @param changeStamps receives the change stamps of the months that were checked.
+     */
+    private void saveTransactions(List<Transaction> transactions, ReadOnlyAddressBook addressBook,
+                                  Map<YearMonth, Long> changeStamps, SqlAddressBookDatabase database)
+            throws SQLException {
+        Set<Transaction> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        int nextRowIndex = 0;
+        Double previousPosition = null;
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            TransactionRow row = transactionRows.get(transaction);
+            if (row != null) {
+                seen.add(transaction);
+                previousPosition = row.position;
+                if (isTransactionsChanged(row.period, addressBook, changeStamps)
+                        && !RecordContents.of(transaction).equals(row.contents)) {
+                    saveTransaction(transaction, row.id, row.position, row.period, database);
+                }
+                continue;
+            }
+
+            // find the next transaction that has a row, to position this one before it
+            nextRowIndex = Math.max(nextRowIndex, i + 1);
+            while (nextRowIndex < transactions.size() && !transactionRows.containsKey(transactions.get(nextRowIndex))) {
+                nextRowIndex++;
+            }
+            Double nextPosition = nextRowIndex < transactions.size()
+                    ? transactionRows.get(transactions.get(nextRowIndex)).position
+                    : null;
+            double position = positionBetween(previousPosition, nextPosition);
+            YearMonth period = TransactionSegment.periodOf(transaction);
+            isTransactionsChanged(period, addressBook, changeStamps);
+            saveTransaction(transaction, nextTransactionId++, position, period, database);
+            seen.add(transaction);
+            previousPosition = position;
+        }
+
+        for (Iterator<Map.Entry<Transaction, TransactionRow>> it = transactionRows.entrySet().iterator();
+                it.hasNext();) {
+            Map.Entry<Transaction, TransactionRow> entry = it.next();
+            TransactionRow row = entry.getValue();
+            if (!seen.contains(entry.getKey()) && isTransactionsChanged(row.period, addressBook, changeStamps)) {
+                database.deleteTransaction(row.id);
+                it.remove();
+                rowsWritten++;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the transactions of {@code period} could have changed since they were last saved.
+     * The change stamp of every month that is checked is put in {@code changeStamps}.
+     */
+    private boolean isTransactionsChanged(YearMonth period, ReadOnlyAddressBook addressBook,
+                                          Map<YearMonth, Long> changeStamps) {
+        long changeStamp = changeStamps.computeIfAbsent(period, addressBook::getTransactionsChangeStamp);
+        return isChanged(transactionsChangeStamps.getOrDefault(period, ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP),
+                changeStamp);
+    }
+
+    /**
+     * Returns a position between {@code previous} and {@code next}, either of which may be absent.
+     */
+    private static double positionBetween(Double previous, Double next) {
+        if (previous != null && next != null && previous < next) {
+            return (previous + next) / 2;
+        } else if (previous != null) {
+            return previous + 1;
+        } else if (next != null) {
+            return next - 1;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Writes the row of {@code transaction} with the given id and position, together with its payees.
+     */
+    private void saveTransaction(Transaction transaction, long id, double position, YearMonth period,
+                                 SqlAddressBookDatabase database) throws SQLException {
+        int payerId = idOfReferenced(transaction.getPayer(), database);
+        List<Integer> payeeIds = new ArrayList<>();
+        for (Person payee : transaction.getPayees()) {
+            payeeIds.add(idOfReferenced(payee, database));
+        }
+        database.mergeTransaction(id, position, period, transaction, payerId, payeeIds);
+        recordTransaction(transaction, id, position, period);
+        rowsWritten++;
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.DataFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DebtsTable;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database on the hard disk.
+ * Persons, tags, transactions and debts are kept in indexed tables. Saving the address book only writes the rows
+ * that changed since it was last read or saved by this storage, in a single database transaction, so a save that
+ * fails leaves the previous data intact.
+ * Only the transactions of the most recent months are read with the address book; older months are left in the
+ * database as {@code TransactionSegment}s, and can be found and loaded with indexed queries.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage, TransactionSegmentLoader {
+
+    public static final String DATABASE_FILE_SUFFIX = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private String filePath;
+    private final int recentTransactionMonths;
+
+    /** The database whose rows are described by {@link #rows}, or null if no database was read or saved yet. */
+    private String rowsFilePath;
+    private SqlAddressBookRows rows;
+
+    public SqlAddressBookStorage(String filePath) {
+        this(filePath, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param recentTransactionMonths the number of months of transactions to load when the address book is read.
+     */
+    public SqlAddressBookStorage(String filePath, int recentTransactionMonths) {
+        this.filePath = filePath;
+        this.recentTransactionMonths = recentTransactionMonths;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file that the database for {@code filePath} is kept in.
+     * The H2 database engine requires database files to end with {@link #DATABASE_FILE_SUFFIX}, which is added to
+     * {@code filePath} if it does not already end with it.
+     */
+    public static String getDatabaseFilePath(String filePath) {
+        return filePath.endsWith(DATABASE_FILE_SUFFIX) ? filePath : filePath + DATABASE_FILE_SUFFIX;
+    }
+
+    /**
+     * Returns the number of rows written by the last save, for testing.
+     */
+    int getLastSaveRowsWritten() {
+        return rows == null ? 0 : rows.getRowsWritten();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * If there is no database for {@code filePath}, but {@code filePath} is an address book file in another
+     * {@link DataFormat}, that file is read instead, and the address book is written to the database when it is
+     * next saved.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File databaseFile = new File(getDatabaseFilePath(filePath));
+        if (!databaseFile.exists()) {
+            File addressBookFile = new File(filePath);
+            if (addressBookFile.exists() && DataFormat.detect(addressBookFile) != DataFormat.H2) {
+                DataFormat format = DataFormat.detect(addressBookFile);
+                logger.info("Reading " + format + " AddressBook file " + addressBookFile);
+                return AddressBookStorage.forFormat(format, filePath, Compression.NONE).readAddressBook(filePath);
+            }
+            logger.info("AddressBook database "  + databaseFile + " not found");
+            return Optional.empty();
+        }
+
+        try (SqlAddressBookDatabase database = SqlAddressBookDatabase.open(databaseFile.getPath())) {
+            SqlAddressBookRows readRows = new SqlAddressBookRows();
+            AddressBook addressBook = readAddressBook(database, filePath, readRows);
+            rowsFilePath = filePath;
+            rows = readRows;
+            return Optional.of(addressBook);
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + databaseFile + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the address book in {@code database}, recording the rows read in {@code readRows}.
+     */
+    private AddressBook readAddressBook(SqlAddressBookDatabase database, String filePath,
+                                        SqlAddressBookRows readRows) throws SQLException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (String tagName : database.readTags()) {
+            addressBook.addTag(new XmlAdaptedTag(tagName).toModelType());
+            readRows.recordTag(tagName);
+        }
+
+        Map<Integer, Person> personsById = new HashMap<>();
+        for (SqlAddressBookDatabase.PersonRow row : database.readPersons()) {
+            Person person = row.person.toModelType();
+            if (row.isCurrent) {
+                addressBook.addPerson(person);
+                person = getAddedPerson(addressBook, person);
+            }
+            personsById.put(row.id, person);
+            readRows.recordPerson(row.id, person, row.isCurrent);
+        }
+
+        DebtsTable debtsTable = new DebtsTable();
+        for (SqlAddressBookDatabase.DebtRow row : database.readDebts()) {
+            new XmlAdaptedDebt(row.debtorId, row.creditorId, row.balance).addTo(debtsTable, personsById);
+            readRows.recordDebt(row.debtorId, row.creditorId, row.balance);
+        }
+
+        List<Map.Entry<YearMonth, Integer>> counts = new ArrayList<>(database.readTransactionCounts().entrySet());
+        int firstRecentMonth = Math.max(0, counts.size() - recentTransactionMonths);
+        List<TransactionSegment> olderSegments = new ArrayList<>();
+        for (Map.Entry<YearMonth, Integer> count : counts.subList(0, firstRecentMonth)) {
+            olderSegments.add(new TransactionSegment(count.getKey(), filePath, count.getValue()));
+        }
+        List<Transaction> transactions = new ArrayList<>();
+        PersonInterner interner = new PersonInterner(addressBook.getPersonList());
+        for (Map.Entry<YearMonth, Integer> count : counts.subList(firstRecentMonth, counts.size())) {
+            transactions.addAll(readTransactions(database, count.getKey(), personsById, interner, readRows));
+        }
+
+        addressBook.setTransactions(transactions);
+        addressBook.setUnloadedTransactionSegments(olderSegments);
+        addressBook.setDebtsTable(debtsTable);
+        readRows.recordNextIds(database.readMaxPersonId() + 1, database.readMaxTransactionId() + 1);
+        readRows.recordChangeStamps(addressBook);
+        return addressBook;
+    }
+
+    /**
+     * Returns the instance of {@code person} that was added to {@code addressBook}.
+     */
+    private static Person getAddedPerson(AddressBook addressBook, Person person) {
+        try {
+            return addressBook.getPerson(person.getName());
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The person was just added", pnfe);
+        }
+    }
+
+    /**
+     * Reads the transactions of {@code period}, recording the rows read in {@code readRows}.
+     * The payers and payees of the transactions are canonicalized with {@code interner}.
+     */
+    private static List<Transaction> readTransactions(SqlAddressBookDatabase database, YearMonth period,
+                                                      Map<Integer, Person> personsById, PersonInterner interner,
+                                                      SqlAddressBookRows readRows)
+            throws SQLException, IllegalValueException {
+        List<SqlAddressBookDatabase.TransactionRow> rows = database.readTransactions(period);
+        List<Transaction> transactions = TransactionDecoder.decode(rows.stream().map(row -> row.transaction)
+                .collect(Collectors.toList()), personsById, interner);
+        for (int i = 0; i < rows.size(); i++) {
+            readRows.recordTransaction(transactions.get(i), rows.get(i).id, rows.get(i).position, period);
+        }
+        return transactions;
+    }
+
+    @Override
+    public List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException {
+        requireNonNull(segment);
+        // a database that this storage has read or saved holds every segment, and its rows must be recorded
+        boolean isRecorded = rowsFilePath != null;
+        String segmentFilePath = isRecorded ? rowsFilePath : segment.getLocation();
+        try (SqlAddressBookDatabase database = SqlAddressBookDatabase.open(getDatabaseFilePath(segmentFilePath))) {
+            Map<Integer, Person> personsById = new HashMap<>();
+            for (SqlAddressBookDatabase.PersonRow row : database.readPersons()) {
+                personsById.put(row.id, row.person.toModelType());
+            }
+            return readTransactions(database, segment.getPeriod(), personsById, new PersonInterner(persons),
+                    isRecorded ? rows : new SqlAddressBookRows());
+        } catch (SQLException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the segments in {@code segments} that have transactions paid by or for {@code person}, found with the
+     * indexes of the database.
+     */
+    @Override
+    public List<TransactionSegment> findTransactionSegmentsWith(Person person, List<TransactionSegment> segments)
+            throws DataConversionException {
+        requireNonNull(person);
+        List<TransactionSegment> matchingSegments = new ArrayList<>();
+        if (segments.isEmpty()) {
+            return matchingSegments;
+        }
+        String segmentFilePath = rowsFilePath != null ? rowsFilePath : segments.get(0).getLocation();
+        try (SqlAddressBookDatabase database = SqlAddressBookDatabase.open(getDatabaseFilePath(segmentFilePath))) {
+            Set<YearMonth> periods = database.readPeriodsWith(RecordContents.keyOf(person));
+            for (TransactionSegment segment : segments) {
+                if (periods.contains(segment.getPeriod())) {
+                    matchingSegments.add(segment);
+                }
+            }
+            return matchingSegments;
+        } catch (SQLException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Saving to a database other than the one last read or saved writes the whole address book, including the
+     * transactions that are still in storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isNewDatabase = !filePath.equals(rowsFilePath);
+        List<Transaction> olderTransactions = new ArrayList<>();
+        if (isNewDatabase) {
+            for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+                try {
+                    olderTransactions.addAll(loadTransactionSegment(segment, addressBook.getPersonList()));
+                } catch (DataConversionException e) {
+                    throw new IOException("Transactions of " + segment + " could not be copied", e);
+                }
+            }
+        }
+
+        File databaseFile = new File(getDatabaseFilePath(filePath));
+        FileUtil.createParentDirsOfFile(databaseFile);
+        SqlAddressBookRows savedRows = isNewDatabase ? new SqlAddressBookRows() : rows;
+        try (SqlAddressBookDatabase database = SqlAddressBookDatabase.open(databaseFile.getPath())) {
+            if (isNewDatabase) {
+                database.deleteAll();
+            }
+            savedRows.save(addressBook, olderTransactions, database);
+            database.commit();
+        } catch (SQLException e) {
+            // the rows that were not committed are unknown, so the next save writes everything again
+            rowsFilePath = null;
+            rows = null;
+            throw new IOException(e);
+        }
+        rowsFilePath = filePath;
+        rows = savedRows;
+    }
+
+    @Override
+    public void discardSavedState() {
+        rowsFilePath = null;
+        rows = null;
+    }
+}
@@ -1,18 +1,22 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFileChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ModelStorage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, ModelStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -30,7 +34,52 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Returns the names of the blocks of {@code addressBook}, which was just read, that do not match the hashes
+     * saved with it. Only the transactions that were loaded are checked; none if no hashes were saved with it.
+     */
+    List<String> findBlocksNotMatchingReadHashes(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Copies the stored address book, as it is, next to it so that it is kept when the address book is saved again.
+     * @return the path of the copy of the data file.
+     * @throws IOException if the address book could not be copied.
+     */
+    String backUpAddressBook() throws IOException;
+
+    /**
+     * Starts watching the data file for changes made by anything other than this storage, such as a sync tool or
+     * another instance of the app. An {@link AddressBookFileChangedEvent} is raised through {@code eventExecutor}
+     * for each change, with the parts of the stored address book that changed already read.
+     * @throws IOException if the data file cannot be watched.
+     */
+    void startWatchingAddressBookFile(Executor eventExecutor) throws IOException;
+
+    /**
+     * Stops watching the data file, if it is being watched.
+     */
+    void stopWatchingAddressBookFile();
+
+    /**
+     * Holds back the saves that changes to the Address Book would make while {@code isDeferred} is true, so that
+     * a run of changes is saved at once by {@link #saveDeferredChanges()}.
+     */
+    void setSavingDeferred(boolean isDeferred);
+
+    /**
+     * Saves the latest version of the Address Book whose save was held back, if there is one.
+     */
+    void saveDeferredChanges() throws IOException;
+
+    /**
+     * Writes the indexes of the Address Books saved since their indexes were last written, next to their data files.
+     * The indexes are written as a whole, so they are left out of each save and written when the app stops, which
+     * keeps the cost of a save in line with the change.
+     */
+    void saveIndexes();
+
+    /**
+     * Saves the current version of the Address Book to the hard disk, unless saving is deferred or it was already
+     * saved by {@link #saveSnapshot}.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
@@ -1,27 +1,102 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.JAXBException;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter.HandlerThread;
+import seedu.address.commons.core.HandledOn;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFileChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.FlightRecording;
+import seedu.address.commons.jfr.StorageLoadEvent;
+import seedu.address.commons.jfr.StorageSaveEvent;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookFileChange;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.DebtsList;
+import seedu.address.model.ExportFilter;
+import seedu.address.model.ExportReport;
+import seedu.address.model.LedgerCheckpoint;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VerificationReport;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * The hashes of the blocks of the address book are saved next to its data file whenever it is saved. The indexes
+ * that it can be queried by without being read are saved next to it by {@link #saveIndexes()}, as they are
+ * written as a whole, and its archived transactions are kept next to it in a compressed file that is only written
+ * and read on demand.
+ * The data file can be watched for changes made by others, which are told apart from its own saves by the state of
+ * the file when it was last read or saved.
  */
+@HandledOn(HandlerThread.STORAGE)
 public class StorageManager extends ComponentManager implements Storage {
+    public static final String LOAD_LATENCY = "storage.load";
+    public static final String SAVED_BYTES = "storage.save.bytes";
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String BACKUP_SUFFIX_FORMAT = "'.corrupted-'yyyyMMdd-HHmmss";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final AddressBookHasher hasher = new AddressBookHasher();
+    private AddressBookHashes readHashes;
+    private final AddressBookIndexer indexer = new AddressBookIndexer();
+    /** The address books saved since their indexes were last written, by the file they were saved to. */
+    private final Map<String, ReadOnlyAddressBook> unindexedAddressBooks = new LinkedHashMap<>();
+    /** The state of the data file when this storage last read or saved it, to tell its own changes from others. */
+    private String savedFileStamp;
+    /** The hashes of the address book that this storage last read or saved, to tell which parts others changed. */
+    private AddressBookHashes savedHashes;
+    private AddressBookFileWatcher addressBookFileWatcher;
+    private boolean isSavingDeferred;
+    /** The latest version of the address book whose save was held back, if any. */
+    private ReadOnlyAddressBook deferredAddressBook;
+    /** The address book last saved to the data file, so that a snapshot saved ahead of its event is not saved again. */
+    private ReadOnlyAddressBook savedAddressBook;
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -60,9 +135,30 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     @Override
-    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        long startNanos = System.nanoTime();
+        StorageLoadEvent loadEvent = FlightRecording.isEnabled() ? new StorageLoadEvent() : null;
+        String fileStamp = getFileStamp(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        readHashes = addressBook.isPresent() ? readHashes(filePath).orElse(null) : null;
+        if (readHashes != null) {
+            hasher.seed(addressBook.get(), readHashes);
+        }
+        if (addressBook.isPresent()) {
+            seedIndexer(addressBook.get(), filePath);
+        }
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            savedFileStamp = fileStamp;
+            savedHashes = readHashes;
+        }
+        MetricsCenter.getInstance().getHistogram(LOAD_LATENCY).recordSince(startNanos);
+        if (loadEvent != null) {
+            loadEvent.commit(filePath, addressBook.map(book -> book.getPersonList().size()).orElse(0),
+                    addressBook.map(book -> book.getTransactionList().size()).orElse(0));
+        }
+        return addressBook;
     }
 
     @Override
@@ -71,14 +167,549 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     @Override
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long startNanos = System.nanoTime();
+        StorageSaveEvent saveEvent = FlightRecording.isEnabled() ? new StorageSaveEvent() : null;
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        AddressBookHashes hashes = saveHashes(addressBook, filePath);
+        unindexedAddressBooks.put(filePath, addressBook);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            savedFileStamp = getFileStamp(filePath);
+            savedHashes = hashes;
+            savedAddressBook = addressBook;
+        }
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.getHistogram(MetricsCenter.SAVE_LATENCY).recordSince(startNanos);
+        if (addressBookStorage.getLastSaveBytesWritten() >= 0) {
+            metrics.getCounter(SAVED_BYTES).add(addressBookStorage.getLastSaveBytesWritten());
+        }
+        if (saveEvent != null) {
+            saveEvent.commit(filePath, addressBook.getPersonList().size(), addressBook.getTransactionList().size(),
+                    addressBookStorage.getLastSaveBytesWritten());
+        }
+    }
+
+    /**
+     * Saves the hashes of {@code addressBook} next to {@code filePath}, which it was just saved to, and returns them.
+     * If they cannot be computed, the stale hashes are deleted instead, so that they are not taken for corruption,
+     * and null is returned.
+     */
+    private AddressBookHashes saveHashes(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        String hashesFilePath = AddressBookHashes.getHashesFilePath(filePath);
+        try {
+            AddressBookHashes hashes = hasher.hash(addressBook, getTransactionSegmentLoader());
+            JsonUtil.saveJsonFile(hashes, hashesFilePath);
+            return hashes;
+        } catch (DataConversionException e) {
+            logger.warning("Failed to hash the address book: " + StringUtil.getDetails(e));
+            Files.deleteIfExists(new File(hashesFilePath).toPath());
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized void saveIndexes() {
+        for (Map.Entry<String, ReadOnlyAddressBook> unindexed : unindexedAddressBooks.entrySet()) {
+            saveIndex(unindexed.getValue(), unindexed.getKey());
+        }
+        unindexedAddressBooks.clear();
+    }
+
+    /**
+     * Saves the index of {@code addressBook} next to {@code filePath}, which it was last saved to, and counts its
+     * bytes as saved. If it cannot be written, the stale index is deleted instead, so that queries do not answer
+     * from it.
+     */
+    private void saveIndex(ReadOnlyAddressBook addressBook, String filePath) {
+        File indexFile = new File(AddressBookIndex.getIndexFilePath(filePath));
+        try {
+            indexer.write(addressBook, getTransactionSegmentLoader(), indexFile.getPath());
+            MetricsCenter.getInstance().getCounter(SAVED_BYTES).add(indexFile.length());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to index the address book: " + StringUtil.getDetails(e));
+            if (indexFile.exists() && !indexFile.delete()) {
+                logger.warning("Failed to delete the stale index " + indexFile);
+            }
+        }
+    }
+
+    /**
+     * Seeds the indexer with the index saved with {@code addressBook}, which was just read from {@code filePath},
+     * if it is up to date.
+     */
+    private void seedIndexer(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        try {
+            AddressBookIndex.readUpToDate(filePath).ifPresent(index -> indexer.seed(addressBook, index));
+        } catch (DataConversionException e) {
+            logger.warning("Ignoring unreadable index of " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the hashes saved with the address book at {@code filePath}, if there are any that can be compared
+     * with the hashes computed now.
+     */
+    private static Optional<AddressBookHashes> readHashes(String filePath) {
+        try {
+            return JsonUtil.readJsonFile(AddressBookHashes.getHashesFilePath(filePath), AddressBookHashes.class)
+                    .filter(hashes -> hashes.getBlockSize() == AddressBookHashes.BLOCK_SIZE);
+        } catch (DataConversionException e) {
+            logger.warning("Ignoring unreadable hashes of " + filePath + ": " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the hashes saved with the address book at {@code filePath}, if there are any that can be compared
+     * with the hashes computed now and they were saved after the address book.
+     */
+    private static Optional<AddressBookHashes> readUpToDateHashes(String filePath) {
+        long hashesLastModified = new File(AddressBookHashes.getHashesFilePath(filePath)).lastModified();
+        return hashesLastModified >= AddressBookStorage.getLastModified(filePath)
+                ? readHashes(filePath) : Optional.empty();
+    }
+
+    /**
+     * Returns the state of the files that the address book at {@code filePath} is stored in, which changes whenever
+     * any of them is written.
+     */
+    private static String getFileStamp(String filePath) {
+        File dataFile = new File(filePath);
+        File databaseFile = new File(SqlAddressBookStorage.getDatabaseFilePath(filePath));
+        return dataFile.lastModified() + ":" + dataFile.length() + ":"
+                + databaseFile.lastModified() + ":" + databaseFile.length();
+    }
+
+    private TransactionSegmentLoader getTransactionSegmentLoader() {
+        return addressBookStorage instanceof TransactionSegmentLoader
+                ? (TransactionSegmentLoader) addressBookStorage : null;
+    }
+
+    @Override
+    public List<String> findBlocksNotMatchingReadHashes(ReadOnlyAddressBook addressBook) {
+        if (readHashes == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return hasher.hash(addressBook, getTransactionSegmentLoader()).diff(readHashes);
+        } catch (DataConversionException e) {
+            throw new AssertionError("Months that are still in storage were seeded with the read hashes", e);
+        }
+    }
+
+    @Override
+    public VerificationReport verifyAddressBook(ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        String filePath = addressBookStorage.getAddressBookFilePath();
+        Optional<AddressBookHashes> storedHashes = readHashes(filePath);
+        if (!storedHashes.isPresent()) {
+            return VerificationReport.withoutStoredHashes();
+        }
+        // the stored copy is read by a separate storage, so that what this storage has saved is left as it is
+        AddressBookStorage storedCopyStorage = AddressBookStorage.forExistingFile(filePath);
+        Optional<ReadOnlyAddressBook> storedCopy = storedCopyStorage.readAddressBook();
+        if (!storedCopy.isPresent()) {
+            throw new DataConversionException(new IOException("The data file " + filePath + " is missing"));
+        }
+        AddressBookHashes storedCopyHashes = new AddressBookHasher().hash(storedCopy.get(),
+                storedCopyStorage instanceof TransactionSegmentLoader
+                        ? (TransactionSegmentLoader) storedCopyStorage : null);
+        return new VerificationReport(true, storedHashes.get().getBlockCount(),
+                storedCopyHashes.diff(storedHashes.get()),
+                hasher.hash(addressBook, getTransactionSegmentLoader()).diff(storedHashes.get()));
+    }
+
+    @Override
+    public AddressBookDelta readDelta(String filePath, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        AddressBookHashes hashes = hasher.hash(addressBook, getTransactionSegmentLoader());
+        Optional<AddressBookHashes> otherStoredHashes = readHashes(filePath);
+        if (otherStoredHashes.isPresent() && hashes.diff(otherStoredHashes.get()).isEmpty()) {
+            return AddressBookDelta.none();
+        }
+
+        // the months of the other copy are left in storage, so that only the months that differ are read
+        AddressBookStorage otherStorage = AddressBookStorage.forExistingFile(filePath, 0);
+        TransactionSegmentLoader otherLoader = (TransactionSegmentLoader) otherStorage;
+        Optional<ReadOnlyAddressBook> other = otherStorage.readAddressBook();
+        if (!other.isPresent()) {
+            throw new IOException("There is no address book at " + filePath);
+        }
+        AddressBookHashes otherHashes = otherStoredHashes.isPresent()
+                ? otherStoredHashes.get() : new AddressBookHasher().hash(other.get(), otherLoader);
+
+        List<Person> missingPersons = new ArrayList<>();
+        List<String> conflictingPersonNames = new ArrayList<>();
+        if (hashes.isPersonsDifferent(otherHashes)) {
+            Map<String, Person> persons = new HashMap<>();
+            addressBook.getPersonList().forEach(person -> persons.put(RecordContents.keyOf(person), person));
+            for (Person otherPerson : other.get().getPersonList()) {
+                Person person = persons.get(RecordContents.keyOf(otherPerson));
+                if (person == null) {
+                    missingPersons.add(otherPerson);
+                } else if (!RecordContents.detailsOf(person).equals(RecordContents.detailsOf(otherPerson))) {
+                    conflictingPersonNames.add(person.getName().fullName);
+                }
+            }
+        }
+
+        List<Transaction> missingTransactions = new ArrayList<>();
+        for (YearMonth month : hashes.getDifferentMonths(otherHashes)) {
+            Map<String, Integer> counts = new HashMap<>();
+            for (Transaction transaction : getTransactionsOf(month, addressBook, getTransactionSegmentLoader())) {
+                counts.merge(RecordContents.of(transaction), 1, Integer::sum);
+            }
+            for (Transaction otherTransaction : getTransactionsOf(month, other.get(), otherLoader)) {
+                String contents = RecordContents.of(otherTransaction);
+                if (counts.getOrDefault(contents, 0) > 0) {
+                    counts.merge(contents, -1, Integer::sum);
+                } else {
+                    missingTransactions.add(otherTransaction);
+                }
+            }
+        }
+        return new AddressBookDelta(hashes.diff(otherHashes).size(), missingPersons, conflictingPersonNames,
+                missingTransactions);
+    }
+
+    /**
+     * Returns the transactions of {@code month} in {@code addressBook}, including those still in storage, which
+     * are loaded with {@code loader} without being added to {@code addressBook}.
+     */
+    private static List<Transaction> getTransactionsOf(YearMonth month, ReadOnlyAddressBook addressBook,
+                                                       TransactionSegmentLoader loader)
+            throws DataConversionException {
+        List<Transaction> transactions = addressBook.getTransactionList().stream()
+                .filter(transaction -> TransactionSegment.periodOf(transaction).equals(month))
+                .collect(Collectors.toList());
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            if (segment.getPeriod().equals(month)) {
+                transactions.addAll(loader.loadTransactionSegment(segment, addressBook.getPersonList()));
+            }
+        }
+        return transactions;
+    }
+
+    @Override
+    public String backUpAddressBook() throws IOException {
+        String filePath = addressBookStorage.getAddressBookFilePath();
+        String backupSuffix = new SimpleDateFormat(BACKUP_SUFFIX_FORMAT).format(new Date());
+        // the database comes first, as the data file is only read when there is no database
+        File[] files = {new File(SqlAddressBookStorage.getDatabaseFilePath(filePath)), new File(filePath),
+            new File(AddressBookHashes.getHashesFilePath(filePath)),
+            TransactionSegmentFiles.getSegmentsFolder(filePath)};
+        String backupFilePath = null;
+        for (File file : files) {
+            File backup = new File(file.getPath() + backupSuffix);
+            if (file.isDirectory()) {
+                Files.createDirectories(backup.toPath());
+                for (File segmentFile : file.listFiles()) {
+                    Files.copy(segmentFile.toPath(), new File(backup, segmentFile.getName()).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            } else if (file.exists()) {
+                Files.copy(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                backupFilePath = backupFilePath == null ? backup.getPath() : backupFilePath;
+            }
+        }
+        if (backupFilePath == null) {
+            throw new IOException("There is no data file at " + filePath + " to back up");
+        }
+        logger.info("Backed up the address book to " + backupFilePath);
+        return backupFilePath;
+    }
+
+    // ================ Watching methods ==============================
+
+    @Override
+    public synchronized void startWatchingAddressBookFile(Executor eventExecutor) throws IOException {
+        requireNonNull(eventExecutor);
+        stopWatchingAddressBookFile();
+        File dataFile = new File(addressBookStorage.getAddressBookFilePath()).getAbsoluteFile();
+        File folder = dataFile.getParentFile();
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Unable to create folder " + folder);
+        }
+        Set<String> fileNames = new HashSet<>(Arrays.asList(dataFile.getName(),
+                new File(SqlAddressBookStorage.getDatabaseFilePath(dataFile.getPath())).getName()));
+        addressBookFileWatcher = new AddressBookFileWatcher(folder, fileNames, () -> {
+            try {
+                readExternalChange().ifPresent(change ->
+                        eventExecutor.execute(() -> raise(new AddressBookFileChangedEvent(change))));
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to read the changes made to the data file: " + StringUtil.getDetails(e));
+            }
+        });
+        addressBookFileWatcher.start();
+        logger.info("Watching " + dataFile + " for changes made by others");
+    }
+
+    @Override
+    public synchronized void stopWatchingAddressBookFile() {
+        if (addressBookFileWatcher != null) {
+            addressBookFileWatcher.stop();
+            addressBookFileWatcher = null;
+        }
+    }
+
+    /**
+     * Returns the change made to the data file since this storage last read or saved it, if anything other than
+     * this storage changed it.
+     * Only the hashes saved with the stored copy are compared with the hashes this storage last read or saved, if
+     * they are up to date, and only the months whose hashes differ are loaded from the stored copy where it leaves
+     * months in storage. As the data this storage saved was changed, its next save writes the address book as a
+     * whole.
+     * @throws DataConversionException if the stored copy is not in the expected format, in which case the change is
+     *     read again when the data file next changes.
+     */
+    synchronized Optional<AddressBookFileChange> readExternalChange() throws DataConversionException, IOException {
+        String filePath = addressBookStorage.getAddressBookFilePath();
+        String fileStamp = getFileStamp(filePath);
+        if (fileStamp.equals(savedFileStamp)) {
+            return Optional.empty();
+        }
+        // the index of what this storage saved would be newer than the data of others, and answer for it
+        unindexedAddressBooks.remove(filePath);
+
+        AddressBookStorage storedCopyStorage = AddressBookStorage.forExistingFile(filePath, 0);
+        TransactionSegmentLoader storedCopyLoader = (TransactionSegmentLoader) storedCopyStorage;
+        Optional<ReadOnlyAddressBook> storedCopy = storedCopyStorage.readAddressBook();
+        savedFileStamp = fileStamp;
+        if (!storedCopy.isPresent()) {
+            logger.info("The data file " + filePath + " was deleted, it is written again on the next save");
+            return Optional.empty();
+        }
+        Optional<AddressBookHashes> storedHashes = readUpToDateHashes(filePath);
+        AddressBookHashes storedCopyHashes = storedHashes.isPresent()
+                ? storedHashes.get() : new AddressBookHasher().hash(storedCopy.get(), storedCopyLoader);
+
+        // without the hashes of what this storage last read or saved, every month has to be compared
+        boolean isEveryMonthChanged = savedHashes == null;
+        List<YearMonth> changedMonths = isEveryMonthChanged
+                ? storedCopyHashes.getMonths() : storedCopyHashes.getDifferentMonths(savedHashes);
+        Map<YearMonth, List<Transaction>> changedMonthTransactions = new HashMap<>();
+        for (YearMonth month : changedMonths) {
+            changedMonthTransactions.put(month, getTransactionsOf(month, storedCopy.get(), storedCopyLoader));
+        }
+        ExternalAddressBookChange change = new ExternalAddressBookChange(storedCopy.get(),
+                isEveryMonthChanged || storedCopyHashes.isPersonsDifferent(savedHashes), changedMonthTransactions,
+                isEveryMonthChanged);
+        savedHashes = storedCopyHashes;
+        if (change.isEmpty()) {
+            return Optional.empty();
+        }
+        addressBookStorage.discardSavedState();
+        logger.info("The data file " + filePath + " was changed by others, " + changedMonths.size()
+                + " months of transactions read");
+        return Optional.of(change);
+    }
+
+    // ================ Export methods ==============================
+
+    @Override
+    public ExportReport exportAddressBook(ReadOnlyAddressBook addressBook, ExportFilter filter, ExportFormat format,
+                                          String filePath) throws DataConversionException, IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filter);
+        requireNonNull(format);
+        requireNonNull(filePath);
+        int personCount = 0;
+        int debtCount = 0;
+        int transactionCount = 0;
+        try (ExportWriter writer = format == ExportFormat.CSV
+                ? new CsvExportWriter(filePath) : new JsonExportWriter(filePath)) {
+            for (Person person : addressBook.getPersonList()) {
+                if (filter.isExported(person)) {
+                    writer.writePerson(person);
+                    personCount++;
+                }
+            }
+            for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+                for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                    // each debt is in the table both ways, and only the way round in which it is owed is written
+                    if (debt.getValue().getDoubleValue() > 0
+                            && filter.isExported(debtsListEntry.getKey(), debt.getKey())) {
+                        writer.writeDebt(debtsListEntry.getKey(), debt.getKey(), debt.getValue());
+                        debtCount++;
+                    }
+                }
+            }
+            // the months left in storage are older than those in memory, and are written oldest first
+            for (TransactionSegment segment : getSegmentsToExport(addressBook, filter)) {
+                for (Transaction transaction : getTransactionSegmentLoader().loadTransactionSegment(segment,
+                        addressBook.getPersonList())) {
+                    transactionCount += exportTransaction(transaction, filter, writer);
+                }
+            }
+            for (Transaction transaction : addressBook.getTransactionList()) {
+                transactionCount += exportTransaction(transaction, filter, writer);
+            }
+            logger.info("Exported the address book to " + writer.getFilePaths());
+            return new ExportReport(writer.getFilePaths(), personCount, debtCount, transactionCount);
+        }
+    }
+
+    /**
+     * Returns the segments that {@code addressBook} left in storage that may have transactions that {@code filter}
+     * exports, oldest first.
+     */
+    private List<TransactionSegment> getSegmentsToExport(ReadOnlyAddressBook addressBook, ExportFilter filter)
+            throws DataConversionException {
+        List<TransactionSegment> segments = addressBook.getUnloadedTransactionSegments().stream()
+                .filter(segment -> filter.mayExportTransactionsOf(segment.getPeriod()))
+                .sorted(Comparator.comparing(TransactionSegment::getPeriod))
+                .collect(Collectors.toList());
+        if (segments.isEmpty()) {
+            return segments;
+        }
+        TransactionSegmentLoader loader = getTransactionSegmentLoader();
+        if (loader == null) {
+            throw new DataConversionException(new IOException("Transactions left in storage cannot be loaded"));
+        }
+        return filter.getPerson().isPresent()
+                ? loader.findTransactionSegmentsWith(filter.getPerson().get(), segments) : segments;
+    }
+
+    /**
+     * Writes {@code transaction} with {@code writer} if {@code filter} exports it, and returns the number of
+     * transactions written.
+     */
+    private static int exportTransaction(Transaction transaction, ExportFilter filter, ExportWriter writer)
+            throws IOException {
+        if (!filter.isExported(transaction)) {
+            return 0;
+        }
+        writer.writeTransaction(transaction);
+        return 1;
+    }
+
+    // ================ TransactionSegmentLoader methods ==============================
+
+    /**
+     * Loads {@code segment} with the address book storage. Segments are loaded under the same lock as the saves,
+     * which write the segment files and update what the address book storage knows about them.
+     * @throws DataConversionException if the address book storage cannot load segments.
+     */
+    @Override
+    public synchronized List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException {
+        TransactionSegmentLoader loader = getTransactionSegmentLoader();
+        if (loader == null) {
+            throw new DataConversionException(new UnsupportedOperationException(
+                    addressBookStorage.getClass().getSimpleName() + " does not leave transactions in storage"));
+        }
+        return loader.loadTransactionSegment(segment, persons);
+    }
+
+    @Override
+    public synchronized List<TransactionSegment> findTransactionSegmentsWith(Person person,
+                                                                            List<TransactionSegment> segments)
+            throws DataConversionException {
+        TransactionSegmentLoader loader = getTransactionSegmentLoader();
+        return loader == null ? segments : loader.findTransactionSegmentsWith(person, segments);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public void archiveTransactions(LedgerCheckpoint checkpoint) throws IOException {
+        requireNonNull(checkpoint);
+        File archiveFile = getArchiveFile();
+        List<LedgerCheckpoint> checkpoints;
+        try {
+            checkpoints = new ArrayList<>(readArchivedTransactions(Collections.emptyList()));
+        } catch (DataConversionException e) {
+            throw new IOException("The archive " + archiveFile + " cannot be read to add to it", e);
+        }
+        checkpoints.add(checkpoint);
+
+        // the archive is written next to it first, so that a failed write leaves the archive as it was
+        File temporaryFile = new File(archiveFile.getPath() + TEMPORARY_FILE_EXTENSION);
+        FileUtil.createIfMissing(temporaryFile);
+        try {
+            XmlUtil.saveDataToFile(temporaryFile, new XmlSerializableTransactionArchive(checkpoints),
+                    Compression.GZIP);
+        } catch (JAXBException e) {
+            Files.deleteIfExists(temporaryFile.toPath());
+            throw new IOException(e);
+        }
+        Files.move(temporaryFile.toPath(), archiveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Archived " + checkpoint + " to " + archiveFile);
+    }
+
+    @Override
+    public List<LedgerCheckpoint> readArchivedTransactions(List<Person> knownPersons)
+            throws DataConversionException, IOException {
+        requireNonNull(knownPersons);
+        File archiveFile = getArchiveFile();
+        if (!archiveFile.exists()) {
+            return Collections.emptyList();
+        }
+        try {
+            return XmlUtil.getDataFromFile(archiveFile, XmlSerializableTransactionArchive.class)
+                    .toModelType(knownPersons);
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private File getArchiveFile() {
+        return new File(XmlSerializableTransactionArchive.getArchiveFilePath(
+                addressBookStorage.getAddressBookFilePath()));
+    }
+
+    @Override
+    public synchronized void saveSnapshot(AddressBookSnapshot snapshot) throws IOException {
+        requireNonNull(snapshot);
+        if (isSaved(snapshot)) {
+            return;
+        }
+        saveAddressBook(snapshot);
+    }
+
+    /**
+     * Returns true if {@code addressBook} was the last address book saved to the data file, or is a snapshot older
+     * than the last snapshot saved there.
+     */
+    private boolean isSaved(ReadOnlyAddressBook addressBook) {
+        if (addressBook == savedAddressBook) {
+            return true;
+        }
+        return addressBook instanceof AddressBookSnapshot && savedAddressBook instanceof AddressBookSnapshot
+                && ((AddressBookSnapshot) addressBook).getVersion()
+                        < ((AddressBookSnapshot) savedAddressBook).getVersion();
+    }
+
+    @Override
+    public synchronized void setSavingDeferred(boolean isDeferred) {
+        isSavingDeferred = isDeferred;
+    }
+
+    @Override
+    public synchronized void saveDeferredChanges() throws IOException {
+        if (deferredAddressBook == null) {
+            return;
+        }
+        if (!isSaved(deferredAddressBook)) {
+            saveAddressBook(deferredAddressBook);
+        }
+        deferredAddressBook = null;
     }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        synchronized (this) {
+            if (isSaved(event.data)) {
+                return;
+            }
+            if (isSavingDeferred) {
+                // the published data is never changed afterwards, so it can be saved later as it is
+                deferredAddressBook = event.data;
+                return;
+            }
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
             saveAddressBook(event.data);
@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * Converts stored transactions into the model's {@code Transaction}s, using every core for large numbers of them.
+ * The stored transactions are split into chunks of at most {@link #CHUNK_SIZE}, which are validated and converted
+ * in parallel. The results are put together in the stored order, and the persons they refer to are then
+ * canonicalized one transaction at a time, so the outcome is the same as converting them one by one.
+ */
+class TransactionDecoder {
+
+    /** The number of transactions converted by one task. Fewer transactions than this are converted in place. */
+    static final int CHUNK_SIZE = 512;
+
+    /**
+     * The transactions converted from one chunk, or the first error found in it.
+     */
+    private static class Chunk {
+        private final List<Transaction> transactions = new ArrayList<>();
+        private IllegalValueException error;
+    }
+
+    private TransactionDecoder() {} // prevents instantiation
+
+    /**
+     * Returns the model's counterparts of {@code adaptedTransactions}, in the same order.
+     * Payers and payees are resolved against {@code personsById}, which is only read, and embedded ones are
+     * replaced by their canonical instances in {@code interner}.
+     *
+     * @throws IllegalValueException for the first stored transaction, in the stored order, that violates a data
+     *     constraint or refers to an unknown person.
+     */
+    static List<Transaction> decode(List<XmlAdaptedTransaction> adaptedTransactions,
+                                    Map<Integer, Person> personsById, PersonInterner interner)
+            throws IllegalValueException {
+        if (adaptedTransactions.size() <= CHUNK_SIZE) {
+            List<Transaction> transactions = new ArrayList<>();
+            for (XmlAdaptedTransaction adaptedTransaction : adaptedTransactions) {
+                transactions.add(adaptedTransaction.toModelType(personsById, interner));
+            }
+            return transactions;
+        }
+
+        int chunkCount = (adaptedTransactions.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<Chunk> chunks = IntStream.range(0, chunkCount).parallel()
+                .mapToObj(i -> decodeChunk(adaptedTransactions.subList(i * CHUNK_SIZE,
+                        Math.min(adaptedTransactions.size(), (i + 1) * CHUNK_SIZE)), personsById))
+                .collect(Collectors.toList());
+
+        List<Transaction> transactions = new ArrayList<>(adaptedTransactions.size());
+        for (Chunk chunk : chunks) {
+            if (chunk.error != null) {
+                throw chunk.error;
+            }
+            for (Transaction transaction : chunk.transactions) {
+                canonicalize(transaction, interner);
+                transactions.add(transaction);
+            }
+        }
+        return transactions;
+    }
+
+    /**
+     * Converts the transactions of one chunk, stopping at the first one that cannot be converted.
+     * Embedded persons are only shared within the chunk, until they are canonicalized.
+     */
+    private static Chunk decodeChunk(List<XmlAdaptedTransaction> adaptedTransactions,
+                                     Map<Integer, Person> personsById) {
+        Chunk chunk = new Chunk();
+        PersonInterner chunkInterner = new PersonInterner();
+        try {
+            for (XmlAdaptedTransaction adaptedTransaction : adaptedTransactions) {
+                chunk.transactions.add(adaptedTransaction.toModelType(personsById, chunkInterner));
+            }
+        } catch (IllegalValueException e) {
+            chunk.error = e;
+        }
+        return chunk;
+    }
+
+    /**
+     * Replaces the payer and payees of {@code transaction} by their canonical instances in {@code interner}.
+     */
+    private static void canonicalize(Transaction transaction, PersonInterner interner) {
+        Person payer = interner.intern(transaction.getPayer());
+        if (payer != transaction.getPayer()) {
+            transaction.setPayer(payer);
+        }
+
+        boolean isCanonical = true;
+        for (Person payee : transaction.getPayees()) {
+            isCanonical &= interner.intern(payee) == payee;
+        }
+        if (isCanonical) {
+            return;
+        }
+        UniquePersonList payees = new UniquePersonList();
+        try {
+            for (Person payee : transaction.getPayees()) {
+                payees.add(interner.intern(payee));
+            }
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("The payees of a transaction are unique", dpe);
+        }
+        transaction.setPayees(payees);
+    }
+}
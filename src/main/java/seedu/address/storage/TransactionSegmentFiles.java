@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javax.xml.bind.JAXBException;
+
+import com.google.common.io.BaseEncoding;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * Reads and writes the segment files that hold the transactions of a segmented address book, one file per month.
+ * The segment files of the address book file {@code data/book.xml} are kept in the folder {@code data/book.segments}.
+ *
+ * A segment file is named after its month and a hash of its contents, and is never modified once written.
+ * Saving a changed month writes a new file instead, so that an address book that still refers to the old file
+ * (e.g. a copy kept for undo) can load it later. Files that are no longer listed in the manifest of the address
+ * book file are deleted when the address book is read again.
+ *
+ * The segment files last read or written for each month are remembered together with the change stamp of the
+ * month's transactions at that time, so that only the months that changed since then are written again.
+ *
+ * The manifest entry of each segment file has a Bloom filter of the persons in it, so that the segments of a person
+ * can be found without reading every segment file. A filter stays valid for as long as its file exists, as the file
+ * is named after its contents.
+ *
+ * Not thread-safe: the storage manager loads segments under the same lock as it saves them.
+ */
+class TransactionSegmentFiles {
+
+    private static final Logger logger = LogsCenter.getLogger(TransactionSegmentFiles.class);
+
+    private static final String SEGMENTS_FOLDER_EXTENSION = ".segments";
+    private static final String SEGMENT_FILE_EXTENSION = ".xml";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int FILE_NAME_HASH_BYTES = 8;
+
+    private final Map<YearMonth, SavedSegment> savedSegments = new HashMap<>();
+    /** The participant filters of the segment files read or written so far, by file name. */
+    private final Map<String, ParticipantFilter> participantFilters = new HashMap<>();
+    private String savedAddressBookFilePath;
+    private long bytesWritten;
+    private int segmentsWritten;
+
+    /**
+     * Returns the folder that holds the segment files of the address book file at {@code addressBookFilePath}.
+     */
+    static File getSegmentsFolder(String addressBookFilePath) {
+        File addressBookFile = new File(addressBookFilePath);
+        String name = addressBookFile.getName();
+        int extensionIndex = name.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? name.substring(0, extensionIndex) : name;
+        return new File(addressBookFile.getAbsoluteFile().getParentFile(), baseName + SEGMENTS_FOLDER_EXTENSION);
+    }
+
+    /**
+     * Remembers the segment files listed in {@code manifest}, just read from {@code addressBookFilePath} into
+     * {@code addressBook}, as the saved state of their months.
+     */
+    void recordReadSegments(String addressBookFilePath, AddressBook addressBook,
+            List<XmlAdaptedTransactionSegment> manifest) {
+        savedSegments.clear();
+        savedAddressBookFilePath = addressBookFilePath;
+        for (XmlAdaptedTransactionSegment segment : manifest) {
+            YearMonth period = segment.getPeriod();
+            savedSegments.put(period, new SavedSegment(addressBook.getTransactionsChangeStamp(period), segment));
+            segment.getParticipantFilter().ifPresent(filter -> participantFilters.put(segment.getFile(), filter));
+        }
+    }
+
+    /**
+     * Returns false if the participant filter of {@code segment} shows that none of its transactions is paid by or
+     * for {@code person}. Segments whose filter is unknown could have any person.
+     */
+    boolean mightContain(TransactionSegment segment, Person person) {
+        ParticipantFilter filter = participantFilters.get(new File(segment.getLocation()).getName());
+        return filter == null || filter.mightContain(person);
+    }
+
+    /**
+     * Forgets the saved state of every month, so that the next save writes the segment files of all loaded months.
+     */
+    void discardSavedSegments() {
+        savedSegments.clear();
+        savedAddressBookFilePath = null;
+    }
+
+    /**
+     * Saves every transaction of {@code addressBook} into the segment files of {@code addressBookFilePath}
+     * and returns the manifest of the segments, oldest first.
+     * Only the months that changed since they were last read or written are written again.
+     * Segments of {@code addressBook} that are still unloaded are copied over if they are stored elsewhere.
+     */
+    List<XmlAdaptedTransactionSegment> saveSegments(ReadOnlyAddressBook addressBook,
+            String addressBookFilePath, Compression compression) throws IOException {
+        requireNonNull(addressBook);
+        bytesWritten = 0;
+        segmentsWritten = 0;
+        if (!addressBookFilePath.equals(savedAddressBookFilePath)) {
+            savedSegments.clear();
+            savedAddressBookFilePath = addressBookFilePath;
+        }
+        File segmentsFolder = getSegmentsFolder(addressBookFilePath);
+        if (!segmentsFolder.isDirectory() && !segmentsFolder.mkdirs()) {
+            throw new IOException("Unable to create folder " + segmentsFolder);
+        }
+
+        List<XmlAdaptedTransactionSegment> manifest = new ArrayList<>();
+        for (TransactionSegment segment : addressBook.getUnloadedTransactionSegments()) {
+            File segmentFile = new File(segment.getLocation());
+            File target = new File(segmentsFolder, segmentFile.getName());
+            if (!target.exists()) {
+                Files.copy(segmentFile.toPath(), target.toPath());
+                bytesWritten += target.length();
+            }
+            manifest.add(new XmlAdaptedTransactionSegment(segment.getPeriod(), target.getName(), segment.getSize(),
+                    participantFilters.get(target.getName())));
+        }
+        Map<YearMonth, List<Transaction>> months = groupByMonth(addressBook.getTransactionList());
+        for (Map.Entry<YearMonth, List<Transaction>> month : months.entrySet()) {
+            YearMonth period = month.getKey();
+            long changeStamp = addressBook.getTransactionsChangeStamp(period);
+            SavedSegment savedSegment = savedSegments.get(period);
+            // a segment file can be deleted by others that rewrote the address book since it was saved
+            if (savedSegment == null || !savedSegment.isSavedState(changeStamp)
+                    || !new File(segmentsFolder, savedSegment.manifestEntry.getFile()).exists()) {
+                String fileName = saveSegment(segmentsFolder, period, month.getValue(), compression);
+                ParticipantFilter filter = ParticipantFilter.of(month.getValue());
+                participantFilters.put(fileName, filter);
+                savedSegment = new SavedSegment(changeStamp,
+                        new XmlAdaptedTransactionSegment(period, fileName, month.getValue().size(), filter));
+                savedSegments.put(period, savedSegment);
+            }
+            manifest.add(savedSegment.manifestEntry);
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the number of bytes written to segment files by the last save.
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the number of segment files written by the last save.
+     */
+    int getSegmentsWritten() {
+        return segmentsWritten;
+    }
+
+    /**
+     * Returns {@code transactions} grouped by month, oldest month first.
+     * Transactions of the same month keep their order.
+     */
+    private static Map<YearMonth, List<Transaction>> groupByMonth(List<Transaction> transactions) {
+        Map<YearMonth, List<Transaction>> months = new TreeMap<>();
+        for (Transaction transaction : transactions) {
+            months.computeIfAbsent(TransactionSegment.periodOf(transaction), unused -> new ArrayList<>())
+                    .add(transaction);
+        }
+        return months;
+    }
+
+    /**
+     * Saves {@code transactions}, all from {@code period}, into a segment file in {@code segmentsFolder}
+     * and returns the name of the file. The file is written only if no file with the same contents exists yet.
+     */
+    private String saveSegment(File segmentsFolder, YearMonth period, List<Transaction> transactions,
+            Compression compression) throws IOException {
+        File temporaryFile = File.createTempFile(period + "-", TEMPORARY_FILE_EXTENSION, segmentsFolder);
+        MessageDigest digest = newDigest();
+        try (OutputStream out = new DigestOutputStream(
+                compression.compress(new FileOutputStream(temporaryFile)), digest)) {
+            XmlUtil.saveDataToStream(out, new XmlSerializableTransactionSegment(period, transactions));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+
+        String fileName = period + "-" + BaseEncoding.base16().lowerCase().encode(digest.digest(), 0,
+                FILE_NAME_HASH_BYTES) + SEGMENT_FILE_EXTENSION;
+        File segmentFile = new File(segmentsFolder, fileName);
+        bytesWritten += temporaryFile.length();
+        segmentsWritten++;
+        if (segmentFile.exists()) {
+            Files.delete(temporaryFile.toPath());
+        } else {
+            Files.move(temporaryFile.toPath(), segmentFile.toPath());
+        }
+        return fileName;
+    }
+
+    /**
+     * Returns a new digest for hashing the contents of segment files.
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports " + DIGEST_ALGORITHM);
+        }
+    }
+
+    /**
+     * Returns the transactions stored in {@code segment}, referring to the persons in {@code knownPersons}.
+     *
+     * @throws DataConversionException if the segment file is missing or not in the correct format.
+     */
+    static List<Transaction> loadSegment(TransactionSegment segment, Collection<Person> knownPersons)
+            throws DataConversionException {
+        requireAllNonNull(segment, knownPersons);
+        try {
+            return XmlUtil.getDataFromFile(new File(segment.getLocation()), XmlSerializableTransactionSegment.class)
+                    .toModelType(knownPersons);
+        } catch (FileNotFoundException | JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Deletes the files in the segments folder of {@code addressBookFilePath} that are not listed in {@code manifest}.
+     */
+    static void deleteUnlistedSegments(String addressBookFilePath, List<XmlAdaptedTransactionSegment> manifest) {
+        File[] files = getSegmentsFolder(addressBookFilePath).listFiles();
+        if (files == null) {
+            return;
+        }
+        Set<String> listedFileNames = new HashSet<>();
+        manifest.forEach(segment -> listedFileNames.add(segment.getFile()));
+        for (File file : files) {
+            String name = file.getName();
+            boolean isSegmentFile = name.endsWith(SEGMENT_FILE_EXTENSION) || name.endsWith(TEMPORARY_FILE_EXTENSION);
+            if (isSegmentFile && !listedFileNames.contains(name) && !file.delete()) {
+                logger.warning("Unable to delete unused segment file " + file);
+            }
+        }
+    }
+
+    /**
+     * The manifest entry of a segment file, and the change stamp of its month's transactions when it was read or
+     * written.
+     */
+    private static class SavedSegment {
+        private final long changeStamp;
+        private final XmlAdaptedTransactionSegment manifestEntry;
+
+        SavedSegment(long changeStamp, XmlAdaptedTransactionSegment manifestEntry) {
+            this.changeStamp = changeStamp;
+            this.manifestEntry = manifestEntry;
+        }
+
+        /**
+         * Returns true if the transactions with the given change stamp are the ones stored in this segment file.
+         */
+        boolean isSavedState(long changeStamp) {
+            return changeStamp != ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP && changeStamp == this.changeStamp;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlValue;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.DebtsTable;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+
+/**
+ * JAXB-friendly adapted version of one entry of the {@code DebtsTable}:
+ * the balance that the person {@code debtor} has with the person {@code creditor}.
+ * Both persons are referred to by their file-local ids.
+ */
+public class XmlAdaptedDebt {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Debt's %s field is missing!";
+    public static final String UNKNOWN_PERSON_ID_MESSAGE_FORMAT = "Debt refers to an unknown person id %d!";
+
+    @XmlAttribute(required = true)
+    private Integer debtor;
+    @XmlAttribute(required = true)
+    private Integer creditor;
+    @XmlValue
+    private String balance;
+
+    /**
+     * Constructs an XmlAdaptedDebt.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedDebt() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedDebt} with the given debt details.
+     */
+    public XmlAdaptedDebt(int debtor, int creditor, Balance balance) {
+        this.debtor = debtor;
+        this.creditor = creditor;
+        this.balance = balance.value;
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedDebt} with the given debt details, as read from another storage format.
+     */
+    XmlAdaptedDebt(Integer debtor, Integer creditor, String balance) {
+        this.debtor = debtor;
+        this.creditor = creditor;
+        this.balance = balance;
+    }
+
+    /**
+     * Adds this debt to {@code debtsTable}, resolving the persons through {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted debt
+     */
+    public void addTo(DebtsTable debtsTable, Map<Integer, Person> personsById) throws IllegalValueException {
+        if (debtor == null || creditor == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName()));
+        }
+        if (balance == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Balance.class.getSimpleName()));
+        }
+        if (!Balance.isValidBalance(balance)) {
+            throw new IllegalValueException(Balance.MESSAGE_BALANCE_CONSTRAINTS);
+        }
+        Person debtorPerson = resolvePerson(debtor, personsById);
+        Person creditorPerson = resolvePerson(creditor, personsById);
+        debtsTable.add(debtorPerson);
+        debtsTable.get(debtorPerson).put(creditorPerson, new Balance(balance));
+    }
+
+    /**
+     * Returns the person with the given {@code id}.
+     *
+     * @throws IllegalValueException if there is no such person.
+     */
+    private static Person resolvePerson(Integer id, Map<Integer, Person> personsById) throws IllegalValueException {
+        Person person = personsById.get(id);
+        if (person == null) {
+            throw new IllegalValueException(String.format(UNKNOWN_PERSON_ID_MESSAGE_FORMAT, id));
+        }
+        return person;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedDebt)) {
+            return false;
+        }
+
+        XmlAdaptedDebt otherDebt = (XmlAdaptedDebt) other;
+        return Objects.equals(debtor, otherDebt.debtor)
+                && Objects.equals(creditor, otherDebt.creditor)
+                && Objects.equals(balance, otherDebt.balance);
+    }
+}
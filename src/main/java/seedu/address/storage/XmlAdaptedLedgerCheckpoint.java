@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.DebtsList;
+import seedu.address.model.DebtsTable;
+import seedu.address.model.LedgerCheckpoint;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * JAXB-friendly version of a {@link LedgerCheckpoint}: the archived transactions and the ledger they add up to.
+ * Persons are referred to by the file-local ids of the archive they are stored in.
+ */
+public class XmlAdaptedLedgerCheckpoint {
+
+    public static final String MISSING_DATE_MESSAGE = "Ledger checkpoint's date is missing!";
+
+    @XmlElement(required = true)
+    private Date before;
+    @XmlElement
+    private List<XmlAdaptedDebt> ledger = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedTransaction> transactions = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedLedgerCheckpoint.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedLedgerCheckpoint() {}
+
+    /**
+     * Converts a given checkpoint into this class for JAXB use, adding the persons it refers to to
+     * {@code personIds}.
+     */
+    XmlAdaptedLedgerCheckpoint(LedgerCheckpoint source, PersonIdTable personIds) {
+        before = source.getBefore();
+        for (Map.Entry<Person, DebtsList> debtsListEntry : source.getLedger().entrySet()) {
+            int debtorId = personIds.idOf(debtsListEntry.getKey());
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                ledger.add(new XmlAdaptedDebt(debtorId, personIds.idOf(debt.getKey()), debt.getValue()));
+            }
+        }
+        for (Transaction transaction : source.getTransactions()) {
+            transactions.add(new XmlAdaptedTransaction(transaction, personIds));
+        }
+    }
+
+    /**
+     * Converts this checkpoint into the model's {@code LedgerCheckpoint}, resolving the persons through
+     * {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted checkpoint
+     */
+    LedgerCheckpoint toModelType(Map<Integer, Person> personsById, PersonInterner interner)
+            throws IllegalValueException {
+        if (before == null) {
+            throw new IllegalValueException(MISSING_DATE_MESSAGE);
+        }
+        DebtsTable debtsTable = new DebtsTable();
+        for (XmlAdaptedDebt debt : ledger) {
+            debt.addTo(debtsTable, personsById);
+        }
+        return new LedgerCheckpoint(before, TransactionDecoder.decode(transactions, personsById, interner),
+                debtsTable);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedLedgerCheckpoint)) {
+            return false;
+        }
+
+        XmlAdaptedLedgerCheckpoint otherCheckpoint = (XmlAdaptedLedgerCheckpoint) other;
+        return Objects.equals(before, otherCheckpoint.before)
+                && ledger.equals(otherCheckpoint.ledger)
+                && transactions.equals(otherCheckpoint.transactions);
+    }
+}
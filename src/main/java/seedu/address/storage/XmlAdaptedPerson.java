@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -23,6 +24,9 @@ public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    @XmlAttribute
+    private Integer id;
+
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -71,6 +75,32 @@ public class XmlAdaptedPerson {
         }
     }
 
+    /**
+     * Converts a given Person into this class for JAXB use, tagging it with the file-local {@code id}
+     * that stored transactions use to refer to it.
+     */
+    public XmlAdaptedPerson(Person source, int id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns a copy of this person without its balance, for files that do not keep track of balances.
+     * The balance of a person read from such a file is 0.00.
+     */
+    XmlAdaptedPerson withoutBalance() {
+        XmlAdaptedPerson copy = new XmlAdaptedPerson(name, phone, email, null, tagged);
+        copy.id = id;
+        return copy;
+    }
+
+    /**
+     * Returns the file-local id of this person, or null if the person was stored without one.
+     */
+    public Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this jaxb-friendly adapted person object into the model's Person object.
      *
@@ -132,7 +162,8 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+                && Objects.equals(name, otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && Objects.equals(balance, otherPerson.balance)
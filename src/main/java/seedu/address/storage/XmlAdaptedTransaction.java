@@ -4,8 +4,10 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -32,11 +34,14 @@ public class XmlAdaptedTransaction {
     public static final String MISSING_FIELD_MESSAGE_FORMAT_DATE =
             "Transaction's %s field is missing, or is in wrong format "
                     + "(date format example: 2018-04-14T17:22:56.218+08:00)";
+    public static final String UNKNOWN_PERSON_ID_MESSAGE_FORMAT = "Transaction refers to an unknown person id %d!";
 
     @XmlElement(required = true)
     private String transactionType;
-    @XmlElement(required = true)
+    @XmlElement
     private XmlAdaptedPerson payer;
+    @XmlElement
+    private Integer payerId;
     @XmlElement(required = true)
     private String amount;
     @XmlElement(required = true)
@@ -44,8 +49,10 @@ public class XmlAdaptedTransaction {
     @XmlElement(required = true)
     private Date dateTime;
     //@@author steven-jia
-    @XmlElement(required = true)
+    @XmlElement
     private List<XmlAdaptedPerson> payees = new ArrayList<>();
+    @XmlElement
+    private List<Integer> payeeIds = new ArrayList<>();
     @XmlElement(required = true)
     private String splitMethod;
     @XmlElement
@@ -136,6 +143,51 @@ public class XmlAdaptedTransaction {
         }
     }
 
+    /**
+     * Converts a given Transaction into this class for JAXB use.
+     * The payer and payees are stored as references to the ids given to them by {@code personIds}.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedTransaction
+     */
+    public XmlAdaptedTransaction(Transaction source, PersonIdTable personIds) {
+        transactionType = source.getTransactionType().value;
+        payerId = personIds.idOf(source.getPayer());
+        amount = source.getAmount().toString();
+        description = source.getDescription().value;
+        dateTime = source.getDateTime();
+        source.getPayees().asObservableList().forEach(payee -> payeeIds.add(personIds.idOf(payee)));
+        splitMethod = source.getSplitMethod().toString();
+        if (!source.getUnits().isEmpty()) {
+            unitsList = buildIntegerListString(source.getUnits());
+        }
+        if (!source.getPercentages().isEmpty()) {
+            percentagesList = buildIntegerListString(source.getPercentages());
+        }
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedTransaction} with the given transaction details, whose payer and payees
+     * are referred to by file-local ids.
+     * This lets other storage formats share the validation done by {@link #toModelType(Map)}.
+     */
+    XmlAdaptedTransaction(String transactionType, Integer payerId, String amount, String description,
+                          Date dateTime, List<Integer> payeeIds, String splitMethod, List<Integer> unitsList,
+                          List<Integer> percentagesList) {
+        this.transactionType = transactionType;
+        this.payerId = payerId;
+        this.amount = amount;
+        this.description = description;
+        this.dateTime = dateTime;
+        this.payeeIds = new ArrayList<>(payeeIds);
+        this.splitMethod = splitMethod;
+        if (!unitsList.isEmpty()) {
+            this.unitsList = buildIntegerListString(unitsList);
+        }
+        if (!percentagesList.isEmpty()) {
+            this.percentagesList = buildIntegerListString(percentagesList);
+        }
+    }
+
     //@@author ongkc
     /**
      * Converts this jaxb-friendly adapted transaction's object into the model's Transaction object.
@@ -143,13 +195,43 @@ public class XmlAdaptedTransaction {
      * @throws IllegalValueException if there were any data constraints violated in the adapted Transaction
      */
     public Transaction toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted transaction's object into the model's Transaction object,
+     * resolving payer and payee ids against {@code personsById}.
+     * Transactions that embed their payer and payees (schema version 1) do not need {@code personsById}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted Transaction,
+     *     or if it refers to a person id that is not in {@code personsById}.
+     */
+    public Transaction toModelType(Map<Integer, Person> personsById) throws IllegalValueException {
+        return toModelType(personsById, new PersonInterner());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted transaction's object into the model's Transaction object,
+     * resolving payer and payee ids against {@code personsById}.
+     * An embedded payer or payee (schema version 1) is replaced by its canonical instance in {@code interner},
+     * so that transactions share the persons they refer to instead of holding copies of their own.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted Transaction,
+     *     or if it refers to a person id that is not in {@code personsById}.
+     */
+    Transaction toModelType(Map<Integer, Person> personsById, PersonInterner interner) throws IllegalValueException {
 
         //@@author steven-jia
-        if (this.payer == null) {
+        final Person payer;
+        if (this.payer != null) {
+            Person embeddedPayer = this.payer.toModelType();
+            validatePersonFields(embeddedPayer);
+            payer = interner.intern(embeddedPayer);
+        } else if (this.payerId != null) {
+            payer = resolvePerson(this.payerId, personsById);
+        } else {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Payer"));
         }
-        validatePersonFields(this.payer.toModelType());
-        final Person payer = this.payer.toModelType();
 
         //@@author ongkc
         if (this.amount == null) {
@@ -189,16 +271,18 @@ public class XmlAdaptedTransaction {
         final Date dateTime = this.dateTime;
 
         //@@author steven-jia
-        if (this.payees.isEmpty()) {
+        if (this.payees.isEmpty() && this.payeeIds.isEmpty()) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Payees"));
         }
 
-        for (XmlAdaptedPerson payee: this.payees) {
-            validatePersonFields(payee.toModelType());
-        }
         UniquePersonList convertedPayees = new UniquePersonList();
         for (XmlAdaptedPerson payee: this.payees) {
-            convertedPayees.add(payee.toModelType());
+            Person embeddedPayee = payee.toModelType();
+            validatePersonFields(embeddedPayee);
+            convertedPayees.add(interner.intern(embeddedPayee));
+        }
+        for (Integer payeeId: this.payeeIds) {
+            convertedPayees.add(resolvePerson(payeeId, personsById));
         }
         final UniquePersonList payees = convertedPayees;
 
@@ -231,6 +315,19 @@ public class XmlAdaptedTransaction {
                 splitMethod, units, percentages);
     }
 
+    /**
+     * Returns the person with the given {@code id} in {@code personsById}.
+     *
+     * @throws IllegalValueException if there is no such person.
+     */
+    private Person resolvePerson(Integer id, Map<Integer, Person> personsById) throws IllegalValueException {
+        Person person = personsById.get(id);
+        if (person == null) {
+            throw new IllegalValueException(String.format(UNKNOWN_PERSON_ID_MESSAGE_FORMAT, id));
+        }
+        return person;
+    }
+
     /**
      * Checks each field of the {@code person} for validity
      */
@@ -276,9 +373,11 @@ public class XmlAdaptedTransaction {
 
         XmlAdaptedTransaction otherTransaction = (XmlAdaptedTransaction) other;
         return Objects.equals(payer, otherTransaction.payer)
+                && Objects.equals(payerId, otherTransaction.payerId)
                 && Objects.equals(amount, otherTransaction.amount)
                 && Objects.equals(description, otherTransaction.description)
                 && Objects.equals(payees, otherTransaction.payees)
+                && Objects.equals(payeeIds, otherTransaction.payeeIds)
                 && Objects.equals(transactionType, otherTransaction.transactionType)
                 && Objects.equals(splitMethod, otherTransaction.splitMethod);
     }
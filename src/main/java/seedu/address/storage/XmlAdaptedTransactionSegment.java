@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.xml.bind.annotation.XmlAttribute;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * JAXB-friendly entry of the segment manifest, describing the file that holds the transactions of one month.
+ */
+public class XmlAdaptedTransactionSegment {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Transaction segment's %s field is missing!";
+    public static final String MESSAGE_INVALID_PERIOD = "Transaction segment's period %s is not a valid month!";
+
+    @XmlAttribute(required = true)
+    private String period;
+    @XmlAttribute(required = true)
+    private String file;
+    @XmlAttribute(required = true)
+    private Integer size;
+    @XmlAttribute
+    private String participants;
+
+    /**
+     * Constructs an XmlAdaptedTransactionSegment.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedTransactionSegment() {}
+
+    /**
+     * Constructs an {@code XmlAdaptedTransactionSegment} for the segment of {@code period} stored in {@code file}.
+     */
+    public XmlAdaptedTransactionSegment(YearMonth period, String file, int size) {
+        this(period, file, size, null);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedTransactionSegment} for the segment of {@code period} stored in {@code file},
+     * whose payers and payees are in {@code participantFilter}, or unknown if it is null.
+     */
+    XmlAdaptedTransactionSegment(YearMonth period, String file, int size, ParticipantFilter participantFilter) {
+        this.period = period.toString();
+        this.file = file;
+        this.size = size;
+        this.participants = participantFilter == null ? null : participantFilter.encode();
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the filter of the payers and payees of this segment, if it was saved with one that can be read.
+     * Segments saved before the filters were kept have none.
+     */
+    Optional<ParticipantFilter> getParticipantFilter() {
+        if (participants == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ParticipantFilter.decode(participants));
+        } catch (IllegalValueException ive) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the month of this segment.
+     * @throws DateTimeParseException if the stored period is not a valid month.
+     */
+    public YearMonth getPeriod() {
+        return YearMonth.parse(period);
+    }
+
+    /**
+     * Converts this entry into the model's {@code TransactionSegment}, located in {@code segmentsFolder}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted segment
+     */
+    public TransactionSegment toModelType(File segmentsFolder) throws IllegalValueException {
+        if (period == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "period"));
+        }
+        if (file == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "file"));
+        }
+        if (size == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "size"));
+        }
+        try {
+            return new TransactionSegment(YearMonth.parse(period), new File(segmentsFolder, file).getPath(), size);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_PERIOD, period));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedTransactionSegment)) {
+            return false;
+        }
+
+        XmlAdaptedTransactionSegment otherSegment = (XmlAdaptedTransactionSegment) other;
+        return Objects.equals(period, otherSegment.period)
+                && Objects.equals(file, otherSegment.file)
+                && Objects.equals(size, otherSegment.size)
+                && Objects.equals(participants, otherSegment.participants);
+    }
+}
@@ -3,28 +3,52 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.DataFormat;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
+ * The file is written with the chosen {@link Compression}, and files written with any compression can be read.
+ * All the transactions of a segmented address book file are loaded when it is read.
+ * When saving a segmented address book, only the parts that changed since the last save are written again.
  */
-public class XmlAddressBookStorage implements AddressBookStorage {
+public class XmlAddressBookStorage implements AddressBookStorage, TransactionSegmentLoader {
 
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
+    private final Compression compression;
+    private final TransactionSegmentFiles segmentFiles = new TransactionSegmentFiles();
+    private String savedSegmentedFilePath;
+    private long savedPersonsChangeStamp = ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP;
+    private List<XmlAdaptedTransactionSegment> savedManifest;
+    private long lastSaveBytesWritten;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, Compression.NONE);
+    }
+
+    public XmlAddressBookStorage(String filePath, Compression compression) {
+        requireNonNull(compression);
         this.filePath = filePath;
+        this.compression = compression;
     }
 
     public String getAddressBookFilePath() {
@@ -38,11 +62,15 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}
+     * Reading never writes: a file stored with an older schema version is left as it is, and is written with the
+     * current schema when it is next saved, so files of others that are only read are not changed.
+     * An address book file in another {@link DataFormat} is read with the storage for that format, and is
+     * written as xml when it is next saved.
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+                                                                                 IOException {
         requireNonNull(filePath);
 
         File addressBookFile = new File(filePath);
@@ -51,14 +79,82 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             logger.info("AddressBook file "  + addressBookFile + " not found");
             return Optional.empty();
         }
+        DataFormat format = DataFormat.detect(addressBookFile);
+        if (format != DataFormat.XML) {
+            logger.info("Reading " + format + " AddressBook file " + addressBookFile);
+            return AddressBookStorage.forFormat(format, filePath, Compression.NONE).readAddressBook(filePath);
+        }
 
         XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        AddressBook addressBook;
         try {
-            return Optional.of(xmlAddressBook.toModelType());
+            addressBook = xmlAddressBook.toModelType();
+            if (xmlAddressBook.isSegmented()) {
+                addressBook.setUnloadedTransactionSegments(getSegments(xmlAddressBook, filePath));
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + addressBookFile + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        if (xmlAddressBook.isSegmented()) {
+            TransactionSegmentFiles.deleteUnlistedSegments(filePath, xmlAddressBook.getSegments());
+            segmentFiles.recordReadSegments(filePath, addressBook, xmlAddressBook.getSegments());
+            recordSavedAddressBookFile(filePath, addressBook, xmlAddressBook.getSegments());
+            loadRecentTransactionSegments(addressBook);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the transaction segments listed in the manifest of {@code xmlAddressBook}, read from {@code filePath}.
+     */
+    private static List<TransactionSegment> getSegments(XmlSerializableAddressBook xmlAddressBook, String filePath)
+            throws IllegalValueException {
+        List<TransactionSegment> segments = new ArrayList<>();
+        for (XmlAdaptedTransactionSegment segment : xmlAddressBook.getSegments()) {
+            segments.add(segment.toModelType(TransactionSegmentFiles.getSegmentsFolder(filePath)));
+        }
+        return segments;
+    }
+
+    /**
+     * Loads the most recent transaction segments of {@code addressBook}, up to {@link #getRecentSegmentCount()}.
+     */
+    private void loadRecentTransactionSegments(AddressBook addressBook) throws DataConversionException {
+        int loadedSegmentCount = 0;
+        while (!addressBook.getUnloadedTransactionSegments().isEmpty()
+                && loadedSegmentCount < getRecentSegmentCount()) {
+            TransactionSegment segment = addressBook.getNewestUnloadedTransactionSegment();
+            addressBook.loadTransactionSegment(segment, loadTransactionSegment(segment, addressBook.getPersonList()));
+            loadedSegmentCount++;
+        }
+    }
+
+    /**
+     * Returns the number of monthly transaction segments that are loaded when a segmented file is read.
+     * The remaining segments are left in storage until they are loaded with
+     * {@link #loadTransactionSegment(TransactionSegment, List)}.
+     */
+    protected int getRecentSegmentCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException {
+        return TransactionSegmentFiles.loadSegment(segment, persons);
+    }
+
+    /**
+     * Returns the segments in {@code segments} whose participant filters show that they could have transactions
+     * paid by or for {@code person}, without reading their files.
+     */
+    @Override
+    public List<TransactionSegment> findTransactionSegmentsWith(Person person, List<TransactionSegment> segments) {
+        requireNonNull(person);
+        return segments.stream()
+                .filter(segment -> segmentFiles.mightContain(segment, person))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -68,15 +164,78 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * An address book that still has transaction segments in storage is saved segmented, so that none of its
+     * transactions are lost.
      * @param filePath location of the data. Cannot be null
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        if (!addressBook.getUnloadedTransactionSegments().isEmpty()) {
+            saveSegmentedAddressBook(addressBook, filePath);
+            return;
+        }
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook), compression);
+        savedSegmentedFilePath = null;
+        lastSaveBytesWritten = file.length();
+        logger.info("Saved " + filePath + ": " + lastSaveBytesWritten + " bytes written");
+    }
+
+    /**
+     * Saves {@code addressBook} at {@code filePath} with its transactions in segment files, one per month.
+     */
+    protected void saveSegmentedAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<XmlAdaptedTransactionSegment> segments = segmentFiles.saveSegments(addressBook, filePath, compression);
+        lastSaveBytesWritten = segmentFiles.getBytesWritten();
+        File file = new File(filePath);
+        if (!isSavedAddressBookFile(filePath, addressBook, segments)) {
+            FileUtil.createIfMissing(file);
+            XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook, segments), compression);
+            recordSavedAddressBookFile(filePath, addressBook, segments);
+            lastSaveBytesWritten += file.length();
+        }
+        logger.info("Saved " + filePath + ": " + lastSaveBytesWritten + " bytes written, "
+                + segmentFiles.getSegmentsWritten() + " of " + segments.size() + " transaction segments rewritten");
+    }
+
+    /**
+     * Returns true if the segmented address book file at {@code filePath} already holds the persons, tags and
+     * debts table of {@code addressBook}, and lists {@code segments}.
+     */
+    private boolean isSavedAddressBookFile(String filePath, ReadOnlyAddressBook addressBook,
+                                           List<XmlAdaptedTransactionSegment> segments) {
+        long personsChangeStamp = addressBook.getPersonsChangeStamp();
+        return filePath.equals(savedSegmentedFilePath)
+                && personsChangeStamp != ReadOnlyAddressBook.UNKNOWN_CHANGE_STAMP
+                && personsChangeStamp == savedPersonsChangeStamp
+                && segments.equals(savedManifest);
+    }
+
+    private void recordSavedAddressBookFile(String filePath, ReadOnlyAddressBook addressBook,
+                                            List<XmlAdaptedTransactionSegment> segments) {
+        savedSegmentedFilePath = filePath;
+        savedPersonsChangeStamp = addressBook.getPersonsChangeStamp();
+        savedManifest = new ArrayList<>(segments);
+    }
+
+    @Override
+    public void discardSavedState() {
+        savedSegmentedFilePath = null;
+        segmentFiles.discardSavedSegments();
+    }
+
+    /**
+     * Returns the number of bytes written to disk by the last save, including compression.
+     */
+    @Override
+    public long getLastSaveBytesWritten() {
+        return lastSaveBytesWritten;
     }
 
 }
@@ -6,6 +6,7 @@ import java.io.FileNotFoundException;
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
 import seedu.address.commons.util.XmlUtil;
 
 /**
@@ -17,8 +18,16 @@ public class XmlFileStorage {
      */
     public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook)
             throws FileNotFoundException {
+        saveDataToFile(file, addressBook, Compression.NONE);
+    }
+
+    /**
+     * Saves the given addressbook data to the specified file, compressed with {@code compression}.
+     */
+    public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook, Compression compression)
+            throws FileNotFoundException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveDataToFile(file, addressBook, compression);
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage());
         }
@@ -26,6 +35,7 @@ public class XmlFileStorage {
 
     /**
      * Returns address book in the file or an empty address book
+     * The file is decompressed if it was saved with compression.
      */
     public static XmlSerializableAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
                                                                             FileNotFoundException {
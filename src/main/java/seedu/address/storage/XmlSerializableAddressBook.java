@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.DebtsList;
+import seedu.address.model.DebtsTable;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -18,12 +27,43 @@ import seedu.address.model.ReadOnlyAddressBook;
 @XmlRootElement(name = "addressbook")
 public class XmlSerializableAddressBook {
 
+    /**
+     * Schema version 1 embeds a full copy of the payer and of every payee in each transaction.
+     * Files written before schema versions were introduced have no version attribute and use this schema.
+     */
+    public static final int SCHEMA_VERSION_EMBEDDED_PERSONS = 1;
+    /**
+     * Schema version 2 gives every stored person an id, and transactions refer to their payer and payees by id.
+     */
+    public static final int SCHEMA_VERSION_PERSON_IDS = 2;
+    /**
+     * Schema version 3 stores the debts table as a ledger, and keeps transactions in separate files,
+     * one per month, listed in a manifest of segments.
+     */
+    public static final int SCHEMA_VERSION_SEGMENTED = 3;
+    /** The schema version of files that keep all their transactions inline. */
+    public static final int CURRENT_SCHEMA_VERSION = SCHEMA_VERSION_PERSON_IDS;
+    public static final int LATEST_SCHEMA_VERSION = SCHEMA_VERSION_SEGMENTED;
+
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Data file schema version %d is newer than the supported version " + LATEST_SCHEMA_VERSION;
+    public static final String MESSAGE_MISSING_PERSON_ID = "Person %s has no id";
+
+    @XmlAttribute
+    private Integer version;
     @XmlElement
     private List<XmlAdaptedPerson> persons;
     @XmlElement
+    private List<XmlAdaptedPerson> formerPersons;
+    @XmlElement
     private List<XmlAdaptedTag> tags;
     @XmlElement
     private List<XmlAdaptedTransaction> transactions;
+    @XmlElementWrapper(name = "ledger")
+    @XmlElement(name = "debt")
+    private List<XmlAdaptedDebt> ledger;
+    @XmlElement
+    private List<XmlAdaptedTransactionSegment> segments;
 
     /**
      * Creates an empty XmlSerializableAddressBook.
@@ -32,28 +72,97 @@ public class XmlSerializableAddressBook {
     public XmlSerializableAddressBook() {
 
         persons = new ArrayList<>();
+        formerPersons = new ArrayList<>();
         tags = new ArrayList<>();
         transactions = new ArrayList<>();
+        segments = new ArrayList<>();
     }
 
     /**
      * Conversion
+     * Persons that are only referenced by transactions (e.g. deleted persons) are stored as former persons,
+     * so that every id used by a transaction can be resolved when the file is read back.
      */
     public XmlSerializableAddressBook(ReadOnlyAddressBook src) {
         this();
-        persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
+        version = CURRENT_SCHEMA_VERSION;
+        PersonIdTable personIds = new PersonIdTable();
+        for (Person person : src.getPersonList()) {
+            persons.add(new XmlAdaptedPerson(person, personIds.idOf(person)));
+        }
+        int personCount = personIds.size();
+        tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
+        for (Transaction transaction : src.getTransactionList()) {
+            transactions.add(new XmlAdaptedTransaction(transaction, personIds));
+        }
+        List<Person> referencedPersons = personIds.getPersons();
+        for (int id = personCount; id < referencedPersons.size(); id++) {
+            formerPersons.add(new XmlAdaptedPerson(referencedPersons.get(id), id));
+        }
+    }
+
+    /**
+     * Conversion to the segmented schema.
+     * The transactions of {@code src} are not stored in the address book itself, but in the files listed in
+     * {@code segments}. The debts table is stored as a ledger, so that it can be restored without them.
+     */
+    public XmlSerializableAddressBook(ReadOnlyAddressBook src, List<XmlAdaptedTransactionSegment> segments) {
+        this();
+        version = SCHEMA_VERSION_SEGMENTED;
+        PersonIdTable personIds = new PersonIdTable();
+        for (Person person : src.getPersonList()) {
+            persons.add(new XmlAdaptedPerson(person, personIds.idOf(person)));
+        }
+        int personCount = personIds.size();
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
-        transactions.addAll(src.getTransactionList().stream()
-                .map(XmlAdaptedTransaction::new).collect(Collectors.toList()));
+        ledger = new ArrayList<>();
+        for (Map.Entry<Person, DebtsList> debtsListEntry : src.getDebtsTable().entrySet()) {
+            int debtorId = personIds.idOf(debtsListEntry.getKey());
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                ledger.add(new XmlAdaptedDebt(debtorId, personIds.idOf(debt.getKey()), debt.getValue()));
+            }
+        }
+        List<Person> referencedPersons = personIds.getPersons();
+        for (int id = personCount; id < referencedPersons.size(); id++) {
+            formerPersons.add(new XmlAdaptedPerson(referencedPersons.get(id), id));
+        }
+        this.segments.addAll(segments);
+    }
+
+    /**
+     * Returns true if this address book keeps its transactions in segment files.
+     */
+    public boolean isSegmented() {
+        return ledger != null;
+    }
+
+    /**
+     * Returns the manifest of the segment files that hold the transactions of this address book.
+     */
+    public List<XmlAdaptedTransactionSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Returns the schema version this address book was stored with.
+     */
+    public int getSchemaVersion() {
+        return version == null ? SCHEMA_VERSION_EMBEDDED_PERSONS : version;
     }
 
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
+     * Transactions refer to the persons of the address book rather than to copies of their own, and a person
+     * that is no longer in the address book is shared by all the transactions that refer to it.
+     * The transactions of a segmented address book are not included; its debts table is restored from the ledger.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
      * {@code XmlAdaptedPerson} or {@code XmlAdaptedTag}.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        if (getSchemaVersion() > LATEST_SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, getSchemaVersion()));
+        }
         AddressBook addressBook = new AddressBook();
         for (XmlAdaptedTag t : tags) {
             addressBook.addTag(t.toModelType());
@@ -61,9 +170,16 @@ public class XmlSerializableAddressBook {
         for (XmlAdaptedPerson p : persons) {
             addressBook.addPerson(p.toModelType());
         }
-        for (XmlAdaptedTransaction tr : transactions) {
+        Map<Integer, Person> personsById = getPersonsById(addressBook);
+        if (isSegmented()) {
+            addressBook.setDebtsTable(getDebtsTable(addressBook, personsById));
+            return addressBook;
+        }
+        PersonInterner interner = new PersonInterner(addressBook.getPersonList());
+        // the transactions are converted in parallel, but applied to the debts table one by one, in order
+        for (Transaction transaction : TransactionDecoder.decode(transactions, personsById, interner)) {
             try {
-                addressBook.addTransaction(tr.toModelType());
+                addressBook.addTransaction(transaction);
             } catch (CommandException e) {
                 e.printStackTrace();
             }
@@ -72,6 +188,51 @@ public class XmlSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Maps the id of every stored person to its model counterpart.
+     * Current persons are mapped to the instances held by {@code addressBook}, so that all transactions
+     * share them instead of holding copies of their own.
+     */
+    private Map<Integer, Person> getPersonsById(AddressBook addressBook) throws IllegalValueException {
+        Map<Integer, Person> personsById = new HashMap<>();
+        if (getSchemaVersion() < SCHEMA_VERSION_PERSON_IDS) {
+            return personsById;
+        }
+        List<Person> addedPersons = addressBook.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            personsById.put(requireId(persons.get(i)), addedPersons.get(i));
+        }
+        for (XmlAdaptedPerson p : formerPersons) {
+            personsById.put(requireId(p), p.toModelType());
+        }
+        return personsById;
+    }
+
+    /**
+     * Returns the debts table stored in the ledger, including every person of {@code addressBook}.
+     */
+    private DebtsTable getDebtsTable(AddressBook addressBook, Map<Integer, Person> personsById)
+            throws IllegalValueException {
+        DebtsTable debtsTable = new DebtsTable();
+        addressBook.getPersonList().forEach(debtsTable::add);
+        for (XmlAdaptedDebt debt : ledger) {
+            debt.addTo(debtsTable, personsById);
+        }
+        return debtsTable;
+    }
+
+    /**
+     * Returns the id of {@code person}.
+     *
+     * @throws IllegalValueException if the person was stored without an id.
+     */
+    private static int requireId(XmlAdaptedPerson person) throws IllegalValueException {
+        if (person.getId() == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON_ID, person.toModelType().getName()));
+        }
+        return person.getId();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.LedgerCheckpoint;
+import seedu.address.model.person.Person;
+
+/**
+ * The archived transactions of an address book, serializable to XML format.
+ * Like a transaction segment, the archive holds its own copy of the persons its transactions refer to, without
+ * their balances, so that it can be read on its own.
+ */
+@XmlRootElement(name = "transactionarchive")
+public class XmlSerializableTransactionArchive {
+
+    public static final String FILE_SUFFIX = ".archive";
+
+    @XmlAttribute
+    private Integer version;
+    @XmlElement
+    private List<XmlAdaptedPerson> persons;
+    @XmlElement
+    private List<XmlAdaptedLedgerCheckpoint> checkpoints;
+
+    /**
+     * Creates an empty XmlSerializableTransactionArchive.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableTransactionArchive() {
+        persons = new ArrayList<>();
+        checkpoints = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableTransactionArchive(List<LedgerCheckpoint> src) {
+        this();
+        this.version = XmlSerializableAddressBook.CURRENT_SCHEMA_VERSION;
+        PersonIdTable personIds = new PersonIdTable();
+        for (LedgerCheckpoint checkpoint : src) {
+            checkpoints.add(new XmlAdaptedLedgerCheckpoint(checkpoint, personIds));
+        }
+        List<Person> referencedPersons = personIds.getPersons();
+        for (int id = 0; id < referencedPersons.size(); id++) {
+            persons.add(new XmlAdaptedPerson(referencedPersons.get(id), id).withoutBalance());
+        }
+    }
+
+    /**
+     * Returns the file that the archived transactions of the address book in {@code addressBookFilePath} are
+     * kept in.
+     */
+    public static String getArchiveFilePath(String addressBookFilePath) {
+        return addressBookFilePath + FILE_SUFFIX;
+    }
+
+    /**
+     * Converts this archive into the model's {@code LedgerCheckpoint} objects, in the order they were archived.
+     * The transactions refer to the persons in {@code knownPersons} with the same name, instead of to the
+     * copies stored in this archive.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted checkpoints
+     * or persons.
+     */
+    public List<LedgerCheckpoint> toModelType(Collection<Person> knownPersons) throws IllegalValueException {
+        if (version != null && version > XmlSerializableAddressBook.LATEST_SCHEMA_VERSION) {
+            throw new IllegalValueException(
+                    String.format(XmlSerializableAddressBook.MESSAGE_UNSUPPORTED_SCHEMA_VERSION, version));
+        }
+        PersonInterner interner = new PersonInterner(knownPersons);
+        Map<Integer, Person> personsById = new HashMap<>();
+        for (XmlAdaptedPerson p : persons) {
+            if (p.getId() == null) {
+                throw new IllegalValueException(String.format(XmlSerializableAddressBook.MESSAGE_MISSING_PERSON_ID,
+                        p.toModelType().getName()));
+            }
+            personsById.put(p.getId(), interner.intern(p.toModelType()));
+        }
+        List<LedgerCheckpoint> modelCheckpoints = new ArrayList<>();
+        for (XmlAdaptedLedgerCheckpoint checkpoint : checkpoints) {
+            modelCheckpoints.add(checkpoint.toModelType(personsById, interner));
+        }
+        return modelCheckpoints;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlSerializableTransactionArchive)) {
+            return false;
+        }
+
+        XmlSerializableTransactionArchive otherArchive = (XmlSerializableTransactionArchive) other;
+        return persons.equals(otherArchive.persons) && checkpoints.equals(otherArchive.checkpoints);
+    }
+}
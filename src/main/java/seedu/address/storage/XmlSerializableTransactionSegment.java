@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+
+/**
+ * The transactions of one month, serializable to XML format.
+ * A segment holds its own copy of the persons its transactions refer to, so that it can be read on its own.
+ * The balances of those persons are not stored, as they are kept up to date by the address book file.
+ */
+@XmlRootElement(name = "transactionsegment")
+public class XmlSerializableTransactionSegment {
+
+    @XmlAttribute
+    private Integer version;
+    @XmlAttribute
+    private String period;
+    @XmlElement
+    private List<XmlAdaptedPerson> persons;
+    @XmlElement
+    private List<XmlAdaptedTransaction> transactions;
+
+    /**
+     * Creates an empty XmlSerializableTransactionSegment.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableTransactionSegment() {
+        persons = new ArrayList<>();
+        transactions = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableTransactionSegment(YearMonth period, List<Transaction> src) {
+        this();
+        this.version = XmlSerializableAddressBook.CURRENT_SCHEMA_VERSION;
+        this.period = period.toString();
+        PersonIdTable personIds = new PersonIdTable();
+        for (Transaction transaction : src) {
+            transactions.add(new XmlAdaptedTransaction(transaction, personIds));
+        }
+        List<Person> referencedPersons = personIds.getPersons();
+        for (int id = 0; id < referencedPersons.size(); id++) {
+            persons.add(new XmlAdaptedPerson(referencedPersons.get(id), id).withoutBalance());
+        }
+    }
+
+    /**
+     * Converts this segment into the model's {@code Transaction} objects, in the order they were stored.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted transactions
+     * or persons.
+     */
+    public List<Transaction> toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this segment into the model's {@code Transaction} objects, in the order they were stored.
+     * The transactions refer to the persons in {@code knownPersons} with the same name, instead of to the
+     * copies stored in this segment.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted transactions
+     * or persons.
+     */
+    public List<Transaction> toModelType(Collection<Person> knownPersons) throws IllegalValueException {
+        if (version != null && version > XmlSerializableAddressBook.LATEST_SCHEMA_VERSION) {
+            throw new IllegalValueException(
+                    String.format(XmlSerializableAddressBook.MESSAGE_UNSUPPORTED_SCHEMA_VERSION, version));
+        }
+        PersonInterner interner = new PersonInterner(knownPersons);
+        Map<Integer, Person> personsById = new HashMap<>();
+        for (XmlAdaptedPerson p : persons) {
+            if (p.getId() == null) {
+                throw new IllegalValueException(String.format(XmlSerializableAddressBook.MESSAGE_MISSING_PERSON_ID,
+                        p.toModelType().getName()));
+            }
+            personsById.put(p.getId(), interner.intern(p.toModelType()));
+        }
+        return TransactionDecoder.decode(transactions, personsById, interner);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlSerializableTransactionSegment)) {
+            return false;
+        }
+
+        XmlSerializableTransactionSegment otherSegment = (XmlSerializableTransactionSegment) other;
+        return persons.equals(otherSegment.persons) && transactions.equals(otherSegment.transactions);
+    }
+}
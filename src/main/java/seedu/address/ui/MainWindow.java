@@ -7,6 +7,7 @@ import com.google.common.eventbus.Subscribe;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
@@ -15,12 +16,15 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.DebtsChangedEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.events.ui.PersonPanelNoSelectionEvent;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
+import seedu.address.model.DebtEntry;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -42,6 +46,8 @@ public class MainWindow extends UiPart<Stage> {
     private CreditorListPanel personCreditorListPanel;
     private Config config;
     private UserPrefs prefs;
+    // the person whose debtors and creditors are shown, or null if no person is selected
+    private Person selectedPerson;
 
     @FXML
     private StackPane transactionListPanelPlaceholder;
@@ -67,12 +73,11 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane statusbarPlaceholder;
 
-    public MainWindow(Stage primaryStage, Config config, UserPrefs prefs, Logic logic) {
+    public MainWindow(Stage primaryStage, Config config, UserPrefs prefs) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
         this.config = config;
         this.prefs = prefs;
 
@@ -123,12 +128,23 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Shows that the data is being loaded in the placeholders of the lists, until {@link #fillInnerParts(Logic)}
+     * is called.
+     */
+    void showLoadingIndicator() {
+        personListPanelPlaceholder.getChildren().setAll(new ProgressIndicator());
+        transactionListPanelPlaceholder.getChildren().setAll(new ProgressIndicator());
+    }
+
+    /**
+     * Fills up all the placeholders of this window with the parts that show the data of {@code logic}, replacing
+     * the loading indicator if it is shown.
      */
-    void fillInnerParts() {
+    void fillInnerParts(Logic logic) {
+        this.logic = logic;
 
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        personListPanelPlaceholder.getChildren().setAll(personListPanel.getRoot());
 
         personDebtorListPanel = new DebtorListPanel(logic.getFilteredDebtorsList());
         personDebtorListPanelPlaceholder.getChildren().add(personDebtorListPanel.getRoot());
@@ -137,7 +153,7 @@ public class MainWindow extends UiPart<Stage> {
         personCreditorListPanelPlaceholder.getChildren().add(personCreditorListPanel.getRoot());
 
         transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
-        transactionListPanelPlaceholder.getChildren().add(transactionListPanel.getRoot());
+        transactionListPanelPlaceholder.getChildren().setAll(transactionListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -210,14 +226,40 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     private void handlePersonPanelSelectionChangedEvent(PersonPanelSelectionChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        logic.updateFilteredTransactionList(event.getNewSelection().person);
-        logic.updateDebtorsAndCreditorList(event.getNewSelection().person);
+        selectedPerson = event.getNewSelection().person;
+        logic.updateFilteredTransactionList(selectedPerson);
+        logic.updateDebtorsAndCreditorList(selectedPerson);
     }
 
     @Subscribe
     private void handlePersonPanelNoSelectionEvent(PersonPanelNoSelectionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        selectedPerson = null;
         logic.updateFilteredTransactionList();
         logic.updateDebtorsAndCreditorList();
     }
+
+    /**
+     * Shows the debtors and creditors of the selected person again if any of their debts changed, leaving the lists
+     * as they are otherwise.
+     */
+    @Subscribe
+    private void handleDebtsChangedEvent(DebtsChangedEvent event) {
+        if (selectedPerson == null) {
+            return;
+        }
+        for (DebtEntry debt : event.records) {
+            if (debt.involves(selectedPerson)) {
+                logger.info(LogsCenter.getEventHandlingLogMessage(event));
+                // the person in the debt is the one now in the debts table, which the selection may predate
+                selectedPerson = debt.getDebtor().equals(selectedPerson) ? debt.getDebtor() : debt.getCreditor();
+                logic.updateDebtorsAndCreditorList(selectedPerson);
+                return;
+            }
+        }
+        if (event.areAllDebts) {
+            // the replaced debts table has no debts of the selected person left
+            logic.updateDebtorsAndCreditorList();
+        }
+    }
 }
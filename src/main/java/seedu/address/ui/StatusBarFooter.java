@@ -12,7 +12,9 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.model.RecordsChangedEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -39,13 +41,17 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar metricsStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
+    private long lastUpdatedVersion = -1;
 
     public StatusBarFooter(String saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
         setSaveLocation("./" + saveLocation);
+        setMetricsStatus(MetricsCenter.getInstance().getSummary());
         registerAsAnEventHandler(this);
     }
 
@@ -71,11 +77,29 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> this.syncStatus.setText(status));
     }
 
+    private void setMetricsStatus(String status) {
+        Platform.runLater(() -> this.metricsStatus.setText(status));
+    }
+
+    @Subscribe
+    public void handleNewResultAvailableEvent(NewResultAvailableEvent event) {
+        // a result is shown after each command, so the readout includes the command that was just run
+        setMetricsStatus(MetricsCenter.getInstance().getSummary());
+    }
+
+    /**
+     * Sets the last updated status when the records of a new version of the address book are raised. A change
+     * raises an event for each kind of records that changed, so only the first of them updates the status.
+     */
     @Subscribe
-    public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
+    public void handleRecordsChangedEvent(RecordsChangedEvent<?> rce) {
+        if (rce.version == lastUpdatedVersion) {
+            return;
+        }
+        lastUpdatedVersion = rce.version;
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        logger.info(LogsCenter.getEventHandlingLogMessage(rce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 }
@@ -8,10 +8,15 @@ import org.fxmisc.easybind.EasyBind;
 //import com.google.common.eventbus.Subscribe;
 
 import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.LoadOlderTransactionsRequestEvent;
 //import seedu.address.commons.events.ui.JumpToListRequestEvent;
 import seedu.address.model.transaction.Transaction;
 
@@ -36,6 +41,29 @@ public class TransactionListPanel extends UiPart<Region> {
                 transaction, transactionList.indexOf(transaction) + 1));
         transactionListView.setItems(mappedList);
         transactionListView.setCellFactory(listView -> new TransactionListViewCell());
+        transactionListView.addEventFilter(ScrollEvent.SCROLL, this::handleScroll);
+    }
+
+    /**
+     * Requests older transactions when the user scrolls up past the oldest transaction shown.
+     */
+    private void handleScroll(ScrollEvent event) {
+        if (event.getDeltaY() > 0 && isScrolledToTop()) {
+            raise(new LoadOlderTransactionsRequestEvent());
+        }
+    }
+
+    /**
+     * Returns true if the list shows its first transaction at the top, or does not need to scroll at all.
+     */
+    private boolean isScrolledToTop() {
+        for (Node node : transactionListView.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar && ((ScrollBar) node).getOrientation() == Orientation.VERTICAL) {
+                ScrollBar scrollBar = (ScrollBar) node;
+                return !scrollBar.isVisible() || scrollBar.getValue() <= scrollBar.getMin();
+            }
+        }
+        return true;
     }
 
 
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.logic.Logic;
 
 /**
  * API of UI component
@@ -10,6 +11,9 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows the data of {@code logic}, if the UI was started before the data was loaded. */
+    void showData(Logic logic);
+
     /** Stops the UI. */
     void stop();
 
@@ -12,6 +12,8 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter.HandlerThread;
+import seedu.address.commons.core.HandledOn;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
@@ -21,6 +23,7 @@ import seedu.address.model.UserPrefs;
 /**
  * The manager of the UI component.
  */
+@HandledOn(HandlerThread.FX)
 public class UiManager extends ComponentManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
@@ -44,6 +47,14 @@ public class UiManager extends ComponentManager implements Ui {
         this.prefs = prefs;
     }
 
+    /**
+     * Creates a UI that shows a loading indicator when it is started, until the data is loaded and given to
+     * {@link #showData(Logic)}.
+     */
+    public UiManager(Config config, UserPrefs prefs) {
+        this(null, config, prefs);
+    }
+
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
@@ -52,9 +63,13 @@ public class UiManager extends ComponentManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, config, prefs, logic);
+            mainWindow = new MainWindow(primaryStage, config, prefs);
             mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            if (logic != null) {
+                mainWindow.fillInnerParts(logic);
+            } else {
+                mainWindow.showLoadingIndicator();
+            }
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -62,6 +77,17 @@ public class UiManager extends ComponentManager implements Ui {
         }
     }
 
+    @Override
+    public void showData(Logic logic) {
+        this.logic = logic;
+        try {
+            mainWindow.fillInnerParts(logic);
+        } catch (Throwable e) {
+            logger.severe(StringUtil.getDetails(e));
+            showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
+        }
+    }
+
     @Override
     public void stop() {
         prefs.updateLastUsedGuiSetting(mainWindow.getCurrentGuiSetting());
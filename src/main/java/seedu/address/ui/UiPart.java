@@ -8,6 +8,7 @@ import java.net.URL;
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
 import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.HandlerThread;
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -69,11 +70,12 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Registers the object as an event handler at the {@link EventsCenter}
+     * Registers the object as an event handler at the {@link EventsCenter}, to be called on the JavaFX application
+     * thread
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, HandlerThread.FX);
     }
 
     /**
@@ -0,0 +1,69 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+
+public class QueryAppTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void run_savedAddressBook_balanceAnswered() throws Exception {
+        String filePath = saveTypicalAddressBook();
+        Person person = getTypicalAddressBook().getPersonList().get(0);
+
+        assertEquals(QueryApp.EXIT_SUCCESS, run("--data", filePath, "balance", person.getName().fullName));
+        assertEquals(person.getBalance().value, out.toString().trim());
+    }
+
+    @Test
+    public void run_unknownPersonOrNoIndex_failureStatus() throws Exception {
+        String filePath = saveTypicalAddressBook();
+        assertEquals(QueryApp.EXIT_NOT_FOUND, run("--data", filePath, "balance", "No One"));
+        assertEquals(String.format(QueryApp.MESSAGE_PERSON_NOT_FOUND, "No One"), err.toString().trim());
+
+        err.reset();
+        String otherFilePath = testFolder.getRoot().getPath() + File.separator + "other.xml";
+        assertEquals(QueryApp.EXIT_FAILURE, run("--data", otherFilePath, "balance", "No One"));
+        assertEquals(String.format(QueryApp.MESSAGE_NO_INDEX, otherFilePath), err.toString().trim());
+
+        assertEquals(QueryApp.EXIT_FAILURE, run("--data", filePath, "debt", "No One"));
+    }
+
+    /**
+     * Saves the typical address book with a storage manager, and its index as the app does when it stops, and
+     * returns its file path.
+     */
+    private String saveTypicalAddressBook() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "addressbook.xml";
+        AddressBook addressBook = getTypicalAddressBook();
+        StorageManager storage = new StorageManager(new XmlAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(testFolder.getRoot().getPath() + File.separator + "prefs"));
+        storage.saveAddressBook(addressBook);
+        storage.saveIndexes();
+        return filePath;
+    }
+
+    private int run(String... args) {
+        return QueryApp.run(Arrays.asList(args), new PrintStream(out, true), new PrintStream(err, true));
+    }
+}
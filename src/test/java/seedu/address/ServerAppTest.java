@@ -0,0 +1,38 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ServerAppTest {
+
+    @Test
+    public void run_unknownOption_optionNamed() {
+        assertUsageError(String.format(ServerApp.MESSAGE_UNKNOWN_OPTION, "--help"), "--help");
+    }
+
+    @Test
+    public void run_missingValue_optionNamed() {
+        assertUsageError(String.format(ServerApp.MESSAGE_MISSING_VALUE, "--config"), "--port", "8080", "--config");
+    }
+
+    @Test
+    public void run_invalidPort_portNamed() {
+        assertUsageError(String.format(ServerApp.MESSAGE_INVALID_PORT, "abc"), "--port", "abc");
+        assertUsageError(String.format(ServerApp.MESSAGE_INVALID_PORT, "70000"), "--port", "70000");
+    }
+
+    /**
+     * Asserts that running the server with {@code args} fails with {@code expectedMessage} followed by the usage.
+     */
+    private void assertUsageError(String expectedMessage, String... args) {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        assertEquals(ServerApp.EXIT_FAILURE, ServerApp.run(Arrays.asList(args), new PrintStream(err, true)));
+        assertTrue(err.toString().startsWith(expectedMessage + System.lineSeparator() + ServerApp.MESSAGE_USAGE));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.function.Supplier;
 import javafx.stage.Screen;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
@@ -56,6 +57,7 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        config.setMetricsFilePath(TestUtil.getFilePathInSandboxFolder("metrics_testing.txt"));
         return config;
     }
 
@@ -74,6 +76,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        EventsCenter.getInstance().flush();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -101,7 +104,10 @@ public class TestApp extends MainApp {
 
     @Override
     public void start(Stage primaryStage) {
+        // the tests look for the parts that show the data as soon as the window is shown
+        awaitData();
         ui.start(primaryStage);
+        ui.showData(logic);
     }
 
     public static void main(String[] args) {
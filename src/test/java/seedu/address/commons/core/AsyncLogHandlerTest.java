@@ -0,0 +1,139 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_records_writtenInOrderOnWriterThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, target);
+        List<LogRecord> published = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            LogRecord record = new LogRecord(Level.INFO, "record " + i);
+            published.add(record);
+            handler.publish(record);
+        }
+        handler.close();
+
+        List<LogRecord> written = new ArrayList<>(target.records);
+        written.removeIf(record -> record.getLevel() == Level.WARNING);
+        // the buffer may have filled up, but the records written keep their order
+        assertTrue(published.containsAll(written));
+        assertEquals(inOrder(published, written), written);
+        assertNotEquals(Thread.currentThread(), target.threads.get(0));
+    }
+
+    @Test
+    public void publish_bufferFull_droppedWithoutWaiting() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler target = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler handler = new AsyncLogHandler(4, target);
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+        // the writer is stuck on the first record, so only 4 of these fit
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "info " + i));
+        }
+        assertEquals(6, handler.getDroppedCount());
+        LogRecord severe = new LogRecord(Level.SEVERE, "severe");
+        handler.publish(severe);
+        assertEquals(7, handler.getDroppedCount());
+
+        release.countDown();
+        handler.close();
+        List<String> messages = new ArrayList<>();
+        target.records.forEach(record -> messages.add(record.getMessage()));
+        assertEquals("first", messages.get(0));
+        assertTrue(messages.get(1).startsWith("7 log records were dropped"));
+        assertEquals(Arrays.asList("info 1", "info 2", "info 3", "severe"), messages.subList(2, 6));
+    }
+
+    @Test
+    public void publish_throughLogger_callerFoundOnLoggingThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, target);
+        Logger logger = Logger.getLogger(AsyncLogHandlerTest.class.getName());
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        try {
+            logger.info(() -> "message");
+        } finally {
+            logger.removeHandler(handler);
+            handler.close();
+        }
+
+        LogRecord record = target.records.get(0);
+        assertEquals(AsyncLogHandlerTest.class.getName(), record.getSourceClassName());
+        assertEquals("publish_throughLogger_callerFoundOnLoggingThread", record.getSourceMethodName());
+    }
+
+    @Test
+    public void getLogger_sameName_setUpOnce() {
+        Logger logger = LogsCenter.getLogger("AsyncLogHandlerTest");
+        assertSame(logger, LogsCenter.getLogger("AsyncLogHandlerTest"));
+        assertEquals(1, logger.getHandlers().length);
+        assertTrue(logger.getHandlers()[0] instanceof AsyncLogHandler);
+    }
+
+    /**
+     * Returns the records of {@code published} that are in {@code written}, in the order they were published.
+     */
+    private static List<LogRecord> inOrder(List<LogRecord> published, List<LogRecord> written) {
+        List<LogRecord> ordered = new ArrayList<>(published);
+        ordered.retainAll(written);
+        return ordered;
+    }
+
+    /**
+     * Records every record it is handed, and the thread it was handed each on.
+     */
+    private static class RecordingHandler extends Handler {
+
+        final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
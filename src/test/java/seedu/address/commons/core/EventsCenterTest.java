@@ -0,0 +1,128 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter.DispatchLatency;
+import seedu.address.commons.core.EventsCenter.HandlerThread;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.ui.ShowHelpRequestEvent;
+import seedu.address.model.AddressBook;
+
+public class EventsCenterTest {
+
+    @Before
+    @After
+    public void clearSubscribers() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_handlerWithoutThread_handledBeforePostReturns() {
+        RecordingHandler handler = new RecordingHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        ShowHelpRequestEvent event = new ShowHelpRequestEvent();
+        EventsCenter.getInstance().post(event);
+        assertEquals(Collections.singletonList(event), handler.events);
+        assertSame(Thread.currentThread(), handler.threads.get(0));
+    }
+
+    @Test
+    public void post_storageHandler_handledOnStorageThreadByFlush() {
+        StorageHandler handler = new StorageHandler();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        ShowHelpRequestEvent event = new ShowHelpRequestEvent();
+        EventsCenter.getInstance().post(event);
+        EventsCenter.getInstance().flush();
+        assertEquals(Collections.singletonList(event), handler.events);
+        assertNotEquals(Thread.currentThread(), handler.threads.get(0));
+    }
+
+    @Test
+    public void post_burstOfStateChanges_onlyLatestHandled() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler() {
+            @Subscribe
+            public void handleShowHelpRequestEvent(ShowHelpRequestEvent event) throws InterruptedException {
+                blocked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(handler, HandlerThread.STORAGE);
+
+        // keeps the storage thread busy while the burst is posted
+        EventsCenter.getInstance().post(new ShowHelpRequestEvent());
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        List<AddressBookChangedEvent> burst = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            AddressBookChangedEvent event = new AddressBookChangedEvent(new AddressBook());
+            burst.add(event);
+            EventsCenter.getInstance().post(event);
+        }
+        release.countDown();
+        EventsCenter.getInstance().flush();
+
+        List<BaseEvent> changes = new ArrayList<>(handler.events);
+        changes.removeIf(event -> !(event instanceof AddressBookChangedEvent));
+        assertEquals(Collections.singletonList(burst.get(4)), changes);
+    }
+
+    @Test
+    public void getDispatchLatencies_eventsHandled_countedForEachThread() {
+        EventsCenter.getInstance().registerHandler(new RecordingHandler());
+        EventsCenter.getInstance().registerHandler(new StorageHandler());
+
+        EventsCenter.getInstance().post(new ShowHelpRequestEvent());
+        EventsCenter.getInstance().post(new ShowHelpRequestEvent());
+        EventsCenter.getInstance().flush();
+
+        DispatchLatency inline = EventsCenter.getInstance().getDispatchLatencies().get("INLINE ShowHelpRequestEvent");
+        DispatchLatency storage = EventsCenter.getInstance().getDispatchLatencies()
+                .get("STORAGE ShowHelpRequestEvent");
+        assertEquals(2, inline.getCount());
+        assertEquals(2, storage.getCount());
+        assertTrue(storage.getMaxMillis() >= storage.getMeanMillis());
+        // no handlers on the JavaFX application thread, so nothing is handed to it
+        assertEquals(2, EventsCenter.getInstance().getDispatchLatencies().size());
+    }
+
+    /**
+     * Records every event it handles, and the thread it handled each on.
+     */
+    public static class RecordingHandler {
+
+        final List<BaseEvent> events = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Subscribe
+        public void handleEvent(BaseEvent event) {
+            events.add(event);
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    /**
+     * A handler that declares it is called on the storage thread.
+     */
+    @HandledOn(HandlerThread.STORAGE)
+    public static class StorageHandler extends RecordingHandler {
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_bucketBounds_consecutive() {
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1000, 123456789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.getBucket(value);
+            assertTrue(value <= LatencyHistogram.getHighestValue(bucket));
+            if (bucket > 0) {
+                assertTrue(value > LatencyHistogram.getHighestValue(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    public void getPercentileMillis_uniformDurations_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500, histogram.getPercentileMillis(50), 15);
+        assertEquals(900, histogram.getPercentileMillis(90), 27);
+        assertEquals(990, histogram.getPercentileMillis(99), 30);
+        assertEquals(1000, histogram.getPercentileMillis(100), 0.001);
+        assertEquals(1000, histogram.getMaxMillis(), 0.001);
+        assertEquals(500.5, histogram.getMeanMillis(), 0.001);
+        assertEquals(1000, histogram.getLastMillis(), 0.001);
+    }
+
+    @Test
+    public void getPercentileMillis_nothingRecorded_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(99), 0);
+        assertEquals(0, histogram.getMeanMillis(), 0);
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis(), 0);
+    }
+}
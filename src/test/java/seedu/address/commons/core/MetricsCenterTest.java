@@ -0,0 +1,57 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.testutil.TestUtil;
+
+public class MetricsCenterTest {
+
+    @Before
+    @After
+    public void clearMetrics() {
+        MetricsCenter.clearMetrics();
+    }
+
+    @Test
+    public void getReport_allKindsOfMetrics_listedByName() {
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.getCounter("test.counter").add(3);
+        metrics.registerGauge("test.gauge", () -> 7);
+        metrics.getHistogram("test.histogram").record(2_000_000);
+        assertSame(metrics.getCounter("test.counter"), metrics.getCounter("test.counter"));
+
+        String report = metrics.getReport();
+        assertTrue(report.contains("test.counter: 3"));
+        assertTrue(report.contains("test.gauge: 7"));
+        assertTrue(report.contains("test.histogram: 1, p50 2.00 ms"));
+    }
+
+    @Test
+    public void stopDumping_dumping_reportWrittenToFile() throws Exception {
+        String filePath = TestUtil.getFilePathInSandboxFolder("metrics_dump_testing.txt");
+        MetricsCenter metrics = MetricsCenter.getInstance();
+        metrics.getCounter("test.counter").increment();
+        metrics.startDumping(filePath, 3600);
+        metrics.stopDumping();
+
+        String dump = FileUtil.readFromFile(new File(filePath));
+        assertTrue(dump.startsWith("Metrics at "));
+        assertTrue(dump.contains("test.counter: 1"));
+    }
+
+    @Test
+    public void clearMetrics_metricsRecorded_forgotten() {
+        MetricsCenter.getInstance().getHistogram(MetricsCenter.COMMAND_LATENCY).record(1);
+        MetricsCenter.clearMetrics();
+        assertEquals(0, MetricsCenter.getInstance().getHistogram(MetricsCenter.COMMAND_LATENCY).getCount());
+    }
+}
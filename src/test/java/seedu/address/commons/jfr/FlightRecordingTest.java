@@ -0,0 +1,64 @@
+package seedu.address.commons.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ListPersonsCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.TestUtil;
+
+public class FlightRecordingTest {
+
+    private static final String RECORDING_FILE = TestUtil.getFilePathInSandboxFolder("recording_testing.jfr");
+
+    @After
+    public void tearDown() {
+        FlightRecording.stop();
+    }
+
+    @Test
+    public void isEnabled_notStarted_false() {
+        assertFalse(FlightRecording.isEnabled());
+    }
+
+    @Test
+    public void stop_commandExecuted_eventsWritten() throws Exception {
+        assumeTrue(isFlightRecorderPresent());
+        FlightRecording.start(RECORDING_FILE);
+        assertTrue(FlightRecording.isEnabled());
+        new LogicManager(new ModelManager()).execute(ListPersonsCommand.COMMAND_WORD);
+        FlightRecording.stop();
+        assertFalse(FlightRecording.isEnabled());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(Paths.get(RECORDING_FILE)).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.CommandExecute"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals(ListPersonsCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+    }
+
+    /**
+     * Returns true if this Java runtime can record, which the Java 8 runtimes before 8u262 cannot.
+     */
+    private static boolean isFlightRecorderPresent() {
+        try {
+            return FlightRecorder.isAvailable();
+        } catch (NoClassDefFoundError e) {
+            return false;
+        }
+    }
+}
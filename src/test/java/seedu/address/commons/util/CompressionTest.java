@@ -0,0 +1,91 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompressionTest {
+
+    private static final byte[] XML_DATA = ("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n"
+            + "<addressbook><persons><name>Alice Pauline</name></persons>"
+            + "<persons><name>Benson Meier</name></persons></addressbook>").getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void decompressDetected_nullStream_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        Compression.decompressDetected(null);
+    }
+
+    @Test
+    public void decompressDetected_compressedData_originalDataReturned() throws Exception {
+        for (Compression compression : Compression.values()) {
+            assertArrayEquals(compression.name(), XML_DATA, decompress(compress(XML_DATA, compression)));
+        }
+    }
+
+    @Test
+    public void compress_repetitiveData_smallerThanOriginal() throws Exception {
+        assertTrue(compress(XML_DATA, Compression.GZIP).length < XML_DATA.length);
+        assertTrue(compress(XML_DATA, Compression.DEFLATE).length < XML_DATA.length);
+    }
+
+    @Test
+    public void decompressDetected_emptyOrShortData_returnedAsIs() throws Exception {
+        assertArrayEquals(new byte[0], decompress(new byte[0]));
+        assertArrayEquals(new byte[] {0x1f}, decompress(new byte[] {0x1f}));
+    }
+
+    @Test
+    public void detect() {
+        assertEquals(Compression.GZIP, Compression.detect(0x1f, 0x8b));
+        assertEquals(Compression.DEFLATE, Compression.detect(0x78, 0x9c));
+        assertEquals(Compression.DEFLATE, Compression.detect(0x78, 0x01));
+
+        // xml documents, with and without a byte order mark
+        assertEquals(Compression.NONE, Compression.detect('<', '?'));
+        assertEquals(Compression.NONE, Compression.detect(0xef, 0xbb));
+
+        // end of stream
+        assertEquals(Compression.NONE, Compression.detect(-1, -1));
+    }
+
+    /**
+     * Returns {@code data} compressed with {@code compression}.
+     */
+    private static byte[] compress(byte[] data, Compression compression) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = compression.compress(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns {@code data} decompressed with the detected compression.
+     */
+    private static byte[] decompress(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = Compression.decompressDetected(new ByteArrayInputStream(data))) {
+            byte[] buffer = new byte[64];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                bytes.write(buffer, 0, read);
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
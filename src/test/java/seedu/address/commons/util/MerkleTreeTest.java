@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class MerkleTreeTest {
+
+    @Test
+    public void getRoot_sameLeaves_sameRoot() {
+        assertArrayEquals(new MerkleTree(getLeaves(5)).getRoot(), new MerkleTree(getLeaves(5)).getRoot());
+        assertFalse(Arrays.equals(new MerkleTree(getLeaves(5)).getRoot(), new MerkleTree(getLeaves(4)).getRoot()));
+        assertEquals(MerkleTree.HASH_LENGTH, new MerkleTree(Collections.emptyList()).getRoot().length);
+    }
+
+    @Test
+    public void diff_sameLeaves_noDifferences() {
+        assertTrue(new MerkleTree(getLeaves(100)).diff(new MerkleTree(getLeaves(100))).isEmpty());
+        assertEquals(new MerkleTree(getLeaves(100)), new MerkleTree(getLeaves(100)));
+    }
+
+    @Test
+    public void diff_someLeavesChanged_onlyChangedLeavesFound() {
+        List<byte[]> leaves = getLeaves(100);
+        leaves.set(3, MerkleTree.hashLeaf("changed 3"));
+        leaves.set(64, MerkleTree.hashLeaf("changed 64"));
+        assertEquals(Arrays.asList(3, 64), new MerkleTree(getLeaves(100)).diff(new MerkleTree(leaves)));
+    }
+
+    @Test
+    public void diff_differentLeafCounts_extraLeavesFound() {
+        MerkleTree smaller = new MerkleTree(getLeaves(5));
+        MerkleTree larger = new MerkleTree(getLeaves(9));
+        assertEquals(Arrays.asList(5, 6, 7, 8), smaller.diff(larger));
+        assertEquals(Arrays.asList(5, 6, 7, 8), larger.diff(smaller));
+        assertEquals(Arrays.asList(0), new MerkleTree(Collections.emptyList()).diff(new MerkleTree(getLeaves(1))));
+    }
+
+    private static List<byte[]> getLeaves(int count) {
+        List<byte[]> leaves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            leaves.add(MerkleTree.hashLeaf("leaf " + i));
+        }
+        return leaves;
+    }
+}
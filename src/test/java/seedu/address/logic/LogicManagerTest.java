@@ -3,6 +3,12 @@ package seedu.address.logic;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,12 +17,17 @@ import org.junit.rules.ExpectedException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListPersonsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TransactionUtil;
 
 
 public class LogicManagerTest {
@@ -47,6 +58,25 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void submitTransaction_afterUndoableCommand_commandNoLongerUndone() throws Exception {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Logic typicalLogic = new LogicManager(typicalModel);
+        typicalLogic.execute(PersonUtil.getAddPersonCommand(AMY));
+        Transaction transaction = new TransactionBuilder().withPayer(ALICE).withPayees(BENSON).build();
+        typicalLogic.submitTransaction(TransactionUtil.getTransactionDetails(transaction)).get(10, TimeUnit.SECONDS);
+        int transactionCount = typicalModel.getAddressBook().getTransactionList().size();
+
+        // undoing the command would bring back the address book from before the submitted transaction
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(UndoCommand.MESSAGE_FAILURE);
+        try {
+            typicalLogic.execute(UndoCommand.COMMAND_WORD);
+        } finally {
+            assertEquals(transactionCount, typicalModel.getAddressBook().getTransactionList().size());
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
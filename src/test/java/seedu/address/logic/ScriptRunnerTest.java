@@ -0,0 +1,72 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.ScriptRunner.ScriptReport;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.testutil.PersonUtil;
+
+public class ScriptRunnerTest {
+
+    private final Model model = new ModelManager();
+    private final LogicManager logic = new LogicManager(model);
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void run_transactionBetweenPersonsAddedBefore_runInOrder() throws Exception {
+        List<Integer> checkpoints = new ArrayList<>();
+        ScriptRunner runner = new ScriptRunner(logic, 4, 2, () -> checkpoints.add(model.getSnapshot()
+                .getPersonList().size()));
+
+        ScriptReport report = run(runner, "# two persons and a lunch between them",
+                PersonUtil.getAddPersonCommand(AMY),
+                "",
+                PersonUtil.getAddPersonCommand(BOB),
+                "addTransaction type/payment payer/" + AMY.getName().fullName + " a/10.00 d/Lunch payee/"
+                        + BOB.getName().fullName + " m/evenly");
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+        assertEquals("", err.toString());
+        assertEquals(1, model.getAddressBook().getTransactionList().size());
+        // a checkpoint after every two commands, and one at the end
+        assertEquals(2, checkpoints.size());
+        assertEquals(Integer.valueOf(2), checkpoints.get(0));
+    }
+
+    @Test
+    public void run_failedCommands_reportedAndSkipped() throws Exception {
+        ScriptRunner runner = new ScriptRunner(logic, 2, 0, () -> { });
+
+        ScriptReport report = run(runner, "nosuchcommand",
+                "deletePerson 9",
+                PersonUtil.getAddPersonCommand(AMY),
+                PersonUtil.getAddPersonCommand(AMY));
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(3, report.getFailureCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(err.toString().startsWith("Line 1: "));
+        assertTrue(report.toString().startsWith("4 commands (3 failed)"));
+    }
+
+    /**
+     * Runs the script made of {@code lines} with {@code runner}.
+     */
+    private ScriptReport run(ScriptRunner runner, String... lines) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))), new PrintStream(err));
+    }
+}
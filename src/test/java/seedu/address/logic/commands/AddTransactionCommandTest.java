@@ -14,7 +14,10 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SIXTH_TRANSACTION;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -22,15 +25,22 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ExportFormat;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ExportFilter;
+import seedu.address.model.ExportReport;
+import seedu.address.model.LedgerCheckpoint;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SyncReport;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VerificationReport;
 import seedu.address.model.person.Creditor;
 import seedu.address.model.person.Debtor;
 import seedu.address.model.person.Name;
@@ -184,6 +194,12 @@ public class AddTransactionCommandTest {
             return null;
         }
 
+        @Override
+        public AddressBookSnapshot getSnapshot() {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public void deletePerson(Person target) {
             fail("This method should not be called.");
@@ -238,10 +254,60 @@ public class AddTransactionCommandTest {
         @Override
         public void addTransaction(Transaction transaction) throws PersonNotFoundException {}
 
+        @Override
+        public CompletableFuture<Transaction> submitTransaction(Transaction transaction) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void setWriter(Executor writer) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deleteTransaction(Transaction transaction) {
         }
 
+        @Override
+        public boolean loadOlderTransactions() {
+            return false;
+        }
+
+        @Override
+        public void loadAllTransactions() {
+        }
+
+        @Override
+        public VerificationReport verifyAddressBook() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public SyncReport syncAddressBook(String filePath) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public LedgerCheckpoint archiveSettledTransactions(Date before) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public List<LedgerCheckpoint> getArchivedTransactions() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public ExportReport exportAddressBook(String filePath, ExportFormat format, ExportFilter filter) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<Debtor> getFilteredDebtors() {
             return null;
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.XmlSerializableTransactionArchive;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class ArchiveCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private StorageManager storage;
+    private ModelManager model;
+    private UndoRedoStack undoRedoStack;
+
+    @Before
+    public void setUp() throws Exception {
+        String folder = testFolder.getRoot().getPath() + File.separator;
+        storage = new StorageManager(new XmlAddressBookStorage(folder + "book.xml"),
+                new JsonUserPrefsStorage(folder + "prefs.json"));
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(TypicalPersons.ALICE).build());
+        addressBook.addPerson(new PersonBuilder(TypicalPersons.BENSON).build());
+        addressBook.addPerson(new PersonBuilder(TypicalPersons.CARL).build());
+        model = new ModelManager(addressBook, new UserPrefs(), storage);
+        undoRedoStack = new UndoRedoStack();
+
+        Person alice = model.findPersonByName(TypicalPersons.ALICE.getName());
+        Person benson = model.findPersonByName(TypicalPersons.BENSON.getName());
+        Person carl = model.findPersonByName(TypicalPersons.CARL.getName());
+        model.addTransaction(new TransactionBuilder().withPayer(alice).withPayees(benson).withAmount("20.00")
+                .withDescription("Dinner").withDate(ParserUtil.parseDate("2018-01-05")).build());
+        model.addTransaction(new TransactionBuilder().withTransactionType("paydebt").withPayer(benson)
+                .withPayees(alice).withAmount("10.00").withDescription("Paying back dinner")
+                .withDate(ParserUtil.parseDate("2018-01-10")).build());
+        model.addTransaction(new TransactionBuilder().withPayer(carl).withPayees(alice).withAmount("8.00")
+                .withDescription("Lunch").withDate(ParserUtil.parseDate("2018-01-15")).build());
+    }
+
+    @Test
+    public void execute_settledTransactions_archivedWithDebtsKept() throws Exception {
+        undoRedoStack.push(new ClearCommand());
+        String feedback = execute(ArchiveCommand.before(ParserUtil.parseDate("2018-02-01")));
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_SUCCESS, 2, "2018-02-01"), feedback);
+        assertEquals(1, model.getAddressBook().getTransactionList().size());
+        assertFalse(undoRedoStack.canUndo());
+
+        // the debts that the transactions left would add up to again are the ones that were kept
+        storage.saveAddressBook(model.getAddressBook());
+        ReadOnlyAddressBook savedAddressBook = storage.readAddressBook().get();
+        assertEquals(1, savedAddressBook.getTransactionList().size());
+        assertEquals(Collections.emptyList(), storage.findBlocksNotMatchingReadHashes(savedAddressBook));
+    }
+
+    @Test
+    public void execute_nothingSettled_nothingArchived() throws Exception {
+        String feedback = execute(ArchiveCommand.before(ParserUtil.parseDate("2018-01-07")));
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_NOTHING_SETTLED, "2018-01-07"), feedback);
+        assertEquals(3, model.getAddressBook().getTransactionList().size());
+        assertFalse(new File(XmlSerializableTransactionArchive.getArchiveFilePath(
+                storage.getAddressBookFilePath())).exists());
+    }
+
+    @Test
+    public void execute_list_archivedTransactionsMentioningKeywordListed() throws Exception {
+        assertEquals(String.format(ArchiveCommand.MESSAGE_LISTED, 0, ""),
+                execute(ArchiveCommand.list(Optional.empty())));
+
+        execute(ArchiveCommand.before(ParserUtil.parseDate("2018-02-01")));
+        String feedback = execute(ArchiveCommand.list(Optional.of("DINNER")));
+        assertTrue(feedback, feedback.startsWith(String.format(ArchiveCommand.MESSAGE_LISTED, 2, "")));
+        assertTrue(feedback, feedback.contains("2018-01-05 Alice Pauline paid 20.00 for Dinner"));
+        assertTrue(feedback, feedback.contains("2018-01-10 Benson Meier paid 10.00 for Paying back dinner"));
+        assertEquals(String.format(ArchiveCommand.MESSAGE_LISTED, 0, ""),
+                execute(ArchiveCommand.list(Optional.of("Lunch"))));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        ArchiveCommand archiveCommand = ArchiveCommand.before(ParserUtil.parseDate("2018-02-01"));
+        assertTrue(archiveCommand.equals(archiveCommand));
+        assertTrue(archiveCommand.equals(ArchiveCommand.before(ParserUtil.parseDate("2018-02-01"))));
+        assertFalse(archiveCommand.equals(ArchiveCommand.before(ParserUtil.parseDate("2018-03-01"))));
+        assertFalse(archiveCommand.equals(ArchiveCommand.list(Optional.empty())));
+        assertTrue(ArchiveCommand.list(Optional.empty()).equals(ArchiveCommand.list(Optional.empty())));
+        assertFalse(archiveCommand.equals(null));
+    }
+
+    private String execute(ArchiveCommand command) throws Exception {
+        command.setData(model, new CommandHistory(), undoRedoStack);
+        return command.execute().feedbackToUser;
+    }
+}
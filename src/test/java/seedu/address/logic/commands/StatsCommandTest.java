@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Before
+    @After
+    public void clearMetrics() {
+        MetricsCenter.clearMetrics();
+    }
+
+    @Test
+    public void execute_commandsRun_latenciesShown() throws Exception {
+        new LogicManager(new ModelManager()).execute(ListPersonsCommand.COMMAND_WORD);
+        StatsCommand command = new StatsCommand();
+        command.setData(new ModelManager(), new CommandHistory(), new UndoRedoStack());
+
+        String feedback = command.execute().feedbackToUser;
+        assertTrue(feedback.startsWith("Metrics since SmartSplit was started:"));
+        assertTrue(feedback.contains(MetricsCenter.COMMAND_LATENCY + ": 1, p50"));
+        assertTrue(feedback.contains("command." + ListPersonsCommand.COMMAND_WORD + ": 1"));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class SyncCommandTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void execute_otherCopyHasMore_missingPersonAndTransactionAdded() throws Exception {
+        StorageManager storage = getStorage("local.xml");
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook other = getTypicalAddressBook();
+        Person hoon = new PersonBuilder(TypicalPersons.HOON).build();
+        other.addPerson(hoon);
+        other.addTransaction(new TransactionBuilder().withPayer(hoon).withPayees(TypicalPersons.ALICE.getName()
+                .fullName).withDescription("Shared taxi").build());
+        String otherFilePath = getStorage("other.xml").getAddressBookFilePath();
+        getStorage("other.xml").saveAddressBook(other);
+
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new UserPrefs(), storage);
+        String feedback = execute(new SyncCommand(otherFilePath), model);
+        assertTrue(feedback, feedback.contains("added 1 persons and 1 transactions"));
+        assertTrue(model.getAddressBook().getPersonList().contains(hoon));
+        assertTrue(model.getAddressBook().getTransactionList().stream()
+                .anyMatch(transaction -> transaction.getDescription().value.equals("Shared taxi")));
+
+        // only what is still missing is added
+        assertEquals(0, model.syncAddressBook(otherFilePath).getAddedTransactionCount());
+    }
+
+    @Test
+    public void execute_savedCopyOfItself_upToDate() throws Exception {
+        StorageManager storage = getStorage("local.xml");
+        storage.saveAddressBook(getTypicalAddressBook());
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new UserPrefs(), storage);
+
+        assertEquals(String.format(SyncCommand.MESSAGE_UP_TO_DATE, storage.getAddressBookFilePath()),
+                execute(new SyncCommand(storage.getAddressBookFilePath()), model));
+    }
+
+    @Test(expected = CommandException.class)
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        StorageManager storage = getStorage("local.xml");
+        execute(new SyncCommand(getStorage("missing.xml").getAddressBookFilePath()),
+                new ModelManager(new AddressBook(), new UserPrefs(), storage));
+    }
+
+    @Test
+    public void equals() {
+        SyncCommand syncCommand = new SyncCommand("a.xml");
+        assertTrue(syncCommand.equals(syncCommand));
+        assertTrue(syncCommand.equals(new SyncCommand("a.xml")));
+        assertTrue(!syncCommand.equals(new SyncCommand("b.xml")));
+        assertTrue(!syncCommand.equals(null));
+    }
+
+    private String execute(SyncCommand command, ModelManager model) throws Exception {
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command.execute().feedbackToUser;
+    }
+
+    private StorageManager getStorage(String fileName) {
+        String folder = testFolder.getRoot().getPath() + File.separator;
+        return new StorageManager(new XmlAddressBookStorage(folder + fileName),
+                new JsonUserPrefsStorage(folder + "prefs.json"));
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookVerifier;
+import seedu.address.model.ModelManager;
+import seedu.address.model.NoModelStorage;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VerificationReport;
+
+public class VerifyCommandTest {
+
+    @Test
+    public void execute_allBlocksIntact_success() throws Exception {
+        VerificationReport report = new VerificationReport(true, 3, Collections.emptyList(),
+                Collections.emptyList());
+        assertEquals(String.format(VerifyCommand.MESSAGE_SUCCESS, 3), executeWith(addressBook -> report));
+    }
+
+    @Test
+    public void execute_corruptedBlocks_blocksListed() throws Exception {
+        VerificationReport report = new VerificationReport(true, 3,
+                Arrays.asList("persons block 1", "transactions of 2018-03 block 2"), Collections.emptyList());
+        assertEquals(String.format(VerifyCommand.MESSAGE_CORRUPTED, 2, 3,
+                "persons block 1\ntransactions of 2018-03 block 2"), executeWith(addressBook -> report));
+    }
+
+    @Test
+    public void execute_noStoredHashes_nothingChecked() throws Exception {
+        assertEquals(VerifyCommand.MESSAGE_NO_HASHES,
+                executeWith(addressBook -> VerificationReport.withoutStoredHashes()));
+    }
+
+    @Test(expected = CommandException.class)
+    public void execute_unreadableData_throwsCommandException() throws Exception {
+        executeWith(addressBook -> {
+            throw new IOException("dummy exception");
+        });
+    }
+
+    /**
+     * Executes a {@code VerifyCommand} on a model that checks its address book with {@code verifier}, and returns
+     * the feedback of the command.
+     */
+    private static String executeWith(AddressBookVerifier verifier) throws CommandException {
+        VerifyCommand command = new VerifyCommand();
+        NoModelStorage storage = new NoModelStorage() {
+            @Override
+            public VerificationReport verifyAddressBook(ReadOnlyAddressBook addressBook)
+                    throws DataConversionException, IOException {
+                return verifier.verifyAddressBook(addressBook);
+            }
+        };
+        command.setData(new ModelManager(new AddressBook(), new UserPrefs(), storage), new CommandHistory(),
+                new UndoRedoStack());
+        return command.execute().feedbackToUser;
+    }
+}
@@ -10,26 +10,33 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.util.ExportFormat;
 import seedu.address.logic.commands.AddPersonCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeletePersonCommand;
 import seedu.address.logic.commands.DeleteTransactionCommand;
 import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.EditPersonCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListPersonsCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectPersonCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SyncCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelManager;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
@@ -136,6 +143,52 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
     }
 
+    @Test
+    public void parseCommand_verify() throws Exception {
+        assertTrue(parser.parseCommand(VerifyCommand.COMMAND_WORD) instanceof VerifyCommand);
+        assertTrue(parser.parseCommand(VerifyCommand.COMMAND_WORD + " 3") instanceof VerifyCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_sync() throws Exception {
+        SyncCommand command = (SyncCommand) parser.parseCommand(SyncCommand.COMMAND_WORD + " shared/book.xml ");
+        assertEquals(new SyncCommand("shared/book.xml"), command);
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(
+                ArchiveCommand.COMMAND_WORD + " before/2018-04-01");
+        assertEquals(ArchiveCommand.before(ParserUtil.parseDate("2018-04-01")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " ledger.csv");
+        assertEquals(new ExportCommand("ledger.csv", ExportFormat.CSV, Optional.empty(), Optional.empty(),
+                Optional.empty()), command);
+    }
+
+    @Test
+    public void parseCommandAhead_modelNotRead_parsed() throws Exception {
+        Person person = new PersonBuilder().build();
+        assertEquals(Optional.of(new AddPersonCommand(person)),
+                parser.parseCommandAhead(PersonUtil.getAddPersonCommand(person)));
+    }
+
+    @Test
+    public void parseCommandAhead_personsLookedUp_leftForLater() throws Exception {
+        // the payer is only added by a command before this one, so it must not be looked up yet
+        assertEquals(Optional.empty(), parser.parseCommandAhead("addTransaction type/payment payer/Nobody Yet "
+                + "a/10.00 d/Lunch payee/Nobody Else m/evenly"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ArchiveCommand;
+
+public class ArchiveCommandParserTest {
+
+    private ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_validDate_returnsArchiveCommand() throws Exception {
+        assertParseSuccess(parser, " before/2018-04-01 ", ArchiveCommand.before(ParserUtil.parseDate("2018-04-01")));
+    }
+
+    @Test
+    public void parse_list_returnsListingArchiveCommand() throws Exception {
+        assertParseSuccess(parser, " list ", ArchiveCommand.list(Optional.empty()));
+        assertParseSuccess(parser, " list  Dinner at Bob's ", ArchiveCommand.list(Optional.of("Dinner at Bob's")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() throws Exception {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " 2018-04-01", invalidFormat);
+        assertParseFailure(parser, " listing", invalidFormat);
+        assertParseFailure(parser, " before/1 April 2018", ParserUtil.MESSAGE_INVALID_DATE);
+    }
+}
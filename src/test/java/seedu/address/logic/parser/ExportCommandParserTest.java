@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.model.person.Name;
+
+public class ExportCommandParserTest {
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filePath_returnsExportCommandInFormatOfExtension() throws Exception {
+        assertParseSuccess(parser, " exports/ledger.csv ", new ExportCommand("exports/ledger.csv", ExportFormat.CSV,
+                Optional.empty(), Optional.empty(), Optional.empty()));
+        assertParseSuccess(parser, " ledger.JSON", new ExportCommand("ledger.JSON", ExportFormat.JSON,
+                Optional.empty(), Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_allFilters_returnsFilteredExportCommand() throws Exception {
+        assertParseSuccess(parser, " ledger.json n/Alice Pauline from/2018-01-01 to/2018-03-31",
+                new ExportCommand("ledger.json", ExportFormat.JSON, Optional.of(new Name("Alice Pauline")),
+                        Optional.of(LocalDate.of(2018, 1, 1)), Optional.of(LocalDate.of(2018, 3, 31))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() throws Exception {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " ledger.txt", invalidFormat);
+        assertParseFailure(parser, " ledger.csv from/1 April 2018", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " ledger.csv from/2018-04-01 to/2018-03-31",
+                ExportCommandParser.MESSAGE_DATES_REVERSED);
+    }
+}
@@ -6,8 +6,11 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -218,4 +221,16 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseDate_invalidValue_throwsIllegalValueException() {
+        Assert.assertThrows(IllegalValueException.class, () -> ParserUtil.parseDate("2018-02-30"));
+        Assert.assertThrows(IllegalValueException.class, () -> ParserUtil.parseDate("01/04/2018"));
+    }
+
+    @Test
+    public void parseDate_validValueWithWhitespace_returnsStartOfDay() throws Exception {
+        Date expectedDate = Date.from(LocalDate.of(2018, 4, 1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        assertEquals(expectedDate, ParserUtil.parseDate(WHITESPACE + "2018-04-01" + WHITESPACE));
+    }
 }
@@ -1,9 +1,11 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -20,6 +22,8 @@ import seedu.address.model.person.Debtor;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.TypicalTransactions;
 
 public class AddressBookTest {
 
@@ -59,6 +63,24 @@ public class AddressBookTest {
         addressBook.resetData(newData);
     }
 
+    @Test
+    public void changeStamps_transactionAdded_onlyItsMonthAndPersonsChanged() throws Exception {
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        Transaction transaction = original.getTransactionList().get(0);
+        YearMonth period = TransactionSegment.periodOf(transaction);
+        AddressBook copy = new AddressBook(original);
+
+        // a copy holds the same data, so it keeps the change stamps
+        assertEquals(original.getPersonsChangeStamp(), copy.getPersonsChangeStamp());
+        assertEquals(original.getTransactionsChangeStamp(period), copy.getTransactionsChangeStamp(period));
+
+        copy.removeTransaction(transaction);
+        assertNotEquals(original.getPersonsChangeStamp(), copy.getPersonsChangeStamp());
+        assertNotEquals(original.getTransactionsChangeStamp(period), copy.getTransactionsChangeStamp(period));
+        assertEquals(original.getTransactionsChangeStamp(period.minusMonths(1)),
+                copy.getTransactionsChangeStamp(period.minusMonths(1)));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -100,6 +122,21 @@ public class AddressBookTest {
             return transactions;
         }
 
+        @Override
+        public List<TransactionSegment> getUnloadedTransactionSegments() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public long getPersonsChangeStamp() {
+            return UNKNOWN_CHANGE_STAMP;
+        }
+
+        @Override
+        public long getTransactionsChangeStamp(YearMonth period) {
+            return UNKNOWN_CHANGE_STAMP;
+        }
+
         @Override
         public ObservableList<Tag> getTagList() {
             return tags;
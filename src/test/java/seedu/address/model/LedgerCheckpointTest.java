@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.TransactionBuilder;
+
+public class LedgerCheckpointTest {
+
+    @Test
+    public void ofSettledTransactions_settledPair_onlySettledRunArchived() throws Exception {
+        Transaction dinner = payment(ALICE, "20.00", "2018-01-05", BENSON);
+        Transaction repaid = paydebt(BENSON, "10.00", "2018-01-10", ALICE);
+        Transaction taxi = payment(ALICE, "30.00", "2018-01-12", BENSON);
+        Transaction lunch = payment(CARL, "8.00", "2018-01-15", ALICE);
+
+        LedgerCheckpoint checkpoint = LedgerCheckpoint.ofSettledTransactions(
+                Arrays.asList(taxi, lunch, repaid, dinner), ParserUtil.parseDate("2018-02-01"));
+        assertEquals(Arrays.asList(dinner, repaid), checkpoint.getTransactions());
+        assertTrue(checkpoint.isSettled());
+    }
+
+    @Test
+    public void ofSettledTransactions_settledAfterDate_nothingArchived() throws Exception {
+        Transaction dinner = payment(ALICE, "20.00", "2018-01-05", BENSON);
+        Transaction repaid = paydebt(BENSON, "10.00", "2018-02-10", ALICE);
+
+        LedgerCheckpoint checkpoint = LedgerCheckpoint.ofSettledTransactions(Arrays.asList(dinner, repaid),
+                ParserUtil.parseDate("2018-02-01"));
+        assertEquals(Collections.emptyList(), checkpoint.getTransactions());
+    }
+
+    @Test
+    public void ofSettledTransactions_sharedTransactionWithUnsettledPair_pairsWaitForEachOther() throws Exception {
+        // Benson has paid Alice back for their share of the taxi, but Carl has not
+        Transaction taxi = payment(ALICE, "30.00", "2018-01-05", BENSON, CARL);
+        Transaction bensonRepaid = paydebt(BENSON, "10.00", "2018-01-10", ALICE);
+        List<Transaction> transactions = Arrays.asList(taxi, bensonRepaid);
+        Date before = ParserUtil.parseDate("2018-02-01");
+        assertEquals(Collections.emptyList(),
+                LedgerCheckpoint.ofSettledTransactions(transactions, before).getTransactions());
+
+        Transaction carlRepaid = paydebt(CARL, "10.00", "2018-01-20", ALICE);
+        assertEquals(Arrays.asList(taxi, bensonRepaid, carlRepaid), LedgerCheckpoint.ofSettledTransactions(
+                Arrays.asList(taxi, bensonRepaid, carlRepaid), before).getTransactions());
+    }
+
+    private static Transaction payment(Person payer, String amount, String date, Person... payees)
+            throws Exception {
+        return new TransactionBuilder().withPayer(payer).withAmount(amount).withDate(ParserUtil.parseDate(date))
+                .withPayees(payees).build();
+    }
+
+    private static Transaction paydebt(Person payer, String amount, String date, Person payee) throws Exception {
+        return new TransactionBuilder().withTransactionType("paydebt").withPayer(payer).withAmount(amount)
+                .withDate(ParserUtil.parseDate(date)).withPayees(payee).build();
+    }
+}
@@ -1,24 +1,56 @@
 package seedu.address.model;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.DebtsChangedEvent;
+import seedu.address.commons.events.model.PersonsEditedEvent;
+import seedu.address.commons.events.model.RecordsChangedEvent;
+import seedu.address.commons.events.model.TransactionsAddedEvent;
+import seedu.address.commons.events.model.TransactionsEditedEvent;
+import seedu.address.model.person.Balance;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.util.SampleDataUtil;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -26,6 +58,227 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void applyFileChange_personAddedByOthers_addedWithoutReset() {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        Person alice = modelManager.getFilteredPersonList().get(0);
+        AddressBookDiff diff = new AddressBookDiff();
+        diff.addPerson(BENSON);
+
+        modelManager.applyFileChange(new AddressBookFileChange() {
+            @Override
+            public List<YearMonth> getChangedMonths(ReadOnlyAddressBook addressBook) {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public boolean isLeftInStorage(YearMonth month) {
+                return true;
+            }
+
+            @Override
+            public AddressBookDiff diffAgainst(ReadOnlyAddressBook addressBook) {
+                return diff;
+            }
+        });
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        // the persons that did not change are kept as they are
+        assertSame(alice, modelManager.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void getSnapshot_personAdded_earlierSnapshotUnchanged() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(),
+                new UserPrefs());
+        AddressBookSnapshot before = modelManager.getSnapshot();
+        modelManager.addPerson(BENSON);
+        AddressBookSnapshot after = modelManager.getSnapshot();
+
+        assertEquals(Collections.singletonList(ALICE), before.getPersonList());
+        assertEquals(Arrays.asList(ALICE, BENSON), after.getPersonList());
+        assertTrue(after.getVersion() > before.getVersion());
+        // the transactions did not change, so they are not copied again
+        assertSame(before.getTransactionList(), after.getTransactionList());
+    }
+
+    @Test
+    public void getSnapshot_transactionDeleted_earlierSnapshotKeepsBalances() throws Exception {
+        ModelManager modelManager = new ModelManager(AddressBookBuilder.getTypicalAddressBook(), new UserPrefs());
+        AddressBookSnapshot before = modelManager.getSnapshot();
+        Transaction transaction = modelManager.getAddressBook().getTransactionList().get(0);
+        Person payer = transaction.getPayer();
+        Balance balanceBefore = getBalance(before, payer);
+
+        modelManager.deleteTransaction(transaction);
+        AddressBookSnapshot after = modelManager.getSnapshot();
+        assertEquals(balanceBefore, getBalance(before, payer));
+        assertFalse(balanceBefore.equals(getBalance(after, payer)));
+        assertTrue(before.getTransactionList().contains(transaction));
+        assertFalse(after.getTransactionList().contains(transaction));
+    }
+
+    @Test
+    public void submitTransaction_knownAndUnknownPayers_onlyKnownAdded() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        int transactionCount = modelManager.getAddressBook().getTransactionList().size();
+        Transaction known = new TransactionBuilder().build();
+        Transaction unknown = new TransactionBuilder().withPayer(AMY).build();
+
+        CompletableFuture<Transaction> unknownAdded = modelManager.submitTransaction(unknown);
+        assertSame(known, modelManager.submitTransaction(known).get(10, TimeUnit.SECONDS));
+        thrown.expectCause(instanceOf(PersonNotFoundException.class));
+        try {
+            unknownAdded.get(10, TimeUnit.SECONDS);
+        } finally {
+            assertEquals(transactionCount + 1, modelManager.getSnapshot().getTransactionList().size());
+            assertTrue(modelManager.getSnapshot().getTransactionList().contains(known));
+        }
+    }
+
+    @Test
+    public void submitTransaction_saved_savedBeforeFutureCompletes() throws Exception {
+        List<AddressBookSnapshot> saved = new ArrayList<>();
+        NoModelStorage storage = new NoModelStorage() {
+            @Override
+            public void saveSnapshot(AddressBookSnapshot snapshot) {
+                saved.add(snapshot);
+            }
+        };
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs(), storage);
+        Transaction transaction = new TransactionBuilder().build();
+
+        modelManager.submitTransaction(transaction).get(10, TimeUnit.SECONDS);
+        assertEquals(1, saved.size());
+        assertTrue(saved.get(0).getTransactionList().contains(transaction));
+    }
+
+    @Test
+    public void submitTransaction_writerSet_addedOnWriter() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        AtomicInteger batchesRun = new AtomicInteger();
+        modelManager.setWriter(batch -> {
+            batchesRun.incrementAndGet();
+            batch.run();
+        });
+
+        modelManager.submitTransaction(new TransactionBuilder().build()).get(10, TimeUnit.SECONDS);
+        assertEquals(1, batchesRun.get());
+    }
+
+    @Test
+    public void submitTransaction_saveFails_futureFailsWithIoException() throws Exception {
+        NoModelStorage failingStorage = new NoModelStorage() {
+            @Override
+            public void saveSnapshot(AddressBookSnapshot snapshot) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs(),
+                failingStorage);
+
+        CompletableFuture<Transaction> added = modelManager.submitTransaction(new TransactionBuilder().build());
+        thrown.expectCause(instanceOf(IOException.class));
+        added.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void addTransaction_transactionAdded_changedRecordsRaisedBeforeWholeAddressBook() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        Transaction transaction = new TransactionBuilder().build();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.addTransaction(transaction);
+        List<BaseEvent> events = eventsCollectorRule.eventsCollector.getAll();
+        long version = modelManager.getSnapshot().getVersion();
+        assertEquals(3, events.size());
+        TransactionsAddedEvent transactionsAdded = (TransactionsAddedEvent) events.get(0);
+        assertEquals(Collections.singletonList(transaction), transactionsAdded.records);
+        assertEquals(version, transactionsAdded.version);
+        DebtsChangedEvent debtsChanged = (DebtsChangedEvent) events.get(1);
+        assertEquals(1, debtsChanged.records.size());
+        DebtEntry debt = debtsChanged.records.get(0);
+        assertEquals(SampleDataUtil.getSamplePersons()[1].getName(), debt.getDebtor().getName());
+        assertEquals(transaction.getPayer().getName(), debt.getCreditor().getName());
+        assertTrue(debt.getAmount().getDoubleValue() > 0);
+        assertEquals(version, debtsChanged.version);
+        assertSame(modelManager.getSnapshot(), ((AddressBookChangedEvent) events.get(2)).data);
+    }
+
+    @Test
+    public void deleteTransaction_debtSettled_settledDebtRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        Transaction transaction = new TransactionBuilder().build();
+        modelManager.addTransaction(transaction);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.deleteTransaction(transaction);
+        DebtsChangedEvent debtsChanged = (DebtsChangedEvent) eventsCollectorRule.eventsCollector.getAll().get(1);
+        assertEquals(1, debtsChanged.records.size());
+        assertTrue(debtsChanged.records.get(0).involves(transaction.getPayer()));
+        assertEquals(0, debtsChanged.records.get(0).getAmount().getDoubleValue(), 0);
+    }
+
+    @Test
+    public void resetData_debtsTableReplaced_allDebtsRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        modelManager.addTransaction(new TransactionBuilder().build());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.resetData(new AddressBook());
+        DebtsChangedEvent debtsChanged = eventsCollectorRule.eventsCollector.getAll().stream()
+                .filter(event -> event instanceof DebtsChangedEvent).map(event -> (DebtsChangedEvent) event)
+                .findFirst().get();
+        assertTrue(debtsChanged.areAllDebts);
+        assertEquals(Collections.emptyList(), debtsChanged.records);
+    }
+
+    @Test
+    public void updatePerson_personEdited_onlyEditedPersonRaised() throws Exception {
+        ModelManager modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .build(), new UserPrefs());
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.updatePerson(ALICE, editedAlice);
+        PersonsEditedEvent personsEdited = (PersonsEditedEvent) eventsCollectorRule.eventsCollector.getAll().get(0);
+        assertEquals(Collections.singletonList(ALICE), personsEdited.targets);
+        assertEquals(Collections.singletonList(editedAlice), personsEdited.records);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    @Test
+    public void updatePerson_personInSomeTransactions_onlyTheirTransactionsEdited() throws Exception {
+        ModelManager modelManager = new ModelManager(SampleDataUtil.getSampleAddressBook(), new UserPrefs());
+        Person[] persons = SampleDataUtil.getSamplePersons();
+        Transaction involved = new TransactionBuilder().withPayer(persons[0]).withPayees(persons[1]).build();
+        modelManager.addTransaction(involved);
+        modelManager.addTransaction(new TransactionBuilder().withPayer(persons[1]).withPayees(persons[2]).build());
+        modelManager.addTransaction(new TransactionBuilder().withPayer(persons[2]).withPayees(persons[1]).build());
+
+        // a person in none of the transactions leaves them all as they are
+        Person uninvolved = modelManager.findPersonByName(persons[5].getName());
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.updatePerson(uninvolved, new PersonBuilder(uninvolved).withPhone(VALID_PHONE_BOB).build());
+        assertEquals(Arrays.asList(PersonsEditedEvent.class, AddressBookChangedEvent.class),
+                eventsCollectorRule.eventsCollector.getAll().stream().map(Object::getClass)
+                        .collect(Collectors.toList()));
+
+        // a person in one transaction only has that transaction edited, without it being removed or added
+        Person payer = modelManager.findPersonByName(persons[0].getName());
+        Person editedPayer = new PersonBuilder(payer).withPhone(VALID_PHONE_BOB).build();
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.updatePerson(payer, editedPayer);
+        List<BaseEvent> events = eventsCollectorRule.eventsCollector.getAll();
+        TransactionsEditedEvent transactionsEdited = (TransactionsEditedEvent) events.get(1);
+        assertEquals(Collections.singletonList(involved), transactionsEdited.targets);
+        assertEquals(Collections.singletonList(involved), transactionsEdited.records);
+        assertEquals(editedPayer.getPhone(), transactionsEdited.records.get(0).getPayer().getPhone());
+        assertEquals(2, events.stream().filter(event -> event instanceof RecordsChangedEvent
+                && !(event instanceof DebtsChangedEvent)).count());
+        assertEquals(3, modelManager.getAddressBook().getTransactionList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -62,4 +315,8 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookName("differentName");
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    private static Balance getBalance(ReadOnlyAddressBook addressBook, Person person) {
+        return addressBook.getPersonList().get(addressBook.getPersonList().indexOf(person)).getBalance();
+    }
 }
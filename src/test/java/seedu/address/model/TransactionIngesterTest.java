@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.TransactionBuilder;
+
+public class TransactionIngesterTest {
+
+    private static final int PRODUCERS = 8;
+    private static final int TRANSACTIONS_PER_PRODUCER = 200;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Transaction transaction = new TransactionBuilder().build();
+
+    @Test
+    public void submit_manyProducers_appliedInBatches() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        TransactionIngester ingester = new TransactionIngester(transactions -> {
+            batchSizes.add(transactions.size());
+            sleepLikeASave();
+            return noFailures(transactions);
+        }, 64, 32);
+
+        ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        List<Future<List<CompletableFuture<Transaction>>>> submitted = new ArrayList<>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            submitted.add(producers.submit(() -> {
+                List<CompletableFuture<Transaction>> futures = new ArrayList<>();
+                for (int j = 0; j < TRANSACTIONS_PER_PRODUCER; j++) {
+                    futures.add(ingester.submit(transaction));
+                }
+                return futures;
+            }));
+        }
+        for (Future<List<CompletableFuture<Transaction>>> producer : submitted) {
+            for (CompletableFuture<Transaction> future : producer.get()) {
+                assertSame(transaction, future.get(10, TimeUnit.SECONDS));
+            }
+        }
+        producers.shutdown();
+        ingester.stop();
+
+        assertEquals(PRODUCERS * TRANSACTIONS_PER_PRODUCER, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        // the producers outpace the saves, so the transactions queue up and are taken a batch at a time
+        assertTrue(batchSizes.size() < PRODUCERS * TRANSACTIONS_PER_PRODUCER / 2);
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 32));
+    }
+
+    @Test
+    public void submit_transactionNotAdded_futureFailsAlone() throws Exception {
+        CommandException failure = new CommandException("Not added");
+        TransactionIngester ingester = new TransactionIngester(transactions -> {
+            List<Optional<Exception>> failures = new ArrayList<>();
+            for (int i = 0; i < transactions.size(); i++) {
+                failures.add(transactions.get(i) == transaction ? Optional.of(failure) : Optional.empty());
+            }
+            return failures;
+        }, 4, 4);
+        Transaction other = new TransactionBuilder().build();
+
+        CompletableFuture<Transaction> failed = ingester.submit(transaction);
+        assertSame(other, ingester.submit(other).get(10, TimeUnit.SECONDS));
+        try {
+            failed.get(10, TimeUnit.SECONDS);
+            throw new AssertionError("The transaction should not have been added");
+        } catch (ExecutionException ee) {
+            assertSame(failure, ee.getCause());
+        }
+        ingester.stop();
+    }
+
+    @Test
+    public void submit_batchNotSaved_futureFailsWithSaveFailure() throws Exception {
+        IOException failure = new IOException("Disk full");
+        TransactionIngester ingester = new TransactionIngester(transactions -> {
+            throw failure;
+        }, 4, 4);
+
+        CompletableFuture<Transaction> notSaved = ingester.submit(transaction);
+        try {
+            notSaved.get(10, TimeUnit.SECONDS);
+            throw new AssertionError("The transaction should not have been reported as added");
+        } catch (ExecutionException ee) {
+            assertSame(failure, ee.getCause());
+        }
+        ingester.stop();
+    }
+
+    @Test
+    public void submit_stopped_throwsIllegalStateException() throws Exception {
+        TransactionIngester ingester = new TransactionIngester(TransactionIngesterTest::noFailures, 4, 4);
+        ingester.stop();
+        thrown.expect(IllegalStateException.class);
+        ingester.submit(transaction);
+    }
+
+    private static List<Optional<Exception>> noFailures(List<Transaction> transactions) {
+        List<Optional<Exception>> failures = new ArrayList<>();
+        transactions.forEach(transaction -> failures.add(Optional.empty()));
+        return failures;
+    }
+
+    /**
+     * Waits about as long as a small save takes.
+     */
+    private static void sleepLikeASave() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
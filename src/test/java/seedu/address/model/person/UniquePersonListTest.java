@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+public class UniquePersonListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniquePersonList uniquePersonList = new UniquePersonList();
+
+    @Test
+    public void get_nameInDifferentCase_returnsStoredPerson() throws Exception {
+        uniquePersonList.add(ALICE);
+        assertSame(ALICE, uniquePersonList.get(new Name(ALICE.getName().fullName.toUpperCase())));
+    }
+
+    @Test
+    public void get_personNotInList_throwsPersonNotFoundException() throws Exception {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.get(BENSON.getName());
+    }
+
+    @Test
+    public void setPerson_renamedPerson_lookedUpByNewName() throws Exception {
+        uniquePersonList.add(ALICE);
+        Person renamed = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, renamed);
+
+        assertSame(renamed, uniquePersonList.get(renamed.getName()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_existingPerson_noLongerContained() throws Exception {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        uniquePersonList.remove(ALICE);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BENSON));
+    }
+}
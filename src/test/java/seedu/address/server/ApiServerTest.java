@@ -0,0 +1,144 @@
+package seedu.address.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TransactionUtil;
+
+public class ApiServerTest {
+
+    private ModelManager model;
+    private ApiServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        server = new ApiServer(new LogicManager(model), model::getSnapshot, 0, 2);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void get_personsAndDebts_answeredFromSnapshot() throws Exception {
+        JsonNode persons = send("GET", ApiServer.PERSONS_PATH, null, HttpURLConnection.HTTP_OK);
+        assertEquals(model.getSnapshot().getVersion(), persons.get(SnapshotJson.VERSION).asLong());
+        assertEquals(model.getSnapshot().getPersonList().size(), persons.get(SnapshotJson.PERSONS).size());
+
+        String aliceName = ALICE.getName().fullName;
+        JsonNode alice = send("GET", ApiServer.PERSONS_PATH + "/" + aliceName.replace(" ", "%20"), null,
+                HttpURLConnection.HTTP_OK).get(SnapshotJson.PERSON);
+        assertEquals(aliceName, alice.get(SnapshotJson.NAME).asText());
+
+        JsonNode debts = send("GET", ApiServer.DEBTS_PATH + "?" + ApiServer.PERSON_PARAMETER + "="
+                + URLEncoder.encode(aliceName, "UTF-8"), null, HttpURLConnection.HTTP_OK).get(SnapshotJson.DEBTS);
+        for (JsonNode debt : debts) {
+            assertTrue(aliceName.equals(debt.get(SnapshotJson.DEBTOR).asText())
+                    || aliceName.equals(debt.get(SnapshotJson.CREDITOR).asText()));
+        }
+    }
+
+    @Test
+    public void post_command_runOnWriterAndNewVersionPublished() throws Exception {
+        long version = model.getSnapshot().getVersion();
+        JsonNode result = send("POST", ApiServer.COMMANDS_PATH, PersonUtil.getAddPersonCommand(AMY),
+                HttpURLConnection.HTTP_OK);
+        assertTrue(result.get(ApiServer.FEEDBACK).asText().contains(AMY.getName().fullName));
+        assertTrue(result.get(SnapshotJson.VERSION).asLong() > version);
+        send("GET", ApiServer.PERSONS_PATH + "/" + AMY.getName().fullName.replace(" ", "%20"), null,
+                HttpURLConnection.HTTP_OK);
+    }
+
+    @Test
+    public void post_transaction_addedAndNewVersionPublished() throws Exception {
+        long version = model.getSnapshot().getVersion();
+        Transaction transaction = new TransactionBuilder().withPayer(ALICE).build();
+        JsonNode result = send("POST", ApiServer.TRANSACTIONS_PATH,
+                TransactionUtil.getTransactionDetails(transaction), HttpURLConnection.HTTP_OK);
+        assertEquals(ApiServer.MESSAGE_TRANSACTION_ADDED, result.get(ApiServer.FEEDBACK).asText());
+        assertTrue(result.get(SnapshotJson.VERSION).asLong() > version);
+        assertTrue(model.getSnapshot().getTransactionList().stream()
+                .anyMatch(added -> added.getDescription().value.equals(transaction.getDescription().value)));
+
+        send("POST", ApiServer.TRANSACTIONS_PATH, "type/payment", HttpURLConnection.HTTP_BAD_REQUEST);
+        send("DELETE", ApiServer.TRANSACTIONS_PATH, null, HttpURLConnection.HTTP_BAD_METHOD);
+    }
+
+    @Test
+    public void send_invalidRequests_errorsAnswered() throws Exception {
+        send("POST", ApiServer.COMMANDS_PATH, "nosuchcommand", HttpURLConnection.HTTP_BAD_REQUEST);
+        send("GET", ApiServer.COMMANDS_PATH, null, HttpURLConnection.HTTP_BAD_METHOD);
+        send("GET", ApiServer.PERSONS_PATH + "/No%20One", null, HttpURLConnection.HTTP_NOT_FOUND);
+        send("GET", ApiServer.TRANSACTIONS_PATH + "?" + ApiServer.PERSON_PARAMETER + "=No%20One", null,
+                HttpURLConnection.HTTP_NOT_FOUND);
+    }
+
+    @Test
+    public void loadClient_readsAndCommands_noneFailed() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(LoadClient.EXIT_SUCCESS, LoadClient.run(Arrays.asList("--port",
+                String.valueOf(server.getPort()), "--clients", "2", "--requests", "20", "--writes", "50"),
+                new PrintStream(out), System.err));
+        assertTrue(out.toString().startsWith("40 requests (0 failed)"));
+    }
+
+    @Test
+    public void percentile_nearestRank() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(5, LoadClient.percentile(sorted, 50));
+        assertEquals(10, LoadClient.percentile(sorted, 99));
+        assertEquals(1, LoadClient.percentile(sorted, 0));
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code path}, with {@code body} if it is not null, checks that it is
+     * answered with {@code expectedStatus} and returns the answer.
+     */
+    private JsonNode send(String method, String path, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http",
+                InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(), path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        assertEquals(expectedStatus, connection.getResponseCode());
+        try (InputStream responseBody = expectedStatus == HttpURLConnection.HTTP_OK
+                ? connection.getInputStream() : connection.getErrorStream()) {
+            return new ObjectMapper().readTree(responseBody);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTransactions;
+
+public class AddressBookHasherTest {
+
+    /** A loader that fails the test if any transactions are loaded. */
+    private static final TransactionSegmentLoader UNUSED_LOADER = (segment, persons) -> {
+        throw new AssertionError("No transactions should be loaded");
+    };
+
+    @Test
+    public void hash_unchanged_noBlocksHashedAgain() throws Exception {
+        AddressBook addressBook = TypicalTransactions.getTypicalAddressBook();
+        AddressBookHasher hasher = new AddressBookHasher();
+        AddressBookHashes hashes = hasher.hash(addressBook, UNUSED_LOADER);
+
+        assertEquals(hashes, hasher.hash(addressBook, UNUSED_LOADER));
+        assertEquals(0, hasher.getBlocksHashed());
+    }
+
+    @Test
+    public void hash_transactionAddedToOtherMonth_onlyThatMonthHashed() throws Exception {
+        AddressBook addressBook = TypicalTransactions.getTypicalAddressBook();
+        AddressBookHasher hasher = new AddressBookHasher();
+        AddressBookHashes hashes = hasher.hash(addressBook, UNUSED_LOADER);
+
+        Transaction added = new TransactionBuilder().withPayer(TypicalPersons.ALICE).withDate(new Date(0)).build();
+        addressBook.addTransaction(added);
+        AddressBookHashes changedHashes = hasher.hash(addressBook, UNUSED_LOADER);
+        // the months that were already hashed are not hashed again
+        assertTrue(hasher.getBlocksHashed() < changedHashes.getBlockCount());
+        assertTrue(hashes.diff(changedHashes).contains(
+                "transactions of " + TransactionSegment.periodOf(added) + " block 1"));
+        assertEquals(changedHashes, new AddressBookHasher().hash(addressBook, UNUSED_LOADER));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.Compression;
+import seedu.address.model.AddressBook;
+import seedu.address.model.DebtsList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Balance;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTransactions;
+
+public class AddressBookIndexTest {
+
+    /** A loader that fails the test if any transactions are loaded. */
+    private static final TransactionSegmentLoader UNUSED_LOADER = (segment, persons) -> {
+        throw new AssertionError("No transactions should be loaded");
+    };
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_typicalAddressBook_balancesAndDebtsFound() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String filePath = getTempFilePath("addressbook.xml");
+        new AddressBookIndexer().write(addressBook, UNUSED_LOADER, AddressBookIndex.getIndexFilePath(filePath));
+        AddressBookIndex index = AddressBookIndex.readUpToDate(filePath).get();
+
+        for (Person person : addressBook.getPersonList()) {
+            String name = person.getName().fullName;
+            assertEquals(person.getBalance().value, index.findPerson(name.toUpperCase()).get().getBalance().value);
+            assertEquals(name, index.findPerson(name).get().getName());
+        }
+        for (Map.Entry<Person, DebtsList> debtsListEntry : addressBook.getDebtsTable().entrySet()) {
+            for (Map.Entry<Person, Balance> debt : debtsListEntry.getValue().entrySet()) {
+                assertEquals(AddressBookIndex.toCents(debt.getValue()), AddressBookIndex.toCents(index.findDebt(
+                        debtsListEntry.getKey().getName().fullName, debt.getKey().getName().fullName).get()));
+            }
+        }
+        assertFalse(index.findPerson("No One").isPresent());
+        assertFalse(index.findDebt(TypicalPersons.ALICE.getName().fullName, "No One").isPresent());
+    }
+
+    @Test
+    public void write_seededIndex_monthsLeftInStorageNotLoaded() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(TypicalPersons.GEORGE);
+        List<Transaction> typicalTransactions = TypicalTransactions.getTypicalTransactions();
+        for (int i = 0; i < typicalTransactions.size(); i++) {
+            Date month = Date.from(LocalDate.of(2018, 1 + i % 3, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+            original.addTransaction(new TransactionBuilder(typicalTransactions.get(i)).withDate(month).build());
+        }
+        String filePath = getTempFilePath("segmented.xml");
+        String indexFilePath = AddressBookIndex.getIndexFilePath(filePath);
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1);
+        storage.saveAddressBook(original);
+        new AddressBookIndexer().write(original, null, indexFilePath);
+        String name = TypicalPersons.GEORGE.getName().fullName;
+        Map<?, Integer> transactionCounts = AddressBookIndex.readUpToDate(filePath).get().findPerson(name).get()
+                .getTransactionCounts();
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        AddressBookIndexer indexer = new AddressBookIndexer();
+        indexer.seed(readBack, AddressBookIndex.readUpToDate(filePath).get());
+        indexer.write(readBack, UNUSED_LOADER, indexFilePath);
+        // only the month that was loaded is counted again
+        assertEquals(1, indexer.getMonthsCounted());
+        assertEquals(transactionCounts,
+                AddressBookIndex.readUpToDate(filePath).get().findPerson(name).get().getTransactionCounts());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.TypicalTransactions;
+
+public class JsonAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JsonAddressBookStorage(null).readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(getTempFilePath("NonExistentFile.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalTransactions_success() throws Exception {
+        assertRoundTrip(Compression.NONE);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        assertRoundTrip(Compression.GZIP);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_taggedPersons_success() throws Exception {
+        String filePath = getTempFilePath("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagList(), readBack.getTagList());
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAsXml() throws Exception {
+        String filePath = getTempFilePath("addressbook.xml");
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(getDescriptions(original), getDescriptions(readBack));
+    }
+
+    @Test
+    public void readAddressBook_jsonFileWithXmlStorage_readAsJson() throws Exception {
+        String filePath = getTempFilePath("addressbook.json");
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(getDescriptions(original), getDescriptions(readBack));
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        String filePath = writeTempFile("invalidPerson.json",
+                "{\"persons\": [{\"id\": 0, \"name\": \"Hans*\", \"phone\": \"9482424\", "
+                        + "\"email\": \"hans@example.com\", \"balance\": \"0.00\"}]}");
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_unknownPersonId_throwsDataConversionException() throws Exception {
+        String filePath = writeTempFile("unknownPersonId.json",
+                "{\"transactions\": [{\"transactionType\": \"payment\", \"payer\": 7, \"amount\": \"1.00\", "
+                        + "\"description\": \"lunch\", \"dateTime\": 0, \"payees\": [7], "
+                        + "\"splitMethod\": \"evenly\"}]}");
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        String filePath = writeTempFile("truncated.json", "{\"version\": 1, \"persons\": [");
+        thrown.expect(DataConversionException.class);
+        new JsonAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_transactionsLeftInStorage_throwsIoException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setUnloadedTransactionSegments(Collections.singletonList(
+                new TransactionSegment(YearMonth.of(2018, 1), getTempFilePath("2018-01.xml"), 1)));
+        thrown.expect(IOException.class);
+        new JsonAddressBookStorage(getTempFilePath("addressbook.json")).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Saves the typical address book with {@code compression} and checks that it is read back unchanged.
+     */
+    private void assertRoundTrip(Compression compression) throws Exception {
+        String filePath = getTempFilePath("addressbook.json");
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, compression);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagList(), readBack.getTagList());
+        assertEquals(original.getDebtsTable(), readBack.getDebtsTable());
+        assertEquals(getDescriptions(original), getDescriptions(readBack));
+        for (int i = 0; i < original.getTransactionList().size(); i++) {
+            Transaction expected = original.getTransactionList().get(i);
+            Transaction actual = readBack.getTransactionList().get(i);
+            assertEquals(expected.getPayer(), actual.getPayer());
+            assertEquals(expected.getPayees(), actual.getPayees());
+            assertEquals(expected.getDateTime(), actual.getDateTime());
+            assertEquals(expected.getUnits(), actual.getUnits());
+        }
+    }
+
+    private static List<String> getDescriptions(ReadOnlyAddressBook addressBook) {
+        return addressBook.getTransactionList().stream().map(transaction -> transaction.getDescription().value)
+                .collect(Collectors.toList());
+    }
+
+    private String writeTempFile(String fileName, String content) throws IOException {
+        String filePath = getTempFilePath(fileName);
+        Files.write(new File(filePath).toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return filePath;
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTransactions.MONTHS;
+import static seedu.address.testutil.TypicalTransactions.getAddressBookOverThreeMonths;
+import static seedu.address.testutil.TypicalTransactions.getTransactionsOf;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ExportFilter;
+import seedu.address.model.ExportReport;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.SegmentLoaderStorage;
+import seedu.address.testutil.TypicalPersons;
+
+public class SegmentedXmlAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_recentSegmentsOnly_olderSegmentsLeftInStorage() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        List<TransactionSegment> unloadedSegments = readBack.getUnloadedTransactionSegments();
+        assertEquals(2, unloadedSegments.size());
+        assertEquals(getDescriptions(getTransactionsOf(original, 2)), getDescriptions(readBack.getTransactionList()));
+        assertEquals(original.getDebtsTable(), readBack.getDebtsTable());
+
+        List<Transaction> newestUnloaded = storage.loadTransactionSegment(unloadedSegments.get(1),
+                readBack.getPersonList());
+        assertEquals(getDescriptions(getTransactionsOf(original, 1)), getDescriptions(newestUnloaded));
+    }
+
+    @Test
+    public void loadAllTransactions_segmentsLeftInStorage_allTransactionsLoaded() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.GZIP, 1);
+        storage.saveAddressBook(original);
+
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new UserPrefs(),
+                new SegmentLoaderStorage(storage));
+        assertTrue(model.loadOlderTransactions());
+        model.loadAllTransactions();
+        assertFalse(model.loadOlderTransactions());
+        assertEquals(getDescriptions(original.getTransactionList()),
+                getDescriptions(model.getAddressBook().getTransactionList()));
+    }
+
+    @Test
+    public void loadTransactionSegment_storedPersons_transactionsShareStoredPersons() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        for (Transaction transaction : original.getTransactionList()) {
+            addIfAbsent(original, transaction.getPayer());
+            for (Person payee : transaction.getPayees()) {
+                addIfAbsent(original, payee);
+            }
+        }
+        String filePath = getTempFilePath("segmented.xml");
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        List<Transaction> transactions = new ArrayList<>(readBack.getTransactionList());
+        for (TransactionSegment segment : readBack.getUnloadedTransactionSegments()) {
+            transactions.addAll(storage.loadTransactionSegment(segment, readBack.getPersonList()));
+        }
+        assertEquals(original.getTransactionList().size(), transactions.size());
+        for (Transaction transaction : transactions) {
+            assertSame(readBack.getPerson(transaction.getPayer().getName()), transaction.getPayer());
+            for (Person payee : transaction.getPayees()) {
+                assertSame(readBack.getPerson(payee.getName()), payee);
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_segmentsLeftInStorage_savedToNewLocationWithoutLoss() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1).saveAddressBook(original);
+        ReadOnlyAddressBook partiallyLoaded = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1)
+                .readAddressBook().get();
+
+        // a plain storage keeps the segments, and loads all of them when reading
+        String otherFilePath = getTempFilePath("other" + File.separator + "copy.xml");
+        XmlAddressBookStorage plainStorage = new XmlAddressBookStorage(otherFilePath);
+        plainStorage.saveAddressBook(partiallyLoaded);
+        ReadOnlyAddressBook readBack = plainStorage.readAddressBook().get();
+        assertTrue(readBack.getUnloadedTransactionSegments().isEmpty());
+        assertEquals(getDescriptions(original.getTransactionList()), getDescriptions(readBack.getTransactionList()));
+    }
+
+    @Test
+    public void readAddressBook_unlistedSegmentFiles_deleted() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 3);
+        storage.saveAddressBook(original);
+        original.removeTransaction(original.getTransactionList().get(0));
+        storage.saveAddressBook(original);
+
+        File segmentsFolder = TransactionSegmentFiles.getSegmentsFolder(filePath);
+        assertEquals(4, segmentsFolder.listFiles().length);
+        storage.readAddressBook();
+        assertEquals(3, segmentsFolder.listFiles().length);
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        SegmentedXmlAddressBookStorage storage =
+                new SegmentedXmlAddressBookStorage(getTempFilePath("segmented.xml"), Compression.NONE, 3);
+        storage.saveAddressBook(original);
+        assertTrue(storage.getLastSaveBytesWritten() > 0);
+
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getLastSaveBytesWritten());
+    }
+
+    @Test
+    public void saveAddressBook_oneMonthChanged_onlyThatMonthRewritten() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 3);
+        storage.saveAddressBook(original);
+        long fullSaveBytesWritten = storage.getLastSaveBytesWritten();
+
+        // the copy is read back, like the model would be at startup
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removeTransaction(getTransactionsOf(readBack, 2).get(0));
+        storage.saveAddressBook(readBack);
+        long changedFilesBytes = new File(filePath).length()
+                + getSegmentFileLength(filePath, storage.readAddressBook().get(), 2);
+        assertEquals(changedFilesBytes, storage.getLastSaveBytesWritten());
+        assertTrue(storage.getLastSaveBytesWritten() < fullSaveBytesWritten);
+    }
+
+    @Test
+    public void findTransactionSegmentsWith_personInOneMonth_otherSegmentsSkipped() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 3).saveAddressBook(original);
+        SegmentedXmlAddressBookStorage storage = new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 0);
+        List<TransactionSegment> segments = storage.readAddressBook().get().getUnloadedTransactionSegments();
+        assertEquals(MONTHS.length, segments.size());
+
+        // George only pays in the second month
+        List<TransactionSegment> segmentsWithGeorge = storage.findTransactionSegmentsWith(TypicalPersons.GEORGE,
+                segments);
+        assertEquals(1, segmentsWithGeorge.size());
+        assertEquals(TransactionSegment.periodOf(getTransactionsOf(original, 1).get(0)),
+                segmentsWithGeorge.get(0).getPeriod());
+        assertTrue(storage.findTransactionSegmentsWith(TypicalPersons.HOON, segments).isEmpty());
+    }
+
+    @Test
+    public void exportAddressBook_segmentsLeftInStorage_transactionsOfAllMonthsExported() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        StorageManager storage = new StorageManager(new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1),
+                new JsonUserPrefsStorage(getTempFilePath("prefs.json")));
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        ExportReport report = storage.exportAddressBook(readBack, ExportFilter.all(), ExportFormat.CSV,
+                getTempFilePath("export.csv"));
+        assertEquals(original.getTransactionList().size(), report.getTransactionCount());
+        List<String> exportedTransactions = Files.readAllLines(Paths.get(report.getFilePaths().get(2)));
+        assertEquals(CsvExportWriter.TRANSACTIONS_HEADER, exportedTransactions.get(0));
+        assertEquals(original.getTransactionList().size() + 1, exportedTransactions.size());
+
+        LocalDate firstMonth = MONTHS[0].toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        ExportFilter firstMonthOnly = new ExportFilter(Optional.empty(), Optional.of(firstMonth.withDayOfMonth(1)),
+                Optional.of(firstMonth.withDayOfMonth(firstMonth.lengthOfMonth())));
+        report = storage.exportAddressBook(readBack, firstMonthOnly, ExportFormat.JSON, getTempFilePath("export.json"));
+        assertEquals(getTransactionsOf(original, 0).size(), report.getTransactionCount());
+    }
+
+    @Test
+    public void loadTransactionSegment_whileSaving_segmentsLoadedWhole() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("segmented.xml");
+        StorageManager storage = new StorageManager(new SegmentedXmlAddressBookStorage(filePath, Compression.NONE, 1),
+                new JsonUserPrefsStorage(getTempFilePath("prefs.json")));
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        List<TransactionSegment> segments = readBack.getUnloadedTransactionSegments();
+        Person firstMonthPayer = getTransactionsOf(original, 0).get(0).getPayer();
+
+        ExecutorService saver = Executors.newSingleThreadExecutor();
+        Future<?> saves = saver.submit(() -> {
+            for (int i = 0; i < 20; i++) {
+                // a copy has unknown change stamps, so every month is written again along with its filter
+                storage.saveAddressBook(new AddressBook(original));
+            }
+            return null;
+        });
+        do {
+            for (int i = 0; i < segments.size(); i++) {
+                assertEquals(getTransactionsOf(original, i).size(),
+                        storage.loadTransactionSegment(segments.get(i), readBack.getPersonList()).size());
+            }
+            assertTrue(storage.findTransactionSegmentsWith(firstMonthPayer, segments).contains(segments.get(0)));
+        } while (!saves.isDone());
+        saves.get();
+        saver.shutdown();
+    }
+
+    /**
+     * Returns the length of the segment file holding the transactions of {@code MONTHS[monthIndex]}.
+     */
+    private static long getSegmentFileLength(String filePath, ReadOnlyAddressBook addressBook, int monthIndex) {
+        String monthPrefix = TransactionSegment.periodOf(getTransactionsOf(addressBook, monthIndex).get(0)) + "-";
+        File[] segmentFiles = TransactionSegmentFiles.getSegmentsFolder(filePath)
+                .listFiles((folder, name) -> name.startsWith(monthPrefix));
+        assertEquals(1, segmentFiles.length);
+        return segmentFiles[0].length();
+    }
+
+    private static void addIfAbsent(AddressBook addressBook, Person person) throws Exception {
+        if (!addressBook.getPersonList().contains(person)) {
+            addressBook.addPerson(person);
+        }
+    }
+
+    private static List<String> getDescriptions(List<Transaction> transactions) {
+        return transactions.stream().map(transaction -> transaction.getDescription().value)
+                .collect(Collectors.toList());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
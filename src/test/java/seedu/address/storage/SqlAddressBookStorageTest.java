@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTransactions.MONTHS;
+import static seedu.address.testutil.TypicalTransactions.getAddressBookOverThreeMonths;
+import static seedu.address.testutil.TypicalTransactions.getTransactionsOf;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.SegmentLoaderStorage;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalPersons;
+import seedu.address.testutil.TypicalTransactions;
+
+public class SqlAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_missingDatabase_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(getTempFilePath("NonExistentFile")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_typicalTransactions_success() throws Exception {
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getTempFilePath("addressbook"));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getDebtsTable(), readBack.getDebtsTable());
+        assertEquals(getDescriptions(original.getTransactionList()), getDescriptions(readBack.getTransactionList()));
+        for (int i = 0; i < original.getTransactionList().size(); i++) {
+            Transaction expected = original.getTransactionList().get(i);
+            Transaction actual = readBack.getTransactionList().get(i);
+            assertEquals(expected.getPayer(), actual.getPayer());
+            assertEquals(expected.getPayees(), actual.getPayees());
+            assertEquals(expected.getDateTime(), actual.getDateTime());
+            assertEquals(expected.getUnits(), actual.getUnits());
+            assertEquals(expected.getPercentages(), actual.getPercentages());
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_taggedPersons_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getTempFilePath("addressbook"));
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getTagList(), readBack.getTagList());
+    }
+
+    @Test
+    public void readAddressBook_xmlFile_readAsXml() throws Exception {
+        String filePath = getTempFilePath("addressbook.xml");
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        new XmlAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // the address book is moved into the database when it is saved
+        storage.saveAddressBook(readBack);
+        assertTrue(new File(SqlAddressBookStorage.getDatabaseFilePath(filePath)).exists());
+        assertEquals(getDescriptions(original.getTransactionList()),
+                getDescriptions(storage.readAddressBook().get().getTransactionList()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_nothingWritten() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getTempFilePath("addressbook"));
+        storage.saveAddressBook(original);
+        assertTrue(storage.getLastSaveRowsWritten() > 0);
+
+        storage.saveAddressBook(original);
+        assertEquals(0, storage.getLastSaveRowsWritten());
+    }
+
+    @Test
+    public void saveAddressBook_transactionAddedAndRemoved_onlyChangedRowsWritten() throws Exception {
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(getTempFilePath("addressbook"));
+        storage.saveAddressBook(getAddressBookOverThreeMonths());
+        int fullSaveRowsWritten = storage.getLastSaveRowsWritten();
+
+        // the copy is read back, like the model would be at startup
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Transaction added = new TransactionBuilder().withPayer(TypicalPersons.HOON).withDescription("Taxi")
+                .withDate(MONTHS[0]).build();
+        readBack.addTransaction(added);
+        readBack.removeTransaction(readBack.getTransactionList().get(readBack.getTransactionList().size() - 2));
+        storage.saveAddressBook(readBack);
+        assertTrue(storage.getLastSaveRowsWritten() < fullSaveRowsWritten);
+
+        List<Transaction> expected = new ArrayList<>(readBack.getTransactionList());
+        expected.sort((first, second) -> first.getDateTime().compareTo(second.getDateTime()));
+        ReadOnlyAddressBook savedAndReadBack = storage.readAddressBook().get();
+        assertEquals(getDescriptions(expected), getDescriptions(savedAndReadBack.getTransactionList()));
+        assertEquals(readBack.getDebtsTable(), savedAndReadBack.getDebtsTable());
+    }
+
+    @Test
+    public void readAddressBook_recentMonthsOnly_olderMonthsLoadedFromDatabase() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("addressbook");
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath, 1);
+        ModelManager model = new ModelManager(storage.readAddressBook().get(), new UserPrefs(),
+                new SegmentLoaderStorage(storage));
+        assertEquals(2, model.getAddressBook().getUnloadedTransactionSegments().size());
+        assertEquals(getDescriptions(getTransactionsOf(original, 2)),
+                getDescriptions(model.getAddressBook().getTransactionList()));
+
+        model.loadAllTransactions();
+        assertEquals(getDescriptions(original.getTransactionList()),
+                getDescriptions(model.getAddressBook().getTransactionList()));
+
+        // lazily loaded transactions are saved in place, not copied
+        storage.saveAddressBook(model.getAddressBook());
+        assertEquals(0, storage.getLastSaveRowsWritten());
+        assertEquals(original.getTransactionList().size(),
+                new SqlAddressBookStorage(filePath).readAddressBook().get().getTransactionList().size());
+    }
+
+    @Test
+    public void findTransactionSegmentsWith_personInOldestMonth_onlyThatSegmentFound() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        original.addTransaction(new TransactionBuilder().withPayer(TypicalPersons.HOON).withDate(MONTHS[0]).build());
+        String filePath = getTempFilePath("addressbook");
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath, 1);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        List<TransactionSegment> segments = readBack.getUnloadedTransactionSegments();
+        assertEquals(Collections.singletonList(segments.get(0)),
+                storage.findTransactionSegmentsWith(TypicalPersons.HOON, segments));
+        assertTrue(storage.findTransactionSegmentsWith(TypicalPersons.IDA, segments).isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_newLocationWithMonthsLeftInStorage_allTransactionsCopied() throws Exception {
+        AddressBook original = getAddressBookOverThreeMonths();
+        String filePath = getTempFilePath("addressbook");
+        new SqlAddressBookStorage(filePath).saveAddressBook(original);
+
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath, 1);
+        AddressBook readBack = (AddressBook) storage.readAddressBook().get();
+        String otherFilePath = getTempFilePath("other" + File.separator + "copy");
+        storage.saveAddressBook(readBack, otherFilePath);
+
+        ReadOnlyAddressBook copy = new SqlAddressBookStorage(otherFilePath).readAddressBook().get();
+        assertEquals(getDescriptions(original.getTransactionList()), getDescriptions(copy.getTransactionList()));
+        for (Transaction transaction : copy.getTransactionList()) {
+            assertSame(copy.getTransactionList().stream()
+                    .filter(other -> other.getPayer().equals(transaction.getPayer()))
+                    .findFirst().get().getPayer(), transaction.getPayer());
+        }
+    }
+
+    private static List<String> getDescriptions(List<Transaction> transactions) {
+        return transactions.stream().map(transaction -> transaction.getDescription().value)
+                .collect(Collectors.toList());
+    }
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+}
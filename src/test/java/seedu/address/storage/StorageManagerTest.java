@@ -2,25 +2,47 @@ package seedu.address.storage;
 
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFileChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.commons.util.Compression;
+import seedu.address.commons.util.ExportFormat;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDiff;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ExportFilter;
+import seedu.address.model.ExportReport;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VerificationReport;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+import seedu.address.testutil.TypicalTransactions;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
 
+    private static final long WATCH_TIMEOUT_MILLIS = 10000;
+
     @Rule
     public TemporaryFolder testFolder = new TemporaryFolder();
     @Rule
@@ -81,6 +103,217 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_savingDeferred_latestSavedOnlyWhenAsked() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        storage.setSavingDeferred(true);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        AddressBook latest = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(latest));
+        assertFalse(new File(storage.getAddressBookFilePath()).exists());
+
+        storage.saveDeferredChanges();
+        assertEquals(latest, new AddressBook(storage.readAddressBook().get()));
+
+        // nothing is held back any more, so nothing is saved again
+        new File(storage.getAddressBookFilePath()).delete();
+        storage.saveDeferredChanges();
+        assertFalse(new File(storage.getAddressBookFilePath()).exists());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_snapshotAlreadySaved_notSavedAgain() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        AddressBookSnapshot older = AddressBookSnapshot.of(new AddressBook());
+        AddressBookSnapshot newer = older.next(getTypicalAddressBook(), true);
+        storage.saveSnapshot(newer);
+        new File(storage.getAddressBookFilePath()).delete();
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(newer));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(older));
+        storage.saveSnapshot(older);
+        assertFalse(new File(storage.getAddressBookFilePath()).exists());
+    }
+
+
+    @Test
+    public void verifyAddressBook_savedAndUnchanged_allBlocksIntact() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        VerificationReport report = storage.verifyAddressBook(original);
+        assertTrue(report.hasStoredHashes());
+        assertTrue(report.getBlockCount() > 0);
+        assertEquals(Collections.emptyList(), report.getCorruptedBlocks());
+        assertEquals(Collections.emptyList(), report.getUnsavedBlocks());
+    }
+
+    @Test
+    public void verifyAddressBook_noHashesSaved_nothingChecked() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        new XmlAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(getTypicalAddressBook());
+        assertFalse(storage.verifyAddressBook(getTypicalAddressBook()).hasStoredHashes());
+    }
+
+    @Test
+    public void verifyAddressBook_transactionEditedInFile_onlyItsBlockCorrupted() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        editDataFile(storage, "Boat trip", "Boat tour");
+
+        String month = TransactionSegment.periodOf(original.getTransactionList().get(0)).toString();
+        VerificationReport report = storage.verifyAddressBook(original);
+        assertEquals(Collections.singletonList("transactions of " + month + " block 1"),
+                report.getCorruptedBlocks());
+        assertEquals(Collections.emptyList(), report.getUnsavedBlocks());
+    }
+
+    @Test
+    public void findBlocksNotMatchingReadHashes_personEditedInFile_personsBlockFound() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        storage.saveAddressBook(getTypicalAddressBook());
+        editDataFile(storage, "85355255", "85355256");
+
+        StorageManager restartedStorage = getStorageInFolder();
+        ReadOnlyAddressBook readBack = restartedStorage.readAddressBook().get();
+        assertEquals(Collections.singletonList("persons block 1"),
+                restartedStorage.findBlocksNotMatchingReadHashes(readBack));
+    }
+
+    @Test
+    public void readDelta_otherCopyWithSameHashes_otherDataNotRead() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        AddressBook addressBook = TypicalTransactions.getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String otherFilePath = getTempFilePath(File.separator + "other.xml");
+        storage.saveAddressBook(addressBook, otherFilePath);
+        FileUtil.writeToFile(new File(otherFilePath), "unreadable");
+
+        assertEquals(0, storage.readDelta(otherFilePath, addressBook).getDifferentBlockCount());
+    }
+
+    @Test
+    public void backUpAddressBook_dataFileSaved_copiedNextToIt() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        String backupFilePath = storage.backUpAddressBook();
+        assertTrue(backupFilePath.startsWith(storage.getAddressBookFilePath()));
+        assertEquals(FileUtil.readFromFile(new File(storage.getAddressBookFilePath())),
+                FileUtil.readFromFile(new File(backupFilePath)));
+    }
+
+    @Test
+    public void saveIndexes_addressBookSaved_indexWrittenOnlyWhenAsked() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        String filePath = storage.getAddressBookFilePath();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(new File(AddressBookIndex.getIndexFilePath(filePath)).exists());
+
+        LongAdder savedBytes = MetricsCenter.getInstance().getCounter(StorageManager.SAVED_BYTES);
+        long savedBytesBefore = savedBytes.sum();
+        storage.saveIndexes();
+        assertTrue(AddressBookIndex.readUpToDate(filePath).isPresent());
+        assertEquals(savedBytesBefore + new File(AddressBookIndex.getIndexFilePath(filePath)).length(),
+                savedBytes.sum());
+    }
+
+    @Test
+    public void readExternalChange_onlySavedByItself_nothingRead() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        storage.saveAddressBook(TypicalTransactions.getTypicalAddressBook());
+        assertFalse(storage.readExternalChange().isPresent());
+    }
+
+    @Test
+    public void readExternalChange_transactionRemovedByOthers_onlyThatTransactionRemoved() throws Exception {
+        StorageManager storage = getSegmentedStorageInFolder();
+        storage.saveAddressBook(TypicalTransactions.getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        StorageManager otherStorage = getSegmentedStorageInFolder();
+        AddressBook otherAddressBook = new AddressBook(otherStorage.readAddressBook().get());
+        Transaction removed = otherAddressBook.getTransactionList().get(0);
+        otherAddressBook.removeTransaction(removed);
+        otherStorage.saveAddressBook(otherAddressBook);
+
+        AddressBookDiff diff = storage.readExternalChange().get().diffAgainst(addressBook);
+        assertEquals(0, diff.getChangedPersonCount());
+        assertEquals(1, diff.getRemovedTransactions().size());
+        assertEquals(removed.getDescription().value, diff.getRemovedTransactions().get(0).getDescription().value);
+        assertTrue(diff.getAddedTransactions().isEmpty());
+
+        addressBook.applyDiff(diff);
+        assertEquals(Collections.emptyList(), new AddressBookHasher().hash(addressBook, null)
+                .diff(new AddressBookHasher().hash(otherAddressBook, null)));
+        // the change has been read, so it is not read again
+        assertFalse(storage.readExternalChange().isPresent());
+    }
+
+    @Test
+    public void startWatchingAddressBookFile_savedByOthers_changeEventRaised() throws Exception {
+        StorageManager storage = getStorageInFolder();
+        storage.saveAddressBook(TypicalTransactions.getTypicalAddressBook());
+        storage.startWatchingAddressBookFile(Runnable::run);
+        try {
+            getStorageInFolder().saveAddressBook(getTypicalAddressBook());
+            long deadline = System.currentTimeMillis() + WATCH_TIMEOUT_MILLIS;
+            while (!(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookFileChangedEvent)
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(AddressBookFileWatcher.QUIET_PERIOD_MILLIS);
+            }
+            assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookFileChangedEvent);
+        } finally {
+            storage.stopWatchingAddressBookFile();
+        }
+    }
+
+    @Test
+    public void exportAddressBook_json_personsDebtsAndTransactionsWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String filePath = getTempFilePath(File.separator + "export.json");
+        ExportReport report = storageManager.exportAddressBook(addressBook, ExportFilter.all(), ExportFormat.JSON,
+                filePath);
+        assertEquals(Collections.singletonList(filePath), report.getFilePaths());
+        assertEquals(addressBook.getPersonList().size(), report.getPersonCount());
+        assertEquals(addressBook.getTransactionList().size(), report.getTransactionCount());
+
+        JsonNode exported = new ObjectMapper().readTree(new File(filePath));
+        assertEquals(report.getPersonCount(), exported.get("persons").size());
+        assertEquals(report.getDebtCount(), exported.get("debts").size());
+        assertEquals(report.getTransactionCount(), exported.get("transactions").size());
+        assertEquals(addressBook.getPersonList().get(0).getName().fullName,
+                exported.get("persons").get(0).get("name").asText());
+    }
+
+    /**
+     * Returns a storage for an address book file in the temporary folder.
+     */
+    private StorageManager getStorageInFolder() {
+        return new StorageManager(new XmlAddressBookStorage(getTempFilePath(File.separator + "addressbook.xml")),
+                new JsonUserPrefsStorage(getTempFilePath(File.separator + "prefs")));
+    }
+
+    /**
+     * Returns a storage for an address book file in the temporary folder, with its transactions in segment files.
+     */
+    private StorageManager getSegmentedStorageInFolder() {
+        return new StorageManager(new SegmentedXmlAddressBookStorage(
+                getTempFilePath(File.separator + "addressbook.xml"), Compression.NONE, 1),
+                new JsonUserPrefsStorage(getTempFilePath(File.separator + "prefs")));
+    }
+
+    /**
+     * Replaces {@code original} by {@code replacement} in the data file of {@code storage}, as corruption would.
+     */
+    private static void editDataFile(Storage storage, String original, String replacement) throws IOException {
+        File dataFile = new File(storage.getAddressBookFilePath());
+        String contents = FileUtil.readFromFile(dataFile);
+        assertTrue(contents.contains(original));
+        FileUtil.writeToFile(dataFile, contents.replace(original, replacement));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Amount;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TransactionBuilder;
+import seedu.address.testutil.TypicalTransactions;
+
+public class TransactionDecoderTest {
+
+    private static final int TRANSACTION_COUNT = 3 * TransactionDecoder.CHUNK_SIZE + 7;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void decode_manyChunks_storedOrderKept() throws Exception {
+        List<XmlAdaptedTransaction> adaptedTransactions = getAdaptedTransactions();
+
+        List<Transaction> transactions = TransactionDecoder.decode(adaptedTransactions, Collections.emptyMap(),
+                new PersonInterner());
+        List<String> expectedDescriptions = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            expectedDescriptions.add("Transaction " + i);
+        }
+        assertEquals(expectedDescriptions, transactions.stream()
+                .map(transaction -> transaction.getDescription().value).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void decode_manyChunks_embeddedPersonsSharedAcrossChunks() throws Exception {
+        Person knownPayer = TypicalTransactions.getTypicalTransactions().get(0).getPayer();
+        Person storedPayer = new PersonBuilder(knownPayer).build();
+
+        List<Transaction> transactions = TransactionDecoder.decode(getAdaptedTransactions(), Collections.emptyMap(),
+                new PersonInterner(Collections.singletonList(storedPayer)));
+        Person firstPayee = transactions.get(0).getPayees().iterator().next();
+        for (Transaction transaction : transactions) {
+            if (transaction.getPayer().equals(storedPayer)) {
+                assertSame(storedPayer, transaction.getPayer());
+            }
+            assertSame(firstPayee, transaction.getPayees().iterator().next());
+        }
+    }
+
+    @Test
+    public void decode_invalidTransactionsInTwoChunks_firstInStoredOrderReported() throws Exception {
+        List<XmlAdaptedTransaction> adaptedTransactions = getAdaptedTransactions();
+        Transaction typical = TypicalTransactions.getTypicalTransactions().get(0);
+        adaptedTransactions.set(TransactionDecoder.CHUNK_SIZE + 1, new XmlAdaptedTransaction("payment",
+                typical.getPayer(), "1.0.0", "lunch", typical.getPayees(), typical.getDateTime(), "evenly",
+                Collections.emptyList(), Collections.emptyList()));
+        adaptedTransactions.set(2 * TransactionDecoder.CHUNK_SIZE + 1, new XmlAdaptedTransaction("payment",
+                typical.getPayer(), "1.00", " ", typical.getPayees(), typical.getDateTime(), "evenly",
+                Collections.emptyList(), Collections.emptyList()));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Amount.MESSAGE_AMOUNT_CONSTRAINTS);
+        TransactionDecoder.decode(adaptedTransactions, Collections.emptyMap(), new PersonInterner());
+    }
+
+    /**
+     * Returns enough stored transactions for several chunks, cycling through the typical transactions.
+     */
+    private static List<XmlAdaptedTransaction> getAdaptedTransactions() {
+        List<Transaction> typicalTransactions = TypicalTransactions.getTypicalTransactions();
+        List<XmlAdaptedTransaction> adaptedTransactions = new ArrayList<>();
+        for (int i = 0; i < TRANSACTION_COUNT; i++) {
+            Transaction transaction = new TransactionBuilder(typicalTransactions.get(i % typicalTransactions.size()))
+                    .withDescription("Transaction " + i).build();
+            adaptedTransactions.add(new XmlAdaptedTransaction(transaction));
+        }
+        return adaptedTransactions;
+    }
+}
@@ -1,13 +1,18 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.AddressBookBuilder.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -15,6 +20,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.Compression;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -116,6 +122,37 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        String plainFilePath = testFolder.getRoot().getPath() + "PlainAddressBook.xml";
+        new XmlAddressBookStorage(plainFilePath).saveAddressBook(original);
+
+        for (Compression compression : Compression.values()) {
+            String filePath = testFolder.getRoot().getPath() + compression + "AddressBook.xml";
+            new XmlAddressBookStorage(filePath, compression).saveAddressBook(original);
+
+            // compressed files can be read regardless of the compression chosen for saving
+            ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+            assertEquals(original, new AddressBook(readBack));
+            if (compression != Compression.NONE) {
+                assertTrue(new File(filePath).length() < new File(plainFilePath).length());
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_olderSchemaVersion_fileLeftAsItIs() throws Exception {
+        File legacyFile = new File(FileUtil.getPath(
+                "./src/test/data/XmlSerializableAddressBookTest/typicalEmbeddedPersonsAddressBook.xml"));
+        File file = testFolder.newFile("LegacyAddressBook.xml");
+        Files.copy(legacyFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        assertTrue(new XmlAddressBookStorage(file.getPath()).readAddressBook().isPresent());
+        assertArrayEquals(Files.readAllBytes(legacyFile.toPath()), Files.readAllBytes(file.toPath()));
+        assertFalse(TransactionSegmentFiles.getSegmentsFolder(file.getPath()).exists());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
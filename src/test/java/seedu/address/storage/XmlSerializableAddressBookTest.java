@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 
@@ -12,6 +13,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
 import seedu.address.testutil.TypicalTransactions;
 
 
@@ -30,6 +33,14 @@ public class XmlSerializableAddressBookTest {
             new File(TEST_DATA_FOLDER + "typicalTransactionsAddressBook.xml");
     private static final File INVALID_TRANSACTION_FILE =
             new File(TEST_DATA_FOLDER + "invalidTransactionAddressBook.xml");
+    private static final File TYPICAL_EMBEDDED_PERSONS_FILE =
+            new File(TEST_DATA_FOLDER + "typicalEmbeddedPersonsAddressBook.xml");
+    private static final File TYPICAL_PERSON_IDS_FILE =
+            new File(TEST_DATA_FOLDER + "typicalPersonIdsAddressBook.xml");
+    private static final File UNKNOWN_PERSON_ID_FILE =
+            new File(TEST_DATA_FOLDER + "unknownPersonIdAddressBook.xml");
+    private static final File UNSUPPORTED_VERSION_FILE =
+            new File(TEST_DATA_FOLDER + "unsupportedVersionAddressBook.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -74,4 +85,73 @@ public class XmlSerializableAddressBookTest {
         thrown.expect(IllegalValueException.class);
         dataFromFile.toModelType();
     }
+
+    @Test
+    public void toModelType_personIdsFile_transactionsShareStoredPersons() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TYPICAL_PERSON_IDS_FILE,
+                XmlSerializableAddressBook.class);
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Person alice = addressBookFromFile.getPersonList().get(0);
+        Person benson = addressBookFromFile.getPersonList().get(1);
+        Transaction lunch = addressBookFromFile.getTransactionList().get(0);
+        Transaction taxi = addressBookFromFile.getTransactionList().get(1);
+
+        assertEquals(XmlSerializableAddressBook.SCHEMA_VERSION_PERSON_IDS, dataFromFile.getSchemaVersion());
+        assertSame(alice, lunch.getPayer());
+        assertSame(benson, lunch.getPayees().asObservableList().get(0));
+        assertEquals("Brandon Ingram", lunch.getPayees().asObservableList().get(1).getName().fullName);
+        assertSame(benson, taxi.getPayer());
+        assertSame(alice, taxi.getPayees().asObservableList().get(0));
+    }
+
+    @Test
+    public void toModelType_embeddedPersonsFile_transactionsShareCanonicalPersons() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TYPICAL_EMBEDDED_PERSONS_FILE,
+                XmlSerializableAddressBook.class);
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Person alice = addressBookFromFile.getPersonList().get(0);
+        Person benson = addressBookFromFile.getPersonList().get(1);
+        Transaction lunch = addressBookFromFile.getTransactionList().get(0);
+        Transaction taxi = addressBookFromFile.getTransactionList().get(1);
+
+        assertEquals(XmlSerializableAddressBook.SCHEMA_VERSION_EMBEDDED_PERSONS, dataFromFile.getSchemaVersion());
+        assertSame(alice, lunch.getPayer());
+        assertSame(benson, lunch.getPayees().asObservableList().get(0));
+        assertSame(alice, taxi.getPayees().asObservableList().get(0));
+        // a person that is no longer in the address book is shared by the transactions that refer to it
+        assertSame(lunch.getPayees().asObservableList().get(1), taxi.getPayer());
+    }
+
+    @Test
+    public void toModelType_unknownPersonIdFile_throwsIllegalValueException() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(UNKNOWN_PERSON_ID_FILE,
+                XmlSerializableAddressBook.class);
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(XmlAdaptedTransaction.UNKNOWN_PERSON_ID_MESSAGE_FORMAT, 7));
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_unsupportedVersionFile_throwsIllegalValueException() throws Exception {
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(UNSUPPORTED_VERSION_FILE,
+                XmlSerializableAddressBook.class);
+        thrown.expect(IllegalValueException.class);
+        dataFromFile.toModelType();
+    }
+
+    @Test
+    public void toModelType_convertedFromModel_keepsTransactionParticipants() throws Exception {
+        AddressBook original = TypicalTransactions.getTypicalAddressBook();
+        XmlSerializableAddressBook converted = new XmlSerializableAddressBook(original);
+        AddressBook roundTripped = converted.toModelType();
+
+        assertEquals(XmlSerializableAddressBook.CURRENT_SCHEMA_VERSION, converted.getSchemaVersion());
+        assertEquals(original.getTransactionList().size(), roundTripped.getTransactionList().size());
+        for (int i = 0; i < original.getTransactionList().size(); i++) {
+            Transaction expected = original.getTransactionList().get(i);
+            Transaction actual = roundTripped.getTransactionList().get(i);
+            assertEquals(expected.getPayer(), actual.getPayer());
+            assertEquals(expected.getPayees(), actual.getPayees());
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.testutil;
+
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.NoModelStorage;
+import seedu.address.model.TransactionSegmentLoader;
+import seedu.address.model.person.Person;
+import seedu.address.model.transaction.Transaction;
+import seedu.address.model.transaction.TransactionSegment;
+
+/**
+ * A storage for the model that only loads the transaction segments left in storage, with a
+ * {@code TransactionSegmentLoader} such as an address book storage.
+ */
+public class SegmentLoaderStorage extends NoModelStorage {
+
+    private final TransactionSegmentLoader loader;
+
+    public SegmentLoaderStorage(TransactionSegmentLoader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public List<Transaction> loadTransactionSegment(TransactionSegment segment, List<Person> persons)
+            throws DataConversionException {
+        return loader.loadTransactionSegment(segment, persons);
+    }
+
+    @Override
+    public List<TransactionSegment> findTransactionSegmentsWith(Person person, List<TransactionSegment> segments)
+            throws DataConversionException {
+        return loader.findTransactionSegmentsWith(person, segments);
+    }
+}
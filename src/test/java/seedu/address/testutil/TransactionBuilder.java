@@ -108,6 +108,17 @@ public class TransactionBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code payees} of the {@code Transaction} that we are building to the given persons.
+     */
+    public TransactionBuilder withPayees(Person... payees) throws DuplicatePersonException {
+        this.payees = new UniquePersonList();
+        for (Person payee : payees) {
+            this.payees.add(payee);
+        }
+        return this;
+    }
+
     /**
      * Sets the {@code date & time} of the {@code Transaction} that we are building.
      */
@@ -1,13 +1,17 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -19,6 +23,11 @@ import seedu.address.model.util.SampleDataUtil;
  */
 public class TypicalTransactions {
 
+    /** The three consecutive months that {@link #getAddressBookOverThreeMonths()} spreads its transactions over. */
+    public static final Date[] MONTHS = {
+        toDate(LocalDate.of(2018, 1, 15)), toDate(LocalDate.of(2018, 2, 15)), toDate(LocalDate.of(2018, 3, 15))
+    };
+
     private static Transaction t1 = null;
     private static Transaction t2 = null;
     private static Transaction t3 = null;
@@ -101,4 +110,30 @@ public class TypicalTransactions {
         return new ArrayList<>(Arrays.asList(t1, t2, t3, t4, t5, t6, t7));
     }
 
+    /**
+     * Returns an address book with the typical transactions spread over the three consecutive {@link #MONTHS}.
+     */
+    public static AddressBook getAddressBookOverThreeMonths() throws CommandException {
+        AddressBook addressBook = new AddressBook();
+        List<Transaction> typicalTransactions = getTypicalTransactions();
+        for (int i = 0; i < typicalTransactions.size(); i++) {
+            Date month = MONTHS[i * MONTHS.length / typicalTransactions.size()];
+            addressBook.addTransaction(new TransactionBuilder(typicalTransactions.get(i)).withDate(month).build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the transactions of {@code addressBook} dated {@code MONTHS[monthIndex]}.
+     */
+    public static List<Transaction> getTransactionsOf(ReadOnlyAddressBook addressBook, int monthIndex) {
+        return addressBook.getTransactionList().stream()
+                .filter(transaction -> transaction.getDateTime().equals(MONTHS[monthIndex]))
+                .collect(Collectors.toList());
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
 }
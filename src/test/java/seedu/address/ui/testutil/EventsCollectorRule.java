@@ -76,6 +76,13 @@ public class EventsCollectorRule implements TestRule {
             return events.get(events.size() - 1);
         }
 
+        /**
+         * Returns the events collected, oldest first
+         */
+        public List<BaseEvent> getAll() {
+            return new ArrayList<>(events);
+        }
+
         /**
          * Returns true if the collector did not receive any events
          */